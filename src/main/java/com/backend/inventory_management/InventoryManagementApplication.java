@@ -2,9 +2,11 @@ package com.backend.inventory_management;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 
 @SpringBootApplication
+@EnableScheduling
 public class InventoryManagementApplication {
 
 	public static void main(String[] args) {
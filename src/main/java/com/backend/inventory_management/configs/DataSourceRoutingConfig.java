@@ -0,0 +1,75 @@
+package com.backend.inventory_management.configs;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+@Slf4j
+@Configuration
+public class DataSourceRoutingConfig {
+    
+    // Bound to spring.datasource.hikari.* like the pool Boot would have created
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+    
+    // The replica is switched on by its URL when the application starts, not by a bean condition,
+    // which AOT processing would fix at build time. Without a URL the bean is null and so absent,
+    // which is why its app.datasource.replica.hikari.* settings are bound here rather than by annotation.
+    @Bean
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            @Value("${app.datasource.replica.url:}") String replicaUrl,
+            @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String replicaUsername,
+            @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String replicaPassword,
+            @Value("${app.datasource.replica.connection-timeout-ms:1000}") long replicaConnectionTimeoutMs) {
+        if (replicaUrl.isBlank()) {
+            return null;
+        }
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(replicaUrl);
+        replica.setUsername(replicaUsername);
+        replica.setPassword(replicaPassword);
+        replica.setDriverClassName(properties.determineDriverClassName());
+        // A failed replica checkout falls back to the primary, so it should fail fast
+        replica.setConnectionTimeout(replicaConnectionTimeoutMs);
+        Binder.get(environment).bind("app.datasource.replica.hikari", Bindable.ofInstance(replica));
+        log.info("Routing read-only transactions to replica {}", replicaUrl);
+        return replica;
+    }
+    
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            @Qualifier("replicaDataSource") ObjectProvider<HikariDataSource> replicaDataSource,
+            @Value("${app.datasource.replica.retry-ms:30000}") long replicaRetryMs,
+            @Value("${app.datasource.read-your-writes-ms:2000}") long readYourWritesMs) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource.getIfAvailable(), readYourWritesMs,
+            replicaRetryMs);
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,114 @@
+package com.backend.inventory_management.configs;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out replica connections to read-only transactions and primary connections to everything
+ * else. The decision needs the transaction's read-only flag, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: transaction managers
+ * ask for a connection before the flag is published, and the proxy defers that until the first
+ * statement.
+ * <p>
+ * A user whose write transaction committed within the read-your-writes window keeps reading from
+ * the primary, so replication lag cannot hide their own change from them. When the replica cannot
+ * hand out a connection, reads go to the primary and the replica is left alone for the retry
+ * interval. That covers connection checkout only: a statement that fails on a replica connection
+ * already handed out fails its transaction, which is not retried on the primary. Both pools are beans of their own and are closed by the container.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long readYourWritesMs;
+    private final long replicaRetryMs;
+    private final Map<String, Long> lastWriteByUser = new ConcurrentHashMap<>();
+    private volatile long replicaRetryAt;
+
+    // replica may be null, in which case every connection comes from the primary
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, long readYourWritesMs, long replicaRetryMs) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWritesMs = readYourWritesMs;
+        this.replicaRetryMs = replicaRetryMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection connect(Connector connector) throws SQLException {
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWrite(user);
+            return connector.open(primary);
+        }
+        if (replica == null || wroteRecently(user) || System.currentTimeMillis() < replicaRetryAt) {
+            return connector.open(primary);
+        }
+        try {
+            return connector.open(replica);
+        } catch (SQLException e) {
+            replicaRetryAt = System.currentTimeMillis() + replicaRetryMs;
+            log.warn("Replica unavailable, reading from the primary for the next {} ms: {}", replicaRetryMs, e.getMessage());
+            return connector.open(primary);
+        }
+    }
+
+    // The window starts at commit, when the change becomes visible on the primary
+    private void rememberWrite(String user) {
+        if (user == null || replica == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWriteByUser.put(user, System.currentTimeMillis());
+            }
+        });
+    }
+
+    private boolean wroteRecently(String user) {
+        Long lastWrite = user != null ? lastWriteByUser.get(user) : null;
+        if (lastWrite == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - lastWrite < readYourWritesMs) {
+            return true;
+        }
+        lastWriteByUser.remove(user, lastWrite);
+        return false;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    @FunctionalInterface
+    private interface Connector {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+}
@@ -0,0 +1,25 @@
+package com.backend.inventory_management.configs;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+public class SchemaMigrationConfig {
+    
+    // Decided when the application starts rather than by a bean condition, which AOT processing would fix at build time
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${app.schema.migrate-on-startup:true}") boolean migrateOnStartup) {
+        return flyway -> {
+            if (migrateOnStartup) {
+                flyway.migrate();
+            } else {
+                log.info("Skipping schema migration on startup; set app.schema.migrate-on-startup=true to apply pending migrations");
+            }
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package com.backend.inventory_management.features.alert;
+
+import com.backend.inventory_management.core.Response;
+import com.backend.inventory_management.core.exceptions.ResourceNotFoundException;
+import com.backend.inventory_management.features.alert.dtos.AlertStatusDto;
+import com.backend.inventory_management.features.alert.dtos.StockAlertDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/alerts")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class AlertController {
+    
+    private final AlertService alertService;
+    private final ObjectProvider<StubAlertSink> stubAlertSink;
+    
+    @GetMapping("/status")
+    public ResponseEntity<Response<AlertStatusDto>> getStatus() {
+        try {
+            return ResponseEntity.ok(Response.success(alertService.getStatus()));
+        } catch (Exception e) {
+            log.error("Failed to retrieve alert status", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve alert status"));
+        }
+    }
+    
+    @PostMapping("/evaluate")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Response<Integer>> evaluate() {
+        try {
+            int raised = alertService.evaluatePending();
+            return ResponseEntity.ok(Response.success(raised, "Pending stock changes evaluated"));
+        } catch (Exception e) {
+            log.error("Failed to evaluate stock alerts", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to evaluate stock alerts"));
+        }
+    }
+    
+    @GetMapping("/stub/recent")
+    public ResponseEntity<Response<List<StockAlertDto>>> getRecentStubAlerts(
+            @RequestParam(defaultValue = "50") int limit) {
+        try {
+            StubAlertSink sink = stubAlertSink.getIfAvailable();
+            if (sink == null) {
+                throw new ResourceNotFoundException("Stub alert sink is not enabled");
+            }
+            return ResponseEntity.ok(Response.success(sink.getRecent(Math.max(0, limit))));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to retrieve stub alerts", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve stub alerts"));
+        }
+    }
+    
+    @DeleteMapping("/stub/recent")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Response<Void>> clearStubAlerts() {
+        StubAlertSink sink = stubAlertSink.getIfAvailable();
+        if (sink == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error("Stub alert sink is not enabled"));
+        }
+        sink.clear();
+        return ResponseEntity.ok(Response.success(null, "Stub alerts cleared"));
+    }
+}
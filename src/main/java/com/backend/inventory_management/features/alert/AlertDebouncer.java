@@ -0,0 +1,82 @@
+package com.backend.inventory_management.features.alert;
+
+import com.backend.inventory_management.features.inventory.StockStatus;
+
+import java.util.*;
+
+/**
+ * Tracks the last reported status per item and only reports a new status once it has held for the
+ * debounce window, so an item flapping around its minimum level does not raise an alert per move.
+ * Items back at IN_STOCK with nothing pending are forgotten; the next change re-establishes their
+ * baseline from the quantity before that change. Not thread-safe; owned by the evaluation pass.
+ */
+class AlertDebouncer {
+
+    private final long debounceMillis;
+    private final Map<Long, ItemState> states = new HashMap<>();
+
+    AlertDebouncer(long debounceMillis) {
+        this.debounceMillis = debounceMillis;
+    }
+
+    void observe(long itemId, StockStatus baseline, StockStatus current, long nowMillis) {
+        ItemState state = states.computeIfAbsent(itemId, id -> new ItemState(baseline));
+        if (current == state.reported) {
+            state.pending = null;
+        } else if (current != state.pending) {
+            state.pending = current;
+            state.pendingSince = nowMillis;
+        }
+        forgetIfSettled(itemId, state);
+    }
+
+    void forget(long itemId) {
+        states.remove(itemId);
+    }
+
+    List<Transition> due(long nowMillis) {
+        List<Transition> transitions = new ArrayList<>();
+        for (Iterator<Map.Entry<Long, ItemState>> it = states.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, ItemState> entry = it.next();
+            ItemState state = entry.getValue();
+            if (state.pending != null && nowMillis - state.pendingSince >= debounceMillis) {
+                transitions.add(new Transition(entry.getKey(), state.reported, state.pending));
+                state.reported = state.pending;
+                state.pending = null;
+                if (state.reported == StockStatus.IN_STOCK) {
+                    it.remove();
+                }
+            }
+        }
+        return transitions;
+    }
+
+    Set<Long> pendingItemIds() {
+        Set<Long> ids = new HashSet<>();
+        states.forEach((itemId, state) -> {
+            if (state.pending != null) {
+                ids.add(itemId);
+            }
+        });
+        return ids;
+    }
+
+    private void forgetIfSettled(long itemId, ItemState state) {
+        if (state.pending == null && state.reported == StockStatus.IN_STOCK) {
+            states.remove(itemId);
+        }
+    }
+
+    record Transition(long itemId, StockStatus from, StockStatus to) {
+    }
+
+    private static final class ItemState {
+        private StockStatus reported;
+        private StockStatus pending;
+        private long pendingSince;
+
+        private ItemState(StockStatus reported) {
+            this.reported = reported;
+        }
+    }
+}
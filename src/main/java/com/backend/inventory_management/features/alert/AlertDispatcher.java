@@ -0,0 +1,163 @@
+package com.backend.inventory_management.features.alert;
+
+import com.backend.inventory_management.features.alert.dtos.AlertSinkStatusDto;
+import com.backend.inventory_management.features.alert.dtos.StockAlertDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers alerts off the request path. Each sink has its own bounded queue, drained in batches by
+ * a single background thread, so a slow or failing sink neither blocks stock writes nor holds up
+ * the other sinks. A failed batch is retried with exponential backoff and dropped after the
+ * configured number of attempts; a full queue drops new alerts rather than growing without bound.
+ */
+@Slf4j
+@Component
+public class AlertDispatcher implements DisposableBean {
+
+    private final List<SinkLane> lanes = new ArrayList<>();
+    private final ScheduledExecutorService executor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+
+    public AlertDispatcher(List<AlertSink> sinks,
+                           @Value("${app.alerts.queue-capacity:10000}") int queueCapacity,
+                           @Value("${app.alerts.batch-size:100}") int batchSize,
+                           @Value("${app.alerts.max-attempts:8}") int maxAttempts,
+                           @Value("${app.alerts.initial-backoff-ms:1000}") long initialBackoffMs,
+                           @Value("${app.alerts.max-backoff-ms:300000}") long maxBackoffMs,
+                           @Value("${app.alerts.dispatch-interval-ms:250}") long dispatchIntervalMs) {
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        for (AlertSink sink : sinks) {
+            lanes.add(new SinkLane(sink, queueCapacity));
+        }
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "alert-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (!lanes.isEmpty()) {
+            executor.scheduleWithFixedDelay(this::drainAll, dispatchIntervalMs, dispatchIntervalMs, TimeUnit.MILLISECONDS);
+            log.info("Alert delivery enabled for sinks {}", sinks.stream().map(AlertSink::getName).toList());
+        }
+    }
+
+    public void enqueue(List<StockAlertDto> alerts) {
+        for (SinkLane lane : lanes) {
+            for (StockAlertDto alert : alerts) {
+                if (!lane.queue.offer(alert)) {
+                    lane.dropped.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    public List<AlertSinkStatusDto> getStatus() {
+        List<AlertSinkStatusDto> status = new ArrayList<>(lanes.size());
+        for (SinkLane lane : lanes) {
+            long nextAttemptAt = lane.nextAttemptAt;
+            status.add(AlertSinkStatusDto.builder()
+                .sink(lane.sink.getName())
+                .queued(lane.queue.size() + lane.inFlight.size())
+                .delivered(lane.delivered.get())
+                .dropped(lane.dropped.get())
+                .consecutiveFailures(lane.attempts)
+                .nextAttemptAt(lane.attempts > 0
+                    ? LocalDateTime.ofInstant(Instant.ofEpochMilli(nextAttemptAt), ZoneId.systemDefault())
+                    : null)
+                .lastError(lane.lastError)
+                .build());
+        }
+        return status;
+    }
+
+    void drainAll() {
+        for (SinkLane lane : lanes) {
+            try {
+                drain(lane);
+            } catch (RuntimeException e) {
+                log.error("Alert dispatch for sink {} failed unexpectedly", lane.sink.getName(), e);
+            }
+        }
+    }
+
+    private void drain(SinkLane lane) {
+        while (System.currentTimeMillis() >= lane.nextAttemptAt) {
+            if (lane.inFlight.isEmpty() && lane.queue.drainTo(lane.inFlight, batchSize) == 0) {
+                return;
+            }
+            try {
+                lane.sink.deliver(lane.inFlight);
+                lane.delivered.addAndGet(lane.inFlight.size());
+                lane.inFlight.clear();
+                lane.attempts = 0;
+                lane.lastError = null;
+            } catch (Exception e) {
+                lane.attempts++;
+                lane.lastError = e.getMessage();
+                if (lane.attempts >= maxAttempts) {
+                    log.error("Dropping {} alerts after {} failed deliveries to sink {}",
+                        lane.inFlight.size(), lane.attempts, lane.sink.getName(), e);
+                    lane.dropped.addAndGet(lane.inFlight.size());
+                    lane.inFlight.clear();
+                    lane.attempts = 0;
+                } else {
+                    long backoff = Math.min(maxBackoffMs, initialBackoffMs << Math.min(lane.attempts - 1, 30));
+                    lane.nextAttemptAt = System.currentTimeMillis() + backoff;
+                    log.warn("Delivery of {} alerts to sink {} failed (attempt {}), retrying in {} ms: {}",
+                        lane.inFlight.size(), lane.sink.getName(), lane.attempts, backoff, e.getMessage());
+                }
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class SinkLane {
+        private final AlertSink sink;
+        private final BlockingQueue<StockAlertDto> queue;
+        // The batch currently being delivered; kept across retries so a batch is resent as a unit
+        private final List<StockAlertDto> inFlight = new ArrayList<>();
+        private final AtomicLong delivered = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private volatile int attempts;
+        private volatile long nextAttemptAt;
+        private volatile String lastError;
+
+        private SinkLane(AlertSink sink, int capacity) {
+            this.sink = sink;
+            this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        }
+    }
+}
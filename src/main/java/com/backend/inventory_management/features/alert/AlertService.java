@@ -0,0 +1,8 @@
+package com.backend.inventory_management.features.alert;
+
+import com.backend.inventory_management.features.alert.dtos.AlertStatusDto;
+
+public interface AlertService {
+    int evaluatePending();
+    AlertStatusDto getStatus();
+}
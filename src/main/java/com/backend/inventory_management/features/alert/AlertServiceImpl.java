@@ -0,0 +1,174 @@
+package com.backend.inventory_management.features.alert;
+
+import com.backend.inventory_management.features.alert.dtos.AlertStatusDto;
+import com.backend.inventory_management.features.alert.dtos.StockAlertDto;
+import com.backend.inventory_management.features.inventory.InventoryItemChangedEvent;
+import com.backend.inventory_management.features.inventory.StockChangedEvent;
+import com.backend.inventory_management.features.inventory.StockStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Evaluates thresholds only for items whose stock changed since the last pass. Listeners just mark
+ * the item dirty, remembering the quantity before its first change in the interval; the scheduled
+ * pass re-reads those rows in chunks, feeds the debouncer and hands due alerts to the dispatcher.
+ * A bulk restock therefore costs one dirty-set entry per item on the write path and one batched
+ * delivery per sink afterwards.
+ */
+@Slf4j
+@Service
+public class AlertServiceImpl implements AlertService {
+
+    private static final int CHUNK_SIZE = 1000;
+    // Marks an item whose definition changed without a stock movement; its current status is the baseline
+    private static final int UNKNOWN_QUANTITY = -1;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final AlertDispatcher dispatcher;
+    private final AlertDebouncer debouncer;
+    private final Map<Long, Integer> dirtyItems = new ConcurrentHashMap<>();
+    private final AtomicLong alertsRaised = new AtomicLong();
+    private final Map<Long, ItemRow> awaitingDelivery = new HashMap<>();
+
+    public AlertServiceImpl(NamedParameterJdbcTemplate namedJdbcTemplate,
+                            AlertDispatcher dispatcher,
+                            @Value("${app.alerts.debounce-ms:30000}") long debounceMs) {
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.dispatcher = dispatcher;
+        this.debouncer = new AlertDebouncer(debounceMs);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        dirtyItems.putIfAbsent(event.getItemId(), event.getPreviousQuantity());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(InventoryItemChangedEvent event) {
+        dirtyItems.putIfAbsent(event.getItemId(), UNKNOWN_QUANTITY);
+    }
+
+    @Scheduled(fixedDelayString = "${app.alerts.evaluate-interval-ms:1000}")
+    public void scheduledEvaluate() {
+        try {
+            evaluatePending();
+        } catch (Exception e) {
+            log.error("Stock alert evaluation failed", e);
+        }
+    }
+
+    @Override
+    public synchronized int evaluatePending() {
+        long now = System.currentTimeMillis();
+        Map<Long, Integer> drained = new HashMap<>();
+        for (Iterator<Map.Entry<Long, Integer>> it = dirtyItems.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, Integer> entry = it.next();
+            drained.put(entry.getKey(), entry.getValue());
+            it.remove();
+        }
+
+        List<Long> ids = new ArrayList<>(drained.keySet());
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + CHUNK_SIZE));
+            Map<Long, ItemRow> rows;
+            try {
+                rows = loadRows(chunk);
+            } catch (Exception e) {
+                log.error("Failed to load {} items for alert evaluation", chunk.size(), e);
+                chunk.forEach(id -> dirtyItems.putIfAbsent(id, drained.get(id)));
+                continue;
+            }
+            for (Long id : chunk) {
+                ItemRow row = rows.get(id);
+                if (row == null) {
+                    debouncer.forget(id);
+                    awaitingDelivery.remove(id);
+                    continue;
+                }
+                StockStatus current = StockStatus.of(row.quantity(), row.minStockLevel());
+                int previousQuantity = drained.get(id);
+                StockStatus baseline = previousQuantity == UNKNOWN_QUANTITY
+                    ? current
+                    : StockStatus.of(previousQuantity, row.minStockLevel());
+                debouncer.observe(id, baseline, current, now);
+                awaitingDelivery.put(id, row);
+            }
+        }
+
+        List<StockAlertDto> alerts = new ArrayList<>();
+        LocalDateTime detectedAt = LocalDateTime.now();
+        for (AlertDebouncer.Transition transition : debouncer.due(now)) {
+            ItemRow row = awaitingDelivery.get(transition.itemId());
+            if (row != null) {
+                alerts.add(toAlert(row, transition, detectedAt));
+            }
+        }
+        awaitingDelivery.keySet().retainAll(debouncer.pendingItemIds());
+
+        if (!alerts.isEmpty()) {
+            alertsRaised.addAndGet(alerts.size());
+            dispatcher.enqueue(alerts);
+            log.info("Raised {} stock alerts", alerts.size());
+        }
+        return alerts.size();
+    }
+
+    @Override
+    public AlertStatusDto getStatus() {
+        int debouncing;
+        synchronized (this) {
+            debouncing = debouncer.pendingItemIds().size();
+        }
+        return AlertStatusDto.builder()
+            .dirtyItems(dirtyItems.size())
+            .debouncingItems(debouncing)
+            .alertsRaised(alertsRaised.get())
+            .sinks(dispatcher.getStatus())
+            .build();
+    }
+
+    private Map<Long, ItemRow> loadRows(List<Long> ids) {
+        Map<Long, ItemRow> rows = new HashMap<>(ids.size() * 2);
+        namedJdbcTemplate.query("SELECT id, name, quantity, min_stock_level FROM inventory_items " +
+            "WHERE id IN (:ids) AND deleted_at IS NULL",
+            new MapSqlParameterSource("ids", ids),
+            rs -> {
+                int minStockLevel = rs.getInt("min_stock_level");
+                Integer min = rs.wasNull() ? null : minStockLevel;
+                long id = rs.getLong("id");
+                rows.put(id, new ItemRow(id, rs.getString("name"), rs.getInt("quantity"), min));
+            });
+        return rows;
+    }
+
+    private static StockAlertDto toAlert(ItemRow row, AlertDebouncer.Transition transition, LocalDateTime detectedAt) {
+        AlertType type = switch (transition.to()) {
+            case OUT_OF_STOCK -> AlertType.OUT_OF_STOCK;
+            case LOW_STOCK -> AlertType.LOW_STOCK;
+            case IN_STOCK -> AlertType.BACK_IN_STOCK;
+        };
+        return StockAlertDto.builder()
+            .itemId(row.id())
+            .itemName(row.name())
+            .type(type)
+            .previousStatus(transition.from())
+            .status(transition.to())
+            .quantity(row.quantity())
+            .minStockLevel(row.minStockLevel())
+            .detectedAt(detectedAt)
+            .build();
+    }
+
+    private record ItemRow(long id, String name, int quantity, Integer minStockLevel) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.backend.inventory_management.features.alert;
+
+import com.backend.inventory_management.features.alert.dtos.StockAlertDto;
+
+import java.util.List;
+
+/**
+ * A notification channel. Deliveries run on the alert dispatcher thread, never in a request;
+ * throwing makes the dispatcher retry the same batch with backoff.
+ */
+public interface AlertSink {
+    String getName();
+    void deliver(List<StockAlertDto> alerts) throws Exception;
+}
@@ -0,0 +1,7 @@
+package com.backend.inventory_management.features.alert;
+
+public enum AlertType {
+    LOW_STOCK,
+    OUT_OF_STOCK,
+    BACK_IN_STOCK
+}
@@ -0,0 +1,59 @@
+package com.backend.inventory_management.features.alert;
+
+import com.backend.inventory_management.features.alert.dtos.StockAlertDto;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Sends one digest mail per batch rather than one mail per item
+@Component
+@ConditionalOnProperty(name = "app.alerts.email.to")
+public class EmailAlertSink implements AlertSink {
+
+    private final ObjectProvider<JavaMailSender> mailSender;
+    private final String[] recipients;
+    private final String from;
+
+    public EmailAlertSink(ObjectProvider<JavaMailSender> mailSender,
+                          @Value("${app.alerts.email.to}") String[] recipients,
+                          @Value("${app.alerts.email.from:inventory@localhost}") String from) {
+        this.mailSender = mailSender;
+        this.recipients = recipients;
+        this.from = from;
+    }
+
+    @Override
+    public String getName() {
+        return "email";
+    }
+
+    @Override
+    public void deliver(List<StockAlertDto> alerts) {
+        JavaMailSender sender = mailSender.getIfAvailable();
+        if (sender == null) {
+            throw new MailSendException("No mail server configured (spring.mail.host)");
+        }
+
+        StringBuilder body = new StringBuilder();
+        for (StockAlertDto alert : alerts) {
+            body.append(String.format("%s  %s (#%d): quantity %d, minimum %d%n",
+                alert.getType(), alert.getItemName(), alert.getItemId(),
+                alert.getQuantity(), alert.getMinStockLevel()));
+        }
+
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(from);
+        message.setTo(recipients);
+        message.setSubject(alerts.size() == 1
+            ? "Stock alert: " + alerts.get(0).getItemName()
+            : "Stock alerts: " + alerts.size() + " items");
+        message.setText(body.toString());
+        sender.send(message);
+    }
+}
@@ -0,0 +1,52 @@
+package com.backend.inventory_management.features.alert;
+
+import com.backend.inventory_management.features.alert.dtos.StockAlertDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+// Keeps the most recent deliveries in memory so alerting can be exercised without a mail server or webhook
+@Component
+@ConditionalOnProperty(name = "app.alerts.stub.enabled", havingValue = "true")
+public class StubAlertSink implements AlertSink {
+
+    private final int capacity;
+    private final Deque<StockAlertDto> recent = new ArrayDeque<>();
+
+    public StubAlertSink(@Value("${app.alerts.stub.capacity:500}") int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    @Override
+    public String getName() {
+        return "stub";
+    }
+
+    @Override
+    public synchronized void deliver(List<StockAlertDto> alerts) {
+        for (StockAlertDto alert : alerts) {
+            if (recent.size() == capacity) {
+                recent.removeFirst();
+            }
+            recent.addLast(alert);
+        }
+    }
+
+    // Newest first
+    public synchronized List<StockAlertDto> getRecent(int limit) {
+        List<StockAlertDto> result = new ArrayList<>(Math.min(limit, recent.size()));
+        for (var it = recent.descendingIterator(); it.hasNext() && result.size() < limit; ) {
+            result.add(it.next());
+        }
+        return result;
+    }
+
+    public synchronized void clear() {
+        recent.clear();
+    }
+}
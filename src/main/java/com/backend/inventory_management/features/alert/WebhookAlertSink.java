@@ -0,0 +1,45 @@
+package com.backend.inventory_management.features.alert;
+
+import com.backend.inventory_management.features.alert.dtos.StockAlertDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.Map;
+
+// Posts each batch as one JSON document; any non-2xx response is thrown and retried by the dispatcher
+@Component
+@ConditionalOnProperty(name = "app.alerts.webhook.url")
+public class WebhookAlertSink implements AlertSink {
+
+    private final RestClient restClient;
+
+    public WebhookAlertSink(@Value("${app.alerts.webhook.url}") String url,
+                            @Value("${app.alerts.webhook.timeout-ms:5000}") int timeoutMs) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeoutMs);
+        requestFactory.setReadTimeout(timeoutMs);
+        this.restClient = RestClient.builder()
+            .baseUrl(url)
+            .requestFactory(requestFactory)
+            .build();
+    }
+
+    @Override
+    public String getName() {
+        return "webhook";
+    }
+
+    @Override
+    public void deliver(List<StockAlertDto> alerts) {
+        restClient.post()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(Map.of("alerts", alerts))
+            .retrieve()
+            .toBodilessEntity();
+    }
+}
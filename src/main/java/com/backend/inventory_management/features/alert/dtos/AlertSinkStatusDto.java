@@ -0,0 +1,22 @@
+package com.backend.inventory_management.features.alert.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlertSinkStatusDto {
+    private String sink;
+    private Integer queued;
+    private Long delivered;
+    private Long dropped;
+    private Integer consecutiveFailures;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+}
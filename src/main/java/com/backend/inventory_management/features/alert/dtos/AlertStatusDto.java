@@ -0,0 +1,19 @@
+package com.backend.inventory_management.features.alert.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlertStatusDto {
+    private Integer dirtyItems;
+    private Integer debouncingItems;
+    private Long alertsRaised;
+    private List<AlertSinkStatusDto> sinks;
+}
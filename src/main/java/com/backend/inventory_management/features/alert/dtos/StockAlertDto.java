@@ -0,0 +1,25 @@
+package com.backend.inventory_management.features.alert.dtos;
+
+import com.backend.inventory_management.features.alert.AlertType;
+import com.backend.inventory_management.features.inventory.StockStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAlertDto {
+    private Long itemId;
+    private String itemName;
+    private AlertType type;
+    private StockStatus previousStatus;
+    private StockStatus status;
+    private Integer quantity;
+    private Integer minStockLevel;
+    private LocalDateTime detectedAt;
+}
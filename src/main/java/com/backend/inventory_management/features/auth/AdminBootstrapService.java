@@ -0,0 +1,75 @@
+package com.backend.inventory_management.features.auth;
+
+import com.backend.inventory_management.features.jobs.JobService;
+import com.backend.inventory_management.features.jobs.JobTrigger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Creates the first administrator of an empty database, so a production install without sample
+ * data still has someone who can log in. It only acts when a password is configured and no user
+ * exists yet; after that the account is managed like any other. Runs after the sample data seeder,
+ * which brings its own users when it is enabled.
+ */
+@Slf4j
+@Service
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class AdminBootstrapService implements CommandLineRunner {
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JobService jobService;
+    private final PlatformTransactionManager transactionManager;
+    private final String username;
+    private final String password;
+    private final String email;
+
+    public AdminBootstrapService(UserRepository userRepository,
+                                 PasswordEncoder passwordEncoder,
+                                 JobService jobService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.bootstrap-admin.username:admin}") String username,
+                                 @Value("${app.bootstrap-admin.password:}") String password,
+                                 @Value("${app.bootstrap-admin.email:admin@inventorymanager.com}") String email) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.jobService = jobService;
+        this.transactionManager = transactionManager;
+        this.username = username;
+        this.password = password;
+        this.email = email;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (password.isBlank()) {
+            return;
+        }
+
+        // Every node starts with the same settings; the lock holder creates the account and the others skip
+        jobService.runExclusive("admin-bootstrap", JobTrigger.STARTUP, () ->
+            new TransactionTemplate(transactionManager).execute(status -> {
+                if (userRepository.count() > 0) {
+                    return 0L;
+                }
+                userRepository.save(User.builder()
+                    .username(username)
+                    .password(passwordEncoder.encode(password))
+                    .email(email)
+                    .firstName("System")
+                    .lastName("Administrator")
+                    .role(Role.ADMIN)
+                    .enabled(true)
+                    .build());
+                log.info("Created bootstrap administrator {}", username);
+                return 1L;
+            }));
+    }
+}
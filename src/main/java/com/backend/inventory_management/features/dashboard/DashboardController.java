@@ -0,0 +1,43 @@
+package com.backend.inventory_management.features.dashboard;
+
+import com.backend.inventory_management.core.Response;
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.features.dashboard.dtos.DashboardDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class DashboardController {
+    
+    private final DashboardService dashboardService;
+    
+    @GetMapping
+    public ResponseEntity<Response<DashboardDto>> getDashboard(
+            @RequestParam(required = false) List<String> sections,
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(defaultValue = "20") int reorderSize) {
+        try {
+            DashboardDto dashboard = dashboardService.getDashboard(sections, days, reorderSize);
+            if (!dashboard.isComplete()) {
+                return ResponseEntity.ok(Response.success(dashboard, "Some dashboard sections could not be loaded"));
+            }
+            return ResponseEntity.ok(Response.success(dashboard));
+        } catch (InvalidOperationException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to assemble dashboard", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to assemble dashboard"));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.backend.inventory_management.features.dashboard;
+
+import com.backend.inventory_management.features.dashboard.dtos.DashboardSectionDto;
+import com.backend.inventory_management.features.traffic.Admission;
+import com.backend.inventory_management.features.traffic.LoadSheddingService;
+import com.backend.inventory_management.features.traffic.RequestPriority;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
+
+/**
+ * Loads dashboard sections side by side on a bounded pool and waits for each one until its own
+ * time budget, counted from when the fan-out started, runs out. A section still running then is
+ * reported as timed out and left to finish in the background; one still queued never starts.
+ * <p>
+ * Each section takes an analytics slot from the load limiter while it runs, as the request it
+ * replaces would have, and gives it back only when its query has finished, timed out or not. The
+ * limiter therefore keeps counting every query the fan-out has in front of the database, and a
+ * section it refuses is reported as shed.
+ * <p>
+ * Workers run with the caller's security context, which the replica routing uses to keep a
+ * user's reads on the primary right after their own writes.
+ */
+@Slf4j
+public final class DashboardFanOut implements AutoCloseable {
+
+    private static final int QUEUED_PER_THREAD = 8;
+
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final LoadSheddingService loadSheddingService;
+
+    public DashboardFanOut(int threads, LoadSheddingService loadSheddingService) {
+        this.loadSheddingService = loadSheddingService;
+        AtomicInteger counter = new AtomicInteger();
+        int size = Math.max(1, threads);
+        this.pool = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(size * QUEUED_PER_THREAD), runnable -> {
+                Thread thread = new Thread(runnable, "dashboard-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.pool.allowCoreThreadTimeOut(true);
+        this.executor = new DelegatingSecurityContextExecutorService(pool);
+    }
+
+    public Map<DashboardSection, DashboardSectionDto> run(Map<DashboardSection, Callable<?>> loaders,
+                                                          ToLongFunction<DashboardSection> budgetNanos) {
+        long started = System.nanoTime();
+        Map<DashboardSection, Future<Timed>> futures = new EnumMap<>(DashboardSection.class);
+        Map<DashboardSection, DashboardSectionDto> results = new EnumMap<>(DashboardSection.class);
+        for (Map.Entry<DashboardSection, Callable<?>> entry : loaders.entrySet()) {
+            Callable<?> loader = entry.getValue();
+            try {
+                futures.put(entry.getKey(), executor.submit(() -> load(loader)));
+            } catch (RejectedExecutionException e) {
+                results.put(entry.getKey(), failed(budgetNanos.applyAsLong(entry.getKey()), 0, "Dashboard workers are busy"));
+            }
+        }
+
+        for (Map.Entry<DashboardSection, Future<Timed>> entry : futures.entrySet()) {
+            DashboardSection section = entry.getKey();
+            long budget = budgetNanos.applyAsLong(section);
+            Future<Timed> future = entry.getValue();
+            try {
+                Timed timed = future.get(Math.max(0, started + budget - System.nanoTime()), TimeUnit.NANOSECONDS);
+                results.put(section, DashboardSectionDto.builder()
+                    .status(DashboardSectionStatus.OK)
+                    .budgetMs(TimeUnit.NANOSECONDS.toMillis(budget))
+                    .elapsedMs(TimeUnit.NANOSECONDS.toMillis(timed.elapsedNanos()))
+                    .data(timed.data())
+                    .build());
+            } catch (TimeoutException e) {
+                future.cancel(false);
+                results.put(section, DashboardSectionDto.builder()
+                    .status(DashboardSectionStatus.TIMED_OUT)
+                    .budgetMs(TimeUnit.NANOSECONDS.toMillis(budget))
+                    .elapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started))
+                    .error("Section did not load within " + TimeUnit.NANOSECONDS.toMillis(budget) + " ms")
+                    .build());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof ShedException) {
+                    results.put(section, DashboardSectionDto.builder()
+                        .status(DashboardSectionStatus.SHED)
+                        .budgetMs(TimeUnit.NANOSECONDS.toMillis(budget))
+                        .elapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started))
+                        .error("Section refused under load")
+                        .build());
+                } else {
+                    log.warn("Dashboard section {} failed: {}", section.getKey(), cause.toString());
+                    results.put(section, failed(budget, System.nanoTime() - started,
+                        cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName()));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(false);
+                results.put(section, failed(budget, System.nanoTime() - started, "Interrupted"));
+            }
+        }
+        return results;
+    }
+
+    private Timed load(Callable<?> loader) throws Exception {
+        Admission admission = null;
+        if (loadSheddingService.isEnabled()) {
+            admission = loadSheddingService.tryAcquire(RequestPriority.ANALYTICS);
+            if (!admission.admitted()) {
+                throw new ShedException();
+            }
+        }
+        long started = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object data = loader.call();
+            failed = false;
+            return new Timed(data, System.nanoTime() - started);
+        } finally {
+            if (admission != null) {
+                loadSheddingService.release(admission, System.nanoTime() - started, failed);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    private static DashboardSectionDto failed(long budgetNanos, long elapsedNanos, String error) {
+        return DashboardSectionDto.builder()
+            .status(DashboardSectionStatus.FAILED)
+            .budgetMs(TimeUnit.NANOSECONDS.toMillis(budgetNanos))
+            .elapsedMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+            .error(error)
+            .build();
+    }
+
+    private record Timed(Object data, long elapsedNanos) {
+    }
+
+    private static final class ShedException extends RuntimeException {
+        private ShedException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.backend.inventory_management.features.dashboard;
+
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+
+/**
+ * The parts of the dashboard landing page, named after the endpoints they stand in for.
+ */
+public enum DashboardSection {
+    METRICS("metrics"),
+    LOW_STOCK("low-stock"),
+    OUT_OF_STOCK("out-of-stock"),
+    CATEGORIES("categories"),
+    REORDER_RECOMMENDATIONS("reorder-recommendations"),
+    FORECAST("forecast");
+
+    private final String key;
+
+    DashboardSection(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static DashboardSection fromKey(String key) {
+        String normalized = key.strip().toLowerCase().replace('_', '-');
+        for (DashboardSection section : values()) {
+            if (section.key.equals(normalized)) {
+                return section;
+            }
+        }
+        throw new InvalidOperationException("Unknown dashboard section: " + key);
+    }
+}
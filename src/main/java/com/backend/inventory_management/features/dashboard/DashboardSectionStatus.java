@@ -0,0 +1,10 @@
+package com.backend.inventory_management.features.dashboard;
+
+public enum DashboardSectionStatus {
+    OK,
+    // Not ready within the section's time budget; the page renders without it
+    TIMED_OUT,
+    // Refused by the load limiter, like a request would have been
+    SHED,
+    FAILED
+}
@@ -0,0 +1,9 @@
+package com.backend.inventory_management.features.dashboard;
+
+import com.backend.inventory_management.features.dashboard.dtos.DashboardDto;
+
+import java.util.List;
+
+public interface DashboardService {
+    DashboardDto getDashboard(List<String> sections, int days, int reorderSize);
+}
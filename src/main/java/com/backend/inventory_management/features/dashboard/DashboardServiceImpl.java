@@ -0,0 +1,120 @@
+package com.backend.inventory_management.features.dashboard;
+
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.features.dashboard.dtos.DashboardDto;
+import com.backend.inventory_management.features.dashboard.dtos.DashboardSectionDto;
+import com.backend.inventory_management.features.forecast.ForecastService;
+import com.backend.inventory_management.features.inventory.InventoryService;
+import com.backend.inventory_management.features.reorder.ReorderService;
+import com.backend.inventory_management.features.traffic.LoadSheddingService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assembles the dashboard landing page in one request. Each section calls the same service method
+ * as its standalone endpoint, in a transaction of its own on a worker thread, so the page takes as
+ * long as its slowest section instead of the sum of all of them. A section that misses its time
+ * budget, is refused by the load limiter or fails is reported as such and the rest of the page
+ * is returned without it.
+ * <p>
+ * Budgets default to app.dashboard.section-timeout-ms and can be set per section with
+ * app.dashboard.sections.&lt;name&gt;.timeout-ms.
+ */
+@Service
+public class DashboardServiceImpl implements DashboardService, DisposableBean {
+
+    private static final int MAX_DAYS = 365;
+    private static final int MAX_REORDER_SIZE = 100;
+
+    private final InventoryService inventoryService;
+    private final ReorderService reorderService;
+    private final ForecastService forecastService;
+    private final DashboardFanOut fanOut;
+    private final Map<DashboardSection, Long> budgetNanos = new EnumMap<>(DashboardSection.class);
+
+    public DashboardServiceImpl(InventoryService inventoryService,
+                                ReorderService reorderService,
+                                ForecastService forecastService,
+                                LoadSheddingService loadSheddingService,
+                                Environment environment,
+                                @Value("${app.dashboard.section-timeout-ms:2000}") long defaultBudgetMs,
+                                @Value("${app.dashboard.threads:8}") int threads) {
+        this.inventoryService = inventoryService;
+        this.reorderService = reorderService;
+        this.forecastService = forecastService;
+        this.fanOut = new DashboardFanOut(threads, loadSheddingService);
+        for (DashboardSection section : DashboardSection.values()) {
+            long budgetMs = environment.getProperty("app.dashboard.sections." + section.getKey() + ".timeout-ms",
+                Long.class, defaultBudgetMs);
+            budgetNanos.put(section, TimeUnit.MILLISECONDS.toNanos(Math.max(1, budgetMs)));
+        }
+    }
+
+    @Override
+    public DashboardDto getDashboard(List<String> sections, int days, int reorderSize) {
+        if (days < 1 || days > MAX_DAYS) {
+            throw new InvalidOperationException("Days must be between 1 and " + MAX_DAYS);
+        }
+        if (reorderSize < 1 || reorderSize > MAX_REORDER_SIZE) {
+            throw new InvalidOperationException("Reorder size must be between 1 and " + MAX_REORDER_SIZE);
+        }
+
+        long started = System.nanoTime();
+        Map<DashboardSection, Callable<?>> loaders = new EnumMap<>(DashboardSection.class);
+        for (DashboardSection section : selectSections(sections)) {
+            loaders.put(section, loader(section, days, reorderSize));
+        }
+        Map<DashboardSection, DashboardSectionDto> results = fanOut.run(loaders, budgetNanos::get);
+
+        Map<String, DashboardSectionDto> byKey = new LinkedHashMap<>();
+        results.forEach((section, result) -> byKey.put(section.getKey(), result));
+        return DashboardDto.builder()
+            .sections(byKey)
+            .complete(results.values().stream().allMatch(result -> result.getStatus() == DashboardSectionStatus.OK))
+            .elapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started))
+            .build();
+    }
+
+    @Override
+    public void destroy() {
+        fanOut.close();
+    }
+
+    private Callable<?> loader(DashboardSection section, int days, int reorderSize) {
+        return switch (section) {
+            case METRICS -> inventoryService::getMetrics;
+            case LOW_STOCK -> inventoryService::getLowStockItems;
+            case OUT_OF_STOCK -> inventoryService::getOutOfStockItems;
+            case CATEGORIES -> inventoryService::getCategories;
+            case REORDER_RECOMMENDATIONS -> () -> reorderService.getRecommendations(0, reorderSize);
+            case FORECAST -> () -> forecastService.getOverallForecast(days);
+        };
+    }
+
+    private static Set<DashboardSection> selectSections(List<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return EnumSet.allOf(DashboardSection.class);
+        }
+        Set<DashboardSection> selected = EnumSet.noneOf(DashboardSection.class);
+        for (String key : keys) {
+            if (!key.isBlank()) {
+                selected.add(DashboardSection.fromKey(key));
+            }
+        }
+        if (selected.isEmpty()) {
+            throw new InvalidOperationException("No dashboard sections selected");
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,19 @@
+package com.backend.inventory_management.features.dashboard.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardDto {
+    // Keyed by section name, in dashboard order
+    private Map<String, DashboardSectionDto> sections;
+    private boolean complete;
+    private long elapsedMs;
+}
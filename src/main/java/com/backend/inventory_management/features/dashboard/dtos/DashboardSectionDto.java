@@ -0,0 +1,20 @@
+package com.backend.inventory_management.features.dashboard.dtos;
+
+import com.backend.inventory_management.features.dashboard.DashboardSectionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardSectionDto {
+    private DashboardSectionStatus status;
+    private long budgetMs;
+    private long elapsedMs;
+    // What the section's own endpoint returns; null unless the status is OK
+    private Object data;
+    private String error;
+}
@@ -6,33 +6,84 @@ import com.backend.inventory_management.features.auth.User;
 import com.backend.inventory_management.features.auth.UserRepository;
 import com.backend.inventory_management.features.inventory.InventoryItem;
 import com.backend.inventory_management.features.inventory.InventoryItemRepository;
+import com.backend.inventory_management.features.inventory.category.Category;
+import com.backend.inventory_management.features.inventory.category.CategoryRepository;
+import com.backend.inventory_management.features.inventory.category.CategoryService;
+import com.backend.inventory_management.features.inventory.dtos.CreateCategoryDto;
+import com.backend.inventory_management.features.inventory.supplier.Supplier;
+import com.backend.inventory_management.features.inventory.supplier.SupplierRepository;
+import com.backend.inventory_management.features.jobs.JobService;
+import com.backend.inventory_management.features.jobs.JobTrigger;
+import com.backend.inventory_management.features.location.StockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+// Before the admin bootstrap, which only creates an account when no user exists
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
 public class DataSeederService implements CommandLineRunner {
     
     private final UserRepository userRepository;
     private final InventoryItemRepository inventoryItemRepository;
+    private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
+    private final SupplierRepository supplierRepository;
+    private final StockService stockService;
     private final PasswordEncoder passwordEncoder;
+    private final JobService jobService;
+    private final PlatformTransactionManager transactionManager;
+    
+    // Checked at run time rather than as a bean condition, so AOT-processed builds can still opt in
+    @Value("${app.seed.enabled:false}")
+    private boolean enabled;
     
     @Override
-    @Transactional
     public void run(String... args) throws Exception {
+        if (!enabled) {
+            return;
+        }
+        
+        // Every node starts the seeder; the node holding the job lock seeds and commits before
+        // releasing it, so the others either skip or find the data already there
+        jobService.runExclusive("data-seeder", JobTrigger.STARTUP, () -> {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> seed());
+            return 0;
+        });
+    }
+    
+    private void seed() {
         if (userRepository.count() == 0) {
             seedUsers();
             log.info("Sample users created successfully");
         }
         
+        if (categoryRepository.count() == 0) {
+            seedCategories();
+            log.info("Sample categories created successfully");
+        }
+        
+        if (supplierRepository.count() == 0) {
+            seedSuppliers();
+            log.info("Sample suppliers created successfully");
+        }
+        
         if (inventoryItemRepository.count() == 0) {
             seedInventoryItems();
             log.info("Sample inventory items created successfully");
@@ -75,29 +126,75 @@ public class DataSeederService implements CommandLineRunner {
         userRepository.save(user);
     }
     
+    private void seedCategories() {
+        // Created through the service so the category tree is maintained
+        List.of(
+            createCategory("Electronics", "Electronic devices and accessories"),
+            createCategory("Furniture", "Office and home furniture"),
+            createCategory("Stationery", "Office supplies and stationery"),
+            createCategory("Appliances", "Kitchen and home appliances"),
+            createCategory("Accessories", "Various accessories and gear")
+        ).forEach(categoryService::createCategory);
+    }
+    
+    private void seedSuppliers() {
+        supplierRepository.saveAll(List.of(
+            createSupplier("TechCorp", "Michael Johnson", "contact@techcorp.com", "+1-555-0101", "123 Tech Street, Silicon Valley, CA"),
+            createSupplier("DisplayTech", "Sarah Wilson", "sales@displaytech.com", "+1-555-0102", "456 Display Ave, Austin, TX"),
+            createSupplier("ComfortSeats", "David Brown", "orders@comfortseats.com", "+1-555-0103", "789 Furniture Blvd, Grand Rapids, MI"),
+            createSupplier("LightUp", "Emma Davis", "info@lightup.com", "+1-555-0104", "321 Lighting Way, Portland, OR"),
+            createSupplier("PaperPlus", "Robert Miller", "sales@paperplus.com", "+1-555-0105", "654 Paper Street, New York, NY"),
+            createSupplier("WriteWell", "Lisa Garcia", "contact@writewell.com", "+1-555-0106", "987 Pen Avenue, Chicago, IL"),
+            createSupplier("BrewMaster", "James Wilson", "orders@brewmaster.com", "+1-555-0107", "159 Coffee Lane, Seattle, WA"),
+            createSupplier("HydroGear", "Amanda Taylor", "info@hydrogear.com", "+1-555-0108", "753 Water Street, Denver, CO")
+        ));
+    }
+    
     private void seedInventoryItems() {
+        Map<String, Category> categories = categoryRepository.findAll().stream()
+            .collect(Collectors.toMap(Category::getName, Function.identity()));
+        Map<String, Supplier> suppliers = supplierRepository.findAll().stream()
+            .collect(Collectors.toMap(Supplier::getName, Function.identity()));
+        
         InventoryItem[] items = {
-            createItem("Laptop Pro", "Electronics", 15, 1299.99, "TechCorp"),
-            createItem("Wireless Mouse", "Electronics", 45, 29.99, "TechCorp"),
-            createItem("Monitor 4K", "Electronics", 8, 399.99, "DisplayTech"),
-            createItem("Office Chair", "Furniture", 25, 249.99, "ComfortSeats"),
-            createItem("Desk Lamp", "Furniture", 30, 79.99, "LightUp"),
-            createItem("Notebook Set", "Stationery", 5, 12.99, "PaperPlus"),
-            createItem("Pen Pack", "Stationery", 60, 8.99, "WriteWell"),
-            createItem("Coffee Maker", "Appliances", 12, 159.99, "BrewMaster"),
-            createItem("Water Bottle", "Accessories", 3, 19.99, "HydroGear"),
-            createItem("Keyboard", "Electronics", 20, 89.99, "TechCorp"),
-            createItem("Wireless Headphones", "Electronics", 0, 199.99, "TechCorp"),
-            createItem("Standing Desk", "Furniture", 7, 549.99, "ComfortSeats"),
-            createItem("Printer Paper", "Stationery", 150, 24.99, "PaperPlus"),
-            createItem("Desk Organizer", "Accessories", 35, 34.99, "WriteWell"),
-            createItem("USB Cable", "Electronics", 2, 14.99, "TechCorp")
+            createItem("Laptop Pro", categories.get("Electronics"), 15, 1299.99, suppliers.get("TechCorp")),
+            createItem("Wireless Mouse", categories.get("Electronics"), 45, 29.99, suppliers.get("TechCorp")),
+            createItem("Monitor 4K", categories.get("Electronics"), 8, 399.99, suppliers.get("DisplayTech")),
+            createItem("Office Chair", categories.get("Furniture"), 25, 249.99, suppliers.get("ComfortSeats")),
+            createItem("Desk Lamp", categories.get("Furniture"), 30, 79.99, suppliers.get("LightUp")),
+            createItem("Notebook Set", categories.get("Stationery"), 5, 12.99, suppliers.get("PaperPlus")),
+            createItem("Pen Pack", categories.get("Stationery"), 60, 8.99, suppliers.get("WriteWell")),
+            createItem("Coffee Maker", categories.get("Appliances"), 12, 159.99, suppliers.get("BrewMaster")),
+            createItem("Water Bottle", categories.get("Accessories"), 3, 19.99, suppliers.get("HydroGear")),
+            createItem("Keyboard", categories.get("Electronics"), 20, 89.99, suppliers.get("TechCorp")),
+            createItem("Wireless Headphones", categories.get("Electronics"), 0, 199.99, suppliers.get("TechCorp")),
+            createItem("Standing Desk", categories.get("Furniture"), 7, 549.99, suppliers.get("ComfortSeats")),
+            createItem("Printer Paper", categories.get("Stationery"), 150, 24.99, suppliers.get("PaperPlus")),
+            createItem("Desk Organizer", categories.get("Accessories"), 35, 34.99, suppliers.get("WriteWell")),
+            createItem("USB Cable", categories.get("Electronics"), 2, 14.99, suppliers.get("TechCorp"))
         };
 
-        inventoryItemRepository.saveAll(Arrays.asList(items));
+        inventoryItemRepository.saveAll(Arrays.asList(items)).forEach(stockService::recordInitialStock);
+    }
+    
+    private CreateCategoryDto createCategory(String name, String description) {
+        return CreateCategoryDto.builder()
+            .name(name)
+            .description(description)
+            .build();
+    }
+    
+    private Supplier createSupplier(String name, String contactPerson, String email, String phone, String address) {
+        return Supplier.builder()
+            .name(name)
+            .contactPerson(contactPerson)
+            .email(email)
+            .phone(phone)
+            .address(address)
+            .build();
     }
     
-    private InventoryItem createItem(String name, String category, int quantity, double price, String supplier) {
+    private InventoryItem createItem(String name, Category category, int quantity, double price, Supplier supplier) {
         return InventoryItem.builder()
             .name(name)
             .category(category)
@@ -0,0 +1,247 @@
+package com.backend.inventory_management.features.data_seeder;
+
+import com.backend.inventory_management.features.inventory.sync.ChangeSequence;
+import com.backend.inventory_management.features.location.LocationService;
+import com.backend.inventory_management.features.location.StockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Fills the database with a large, reproducible data set for performance work: users, a two-level
+ * category tree, suppliers and inventory items drawn by {@link SyntheticItemGenerator}. Items are
+ * streamed through {@code COPY ... FROM STDIN} on PostgreSQL and through batched inserts elsewhere.
+ * Runs once at startup when {@code app.generator.enabled} is set, normally through the
+ * {@code datagen} profile or the {@code generateData} Gradle task.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final String GENERATED_SKU_PATTERN = "GEN-%";
+    private static final String AUDIT_USER = "generator";
+
+    private static final String ITEM_COLUMNS = "name, sku, barcode, category_id, supplier_id, quantity, price, " +
+        "min_stock_level, max_stock_level, status, created_at, updated_at, created_by, updated_by";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ChangeSequence changeSequence;
+    private final LocationService locationService;
+    private final StockService stockService;
+    private final PasswordEncoder passwordEncoder;
+    private final ApplicationContext applicationContext;
+
+    // Checked at run time rather than as a bean condition, so AOT-processed builds can still opt in
+    @Value("${app.generator.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.generator.seed:42}")
+    private long seed;
+
+    @Value("${app.generator.items:1000000}")
+    private int itemCount;
+
+    @Value("${app.generator.categories:200}")
+    private int categoryCount;
+
+    @Value("${app.generator.suppliers:500}")
+    private int supplierCount;
+
+    @Value("${app.generator.users:1000}")
+    private int userCount;
+
+    @Value("${app.generator.category-skew:1.1}")
+    private double categorySkew;
+
+    @Value("${app.generator.supplier-skew:0.9}")
+    private double supplierSkew;
+
+    @Value("${app.generator.out-of-stock-share:0.03}")
+    private double outOfStockShare;
+
+    @Value("${app.generator.low-stock-share:0.08}")
+    private double lowStockShare;
+
+    @Value("${app.generator.batch-size:10000}")
+    private int batchSize;
+
+    @Value("${app.generator.exit-when-done:false}")
+    private boolean exitWhenDone;
+
+    @Override
+    public void run(String... args) {
+        if (!enabled) {
+            return;
+        }
+
+        Long existing = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM inventory_items WHERE sku LIKE ?", Long.class, GENERATED_SKU_PATTERN);
+        if (existing != null && existing > 0) {
+            log.warn("Skipping data generation: {} generated items already exist", existing);
+        } else {
+            generate();
+        }
+
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+
+    private void generate() {
+        long started = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(seed);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            insertUsers(random);
+            List<Long> categoryIds = insertCategories();
+            List<Long> supplierIds = insertSuppliers(random);
+            log.info("Generated {} users, {} categories and {} suppliers", userCount, categoryIds.size(), supplierIds.size());
+
+            SyntheticItemGenerator items = new SyntheticItemGenerator(seed, categoryCount, categorySkew,
+                supplierCount, supplierSkew, outOfStockShare, lowStockShare);
+            // Bulk rows take their change sequence from the column default; drawing a value before and
+            // after keeps the sync watermark below them until they commit and moves it past them after
+            changeSequence.next();
+            long loadStarted = System.currentTimeMillis();
+            String method = isPostgres() ? copyItems(items, categoryIds, supplierIds) : insertItems(items, categoryIds, supplierIds);
+            log.info("Loaded {} items with {} in {} ms", itemCount, method, System.currentTimeMillis() - loadStarted);
+
+            jdbcTemplate.update("INSERT INTO stock_levels (item_id, location_id, quantity, updated_at) " +
+                "SELECT i.id, ?, i.quantity, CURRENT_TIMESTAMP FROM inventory_items i WHERE i.sku LIKE ?",
+                locationService.getDefaultLocation().getId(), GENERATED_SKU_PATTERN);
+            changeSequence.next();
+        });
+        stockService.rebuildSummaries();
+
+        log.info("Generated synthetic data set (seed {}) in {} ms", seed, System.currentTimeMillis() - started);
+    }
+
+    private void insertUsers(SplittableRandom random) {
+        // Hashing is deliberately slow, so every generated user shares one password
+        String password = passwordEncoder.encode("password123");
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> rows = new ArrayList<>(userCount);
+        for (int i = 1; i <= userCount; i++) {
+            String username = String.format("gen_user_%06d", i);
+            rows.add(new Object[]{username, password, username + "@example.com", "Generated", "User " + i,
+                random.nextDouble() < 0.05 ? "MANAGER" : "USER", true, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (username, password, email, first_name, last_name, role, " +
+            "enabled, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    // One root per ten categories; every other category is a child of a root
+    private List<Long> insertCategories() {
+        int rootCount = Math.max(1, categoryCount / 10);
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Long> ids = new ArrayList<>(categoryCount);
+        for (int i = 0; i < categoryCount; i++) {
+            Long parentId = i < rootCount ? null : ids.get(i % rootCount);
+            String name = String.format("Generated Category %04d", i + 1);
+            jdbcTemplate.update("INSERT INTO categories (name, description, parent_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?)", name, "Synthetic category", parentId, now, now);
+            Long id = jdbcTemplate.queryForObject("SELECT id FROM categories WHERE name = ?", Long.class, name);
+            ids.add(id);
+
+            List<Object[]> closure = new ArrayList<>(2);
+            closure.add(new Object[]{id, id, 0});
+            if (parentId != null) {
+                closure.add(new Object[]{parentId, id, 1});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO category_closure (ancestor_id, descendant_id, depth) VALUES (?, ?, ?)", closure);
+        }
+        return ids;
+    }
+
+    private List<Long> insertSuppliers(SplittableRandom random) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> rows = IntStream.rangeClosed(1, supplierCount)
+            .mapToObj(i -> new Object[]{String.format("Generated Supplier %04d", i), "Account Manager " + i,
+                String.format("orders%04d@supplier.example.com", i), 1 + random.nextInt(21), now, now})
+            .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO suppliers (name, contact_person, email, lead_time_days, created_at, " +
+            "updated_at) VALUES (?, ?, ?, ?, ?, ?)", rows);
+        return jdbcTemplate.queryForList(
+            "SELECT id FROM suppliers WHERE name LIKE 'Generated Supplier %' ORDER BY name", Long.class);
+    }
+
+    private String copyItems(SyntheticItemGenerator items, List<Long> categoryIds, List<Long> supplierIds) {
+        String createdAt = new Timestamp(System.currentTimeMillis()).toString();
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            CopyIn copy = con.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn("COPY inventory_items (" + ITEM_COLUMNS + ") FROM STDIN (FORMAT csv)");
+            try {
+                StringBuilder chunk = new StringBuilder();
+                for (int i = 1; i <= itemCount; i++) {
+                    SyntheticItemGenerator.Item item = items.next();
+                    // Generated names and codes contain no commas or quotes, so no CSV quoting is needed
+                    chunk.append(item.name()).append(',').append(item.sku()).append(',').append(item.barcode())
+                        .append(',').append(categoryIds.get(item.categoryIndex()))
+                        .append(',').append(supplierIds.get(item.supplierIndex()))
+                        .append(',').append(item.quantity())
+                        .append(',').append(BigDecimal.valueOf(item.priceCents(), 2))
+                        .append(',').append(item.minStockLevel()).append(',').append(item.maxStockLevel())
+                        .append(',').append(item.status()).append(',').append(createdAt).append(',').append(createdAt)
+                        .append(',').append(AUDIT_USER).append(',').append(AUDIT_USER).append('\n');
+                    if (i % batchSize == 0 || i == itemCount) {
+                        byte[] bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+                        copy.writeToCopy(bytes, 0, bytes.length);
+                        chunk.setLength(0);
+                    }
+                }
+                copy.endCopy();
+            } finally {
+                if (copy.isActive()) {
+                    copy.cancelCopy();
+                }
+            }
+            return null;
+        });
+        return "COPY";
+    }
+
+    private String insertItems(SyntheticItemGenerator items, List<Long> categoryIds, List<Long> supplierIds) {
+        Timestamp createdAt = new Timestamp(System.currentTimeMillis());
+        String sql = "INSERT INTO inventory_items (" + ITEM_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (int i = 1; i <= itemCount; i++) {
+            SyntheticItemGenerator.Item item = items.next();
+            batch.add(new Object[]{item.name(), item.sku(), item.barcode(), categoryIds.get(item.categoryIndex()),
+                supplierIds.get(item.supplierIndex()), item.quantity(), BigDecimal.valueOf(item.priceCents(), 2),
+                item.minStockLevel(), item.maxStockLevel(), item.status().name(), createdAt, createdAt,
+                AUDIT_USER, AUDIT_USER});
+            if (batch.size() == batchSize || i == itemCount) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        return "batched inserts";
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equals(product);
+    }
+}
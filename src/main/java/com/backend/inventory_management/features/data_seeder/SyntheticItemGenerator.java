@@ -0,0 +1,102 @@
+package com.backend.inventory_management.features.data_seeder;
+
+import com.backend.inventory_management.features.inventory.StockStatus;
+import com.backend.inventory_management.features.inventory.barcode.Gtin;
+
+import java.util.SplittableRandom;
+
+/**
+ * Produces an endless, reproducible stream of inventory items. Category and supplier popularity
+ * follow Zipf distributions over a seeded shuffle of the indexes, so the popular groups are not
+ * simply the first ones inserted. Prices are log-normal, a configured share of items is out of
+ * stock or below its minimum level, and the remaining quantities are skewed towards the minimum.
+ */
+final class SyntheticItemGenerator {
+
+    private static final String[] ADJECTIVES = {
+        "Compact", "Deluxe", "Classic", "Wireless", "Portable", "Premium", "Basic", "Ergonomic",
+        "Heavy-Duty", "Slim", "Smart", "Eco", "Pro", "Mini", "Ultra", "Foldable", "Digital", "Rugged"
+    };
+    private static final String[] NOUNS = {
+        "Kettle", "Headphones", "Desk Lamp", "Notebook", "Backpack", "Keyboard", "Water Bottle",
+        "Office Chair", "Monitor", "Blender", "Stapler", "Charger", "Speaker", "Toaster", "Mouse",
+        "Organizer", "Pen Set", "Extension Cord", "Printer Paper", "Coffee Maker"
+    };
+    // GS1 restricted-circulation prefix: numbers for in-store use that cannot clash with real products
+    private static final String BARCODE_PREFIX = "29";
+    private static final long MEDIAN_PRICE_CENTS = 2_500;
+    private static final double PRICE_SIGMA = 1.0;
+    private static final long MAX_PRICE_CENTS = 9_999_999_999L;
+
+    private final SplittableRandom random;
+    private final ZipfSampler categories;
+    private final ZipfSampler suppliers;
+    private final int[] categoryByRank;
+    private final int[] supplierByRank;
+    private final double outOfStockShare;
+    private final double lowStockShare;
+    private long generated;
+
+    SyntheticItemGenerator(long seed, int categoryCount, double categorySkew, int supplierCount, double supplierSkew,
+                           double outOfStockShare, double lowStockShare) {
+        this.random = new SplittableRandom(seed);
+        this.categories = new ZipfSampler(categoryCount, categorySkew);
+        this.suppliers = new ZipfSampler(supplierCount, supplierSkew);
+        this.categoryByRank = shuffledIndexes(categoryCount, random);
+        this.supplierByRank = shuffledIndexes(supplierCount, random);
+        this.outOfStockShare = outOfStockShare;
+        this.lowStockShare = lowStockShare;
+    }
+
+    Item next() {
+        long index = ++generated;
+        int minStockLevel = 5 + random.nextInt(46);
+        int maxStockLevel = minStockLevel * (3 + random.nextInt(8));
+
+        int quantity;
+        double draw = random.nextDouble();
+        if (draw < outOfStockShare) {
+            quantity = 0;
+        } else if (draw < outOfStockShare + lowStockShare) {
+            quantity = 1 + random.nextInt(minStockLevel - 1);
+        } else {
+            // Cubing a uniform draw piles most items up just above the minimum
+            double spread = maxStockLevel * 1.5 - minStockLevel;
+            quantity = minStockLevel + (int) (spread * Math.pow(random.nextDouble(), 3));
+        }
+
+        long priceCents = Math.round(MEDIAN_PRICE_CENTS * Math.exp(PRICE_SIGMA * random.nextGaussian()));
+        return new Item(
+            ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + NOUNS[random.nextInt(NOUNS.length)] + " " + index,
+            String.format("GEN-%09d", index),
+            Gtin.withCheckDigit(BARCODE_PREFIX + String.format("%010d", index)),
+            categoryByRank[categories.sample(random)],
+            supplierByRank[suppliers.sample(random)],
+            quantity,
+            Math.max(1, Math.min(MAX_PRICE_CENTS, priceCents)),
+            minStockLevel,
+            maxStockLevel);
+    }
+
+    private static int[] shuffledIndexes(int count, SplittableRandom random) {
+        int[] indexes = new int[count];
+        for (int i = 0; i < count; i++) {
+            indexes[i] = i;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = swap;
+        }
+        return indexes;
+    }
+
+    record Item(String name, String sku, String barcode, int categoryIndex, int supplierIndex, int quantity,
+                long priceCents, int minStockLevel, int maxStockLevel) {
+
+        StockStatus status() {
+            return StockStatus.of(quantity, minStockLevel);
+        }
+    }
+}
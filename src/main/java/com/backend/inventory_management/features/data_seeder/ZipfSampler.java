@@ -0,0 +1,35 @@
+package com.backend.inventory_management.features.data_seeder;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Draws ranks {@code 0..n-1} with probability proportional to {@code 1 / (rank + 1)^exponent},
+ * by binary search over the precomputed cumulative distribution. An exponent around 1 gives the
+ * familiar long tail: a handful of ranks take most of the draws.
+ */
+final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    ZipfSampler(int n, double exponent) {
+        if (n < 1) {
+            throw new IllegalArgumentException("At least one rank is required");
+        }
+        cumulative = new double[n];
+        double total = 0;
+        for (int rank = 0; rank < n; rank++) {
+            total += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cumulative[rank] /= total;
+        }
+    }
+
+    int sample(SplittableRandom random) {
+        int found = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = found >= 0 ? found : -found - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
@@ -4,6 +4,8 @@ package com.backend.inventory_management.features.forecast;
 import com.backend.inventory_management.core.Response;
 import com.backend.inventory_management.features.forecast.dtos.ForecastDto;
 import com.backend.inventory_management.features.forecast.dtos.ProductForecastDto;
+import com.backend.inventory_management.features.forecast.dtos.SalesVelocityDto;
+import com.backend.inventory_management.features.forecast.dtos.VelocityTrackerStatsDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -59,4 +61,32 @@ public class ForecastController {
                 .body(Response.error("Failed to generate product forecast"));
         }
     }
+    
+    @GetMapping("/velocity/{productId}")
+    public ResponseEntity<Response<SalesVelocityDto>> getSalesVelocity(@PathVariable Long productId) {
+        try {
+            SalesVelocityDto velocity = forecastService.getSalesVelocity(productId);
+            return ResponseEntity.ok(Response.success(velocity));
+        } catch (RuntimeException e) {
+            log.error("Product not found for sales velocity: {}", productId, e);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error("Product not found"));
+        } catch (Exception e) {
+            log.error("Failed to compute sales velocity for id: {}", productId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to compute sales velocity"));
+        }
+    }
+    
+    @GetMapping("/velocity/stats")
+    public ResponseEntity<Response<VelocityTrackerStatsDto>> getVelocityTrackerStats() {
+        try {
+            VelocityTrackerStatsDto stats = forecastService.getVelocityTrackerStats();
+            return ResponseEntity.ok(Response.success(stats));
+        } catch (Exception e) {
+            log.error("Failed to retrieve velocity tracker stats", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve velocity tracker stats"));
+        }
+    }
 }
\ No newline at end of file
@@ -2,8 +2,12 @@ package com.backend.inventory_management.features.forecast;
 
 import com.backend.inventory_management.features.forecast.dtos.ForecastDto;
 import com.backend.inventory_management.features.forecast.dtos.ProductForecastDto;
+import com.backend.inventory_management.features.forecast.dtos.SalesVelocityDto;
+import com.backend.inventory_management.features.forecast.dtos.VelocityTrackerStatsDto;
 
 public interface ForecastService {
     ForecastDto getOverallForecast(int days);
     ProductForecastDto getProductForecast(Long productId, int days);
+    SalesVelocityDto getSalesVelocity(Long productId);
+    VelocityTrackerStatsDto getVelocityTrackerStats();
 }
\ No newline at end of file
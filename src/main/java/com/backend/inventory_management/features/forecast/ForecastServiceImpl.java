@@ -3,13 +3,20 @@ package com.backend.inventory_management.features.forecast;
 import com.backend.inventory_management.features.forecast.dtos.ForecastDto;
 import com.backend.inventory_management.features.forecast.dtos.ForecastInsightDto;
 import com.backend.inventory_management.features.forecast.dtos.ProductForecastDto;
+import com.backend.inventory_management.features.forecast.dtos.SalesVelocityDto;
+import com.backend.inventory_management.features.forecast.dtos.VelocityTrackerStatsDto;
+import com.backend.inventory_management.features.forecast.velocity.SalesVelocityTracker;
 import com.backend.inventory_management.features.inventory.InventoryItem;
 import com.backend.inventory_management.features.inventory.InventoryItemRepository;
+import com.backend.inventory_management.features.traffic.Coalesced;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -22,8 +29,10 @@ import java.util.stream.IntStream;
 public class ForecastServiceImpl implements ForecastService {
     
     private final InventoryItemRepository inventoryItemRepository;
+    private final SalesVelocityTracker salesVelocityTracker;
     
     @Override
+    @Coalesced("forecast.overall")
     public ForecastDto getOverallForecast(int days) {
         List<String> labels = generateLabels(days);
         List<Double> values = generateOverallForecastData(days);
@@ -38,6 +47,7 @@ public class ForecastServiceImpl implements ForecastService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public ProductForecastDto getProductForecast(Long productId, int days) {
         InventoryItem item = inventoryItemRepository.findById(productId)
             .orElseThrow(() -> new RuntimeException("Product not found with id: " + productId));
@@ -62,6 +72,48 @@ public class ForecastServiceImpl implements ForecastService {
             .build();
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public SalesVelocityDto getSalesVelocity(Long productId) {
+        InventoryItem item = inventoryItemRepository.findById(productId)
+            .orElseThrow(() -> new RuntimeException("Product not found with id: " + productId));
+        
+        SalesVelocityTracker.VelocitySnapshot snapshot =
+            salesVelocityTracker.snapshot(item.getId(), item.getQuantity());
+        
+        return SalesVelocityDto.builder()
+            .productId(item.getId())
+            .productName(item.getName())
+            .currentQuantity(item.getQuantity())
+            .unitsPerHour(snapshot.unitsPerHour())
+            .unitsPerDay(snapshot.unitsPerDay())
+            .daysUntilStockout(daysUntilStockout(item, snapshot))
+            .projectedStockoutAt(snapshot.projectedStockout() != null
+                ? LocalDateTime.ofInstant(snapshot.projectedStockout(), ZoneId.systemDefault())
+                : null)
+            .observedHours(snapshot.observedMillis() / 3_600_000.0)
+            .build();
+    }
+    
+    @Override
+    public VelocityTrackerStatsDto getVelocityTrackerStats() {
+        int trackedItems = salesVelocityTracker.getTrackedItemCount();
+        long bytesPerItem = salesVelocityTracker.getEstimatedBytesPerItem();
+        
+        return VelocityTrackerStatsDto.builder()
+            .trackedItems(trackedItems)
+            .estimatedBytesPerItem(bytesPerItem)
+            .estimatedTotalBytes(trackedItems * bytesPerItem)
+            .build();
+    }
+    
+    private Double daysUntilStockout(InventoryItem item, SalesVelocityTracker.VelocitySnapshot snapshot) {
+        if (item.getQuantity() <= 0) {
+            return 0.0;
+        }
+        return snapshot.unitsPerDay() > 0 ? item.getQuantity() / snapshot.unitsPerDay() : null;
+    }
+    
     private List<String> generateLabels(int days) {
         return IntStream.rangeClosed(1, Math.min(days, 30))
             .mapToObj(i -> "Day " + i)
@@ -86,7 +138,7 @@ public class ForecastServiceImpl implements ForecastService {
     private List<Double> generateProductForecastData(InventoryItem item, int days) {
         List<Double> data = new ArrayList<>();
         double baseValue = Math.max(1, item.getQuantity() / 10.0);
-        double categoryMultiplier = getCategoryMultiplier(item.getCategory());
+        double categoryMultiplier = getCategoryMultiplier(item.getCategory().getName());
         
         for (int i = 1; i <= Math.min(days, 30); i++) {
             // Simulate product-specific demand patterns
@@ -120,8 +172,9 @@ public class ForecastServiceImpl implements ForecastService {
         
         double avgDemand = forecastData.stream().mapToDouble(Double::doubleValue).average().orElse(0);
         double maxDemand = forecastData.stream().mapToDouble(Double::doubleValue).max().orElse(0);
-        double currentStock = item.getQuantity();
-        double daysUntilStockout = avgDemand > 0 ? currentStock / avgDemand : 0;
+        SalesVelocityTracker.VelocitySnapshot velocity =
+            salesVelocityTracker.snapshot(item.getId(), item.getQuantity());
+        Double daysUntilStockout = daysUntilStockout(item, velocity);
         
         insights.add(ForecastInsightDto.builder()
             .label("Average Daily Demand")
@@ -144,11 +197,19 @@ public class ForecastServiceImpl implements ForecastService {
             .description("Current inventory quantity")
             .build());
         
+        insights.add(ForecastInsightDto.builder()
+            .label("Observed Sales Velocity")
+            .value(String.format("%.1f units/day", velocity.unitsPerDay()))
+            .icon("🛒")
+            .description(String.format("Measured from stock decrements over the last %.0f hours",
+                velocity.observedMillis() / 3_600_000.0))
+            .build());
+        
         insights.add(ForecastInsightDto.builder()
             .label("Days Until Stockout")
-            .value(String.format("%.1f days", daysUntilStockout))
+            .value(daysUntilStockout != null ? String.format("%.1f days", daysUntilStockout) : "No recent sales")
             .icon("⏰")
-            .description("Estimated days until inventory depletes")
+            .description("Projected from observed sales velocity and current stock")
             .build());
         
         return insights;
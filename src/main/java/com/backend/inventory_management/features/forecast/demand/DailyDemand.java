@@ -0,0 +1,34 @@
+package com.backend.inventory_management.features.forecast.demand;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(
+    name = "item_demand_daily",
+    uniqueConstraints = @UniqueConstraint(name = "uk_item_demand_daily_item_date", columnNames = {"item_id", "demand_date"})
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyDemand {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+    
+    @Column(name = "demand_date", nullable = false)
+    private LocalDate demandDate;
+    
+    @Column(nullable = false)
+    private Long units;
+}
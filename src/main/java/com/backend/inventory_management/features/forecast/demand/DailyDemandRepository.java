@@ -0,0 +1,34 @@
+package com.backend.inventory_management.features.forecast.demand;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DailyDemandRepository extends JpaRepository<DailyDemand, Long> {
+    
+    @Modifying
+    @Query("UPDATE DailyDemand d SET d.units = d.units + :units WHERE d.itemId = :itemId AND d.demandDate = :date")
+    int addUnits(@Param("itemId") Long itemId, @Param("date") LocalDate date, @Param("units") long units);
+    
+    // Per-item demand totals over a window: [itemId, sum(units), sum(units^2)]
+    @Query("SELECT d.itemId, SUM(d.units), SUM(d.units * d.units) FROM DailyDemand d " +
+           "WHERE d.demandDate >= :since GROUP BY d.itemId")
+    List<Object[]> aggregateDemandSince(@Param("since") LocalDate since);
+    
+    @Query("SELECT d.itemId, SUM(d.units), SUM(d.units * d.units) FROM DailyDemand d " +
+           "WHERE d.demandDate >= :since AND d.itemId IN :itemIds GROUP BY d.itemId")
+    List<Object[]> aggregateDemandSince(@Param("since") LocalDate since, @Param("itemIds") Collection<Long> itemIds);
+    
+    // Raw daily rows over a window: [itemId, demandDate, units]
+    @Query("SELECT d.itemId, d.demandDate, d.units FROM DailyDemand d WHERE d.demandDate >= :since")
+    List<Object[]> findDemandSince(@Param("since") LocalDate since);
+    
+    List<DailyDemand> findByItemIdAndDemandDateGreaterThanEqualOrderByDemandDate(Long itemId, LocalDate since);
+}
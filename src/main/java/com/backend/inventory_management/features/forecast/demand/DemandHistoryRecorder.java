@@ -0,0 +1,52 @@
+package com.backend.inventory_management.features.forecast.demand;
+
+import com.backend.inventory_management.features.inventory.StockChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+public class DemandHistoryRecorder {
+    
+    private final DailyDemandRepository dailyDemandRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    public DemandHistoryRecorder(DailyDemandRepository dailyDemandRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.dailyDemandRepository = dailyDemandRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        if (event.isDecrement()) {
+            record(event.getItemId(), LocalDate.now(), -event.getDelta());
+        }
+    }
+    
+    public void record(Long itemId, LocalDate date, long units) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (dailyDemandRepository.addUnits(itemId, date, units) == 0) {
+                    dailyDemandRepository.saveAndFlush(DailyDemand.builder()
+                        .itemId(itemId)
+                        .demandDate(date)
+                        .units(units)
+                        .build());
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another writer created the day's row first; the row exists now, so add to it
+            log.debug("Concurrent demand row insert for item {} on {}, retrying as update", itemId, date);
+            transactionTemplate.executeWithoutResult(status -> dailyDemandRepository.addUnits(itemId, date, units));
+        }
+    }
+}
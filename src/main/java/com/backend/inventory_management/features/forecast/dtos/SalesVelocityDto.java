@@ -0,0 +1,23 @@
+package com.backend.inventory_management.features.forecast.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesVelocityDto {
+    private Long productId;
+    private String productName;
+    private Integer currentQuantity;
+    private Double unitsPerHour;
+    private Double unitsPerDay;
+    private Double daysUntilStockout;
+    private LocalDateTime projectedStockoutAt;
+    private Double observedHours;
+}
@@ -0,0 +1,16 @@
+package com.backend.inventory_management.features.forecast.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VelocityTrackerStatsDto {
+    private Integer trackedItems;
+    private Long estimatedBytesPerItem;
+    private Long estimatedTotalBytes;
+}
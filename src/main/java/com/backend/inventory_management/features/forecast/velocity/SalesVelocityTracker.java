@@ -0,0 +1,132 @@
+package com.backend.inventory_management.features.forecast.velocity;
+
+import com.backend.inventory_management.features.inventory.StockChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class SalesVelocityTracker {
+
+    private static final long MILLIS_PER_HOUR = Duration.ofHours(1).toMillis();
+    private static final long MILLIS_PER_DAY = Duration.ofDays(1).toMillis();
+
+    // Per-entry overhead: map node, boxed key and the ItemVelocity holder
+    private static final long ENTRY_OVERHEAD_BYTES = 32 + 16 + 24;
+
+    private final ConcurrentMap<Long, ItemVelocity> velocities = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final long startedAtMillis;
+    private final long shortBucketMillis;
+    private final int shortBucketCount;
+    private final long longBucketMillis;
+    private final int longBucketCount;
+
+    @Autowired
+    public SalesVelocityTracker(
+            @Value("${app.velocity.short-window.bucket-seconds:60}") long shortBucketSeconds,
+            @Value("${app.velocity.short-window.buckets:60}") int shortBucketCount,
+            @Value("${app.velocity.long-window.bucket-minutes:60}") long longBucketMinutes,
+            @Value("${app.velocity.long-window.buckets:168}") int longBucketCount) {
+        this(Clock.systemUTC(), shortBucketSeconds * 1000, shortBucketCount,
+                longBucketMinutes * 60_000, longBucketCount);
+    }
+
+    SalesVelocityTracker(Clock clock, long shortBucketMillis, int shortBucketCount,
+                         long longBucketMillis, int longBucketCount) {
+        this.clock = clock;
+        this.startedAtMillis = clock.millis();
+        this.shortBucketMillis = shortBucketMillis;
+        this.shortBucketCount = shortBucketCount;
+        this.longBucketMillis = longBucketMillis;
+        this.longBucketCount = longBucketCount;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        if (event.isDecrement()) {
+            recordSale(event.getItemId(), -event.getDelta());
+        }
+    }
+
+    public void recordSale(Long itemId, int units) {
+        if (itemId == null || units <= 0) {
+            return;
+        }
+        long now = clock.millis();
+        ItemVelocity velocity = velocities.computeIfAbsent(itemId, id -> newItemVelocity());
+        velocity.shortWindow.add(now, units);
+        velocity.longWindow.add(now, units);
+    }
+
+    public void forget(Long itemId) {
+        velocities.remove(itemId);
+    }
+
+    public VelocitySnapshot snapshot(Long itemId, int currentQuantity) {
+        long now = clock.millis();
+        ItemVelocity velocity = velocities.get(itemId);
+
+        double unitsPerHour = 0;
+        double unitsPerDay = 0;
+        if (velocity != null) {
+            unitsPerHour = rate(velocity.shortWindow, now, MILLIS_PER_HOUR);
+            unitsPerDay = rate(velocity.longWindow, now, MILLIS_PER_DAY);
+        }
+
+        Instant projectedStockout = null;
+        if (unitsPerDay > 0 && currentQuantity > 0) {
+            long millisLeft = (long) (currentQuantity / unitsPerDay * MILLIS_PER_DAY);
+            projectedStockout = Instant.ofEpochMilli(now + millisLeft);
+        } else if (currentQuantity <= 0) {
+            projectedStockout = Instant.ofEpochMilli(now);
+        }
+
+        return new VelocitySnapshot(unitsPerHour, unitsPerDay, projectedStockout,
+                observedMillis(now, longBucketMillis * longBucketCount));
+    }
+
+    public int getTrackedItemCount() {
+        return velocities.size();
+    }
+
+    public long getEstimatedBytesPerItem() {
+        return ENTRY_OVERHEAD_BYTES
+                + SlidingWindowCounter.estimatedBytes(shortBucketCount)
+                + SlidingWindowCounter.estimatedBytes(longBucketCount);
+    }
+
+    public long getLongWindowMillis() {
+        return longBucketMillis * longBucketCount;
+    }
+
+    private double rate(SlidingWindowCounter counter, long now, long perMillis) {
+        // Until the tracker has run for a full window, normalise by the time actually observed
+        long observed = Math.max(counter.getBucketMillis(), observedMillis(now, counter.getWindowMillis()));
+        return counter.sum(now) * (double) perMillis / observed;
+    }
+
+    private long observedMillis(long now, long windowMillis) {
+        return Math.min(windowMillis, Math.max(0, now - startedAtMillis));
+    }
+
+    private ItemVelocity newItemVelocity() {
+        return new ItemVelocity(
+                new SlidingWindowCounter(shortBucketMillis, shortBucketCount),
+                new SlidingWindowCounter(longBucketMillis, longBucketCount));
+    }
+
+    private record ItemVelocity(SlidingWindowCounter shortWindow, SlidingWindowCounter longWindow) {
+    }
+
+    public record VelocitySnapshot(double unitsPerHour, double unitsPerDay,
+                                   Instant projectedStockout, long observedMillis) {
+    }
+}
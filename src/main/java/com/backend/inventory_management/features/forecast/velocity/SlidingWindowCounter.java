@@ -0,0 +1,98 @@
+package com.backend.inventory_management.features.forecast.velocity;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size ring of time buckets. Each slot packs the bucket epoch into the
+ * high 32 bits and the unit count into the low 32 bits, so a stale slot is
+ * recycled by the same CAS that records into it and no lock is ever taken.
+ */
+public class SlidingWindowCounter {
+
+    private static final long COUNT_MASK = 0xFFFFFFFFL;
+
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final AtomicLongArray slots;
+
+    public SlidingWindowCounter(long bucketMillis, int bucketCount) {
+        if (bucketMillis <= 0 || bucketCount <= 0) {
+            throw new IllegalArgumentException("Bucket size and count must be positive");
+        }
+        this.bucketMillis = bucketMillis;
+        this.bucketCount = bucketCount;
+        this.slots = new AtomicLongArray(bucketCount);
+    }
+
+    public void add(long nowMillis, int units) {
+        if (units <= 0) {
+            return;
+        }
+        int epoch = epochOf(nowMillis);
+        int index = Integer.remainderUnsigned(epoch, bucketCount);
+
+        while (true) {
+            long current = slots.get(index);
+            int slotEpoch = (int) (current >>> 32);
+            long count = current & COUNT_MASK;
+
+            long next;
+            if (slotEpoch == epoch) {
+                next = pack(epoch, Math.min(COUNT_MASK, count + units));
+            } else if (slotEpoch - epoch < 0) {
+                next = pack(epoch, units);
+            } else {
+                // A writer with a newer clock already recycled the slot; fold into it
+                next = pack(slotEpoch, Math.min(COUNT_MASK, count + units));
+            }
+
+            if (slots.compareAndSet(index, current, next)) {
+                return;
+            }
+        }
+    }
+
+    public long sum(long nowMillis) {
+        return sum(nowMillis, bucketCount);
+    }
+
+    public long sum(long nowMillis, int bucketsBack) {
+        int epoch = epochOf(nowMillis);
+        int span = Math.min(bucketsBack, bucketCount);
+        long total = 0;
+
+        for (int i = 0; i < bucketCount; i++) {
+            long slot = slots.get(i);
+            int age = epoch - (int) (slot >>> 32);
+            if (age >= 0 && age < span) {
+                total += slot & COUNT_MASK;
+            }
+        }
+        return total;
+    }
+
+    public long getWindowMillis() {
+        return bucketMillis * bucketCount;
+    }
+
+    public long getBucketMillis() {
+        return bucketMillis;
+    }
+
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
+    public static long estimatedBytes(int bucketCount) {
+        // AtomicLongArray object + backing long[] header and payload
+        return 16 + 16 + 8L * bucketCount;
+    }
+
+    private int epochOf(long millis) {
+        return (int) (millis / bucketMillis);
+    }
+
+    private static long pack(int epoch, long count) {
+        return ((long) epoch << 32) | (count & COUNT_MASK);
+    }
+}
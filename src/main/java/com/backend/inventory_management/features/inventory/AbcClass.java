@@ -0,0 +1,7 @@
+package com.backend.inventory_management.features.inventory;
+
+public enum AbcClass {
+    A,
+    B,
+    C
+}
@@ -2,13 +2,23 @@
 package com.backend.inventory_management.features.inventory;
 
 import com.backend.inventory_management.core.Response;
+import com.backend.inventory_management.core.exceptions.DuplicateResourceException;
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.core.exceptions.ResourceNotFoundException;
+import com.backend.inventory_management.features.inventory.abc.AbcBasis;
+import com.backend.inventory_management.features.inventory.abc.AbcClassificationService;
+import com.backend.inventory_management.features.inventory.barcode.BarcodeLookupService;
 import com.backend.inventory_management.features.inventory.dtos.*;
+import com.backend.inventory_management.features.reorder.ReorderService;
+import com.backend.inventory_management.features.reorder.dtos.ReorderRecommendationDto;
+import com.backend.inventory_management.features.reorder.dtos.SupplierReorderGroupDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -21,10 +31,15 @@ import java.util.List;
 public class InventoryController {
     
     private final InventoryService inventoryService;
+    private final ReorderService reorderService;
+    private final AbcClassificationService abcClassificationService;
+    private final BarcodeLookupService barcodeLookupService;
     
     @GetMapping
     public ResponseEntity<Response<Page<InventoryItemDto>>> getAllItems(
             @RequestParam(required = false) String searchTerm,
+            @RequestParam(required = false) AbcClass abcClass,
+            @RequestParam(required = false) Long categoryId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "name") String sortBy,
@@ -33,6 +48,8 @@ public class InventoryController {
         try {
             InventoryFilterDto filter = InventoryFilterDto.builder()
                 .searchTerm(searchTerm)
+                .abcClass(abcClass)
+                .categoryId(categoryId)
                 .page(page)
                 .size(size)
                 .sortBy(sortBy)
@@ -64,12 +81,58 @@ public class InventoryController {
         }
     }
     
+    @GetMapping("/by-barcode/{code}")
+    public ResponseEntity<Response<BarcodeLookupDto>> getItemByBarcode(@PathVariable String code) {
+        try {
+            return ResponseEntity.ok(Response.success(barcodeLookupService.lookup(code)));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (InvalidOperationException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to look up barcode {}", code, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to look up barcode"));
+        }
+    }
+    
+    @PostMapping("/by-barcode")
+    public ResponseEntity<Response<BarcodeResolveResultDto>> resolveBarcodes(
+            @Valid @RequestBody BarcodeResolveRequestDto request) {
+        try {
+            return ResponseEntity.ok(Response.success(barcodeLookupService.resolve(request.getBarcodes())));
+        } catch (Exception e) {
+            log.error("Failed to resolve barcodes", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to resolve barcodes"));
+        }
+    }
+    
+    @GetMapping("/by-sku/{sku}")
+    public ResponseEntity<Response<InventoryItemDto>> getItemBySku(@PathVariable String sku) {
+        try {
+            return ResponseEntity.ok(Response.success(inventoryService.getItemBySku(sku)));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to retrieve item with SKU: {}", sku, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve item"));
+        }
+    }
+    
     @PostMapping
     public ResponseEntity<Response<InventoryItemDto>> createItem(@Valid @RequestBody CreateInventoryItemDto createDto) {
         try {
             InventoryItemDto createdItem = inventoryService.createItem(createDto);
             return ResponseEntity.status(HttpStatus.CREATED)
                 .body(Response.success(createdItem, "Item created successfully"));
+        } catch (DuplicateResourceException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Response.error(e.getMessage()));
         } catch (RuntimeException e) {
             log.error("Failed to create item", e);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -88,6 +151,12 @@ public class InventoryController {
         try {
             InventoryItemDto updatedItem = inventoryService.updateItem(id, updateDto);
             return ResponseEntity.ok(Response.success(updatedItem, "Item updated successfully"));
+        } catch (DuplicateResourceException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Response.error(e.getMessage()));
+        } catch (InvalidOperationException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Response.error(e.getMessage()));
         } catch (RuntimeException e) {
             log.error("Failed to update item with id: {}", id, e);
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -151,6 +220,46 @@ public class InventoryController {
         }
     }
     
+    @GetMapping("/search")
+    public ResponseEntity<Response<InventorySearchResultDto>> search(
+            @RequestParam(required = false) String searchTerm,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String supplier,
+            @RequestParam(required = false) StockStatus status,
+            @RequestParam(required = false) AbcClass abcClass,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection) {
+        
+        try {
+            InventoryFilterDto filter = InventoryFilterDto.builder()
+                .searchTerm(searchTerm)
+                .category(category)
+                .categoryId(categoryId)
+                .supplier(supplier)
+                .status(status)
+                .abcClass(abcClass)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .page(page)
+                .size(size)
+                .sortBy(sortBy)
+                .sortDirection(sortDirection)
+                .build();
+            
+            InventorySearchResultDto result = inventoryService.search(filter);
+            return ResponseEntity.ok(Response.success(result));
+        } catch (Exception e) {
+            log.error("Failed to search inventory items", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to search inventory items"));
+        }
+    }
+    
     @GetMapping("/categories")
     public ResponseEntity<Response<List<String>>> getCategories() {
         try {
@@ -176,9 +285,11 @@ public class InventoryController {
     }
     
     @GetMapping("/reorder-recommendations")
-    public ResponseEntity<Response<List<InventoryItemDto>>> getReorderRecommendations() {
+    public ResponseEntity<Response<Page<ReorderRecommendationDto>>> getReorderRecommendations(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
         try {
-            List<InventoryItemDto> recommendations = inventoryService.getReorderRecommendations();
+            Page<ReorderRecommendationDto> recommendations = reorderService.getRecommendations(page, size);
             return ResponseEntity.ok(Response.success(recommendations));
         } catch (Exception e) {
             log.error("Failed to retrieve reorder recommendations", e);
@@ -186,4 +297,59 @@ public class InventoryController {
                 .body(Response.error("Failed to retrieve reorder recommendations"));
         }
     }
+    
+    @GetMapping("/reorder-recommendations/by-supplier")
+    public ResponseEntity<Response<List<SupplierReorderGroupDto>>> getReorderRecommendationsBySupplier(
+            @RequestParam(defaultValue = "500") int limit) {
+        try {
+            List<SupplierReorderGroupDto> groups = reorderService.getRecommendationsBySupplier(limit);
+            return ResponseEntity.ok(Response.success(groups));
+        } catch (Exception e) {
+            log.error("Failed to retrieve reorder recommendations by supplier", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve reorder recommendations"));
+        }
+    }
+    
+    @PostMapping("/reorder-recommendations/recompute")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Response<Integer>> recomputeReorderPolicies() {
+        try {
+            int policies = reorderService.recomputeAll();
+            return ResponseEntity.ok(Response.success(policies, "Reorder policies recomputed"));
+        } catch (Exception e) {
+            log.error("Failed to recompute reorder policies", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to recompute reorder policies"));
+        }
+    }
+    
+    @GetMapping("/abc-classification")
+    public ResponseEntity<Response<AbcClassificationResultDto>> getAbcClassification() {
+        try {
+            AbcClassificationResultDto result = abcClassificationService.getLastResult();
+            return ResponseEntity.ok(Response.success(result));
+        } catch (Exception e) {
+            log.error("Failed to retrieve ABC classification", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve ABC classification"));
+        }
+    }
+    
+    @PostMapping("/abc-classification/run")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Response<AbcClassificationResultDto>> runAbcClassification(
+            @RequestParam(required = false) AbcBasis basis) {
+        try {
+            AbcClassificationResultDto result = abcClassificationService.classify(basis);
+            return ResponseEntity.ok(Response.success(result, "ABC classification completed"));
+        } catch (InvalidOperationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to run ABC classification", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to run ABC classification"));
+        }
+    }
 }
\ No newline at end of file
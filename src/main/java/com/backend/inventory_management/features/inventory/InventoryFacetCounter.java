@@ -0,0 +1,96 @@
+package com.backend.inventory_management.features.inventory;
+
+import com.backend.inventory_management.features.inventory.daos.InventoryDao.FacetTuple;
+import com.backend.inventory_management.features.inventory.dtos.FacetCountDto;
+import com.backend.inventory_management.features.inventory.dtos.InventoryFacetsDto;
+import com.backend.inventory_management.features.inventory.dtos.PriceBucketCountDto;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Folds the grouped (category, supplier, status) counts into sidebar facets. Each facet is
+ * counted against the selections of the other facets only, so a selected category still
+ * shows how many items its siblings would return.
+ */
+final class InventoryFacetCounter {
+
+    private InventoryFacetCounter() {
+    }
+
+    static Result count(List<FacetTuple> tuples, String category, String supplier, StockStatus status,
+                        List<BigDecimal> priceBucketBounds) {
+        Map<Long, FacetCountDto> categories = new LinkedHashMap<>();
+        Map<Long, FacetCountDto> suppliers = new LinkedHashMap<>();
+        Map<StockStatus, FacetCountDto> statuses = new EnumMap<>(StockStatus.class);
+        long[] priceBuckets = new long[priceBucketBounds.size() + 1];
+        long total = 0;
+
+        for (FacetTuple tuple : tuples) {
+            boolean categoryMatches = isBlank(category) || category.equals(tuple.categoryName());
+            boolean supplierMatches = isBlank(supplier) || supplier.equals(tuple.supplierName());
+            boolean statusMatches = status == null || status == tuple.status();
+
+            FacetCountDto categoryFacet = categories.computeIfAbsent(tuple.categoryId(),
+                id -> facet(id, tuple.categoryName(), tuple.categoryName().equals(category)));
+            FacetCountDto supplierFacet = suppliers.computeIfAbsent(tuple.supplierId(),
+                id -> facet(id, tuple.supplierName(), tuple.supplierName().equals(supplier)));
+            // Rows written outside JPA may have no status yet; they count everywhere but in the status facet
+            FacetCountDto statusFacet = tuple.status() == null ? null : statuses.computeIfAbsent(tuple.status(),
+                value -> facet(null, value.name(), value == status));
+
+            if (supplierMatches && statusMatches) {
+                categoryFacet.setCount(categoryFacet.getCount() + tuple.count());
+            }
+            if (categoryMatches && statusMatches) {
+                supplierFacet.setCount(supplierFacet.getCount() + tuple.count());
+            }
+            if (categoryMatches && supplierMatches && statusFacet != null) {
+                statusFacet.setCount(statusFacet.getCount() + tuple.count());
+            }
+            if (categoryMatches && supplierMatches && statusMatches) {
+                total += tuple.count();
+                for (int bucket = 0; bucket < priceBuckets.length; bucket++) {
+                    priceBuckets[bucket] += tuple.priceBucketCounts()[bucket];
+                }
+            }
+        }
+
+        List<PriceBucketCountDto> buckets = new ArrayList<>(priceBuckets.length);
+        for (int bucket = 0; bucket < priceBuckets.length; bucket++) {
+            buckets.add(PriceBucketCountDto.builder()
+                .from(bucket > 0 ? priceBucketBounds.get(bucket - 1) : null)
+                .to(bucket < priceBucketBounds.size() ? priceBucketBounds.get(bucket) : null)
+                .count(priceBuckets[bucket])
+                .build());
+        }
+
+        InventoryFacetsDto facets = InventoryFacetsDto.builder()
+            .categories(sorted(categories.values()))
+            .suppliers(sorted(suppliers.values()))
+            .statuses(sorted(statuses.values()))
+            .priceBuckets(buckets)
+            .build();
+        return new Result(facets, total);
+    }
+
+    // Zero-count values are dropped unless selected, most frequent first
+    private static List<FacetCountDto> sorted(Collection<FacetCountDto> facets) {
+        return facets.stream()
+            .filter(facet -> facet.getCount() > 0 || facet.isSelected())
+            .sorted(Comparator.comparingLong(FacetCountDto::getCount).reversed()
+                .thenComparing(FacetCountDto::getValue))
+            .toList();
+    }
+
+    private static FacetCountDto facet(Long id, String value, boolean selected) {
+        return FacetCountDto.builder().id(id).value(value).selected(selected).build();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    record Result(InventoryFacetsDto facets, long total) {
+    }
+}
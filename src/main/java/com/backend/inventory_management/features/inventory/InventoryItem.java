@@ -1,16 +1,19 @@
 package com.backend.inventory_management.features.inventory;
 
+import com.backend.inventory_management.features.inventory.category.Category;
+import com.backend.inventory_management.features.inventory.supplier.Supplier;
+import com.backend.inventory_management.features.inventory.sync.ChangeSequenceListener;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "inventory_items")
+@EntityListeners(ChangeSequenceListener.class)
+@SQLRestriction("deleted_at IS NULL")
 @Data
 @Builder
 @NoArgsConstructor
@@ -24,8 +27,17 @@ public class InventoryItem {
     @Column(nullable = false)
     private String name;
     
-    @Column(nullable = false)
-    private String category;
+    @Column(unique = true, length = 64)
+    private String sku;
+    
+    @Column(unique = true, length = 14)
+    private String barcode;
+    
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "category_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Category category;
     
     @Column(nullable = false)
     private Integer quantity;
@@ -33,8 +45,11 @@ public class InventoryItem {
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal price;
     
-    @Column(nullable = false)
-    private String supplier;
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "supplier_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Supplier supplier;
     
     @Column(name = "min_stock_level")
     private Integer minStockLevel = 10;
@@ -45,6 +60,14 @@ public class InventoryItem {
     @Enumerated(EnumType.STRING)
     private StockStatus status;
     
+    @Enumerated(EnumType.STRING)
+    @Column(name = "abc_class", length = 1)
+    private AbcClass abcClass;
+    
+    // Position in the change feed; assigned on every insert and update
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -57,6 +80,13 @@ public class InventoryItem {
     @Column(name = "updated_by")
     private String updatedBy;
     
+    // Soft-deleted rows are invisible to every entity query; see InventoryArchiveService
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+    
+    @Column(name = "deleted_by")
+    private String deletedBy;
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -71,12 +101,6 @@ public class InventoryItem {
     }
     
     private void updateStatus() {
-        if (quantity == 0) {
-            status = StockStatus.OUT_OF_STOCK;
-        } else if (quantity < minStockLevel) {
-            status = StockStatus.LOW_STOCK;
-        } else {
-            status = StockStatus.IN_STOCK;
-        }
+        status = StockStatus.of(quantity, minStockLevel);
     }
 }
@@ -0,0 +1,11 @@
+package com.backend.inventory_management.features.inventory;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// Published when an item is created, edited or deleted; listeners re-read the committed row
+@Getter
+@RequiredArgsConstructor
+public class InventoryItemChangedEvent {
+    private final Long itemId;
+}
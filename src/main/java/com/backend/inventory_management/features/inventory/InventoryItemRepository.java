@@ -1,25 +1,54 @@
 // InventoryItemRepository.java
 package com.backend.inventory_management.features.inventory;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 
 @Repository
 public interface InventoryItemRepository extends JpaRepository<InventoryItem, Long>, JpaSpecificationExecutor<InventoryItem> {
     
+    // Category and supplier are loaded in the same query wherever items are mapped to DTOs
+    @Override
+    @EntityGraph(attributePaths = {"category", "supplier"})
+    Optional<InventoryItem> findById(Long id);
+    
+    @Override
+    @EntityGraph(attributePaths = {"category", "supplier"})
+    Page<InventoryItem> findAll(Specification<InventoryItem> spec, Pageable pageable);
+    
+    // Stock movements serialize per item on this row lock; associations are left lazy so only the item row is locked
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM InventoryItem i WHERE i.id = :id")
+    Optional<InventoryItem> findByIdForUpdate(@Param("id") Long id);
+    
+    // Locks are taken in id order so concurrent batches cannot deadlock on each other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM InventoryItem i WHERE i.id IN :ids ORDER BY i.id")
+    List<InventoryItem> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+    
     // Search functionality
-    @Query("SELECT i FROM InventoryItem i WHERE " +
+    @Query(value = "SELECT i FROM InventoryItem i JOIN FETCH i.category c JOIN FETCH i.supplier s WHERE " +
             "(:searchKey IS NULL OR " +
-            "LOWER(CONCAT(i.name, ' ', CAST(i.category AS string), ' ', CAST(i.supplier AS string))) " +
+            "LOWER(CONCAT(i.name, ' ', c.name, ' ', s.name)) " +
+            "LIKE LOWER(CONCAT('%', :searchKey, '%')))",
+            countQuery = "SELECT COUNT(i) FROM InventoryItem i JOIN i.category c JOIN i.supplier s WHERE " +
+            "(:searchKey IS NULL OR " +
+            "LOWER(CONCAT(i.name, ' ', c.name, ' ', s.name)) " +
             "LIKE LOWER(CONCAT('%', :searchKey, '%')))")
     Page<InventoryItem> search(
             @Param("searchKey") String searchKey,
@@ -28,20 +57,23 @@ public interface InventoryItemRepository extends JpaRepository<InventoryItem, Lo
 
     
     // Find by category
-    List<InventoryItem> findByCategory(String category);
+    @EntityGraph(attributePaths = {"category", "supplier"})
+    List<InventoryItem> findByCategoryName(String category);
     
     // Find by supplier
-    List<InventoryItem> findBySupplier(String supplier);
+    @EntityGraph(attributePaths = {"category", "supplier"})
+    List<InventoryItem> findBySupplierName(String supplier);
     
     // Find by status
+    @EntityGraph(attributePaths = {"category", "supplier"})
     List<InventoryItem> findByStatus(StockStatus status);
     
     // Find low stock items
-    @Query("SELECT i FROM InventoryItem i WHERE i.quantity < i.minStockLevel")
+    @Query("SELECT i FROM InventoryItem i JOIN FETCH i.category JOIN FETCH i.supplier WHERE i.quantity < i.minStockLevel")
     List<InventoryItem> findLowStockItems();
     
     // Find out of stock items
-    @Query("SELECT i FROM InventoryItem i WHERE i.quantity = 0")
+    @Query("SELECT i FROM InventoryItem i JOIN FETCH i.category JOIN FETCH i.supplier WHERE i.quantity = 0")
     List<InventoryItem> findOutOfStockItems();
     
     // Get total inventory value
@@ -51,18 +83,11 @@ public interface InventoryItemRepository extends JpaRepository<InventoryItem, Lo
     // Get count by status
     long countByStatus(StockStatus status);
     
-    // Get distinct categories
-    @Query("SELECT DISTINCT i.category FROM InventoryItem i ORDER BY i.category")
-    List<String> findDistinctCategories();
-    
-    // Get distinct suppliers
-    @Query("SELECT DISTINCT i.supplier FROM InventoryItem i ORDER BY i.supplier")
-    List<String> findDistinctSuppliers();
-    
     // Check if item name exists (for validation)
     boolean existsByNameIgnoreCase(String name);
     
-    // Find items that need reordering
-    @Query("SELECT i FROM InventoryItem i WHERE i.quantity <= i.minStockLevel")
-    List<InventoryItem> findItemsNeedingReorder();
+    boolean existsBySku(String sku);
+    
+    @EntityGraph(attributePaths = {"category", "supplier"})
+    Optional<InventoryItem> findBySku(String sku);
 }
@@ -1,6 +1,9 @@
 package com.backend.inventory_management.features.inventory;
 
+import com.backend.inventory_management.features.inventory.category.CategoryClosure;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 
 public class InventoryItemSpecifications {
@@ -17,12 +20,35 @@ public class InventoryItemSpecifications {
                 criteriaBuilder.lower(root.get("name")), likePattern);
             
             Predicate categoryPredicate = criteriaBuilder.like(
-                criteriaBuilder.lower(root.get("category")), likePattern);
+                criteriaBuilder.lower(root.get("category").get("name")), likePattern);
             
             Predicate supplierPredicate = criteriaBuilder.like(
-                criteriaBuilder.lower(root.get("supplier")), likePattern);
+                criteriaBuilder.lower(root.get("supplier").get("name")), likePattern);
             
-            return criteriaBuilder.or(namePredicate, categoryPredicate, supplierPredicate);
+            // SKUs are matched exactly so a scanned or typed code finds just its item
+            Predicate skuPredicate = criteriaBuilder.equal(root.get("sku"), searchKey.trim());
+            
+            return criteriaBuilder.or(namePredicate, categoryPredicate, supplierPredicate, skuPredicate);
+        };
+    }
+    
+    public static Specification<InventoryItem> hasAbcClass(AbcClass abcClass) {
+        return (root, query, criteriaBuilder) -> abcClass == null
+            ? criteriaBuilder.conjunction()
+            : criteriaBuilder.equal(root.get("abcClass"), abcClass);
+    }
+    
+    // Items in the category or any of its descendants, resolved through the closure table
+    public static Specification<InventoryItem> inCategorySubtree(Long categoryId) {
+        return (root, query, criteriaBuilder) -> {
+            if (categoryId == null) {
+                return criteriaBuilder.conjunction();
+            }
+            Subquery<Long> subtree = query.subquery(Long.class);
+            Root<CategoryClosure> closure = subtree.from(CategoryClosure.class);
+            subtree.select(closure.get("descendantId"))
+                .where(criteriaBuilder.equal(closure.get("ancestorId"), categoryId));
+            return root.get("category").get("id").in(subtree);
         };
     }
-}
\ No newline at end of file
+}
@@ -7,7 +7,9 @@ import java.util.List;
 
 public interface InventoryService {
     Page<InventoryItemDto> getAllItems(InventoryFilterDto filter);
+    InventorySearchResultDto search(InventoryFilterDto filter);
     InventoryItemDto getItemById(Long id);
+    InventoryItemDto getItemBySku(String sku);
     InventoryItemDto createItem(CreateInventoryItemDto createDto);
     InventoryItemDto updateItem(Long id, UpdateInventoryItemDto updateDto);
     void deleteItem(Long id);
@@ -16,5 +18,4 @@ public interface InventoryService {
     List<InventoryItemDto> getOutOfStockItems();
     List<String> getCategories();
     List<String> getSuppliers();
-    List<InventoryItemDto> getReorderRecommendations();
 }
\ No newline at end of file
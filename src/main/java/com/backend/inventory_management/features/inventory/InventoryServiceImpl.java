@@ -1,9 +1,25 @@
 package com.backend.inventory_management.features.inventory;
 
+import com.backend.inventory_management.core.exceptions.DuplicateResourceException;
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.features.inventory.barcode.BarcodeLookupService;
+import com.backend.inventory_management.features.inventory.barcode.Gtin;
+import com.backend.inventory_management.features.inventory.category.Category;
+import com.backend.inventory_management.features.inventory.category.CategoryService;
+import com.backend.inventory_management.features.inventory.columnar.ColumnarInventoryService;
+import com.backend.inventory_management.features.inventory.daos.InventoryDao;
 import com.backend.inventory_management.features.inventory.dtos.*;
+import com.backend.inventory_management.features.inventory.supplier.Supplier;
+import com.backend.inventory_management.features.inventory.supplier.SupplierRepository;
+import com.backend.inventory_management.features.inventory.sync.InventorySyncService;
+import com.backend.inventory_management.features.location.StockService;
+import com.backend.inventory_management.features.traffic.Coalesced;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -13,6 +29,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,24 +39,65 @@ import java.util.stream.Collectors;
 public class InventoryServiceImpl implements InventoryService {
     
     private final InventoryItemRepository inventoryItemRepository;
+    private final CategoryService categoryService;
+    private final SupplierRepository supplierRepository;
+    private final InventoryDao inventoryDao;
+    private final StockService stockService;
+    private final BarcodeLookupService barcodeLookupService;
+    private final InventorySyncService inventorySyncService;
+    private final ColumnarInventoryService columnarInventoryService;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Value("${app.search.price-buckets:10,25,50,100,250,500,1000}")
+    private List<BigDecimal> priceBucketBounds;
 
     @Override
+    @Transactional(readOnly = true)
     public Page<InventoryItemDto> getAllItems(InventoryFilterDto filter) {
         Sort sort = Sort.by(
                 "desc".equalsIgnoreCase(filter.getSortDirection())
                         ? Sort.Direction.DESC
                         : Sort.Direction.ASC,
-                filter.getSortBy()
+                toSortProperty(filter.getSortBy())
         );
 
         Pageable pageable = PageRequest.of(filter.getPage(), filter.getSize(), sort);
 
-        Specification<InventoryItem> spec = InventoryItemSpecifications.searchByKeyword(filter.getSearchTerm());
+        Specification<InventoryItem> spec = InventoryItemSpecifications.searchByKeyword(filter.getSearchTerm())
+                .and(InventoryItemSpecifications.hasAbcClass(filter.getAbcClass()))
+                .and(InventoryItemSpecifications.inCategorySubtree(filter.getCategoryId()));
 
         Page<InventoryItem> items = inventoryItemRepository.findAll(spec, pageable);
 
         return items.map(this::convertToDto);
     }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public InventorySearchResultDto search(InventoryFilterDto filter) {
+        List<BigDecimal> bounds = priceBucketBounds.stream().sorted().toList();
+        InventoryFacetCounter.Result facets = InventoryFacetCounter.count(
+            inventoryDao.aggregateFacets(filter, bounds),
+            filter.getCategory(), filter.getSupplier(), filter.getStatus(), bounds);
+        
+        Sort sort = Sort.by(
+                "desc".equalsIgnoreCase(filter.getSortDirection())
+                        ? Sort.Direction.DESC
+                        : Sort.Direction.ASC,
+                toSortProperty(filter.getSortBy())
+        );
+        Pageable pageable = PageRequest.of(filter.getPage(), filter.getSize(), sort);
+        
+        // The facet pass already counted the fully filtered result, so no separate count query is needed
+        List<InventoryItemDto> items = facets.total() > pageable.getOffset()
+            ? inventoryDao.findItems(filter, pageable).stream().map(this::convertToDto).collect(Collectors.toList())
+            : List.of();
+        
+        return InventorySearchResultDto.builder()
+            .items(new PageImpl<>(items, pageable, facets.total()))
+            .facets(facets.facets())
+            .build();
+    }
 
     
     @Override
@@ -49,6 +107,13 @@ public class InventoryServiceImpl implements InventoryService {
         return convertToDto(item);
     }
     
+    @Override
+    public InventoryItemDto getItemBySku(String sku) {
+        InventoryItem item = inventoryItemRepository.findBySku(sku)
+            .orElseThrow(() -> new RuntimeException("Item not found with SKU: " + sku));
+        return convertToDto(item);
+    }
+    
     @Override
     @Transactional
     public InventoryItemDto createItem(CreateInventoryItemDto createDto) {
@@ -56,14 +121,19 @@ public class InventoryServiceImpl implements InventoryService {
             throw new RuntimeException("Item with this name already exists");
         }
         
+        validateSku(createDto.getSku());
+        validateBarcode(createDto.getBarcode(), null);
+        
         String currentUser = getCurrentUsername();
         
         InventoryItem item = InventoryItem.builder()
             .name(createDto.getName())
-            .category(createDto.getCategory())
+            .sku(createDto.getSku())
+            .barcode(createDto.getBarcode())
+            .category(resolveCategory(createDto.getCategory()))
             .quantity(createDto.getQuantity())
             .price(createDto.getPrice())
-            .supplier(createDto.getSupplier())
+            .supplier(resolveSupplier(createDto.getSupplier()))
             .minStockLevel(createDto.getMinStockLevel())
             .maxStockLevel(createDto.getMaxStockLevel())
             .createdBy(currentUser)
@@ -71,6 +141,8 @@ public class InventoryServiceImpl implements InventoryService {
             .build();
         
         InventoryItem savedItem = inventoryItemRepository.save(item);
+        stockService.recordInitialStock(savedItem);
+        eventPublisher.publishEvent(new InventoryItemChangedEvent(savedItem.getId()));
         log.info("Created new inventory item: {} by user: {}", savedItem.getName(), currentUser);
         
         return convertToDto(savedItem);
@@ -79,26 +151,37 @@ public class InventoryServiceImpl implements InventoryService {
     @Override
     @Transactional
     public InventoryItemDto updateItem(Long id, UpdateInventoryItemDto updateDto) {
-        InventoryItem existingItem = inventoryItemRepository.findById(id)
+        InventoryItem existingItem = inventoryItemRepository.findByIdForUpdate(id)
             .orElseThrow(() -> new RuntimeException("Item not found with id: " + id));
         
         String currentUser = getCurrentUsername();
+        BigDecimal previousPrice = existingItem.getPrice();
+        Integer previousMinStockLevel = existingItem.getMinStockLevel();
         
         // Update only non-null fields
         if (updateDto.getName() != null) {
+            if (!updateDto.getName().equalsIgnoreCase(existingItem.getName())
+                    && inventoryItemRepository.existsByNameIgnoreCase(updateDto.getName())) {
+                throw new RuntimeException("Item with this name already exists");
+            }
             existingItem.setName(updateDto.getName());
         }
-        if (updateDto.getCategory() != null) {
-            existingItem.setCategory(updateDto.getCategory());
+        if (updateDto.getSku() != null && !updateDto.getSku().equals(existingItem.getSku())) {
+            validateSku(updateDto.getSku());
+            existingItem.setSku(updateDto.getSku());
         }
-        if (updateDto.getQuantity() != null) {
-            existingItem.setQuantity(updateDto.getQuantity());
+        if (updateDto.getBarcode() != null && !updateDto.getBarcode().equals(existingItem.getBarcode())) {
+            validateBarcode(updateDto.getBarcode(), id);
+            existingItem.setBarcode(updateDto.getBarcode());
+        }
+        if (updateDto.getCategory() != null) {
+            existingItem.setCategory(resolveCategory(updateDto.getCategory()));
         }
         if (updateDto.getPrice() != null) {
             existingItem.setPrice(updateDto.getPrice());
         }
         if (updateDto.getSupplier() != null) {
-            existingItem.setSupplier(updateDto.getSupplier());
+            existingItem.setSupplier(resolveSupplier(updateDto.getSupplier()));
         }
         if (updateDto.getMinStockLevel() != null) {
             existingItem.setMinStockLevel(updateDto.getMinStockLevel());
@@ -109,7 +192,14 @@ public class InventoryServiceImpl implements InventoryService {
         
         existingItem.setUpdatedBy(currentUser);
         
+        // The item-level quantity is the chain-wide total; a direct edit lands at the default location
+        stockService.revalueItem(existingItem, previousPrice, previousMinStockLevel);
+        if (updateDto.getQuantity() != null) {
+            stockService.adjustDefaultLocation(existingItem, updateDto.getQuantity() - existingItem.getQuantity());
+        }
+        
         InventoryItem savedItem = inventoryItemRepository.save(existingItem);
+        eventPublisher.publishEvent(new InventoryItemChangedEvent(savedItem.getId()));
         log.info("Updated inventory item: {} by user: {}", savedItem.getName(), currentUser);
         
         return convertToDto(savedItem);
@@ -118,24 +208,38 @@ public class InventoryServiceImpl implements InventoryService {
     @Override
     @Transactional
     public void deleteItem(Long id) {
-        if (!inventoryItemRepository.existsById(id)) {
-            throw new RuntimeException("Item not found with id: " + id);
-        }
+        InventoryItem item = inventoryItemRepository.findByIdForUpdate(id)
+            .orElseThrow(() -> new RuntimeException("Item not found with id: " + id));
         
-        inventoryItemRepository.deleteById(id);
+        // The row stays for history and restore; stock leaves every location and the summaries
+        stockService.removeItem(item);
+        item.setDeletedAt(LocalDateTime.now());
+        item.setDeletedBy(getCurrentUsername());
+        inventoryItemRepository.save(item);
+        inventorySyncService.recordDeletion(id);
+        eventPublisher.publishEvent(new InventoryItemChangedEvent(id));
         log.info("Deleted inventory item with id: {} by user: {}", id, getCurrentUsername());
     }
     
     @Override
+    @Coalesced("inventory.metrics")
+    @Transactional(readOnly = true)
     public InventoryMetricsDto getMetrics() {
+        // Mock forecast accuracy - in real implementation, this would be calculated
+        double forecastAccuracy = 87.5;
+        
+        // Served from memory once the columnar snapshot has loaded; the queries below cover startup
+        if (columnarInventoryService.isReady()) {
+            InventoryMetricsDto metrics = columnarInventoryService.getMetrics();
+            metrics.setForecastAccuracy(forecastAccuracy);
+            return metrics;
+        }
+        
         long totalItems = inventoryItemRepository.count();
         long lowStockCount = inventoryItemRepository.countByStatus(StockStatus.LOW_STOCK);
         long outOfStockCount = inventoryItemRepository.countByStatus(StockStatus.OUT_OF_STOCK);
         BigDecimal totalValue = inventoryItemRepository.getTotalInventoryValue();
         
-        // Mock forecast accuracy - in real implementation, this would be calculated
-        double forecastAccuracy = 87.5;
-        
         return InventoryMetricsDto.builder()
             .totalItems(totalItems)
             .lowStockCount(lowStockCount)
@@ -146,6 +250,7 @@ public class InventoryServiceImpl implements InventoryService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<InventoryItemDto> getLowStockItems() {
         List<InventoryItem> lowStockItems = inventoryItemRepository.findLowStockItems();
         return lowStockItems.stream()
@@ -154,6 +259,7 @@ public class InventoryServiceImpl implements InventoryService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<InventoryItemDto> getOutOfStockItems() {
         List<InventoryItem> outOfStockItems = inventoryItemRepository.findOutOfStockItems();
         return outOfStockItems.stream()
@@ -162,34 +268,35 @@ public class InventoryServiceImpl implements InventoryService {
     }
     
     @Override
+    @Coalesced("inventory.categories")
+    @Transactional(readOnly = true)
     public List<String> getCategories() {
-        return inventoryItemRepository.findDistinctCategories();
+        return categoryService.getCategoryNames();
     }
     
     @Override
+    @Coalesced("inventory.suppliers")
+    @Transactional(readOnly = true)
     public List<String> getSuppliers() {
-        return inventoryItemRepository.findDistinctSuppliers();
-    }
-    
-    @Override
-    public List<InventoryItemDto> getReorderRecommendations() {
-        List<InventoryItem> itemsNeedingReorder = inventoryItemRepository.findItemsNeedingReorder();
-        return itemsNeedingReorder.stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
+        return supplierRepository.findAllNames();
     }
     
     private InventoryItemDto convertToDto(InventoryItem item) {
         return InventoryItemDto.builder()
             .id(item.getId())
             .name(item.getName())
-            .category(item.getCategory())
+            .sku(item.getSku())
+            .barcode(item.getBarcode())
+            .categoryId(item.getCategory().getId())
+            .category(item.getCategory().getName())
             .quantity(item.getQuantity())
             .price(item.getPrice())
-            .supplier(item.getSupplier())
+            .supplierId(item.getSupplier().getId())
+            .supplier(item.getSupplier().getName())
             .minStockLevel(item.getMinStockLevel())
             .maxStockLevel(item.getMaxStockLevel())
             .status(item.getStatus())
+            .abcClass(item.getAbcClass())
             .createdAt(item.getCreatedAt())
             .updatedAt(item.getUpdatedAt())
             .createdBy(item.getCreatedBy())
@@ -197,6 +304,43 @@ public class InventoryServiceImpl implements InventoryService {
             .build();
     }
     
+    // Items still accept category and supplier by name; unknown names become new dimension rows
+    private Category resolveCategory(String name) {
+        return categoryService.getOrCreateCategory(name);
+    }
+    
+    private Supplier resolveSupplier(String name) {
+        return supplierRepository.findByName(name)
+            .orElseGet(() -> supplierRepository.save(Supplier.builder().name(name).build()));
+    }
+    
+    private void validateSku(String sku) {
+        if (sku != null && inventoryItemRepository.existsBySku(sku)) {
+            throw new DuplicateResourceException("SKU already in use: " + sku);
+        }
+    }
+    
+    // Codes that differ only in left zero padding are the same GTIN, so ownership is checked by numeric key
+    private void validateBarcode(String barcode, Long itemId) {
+        if (barcode == null) {
+            return;
+        }
+        if (!Gtin.isValid(barcode)) {
+            throw new InvalidOperationException("Barcode check digit is invalid: " + barcode);
+        }
+        Long owner = barcodeLookupService.findItemId(barcode);
+        if (owner != null && !owner.equals(itemId)) {
+            throw new DuplicateResourceException("Barcode already assigned to item " + owner);
+        }
+    }
+    
+    private String toSortProperty(String sortBy) {
+        if ("category".equals(sortBy) || "supplier".equals(sortBy)) {
+            return sortBy + ".name";
+        }
+        return sortBy;
+    }
+    
     private String getCurrentUsername() {
         try {
             return SecurityContextHolder.getContext().getAuthentication().getName();
@@ -0,0 +1,20 @@
+package com.backend.inventory_management.features.inventory;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class StockChangedEvent {
+    private final Long itemId;
+    private final int previousQuantity;
+    private final int newQuantity;
+
+    public int getDelta() {
+        return newQuantity - previousQuantity;
+    }
+
+    public boolean isDecrement() {
+        return newQuantity < previousQuantity;
+    }
+}
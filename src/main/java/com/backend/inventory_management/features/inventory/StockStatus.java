@@ -3,5 +3,15 @@ package com.backend.inventory_management.features.inventory;
 public enum StockStatus {
     IN_STOCK,
     LOW_STOCK,
-    OUT_OF_STOCK
-}
\ No newline at end of file
+    OUT_OF_STOCK;
+
+    public static StockStatus of(int quantity, Integer minStockLevel) {
+        if (quantity == 0) {
+            return OUT_OF_STOCK;
+        }
+        if (minStockLevel != null && quantity < minStockLevel) {
+            return LOW_STOCK;
+        }
+        return IN_STOCK;
+    }
+}
@@ -0,0 +1,10 @@
+package com.backend.inventory_management.features.inventory.abc;
+
+public enum AbcBasis {
+    // Use consumption value when demand history exists, otherwise stock value
+    AUTO,
+    // Current quantity x price
+    STOCK_VALUE,
+    // Units consumed over the lookback window x price
+    CONSUMPTION_VALUE
+}
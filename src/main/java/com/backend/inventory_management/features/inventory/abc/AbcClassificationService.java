@@ -0,0 +1,8 @@
+package com.backend.inventory_management.features.inventory.abc;
+
+import com.backend.inventory_management.features.inventory.dtos.AbcClassificationResultDto;
+
+public interface AbcClassificationService {
+    AbcClassificationResultDto classify(AbcBasis basis);
+    AbcClassificationResultDto getLastResult();
+}
@@ -0,0 +1,183 @@
+package com.backend.inventory_management.features.inventory.abc;
+
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.features.inventory.dtos.AbcClassificationResultDto;
+import com.backend.inventory_management.features.jobs.ClusterJob;
+import com.backend.inventory_management.features.jobs.JobChunkResult;
+import com.backend.inventory_management.features.reorder.ReorderPolicyCalculator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+public class AbcClassificationServiceImpl implements AbcClassificationService, ClusterJob {
+
+    private static final int FETCH_SIZE = 10_000;
+
+    // Both the streaming read and the persisting UPDATE read item values from the same derived
+    // table, so an item's class is decided on exactly the value that was ranked. Demand is
+    // aggregated once per item in a join rather than in a subquery evaluated per row.
+    private static final String STOCK_VALUES =
+        "SELECT i.id, ROUND(i.quantity * i.price * 100) AS value_cents FROM inventory_items i " +
+        "WHERE i.deleted_at IS NULL";
+    private static final String CONSUMPTION_VALUES =
+        "SELECT i.id, ROUND(i.price * 100 * COALESCE(d.units, 0)) AS value_cents FROM inventory_items i " +
+        "LEFT JOIN (SELECT item_id, SUM(units) AS units FROM item_demand_daily WHERE demand_date >= ? " +
+        "GROUP BY item_id) d ON d.item_id = i.id WHERE i.deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ReorderPolicyCalculator reorderPolicyCalculator;
+    private final double aShare;
+    private final double bShare;
+    private final AbcBasis defaultBasis;
+    private final String cron;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile AbcClassificationResultDto lastResult;
+
+    public AbcClassificationServiceImpl(JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        ReorderPolicyCalculator reorderPolicyCalculator,
+                                        @Value("${app.abc.a-share:0.80}") double aShare,
+                                        @Value("${app.abc.b-share:0.95}") double bShare,
+                                        @Value("${app.abc.basis:AUTO}") AbcBasis defaultBasis,
+                                        @Value("${app.abc.cron:0 0 3 * * *}") String cron) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reorderPolicyCalculator = reorderPolicyCalculator;
+        this.aShare = aShare;
+        this.bShare = bShare;
+        this.defaultBasis = defaultBasis;
+        this.cron = cron;
+    }
+
+    @Override
+    public String getJobName() {
+        return "abc-classification";
+    }
+
+    @Override
+    public String getJobCron() {
+        return cron;
+    }
+
+    // Ranking needs every item at once, so the job is a single chunk
+    @Override
+    public JobChunkResult runChunk(String checkpoint) {
+        return JobChunkResult.done(classify(defaultBasis).getItemCount());
+    }
+
+    @Override
+    public AbcClassificationResultDto classify(AbcBasis requestedBasis) {
+        if (!running.compareAndSet(false, true)) {
+            throw new InvalidOperationException("ABC classification is already running");
+        }
+        try {
+            long started = System.currentTimeMillis();
+            AbcBasis basis = resolveBasis(requestedBasis != null ? requestedBasis : defaultBasis);
+            Object[] args = basis == AbcBasis.CONSUMPTION_VALUE ? new Object[]{lookbackStart()} : new Object[0];
+            String values = basis == AbcBasis.CONSUMPTION_VALUE ? CONSUMPTION_VALUES : STOCK_VALUES;
+
+            AbcClassificationResultDto result = transactionTemplate.execute(status -> {
+                ValueColumn column = streamValues(values, args);
+                AbcClassifier.Thresholds thresholds =
+                    AbcClassifier.thresholds(column.values, column.size, aShare, bShare);
+                int updated = persistClasses(values, args, thresholds);
+
+                return AbcClassificationResultDto.builder()
+                    .basis(basis)
+                    .itemCount(column.size)
+                    .aCount(thresholds.aCount())
+                    .bCount(thresholds.bCount())
+                    .cCount(thresholds.cCount())
+                    .aThreshold(centsToAmount(thresholds.aCutCents()))
+                    .bThreshold(centsToAmount(thresholds.bCutCents()))
+                    .totalValue(centsToAmount(thresholds.totalCents()))
+                    .updatedRows(updated)
+                    .build();
+            });
+
+            result.setElapsedMs(System.currentTimeMillis() - started);
+            result.setComputedAt(LocalDateTime.now());
+            lastResult = result;
+            log.info("ABC classification of {} items by {} finished in {} ms (A={}, B={}, C={}, {} rows changed)",
+                result.getItemCount(), basis, result.getElapsedMs(),
+                result.getACount(), result.getBCount(), result.getCCount(), result.getUpdatedRows());
+            return result;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public AbcClassificationResultDto getLastResult() {
+        return lastResult;
+    }
+
+    private ValueColumn streamValues(String values, Object[] args) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM inventory_items WHERE deleted_at IS NULL", Long.class);
+        ValueColumn column = new ValueColumn(count != null ? count.intValue() : 0);
+
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(FETCH_SIZE);
+        streaming.query("SELECT v.value_cents FROM (" + values + ") v",
+            (RowCallbackHandler) rs -> column.add(rs.getLong(1)), args);
+        return column;
+    }
+
+    private int persistClasses(String values, Object[] args, AbcClassifier.Thresholds thresholds) {
+        String sql = "UPDATE inventory_items i SET abc_class = c.abc_class FROM (SELECT v.id, " +
+            "CASE WHEN v.value_cents >= ? THEN 'A' WHEN v.value_cents >= ? THEN 'B' ELSE 'C' END AS abc_class " +
+            "FROM (" + values + ") v) c WHERE c.id = i.id AND (i.abc_class IS NULL OR i.abc_class <> c.abc_class)";
+        return jdbcTemplate.update(sql, concat(new Object[]{thresholds.aCutCents(), thresholds.bCutCents()}, args));
+    }
+
+    private AbcBasis resolveBasis(AbcBasis basis) {
+        if (basis != AbcBasis.AUTO) {
+            return basis;
+        }
+        Boolean hasHistory = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) > 0 FROM item_demand_daily WHERE demand_date >= ?", Boolean.class, lookbackStart());
+        return Boolean.TRUE.equals(hasHistory) ? AbcBasis.CONSUMPTION_VALUE : AbcBasis.STOCK_VALUE;
+    }
+
+    private Date lookbackStart() {
+        return Date.valueOf(LocalDate.now().minusDays(reorderPolicyCalculator.getLookbackDays() - 1L));
+    }
+
+    private static BigDecimal centsToAmount(long cents) {
+        return cents == Long.MAX_VALUE ? null : BigDecimal.valueOf(cents, 2);
+    }
+
+    private static Object[] concat(Object[]... parts) {
+        return Arrays.stream(parts).flatMap(Arrays::stream).toArray();
+    }
+
+    private static final class ValueColumn {
+        private long[] values;
+        private int size;
+
+        private ValueColumn(int expectedSize) {
+            values = new long[Math.max(16, expectedSize)];
+        }
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, values.length + (values.length >> 1));
+            }
+            values[size++] = value;
+        }
+    }
+}
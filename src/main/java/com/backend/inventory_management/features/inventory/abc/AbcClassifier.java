@@ -0,0 +1,70 @@
+package com.backend.inventory_management.features.inventory.abc;
+
+import java.util.Arrays;
+
+/**
+ * Pareto cut-offs over a column of item values (in cents). Values are sorted in place
+ * with a parallel sort and accumulated with a parallel prefix sum; the result is the
+ * smallest value that still falls in class A and in class B.
+ */
+public final class AbcClassifier {
+
+    private AbcClassifier() {
+    }
+
+    public static Thresholds thresholds(long[] values, int length, double aShare, double bShare) {
+        Arrays.parallelSort(values, 0, length);
+
+        // Ascending prefix sums; the value ranked above index k is total - prefix[k]
+        long[] prefix = Arrays.copyOf(values, length);
+        Arrays.parallelPrefix(prefix, Long::sum);
+        long total = length > 0 ? prefix[length - 1] : 0;
+
+        if (total <= 0) {
+            return new Thresholds(Long.MAX_VALUE, Long.MAX_VALUE, 0, 0, length, total);
+        }
+
+        int aStart = firstIndexWithShareBelow(prefix, total, aShare);
+        int bStart = firstIndexWithShareBelow(prefix, total, bShare);
+        long aCut = values[aStart];
+        long bCut = values[bStart];
+
+        // Ties at a cut-off are promoted, matching the ">= cut" rule used when persisting
+        int aFrom = lowerBound(values, length, aCut);
+        int bFrom = lowerBound(values, length, bCut);
+        return new Thresholds(aCut, bCut, length - aFrom, aFrom - bFrom, bFrom, total);
+    }
+
+    // Smallest k such that the value of all items ranked above k is below share * total
+    private static int firstIndexWithShareBelow(long[] prefix, long total, double share) {
+        double limit = share * total;
+        int low = 0;
+        int high = prefix.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (total - prefix[mid] < limit) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private static int lowerBound(long[] sorted, int length, long key) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public record Thresholds(long aCutCents, long bCutCents, int aCount, int bCount, int cCount, long totalCents) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.backend.inventory_management.features.inventory.archive;
+
+import com.backend.inventory_management.core.Response;
+import com.backend.inventory_management.core.exceptions.DuplicateResourceException;
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.core.exceptions.ResourceNotFoundException;
+import com.backend.inventory_management.features.inventory.dtos.ArchiveRunResultDto;
+import com.backend.inventory_management.features.inventory.dtos.ArchivedItemDto;
+import com.backend.inventory_management.features.inventory.dtos.InventoryItemDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/inventory/archive")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class InventoryArchiveController {
+    
+    private final InventoryArchiveService inventoryArchiveService;
+    
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Response<Page<ArchivedItemDto>>> getDeletedItems(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(Response.success(inventoryArchiveService.getDeletedItems(page, size)));
+        } catch (Exception e) {
+            log.error("Failed to retrieve deleted items", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve deleted items"));
+        }
+    }
+    
+    @PostMapping("/{id}/restore")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Response<InventoryItemDto>> restoreItem(@PathVariable Long id) {
+        try {
+            InventoryItemDto item = inventoryArchiveService.restoreItem(id);
+            return ResponseEntity.ok(Response.success(item, "Item restored successfully"));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (DuplicateResourceException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to restore item {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to restore item"));
+        }
+    }
+    
+    @PostMapping("/run")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Response<ArchiveRunResultDto>> archiveDeletedItems() {
+        try {
+            return ResponseEntity.ok(Response.success(inventoryArchiveService.archiveDeletedItems(),
+                "Deleted items archived"));
+        } catch (InvalidOperationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to archive deleted items", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to archive deleted items"));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.backend.inventory_management.features.inventory.archive;
+
+import com.backend.inventory_management.features.inventory.dtos.ArchiveRunResultDto;
+import com.backend.inventory_management.features.inventory.dtos.ArchivedItemDto;
+import com.backend.inventory_management.features.inventory.dtos.InventoryItemDto;
+import org.springframework.data.domain.Page;
+
+public interface InventoryArchiveService {
+    Page<ArchivedItemDto> getDeletedItems(int page, int size);
+    ArchiveRunResultDto archiveDeletedItems();
+    InventoryItemDto restoreItem(Long id);
+}
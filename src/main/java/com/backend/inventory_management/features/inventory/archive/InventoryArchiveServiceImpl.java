@@ -0,0 +1,263 @@
+package com.backend.inventory_management.features.inventory.archive;
+
+import com.backend.inventory_management.core.exceptions.DuplicateResourceException;
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.core.exceptions.ResourceNotFoundException;
+import com.backend.inventory_management.features.inventory.InventoryItem;
+import com.backend.inventory_management.features.inventory.InventoryItemChangedEvent;
+import com.backend.inventory_management.features.inventory.InventoryItemRepository;
+import com.backend.inventory_management.features.inventory.InventoryService;
+import com.backend.inventory_management.features.inventory.dtos.ArchiveRunResultDto;
+import com.backend.inventory_management.features.inventory.dtos.ArchivedItemDto;
+import com.backend.inventory_management.features.inventory.dtos.InventoryItemDto;
+import com.backend.inventory_management.features.inventory.sync.InventorySyncService;
+import com.backend.inventory_management.features.jobs.ClusterJob;
+import com.backend.inventory_management.features.jobs.JobChunkResult;
+import com.backend.inventory_management.features.location.StockService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Soft-deleted items stay in inventory_items, invisible to entity queries, until they have been
+ * inactive for the configured number of days: deleted, not edited and without any recorded demand,
+ * which offline tills may still report for a deleted item, since the cutoff. The archiver then moves
+ * them to inventory_items_archive in small batches, each in its own transaction, so the hot table
+ * and its indexes only carry live and recently active rows and no run holds long locks. Live items
+ * are never archived, however quiet, since that would take them out of the catalog.
+ */
+@Slf4j
+@Service
+public class InventoryArchiveServiceImpl implements InventoryArchiveService, ClusterJob {
+
+    private static final String ITEM_COLUMNS = "id, name, sku, barcode, category_id, supplier_id, quantity, price, " +
+        "min_stock_level, max_stock_level, status, abc_class, change_seq, created_at, updated_at, created_by, " +
+        "updated_by, deleted_at, deleted_by";
+
+    private static final RowMapper<ArchivedItemDto> ARCHIVED_MAPPER = (rs, rowNum) -> ArchivedItemDto.builder()
+        .id(rs.getLong("id"))
+        .name(rs.getString("name"))
+        .sku(rs.getString("sku"))
+        .barcode(rs.getString("barcode"))
+        .quantity(rs.getInt("quantity"))
+        .price(rs.getBigDecimal("price"))
+        .deletedAt(toLocalDateTime(rs.getTimestamp("deleted_at")))
+        .deletedBy(rs.getString("deleted_by"))
+        .archivedAt(toLocalDateTime(rs.getTimestamp("archived_at")))
+        .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final InventoryItemRepository inventoryItemRepository;
+    private final InventoryService inventoryService;
+    private final StockService stockService;
+    private final InventorySyncService inventorySyncService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int archiveAfterDays;
+    private final int batchSize;
+    private final String cron;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public InventoryArchiveServiceImpl(JdbcTemplate jdbcTemplate,
+                                       PlatformTransactionManager transactionManager,
+                                       InventoryItemRepository inventoryItemRepository,
+                                       InventoryService inventoryService,
+                                       StockService stockService,
+                                       InventorySyncService inventorySyncService,
+                                       ApplicationEventPublisher eventPublisher,
+                                       @Value("${app.archive.after-days:30}") int archiveAfterDays,
+                                       @Value("${app.archive.batch-size:500}") int batchSize,
+                                       @Value("${app.archive.cron:0 45 3 * * *}") String cron) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.inventoryItemRepository = inventoryItemRepository;
+        this.inventoryService = inventoryService;
+        this.stockService = stockService;
+        this.inventorySyncService = inventorySyncService;
+        this.eventPublisher = eventPublisher;
+        this.archiveAfterDays = archiveAfterDays;
+        this.batchSize = Math.max(1, batchSize);
+        this.cron = cron;
+    }
+
+    @Override
+    public Page<ArchivedItemDto> getDeletedItems(int page, int size) {
+        PageRequest pageable = PageRequest.of(page, size);
+        String deleted = "SELECT " + ITEM_COLUMNS + ", CAST(NULL AS TIMESTAMP) AS archived_at FROM inventory_items " +
+            "WHERE deleted_at IS NOT NULL UNION ALL SELECT " + ITEM_COLUMNS + ", archived_at FROM inventory_items_archive";
+
+        List<ArchivedItemDto> content = jdbcTemplate.query(
+            "SELECT * FROM (" + deleted + ") d ORDER BY deleted_at DESC, id DESC LIMIT ? OFFSET ?",
+            ARCHIVED_MAPPER, pageable.getPageSize(), pageable.getOffset());
+        Long total = jdbcTemplate.queryForObject(
+            "SELECT (SELECT COUNT(*) FROM inventory_items WHERE deleted_at IS NOT NULL) + " +
+            "(SELECT COUNT(*) FROM inventory_items_archive)", Long.class);
+        return new PageImpl<>(content, pageable, total != null ? total : 0);
+    }
+
+    @Override
+    public String getJobName() {
+        return "item-archive";
+    }
+
+    @Override
+    public String getJobCron() {
+        return cron;
+    }
+
+    // One batch per chunk; the checkpoint keeps the cutoff, so a resumed run archives the same set
+    @Override
+    public JobChunkResult runChunk(String checkpoint) {
+        if (!running.compareAndSet(false, true)) {
+            throw new InvalidOperationException("Item archiving is already running");
+        }
+        try {
+            LocalDateTime cutoff = checkpoint != null
+                ? LocalDateTime.parse(checkpoint)
+                : LocalDateTime.now().minusDays(archiveAfterDays);
+            Integer moved = transactionTemplate.execute(status -> archiveBatch(Timestamp.valueOf(cutoff)));
+            if (moved == null || moved == 0) {
+                return JobChunkResult.done(0);
+            }
+            return JobChunkResult.next(moved, cutoff.toString());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public ArchiveRunResultDto archiveDeletedItems() {
+        if (!running.compareAndSet(false, true)) {
+            throw new InvalidOperationException("Item archiving is already running");
+        }
+        try {
+            long started = System.currentTimeMillis();
+            Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(archiveAfterDays));
+            int archived = 0;
+            int batches = 0;
+            while (true) {
+                Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+                if (moved == null || moved == 0) {
+                    break;
+                }
+                archived += moved;
+                batches++;
+            }
+
+            long elapsed = System.currentTimeMillis() - started;
+            if (archived > 0) {
+                log.info("Archived {} inactive deleted items in {} batches in {} ms", archived, batches, elapsed);
+            }
+            return ArchiveRunResultDto.builder()
+                .archivedItems(archived)
+                .batches(batches)
+                .elapsedMs(elapsed)
+                .build();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int archiveBatch(Timestamp cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(
+            "SELECT i.id FROM inventory_items i WHERE i.deleted_at < ? AND COALESCE(i.updated_at, i.deleted_at) < ? " +
+            "AND NOT EXISTS (SELECT 1 FROM item_demand_daily d WHERE d.item_id = i.id AND d.demand_date >= ?) " +
+            "ORDER BY i.deleted_at LIMIT ?",
+            Long.class, cutoff, cutoff, cutoff.toLocalDateTime().toLocalDate(), batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids)
+            .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+        namedJdbcTemplate.update("INSERT INTO inventory_items_archive (" + ITEM_COLUMNS + ", archived_at) " +
+            "SELECT " + ITEM_COLUMNS + ", :archivedAt FROM inventory_items WHERE id IN (:ids)", params);
+        // Reorder policies are derived data and are recomputed if the item is restored
+        namedJdbcTemplate.update("DELETE FROM reorder_policies WHERE item_id IN (:ids)", params);
+        return namedJdbcTemplate.update("DELETE FROM inventory_items WHERE id IN (:ids)", params);
+    }
+
+    @Override
+    @Transactional
+    public InventoryItemDto restoreItem(Long id) {
+        boolean softDeleted = exists("SELECT COUNT(*) FROM inventory_items WHERE id = ? AND deleted_at IS NOT NULL", id);
+        String source = softDeleted ? "inventory_items" : "inventory_items_archive";
+        if (!softDeleted && !exists("SELECT COUNT(*) FROM inventory_items_archive WHERE id = ?", id)) {
+            throw new ResourceNotFoundException("Deleted item not found with id: " + id);
+        }
+        checkNoLiveConflict(id, source);
+
+        if (softDeleted) {
+            jdbcTemplate.update("UPDATE inventory_items SET deleted_at = NULL, deleted_by = NULL WHERE id = ?", id);
+        } else {
+            jdbcTemplate.update("INSERT INTO inventory_items (" + ITEM_COLUMNS + ") SELECT " + ITEM_COLUMNS +
+                " FROM inventory_items_archive WHERE id = ?", id);
+            jdbcTemplate.update("UPDATE inventory_items SET deleted_at = NULL, deleted_by = NULL WHERE id = ?", id);
+            jdbcTemplate.update("DELETE FROM inventory_items_archive WHERE id = ?", id);
+        }
+
+        // Deletion took the stock out of every location; it comes back at the default location
+        InventoryItem item = inventoryItemRepository.findByIdForUpdate(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Item not found with id: " + id));
+        // The entity may already be managed from before the restore, still carrying its deletion
+        item.setDeletedAt(null);
+        item.setDeletedBy(null);
+        item.setUpdatedBy(getCurrentUsername());
+        item.setUpdatedAt(LocalDateTime.now());
+        inventoryItemRepository.save(item);
+        stockService.recordInitialStock(item);
+        inventorySyncService.recordRestore(id);
+        eventPublisher.publishEvent(new InventoryItemChangedEvent(id));
+        log.info("Restored inventory item with id: {} from {} by user: {}", id, source, getCurrentUsername());
+
+        return inventoryService.getItemById(id);
+    }
+
+    // The item's name, SKU and barcode may have been taken by a live item since it was deleted
+    private void checkNoLiveConflict(Long id, String source) {
+        List<String> conflicts = jdbcTemplate.queryForList(
+            "SELECT CASE WHEN LOWER(l.name) = LOWER(d.name) THEN 'name' WHEN l.sku = d.sku THEN 'SKU' ELSE 'barcode' END " +
+            "FROM " + source + " d JOIN inventory_items l ON l.id <> d.id AND l.deleted_at IS NULL " +
+            "AND (LOWER(l.name) = LOWER(d.name) OR l.sku = d.sku OR l.barcode = d.barcode) WHERE d.id = ?",
+            String.class, id);
+        if (!conflicts.isEmpty()) {
+            throw new DuplicateResourceException("Cannot restore item " + id + ": its " + conflicts.get(0) +
+                " is now used by another item");
+        }
+    }
+
+    private boolean exists(String countSql, Long id) {
+        Long count = jdbcTemplate.queryForObject(countSql, Long.class, id);
+        return count != null && count > 0;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private String getCurrentUsername() {
+        try {
+            return SecurityContextHolder.getContext().getAuthentication().getName();
+        } catch (Exception e) {
+            return "system";
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.backend.inventory_management.features.inventory.barcode;
+
+import java.math.BigDecimal;
+
+// Everything a scan needs, so a lookup never leaves memory
+public record BarcodeEntry(long itemId, String barcode, String sku, String name, BigDecimal price) {
+}
@@ -0,0 +1,97 @@
+package com.backend.inventory_management.features.inventory.barcode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * In-memory barcode lookup. Reads take an optimistic stamp and only fall back to a read lock if a
+ * write raced them, so scans never contend with each other.
+ */
+public class BarcodeIndex {
+
+    private final StampedLock lock = new StampedLock();
+    private LongHashMap<BarcodeEntry> byBarcode = new LongHashMap<>(0);
+    private LongHashMap<BarcodeEntry> byItem = new LongHashMap<>(0);
+
+    public BarcodeEntry find(long barcodeKey) {
+        long stamp = lock.tryOptimisticRead();
+        BarcodeEntry entry = byBarcode.get(barcodeKey);
+        if (lock.validate(stamp)) {
+            return entry;
+        }
+        stamp = lock.readLock();
+        try {
+            return byBarcode.get(barcodeKey);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public void put(BarcodeEntry entry) {
+        long stamp = lock.writeLock();
+        try {
+            removeLocked(entry.itemId());
+            BarcodeEntry displaced = byBarcode.put(Gtin.key(entry.barcode()), entry);
+            if (displaced != null) {
+                byItem.remove(displaced.itemId());
+            }
+            byItem.put(entry.itemId(), entry);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void removeItem(long itemId) {
+        long stamp = lock.writeLock();
+        try {
+            removeLocked(itemId);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void replaceAll(Collection<BarcodeEntry> entries) {
+        LongHashMap<BarcodeEntry> barcodes = new LongHashMap<>(entries.size());
+        LongHashMap<BarcodeEntry> items = new LongHashMap<>(entries.size());
+        for (BarcodeEntry entry : entries) {
+            barcodes.put(Gtin.key(entry.barcode()), entry);
+            items.put(entry.itemId(), entry);
+        }
+        long stamp = lock.writeLock();
+        try {
+            byBarcode = barcodes;
+            byItem = items;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public List<BarcodeEntry> entries() {
+        long stamp = lock.readLock();
+        try {
+            List<BarcodeEntry> entries = new ArrayList<>(byItem.size());
+            byItem.forEachValue(entries::add);
+            return entries;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return byBarcode.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void removeLocked(long itemId) {
+        BarcodeEntry existing = byItem.remove(itemId);
+        if (existing != null) {
+            byBarcode.remove(Gtin.key(existing.barcode()));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.backend.inventory_management.features.inventory.barcode;
+
+import com.backend.inventory_management.features.inventory.dtos.BarcodeLookupDto;
+import com.backend.inventory_management.features.inventory.dtos.BarcodeResolveResultDto;
+
+import java.util.List;
+
+public interface BarcodeLookupService {
+    BarcodeLookupDto lookup(String code);
+    BarcodeResolveResultDto resolve(List<String> codes);
+    Long findItemId(String code);
+}
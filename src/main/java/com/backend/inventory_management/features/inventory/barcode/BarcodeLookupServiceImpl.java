@@ -0,0 +1,159 @@
+package com.backend.inventory_management.features.inventory.barcode;
+
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.core.exceptions.ResourceNotFoundException;
+import com.backend.inventory_management.features.inventory.InventoryItemChangedEvent;
+import com.backend.inventory_management.features.inventory.dtos.BarcodeLookupDto;
+import com.backend.inventory_management.features.inventory.dtos.BarcodeResolveResultDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import com.backend.inventory_management.features.inventory.snapshot.CatalogSnapshotSection;
+import com.backend.inventory_management.features.inventory.snapshot.SnapshotReader;
+import com.backend.inventory_management.features.inventory.snapshot.SnapshotWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Serves scans from {@link BarcodeIndex}. The index is restored at startup by the catalog snapshot
+ * (or loaded from the table) and kept in sync by re-reading an item's committed row whenever it changes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BarcodeLookupServiceImpl implements BarcodeLookupService, CatalogSnapshotSection {
+    
+    private static final int REFRESH_CHUNK_SIZE = 1000;
+    private static final String ENTRY_COLUMNS = "SELECT id, barcode, sku, name, price FROM inventory_items ";
+    private static final RowMapper<BarcodeEntry> ENTRY_MAPPER = (rs, rowNum) -> new BarcodeEntry(
+        rs.getLong("id"), rs.getString("barcode"), rs.getString("sku"), rs.getString("name"), rs.getBigDecimal("price"));
+    
+    private final BarcodeIndex index = new BarcodeIndex();
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    
+    @Override
+    public String getSectionName() {
+        return "barcodes";
+    }
+    
+    @Override
+    public int getFormatVersion() {
+        return 1;
+    }
+    
+    @Override
+    public void loadFromDatabase() {
+        long started = System.currentTimeMillis();
+        List<BarcodeEntry> entries = jdbcTemplate.query(ENTRY_COLUMNS + "WHERE barcode IS NOT NULL AND deleted_at IS NULL", ENTRY_MAPPER);
+        index.replaceAll(entries);
+        log.info("Loaded {} barcodes into the lookup index in {} ms", entries.size(), System.currentTimeMillis() - started);
+    }
+    
+    @Override
+    public void writeTo(SnapshotWriter writer) throws IOException {
+        List<BarcodeEntry> entries = index.entries();
+        writer.writeInt(entries.size());
+        for (BarcodeEntry entry : entries) {
+            writer.writeLong(entry.itemId());
+            writer.writeString(entry.barcode());
+            writer.writeString(entry.sku());
+            writer.writeString(entry.name());
+            writer.writeDecimal(entry.price());
+        }
+    }
+    
+    @Override
+    public void restoreFrom(SnapshotReader reader) {
+        int count = reader.readInt();
+        List<BarcodeEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(new BarcodeEntry(reader.readLong(), reader.readString(), reader.readString(),
+                reader.readString(), reader.readDecimal()));
+        }
+        index.replaceAll(entries);
+    }
+    
+    @Override
+    public void refreshItems(Collection<Long> itemIds) {
+        List<Long> ids = new ArrayList<>(itemIds);
+        for (int from = 0; from < ids.size(); from += REFRESH_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + REFRESH_CHUNK_SIZE));
+            Set<Long> stillIndexed = new HashSet<>();
+            namedJdbcTemplate.query(ENTRY_COLUMNS + "WHERE id IN (:ids) AND barcode IS NOT NULL AND deleted_at IS NULL",
+                new MapSqlParameterSource("ids", chunk), rs -> {
+                    BarcodeEntry entry = ENTRY_MAPPER.mapRow(rs, 0);
+                    index.put(entry);
+                    stillIndexed.add(entry.itemId());
+                });
+            chunk.stream().filter(id -> !stillIndexed.contains(id)).forEach(index::removeItem);
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(InventoryItemChangedEvent event) {
+        List<BarcodeEntry> rows = jdbcTemplate.query(ENTRY_COLUMNS + "WHERE id = ? AND deleted_at IS NULL", ENTRY_MAPPER, event.getItemId());
+        if (rows.isEmpty() || rows.get(0).barcode() == null) {
+            index.removeItem(event.getItemId());
+        } else {
+            index.put(rows.get(0));
+        }
+    }
+    
+    @Override
+    public BarcodeLookupDto lookup(String code) {
+        if (!Gtin.isValid(code)) {
+            throw new InvalidOperationException("Not a valid GTIN barcode: " + code);
+        }
+        BarcodeEntry entry = index.find(Gtin.key(code));
+        if (entry == null) {
+            throw new ResourceNotFoundException("No item with barcode: " + code);
+        }
+        return convertToDto(code, entry);
+    }
+    
+    @Override
+    public BarcodeResolveResultDto resolve(List<String> codes) {
+        List<BarcodeLookupDto> items = new ArrayList<>(codes.size());
+        List<String> unknown = new ArrayList<>();
+        for (String code : codes) {
+            BarcodeEntry entry = Gtin.isValid(code) ? index.find(Gtin.key(code)) : null;
+            if (entry != null) {
+                items.add(convertToDto(code, entry));
+            } else {
+                unknown.add(code);
+            }
+        }
+        return BarcodeResolveResultDto.builder()
+            .items(items)
+            .unknown(unknown)
+            .build();
+    }
+    
+    @Override
+    public Long findItemId(String code) {
+        BarcodeEntry entry = index.find(Gtin.key(code));
+        return entry != null ? entry.itemId() : null;
+    }
+    
+    private BarcodeLookupDto convertToDto(String scannedCode, BarcodeEntry entry) {
+        return BarcodeLookupDto.builder()
+            .scannedCode(scannedCode)
+            .itemId(entry.itemId())
+            .barcode(entry.barcode())
+            .sku(entry.sku())
+            .name(entry.name())
+            .price(entry.price())
+            .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.backend.inventory_management.features.inventory.barcode;
+
+/**
+ * GTIN-8/12/13/14 helpers. Left zero padding does not change a GTIN, so codes are keyed by their
+ * numeric value: a UPC-A scanned as a 13-digit EAN resolves to the same item.
+ */
+public final class Gtin {
+
+    private Gtin() {
+    }
+
+    public static boolean isValid(String code) {
+        if (code == null) {
+            return false;
+        }
+        int length = code.length();
+        if (length != 8 && length != 12 && length != 13 && length != 14) {
+            return false;
+        }
+        int sum = 0;
+        for (int i = 0; i < length; i++) {
+            char c = code.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            // Weights alternate 3, 1 from the rightmost digit, which is the check digit itself
+            int positionFromRight = length - 1 - i;
+            sum += (c - '0') * (positionFromRight % 2 == 1 ? 3 : 1);
+        }
+        return sum % 10 == 0;
+    }
+
+    // Appends the check digit to the given digits, e.g. 12 digits to an EAN-13
+    public static String withCheckDigit(String digits) {
+        int sum = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            int positionFromRight = digits.length() - i;
+            sum += (digits.charAt(i) - '0') * (positionFromRight % 2 == 1 ? 3 : 1);
+        }
+        return digits + (10 - sum % 10) % 10;
+    }
+
+    public static long key(String code) {
+        return Long.parseLong(code);
+    }
+}
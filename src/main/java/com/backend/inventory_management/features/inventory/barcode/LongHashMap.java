@@ -0,0 +1,159 @@
+package com.backend.inventory_management.features.inventory.barcode;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Open-addressing map from non-negative {@code long} keys to values, with linear probing and
+ * backward-shift deletion so no tombstones accumulate. Keys live in a flat {@code long[]}, which
+ * avoids a boxed key and a node object per entry.
+ * <p>
+ * Writers must be externally serialized. {@link #get} never throws or loops forever while a write
+ * is in progress, so it can be used under an optimistic read that is validated afterwards.
+ */
+final class LongHashMap<V> {
+
+    private static final long EMPTY = -1L;
+    private static final int MIN_CAPACITY = 16;
+
+    private volatile Table table;
+    private int size;
+
+    LongHashMap(int expectedSize) {
+        table = new Table(capacityFor(expectedSize));
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        Table current = table;
+        long[] keys = current.keys;
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        for (int probes = 0; probes <= mask; probes++) {
+            long candidate = keys[slot];
+            if (candidate == key) {
+                return (V) current.values[slot];
+            }
+            if (candidate == EMPTY) {
+                return null;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V put(long key, V value) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Keys must be non-negative");
+        }
+        if ((size + 1) * 4L > table.keys.length * 3L) {
+            resize(table.keys.length << 1);
+        }
+        long[] keys = table.keys;
+        Object[] values = table.values;
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        values[slot] = value;
+        keys[slot] = key;
+        size++;
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V remove(long key) {
+        long[] keys = table.keys;
+        Object[] values = table.values;
+        int mask = keys.length - 1;
+        int hole = slot(key, mask);
+        while (keys[hole] != key) {
+            if (keys[hole] == EMPTY) {
+                return null;
+            }
+            hole = (hole + 1) & mask;
+        }
+        V previous = (V) values[hole];
+        keys[hole] = EMPTY;
+        values[hole] = null;
+        size--;
+
+        // Pull later entries of the probe run back into the hole so every key stays reachable
+        int next = hole;
+        while (true) {
+            next = (next + 1) & mask;
+            long candidate = keys[next];
+            if (candidate == EMPTY) {
+                return previous;
+            }
+            int home = slot(candidate, mask);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                values[hole] = values[next];
+                keys[hole] = candidate;
+                keys[next] = EMPTY;
+                values[next] = null;
+                hole = next;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEachValue(Consumer<V> action) {
+        Table current = table;
+        for (int i = 0; i < current.keys.length; i++) {
+            if (current.keys[i] != EMPTY) {
+                action.accept((V) current.values[i]);
+            }
+        }
+    }
+
+    private void resize(int capacity) {
+        Table old = table;
+        Table resized = new Table(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < old.keys.length; i++) {
+            long key = old.keys[i];
+            if (key != EMPTY) {
+                int slot = slot(key, mask);
+                while (resized.keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                resized.keys[slot] = key;
+                resized.values[slot] = old.values[i];
+            }
+        }
+        table = resized;
+    }
+
+    private static int slot(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int needed = (int) Math.min(1 << 30, Math.max(MIN_CAPACITY, expectedSize * 4L / 3 + 1));
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+
+    private static final class Table {
+        private final long[] keys;
+        private final Object[] values;
+
+        private Table(int capacity) {
+            keys = new long[capacity];
+            values = new Object[capacity];
+            Arrays.fill(keys, EMPTY);
+        }
+    }
+}
@@ -2,10 +2,7 @@ package com.backend.inventory_management.features.inventory.category;
 
 import com.backend.inventory_management.features.inventory.InventoryItem;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -27,6 +24,12 @@ public class Category {
     
     private String description;
     
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Category parent;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -34,6 +37,8 @@ public class Category {
     private LocalDateTime updatedAt;
     
     @OneToMany(mappedBy = "category", fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<InventoryItem> items;
     
     @PrePersist
@@ -0,0 +1,48 @@
+package com.backend.inventory_management.features.inventory.category;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CategoryClosureRepository extends JpaRepository<CategoryClosure, CategoryClosure.Key> {
+    
+    @Modifying
+    @Query(value = "INSERT INTO category_closure (ancestor_id, descendant_id, depth) VALUES (:id, :id, 0)",
+            nativeQuery = true)
+    int insertSelf(@Param("id") Long id);
+    
+    // Cuts every path that enters the subtree of :id from above, leaving the subtree's internal paths intact
+    @Modifying
+    @Query(value = "DELETE FROM category_closure " +
+            "WHERE descendant_id IN (SELECT d.descendant_id FROM category_closure d WHERE d.ancestor_id = :id) " +
+            "AND ancestor_id IN (SELECT a.ancestor_id FROM category_closure a WHERE a.descendant_id = :id AND a.ancestor_id <> :id)",
+            nativeQuery = true)
+    int detachSubtree(@Param("id") Long id);
+    
+    // Connects every ancestor of the new parent to every node in the subtree of :id;
+    // for a new leaf this is just its paths to the parent's ancestors
+    @Modifying
+    @Query(value = "INSERT INTO category_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT above.ancestor_id, below.descendant_id, above.depth + below.depth + 1 " +
+            "FROM category_closure above CROSS JOIN category_closure below " +
+            "WHERE above.descendant_id = :parentId AND below.ancestor_id = :id", nativeQuery = true)
+    int attachSubtree(@Param("id") Long id, @Param("parentId") Long parentId);
+    
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+    
+    // Every node on the paths from the root down to each of :ids, the nodes themselves included
+    @Query("SELECT DISTINCT cc.ancestorId FROM CategoryClosure cc WHERE cc.descendantId IN :ids")
+    List<Long> findAncestorIds(@Param("ids") Collection<Long> ids);
+    
+    // Item count, units and stock value of each requested subtree in one pass over the closure
+    @Query("SELECT cc.ancestorId, COUNT(i.id), COALESCE(SUM(i.quantity), 0), COALESCE(SUM(i.quantity * i.price), 0) " +
+            "FROM CategoryClosure cc JOIN InventoryItem i ON i.category.id = cc.descendantId " +
+            "WHERE cc.ancestorId IN :ids GROUP BY cc.ancestorId")
+    List<Object[]> aggregateSubtrees(@Param("ids") Collection<Long> ids);
+}
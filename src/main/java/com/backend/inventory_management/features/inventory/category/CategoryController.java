@@ -0,0 +1,123 @@
+package com.backend.inventory_management.features.inventory.category;
+
+import com.backend.inventory_management.core.Response;
+import com.backend.inventory_management.core.exceptions.DuplicateResourceException;
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.core.exceptions.ResourceNotFoundException;
+import com.backend.inventory_management.features.inventory.dtos.CategoryDto;
+import com.backend.inventory_management.features.inventory.dtos.CategoryRollupDto;
+import com.backend.inventory_management.features.inventory.dtos.CreateCategoryDto;
+import com.backend.inventory_management.features.inventory.dtos.MoveCategoryDto;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/categories")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class CategoryController {
+    
+    private final CategoryService categoryService;
+    
+    @GetMapping
+    public ResponseEntity<Response<List<CategoryDto>>> getChildren(@RequestParam(required = false) Long parentId) {
+        try {
+            return ResponseEntity.ok(Response.success(categoryService.getChildren(parentId)));
+        } catch (Exception e) {
+            log.error("Failed to retrieve categories", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve categories"));
+        }
+    }
+    
+    @GetMapping("/{id}")
+    public ResponseEntity<Response<CategoryDto>> getCategory(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(Response.success(categoryService.getCategory(id)));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to retrieve category {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve category"));
+        }
+    }
+    
+    @PostMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Response<CategoryDto>> createCategory(@Valid @RequestBody CreateCategoryDto createDto) {
+        try {
+            CategoryDto category = categoryService.createCategory(createDto);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                .body(Response.success(category, "Category created successfully"));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (DuplicateResourceException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to create category", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to create category"));
+        }
+    }
+    
+    @PutMapping("/{id}/parent")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Response<CategoryDto>> moveCategory(@PathVariable Long id,
+                                                              @RequestBody MoveCategoryDto moveDto) {
+        try {
+            CategoryDto category = categoryService.moveCategory(id, moveDto.getParentId());
+            return ResponseEntity.ok(Response.success(category, "Category moved successfully"));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (InvalidOperationException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to move category {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to move category"));
+        }
+    }
+    
+    @GetMapping("/{id}/rollup")
+    public ResponseEntity<Response<CategoryRollupDto>> getRollup(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(Response.success(categoryService.getRollup(id)));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to retrieve rollup for category {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve category rollup"));
+        }
+    }
+    
+    @GetMapping("/rollups")
+    public ResponseEntity<Response<List<CategoryRollupDto>>> getChildRollups(
+            @RequestParam(required = false) Long parentId) {
+        try {
+            return ResponseEntity.ok(Response.success(categoryService.getChildRollups(parentId)));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to retrieve category rollups", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve category rollups"));
+        }
+    }
+}
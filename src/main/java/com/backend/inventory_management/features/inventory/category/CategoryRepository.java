@@ -1,12 +1,30 @@
 package com.backend.inventory_management.features.inventory.category;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     Optional<Category> findByName(String name);
     boolean existsByName(String name);
-}
\ No newline at end of file
+    
+    List<Category> findByParentIdOrderByName(Long parentId);
+    
+    List<Category> findByParentIsNullOrderByName();
+    
+    @Query("SELECT c.name FROM Category c ORDER BY c.name")
+    List<String> findAllNames();
+    
+    // Locks are taken in id order so concurrent tree writes cannot deadlock on each other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Category c WHERE c.id IN :ids ORDER BY c.id")
+    List<Category> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+}
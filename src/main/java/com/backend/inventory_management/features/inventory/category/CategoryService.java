@@ -0,0 +1,18 @@
+package com.backend.inventory_management.features.inventory.category;
+
+import com.backend.inventory_management.features.inventory.dtos.CategoryDto;
+import com.backend.inventory_management.features.inventory.dtos.CategoryRollupDto;
+import com.backend.inventory_management.features.inventory.dtos.CreateCategoryDto;
+
+import java.util.List;
+
+public interface CategoryService {
+    List<String> getCategoryNames();
+    List<CategoryDto> getChildren(Long parentId);
+    CategoryDto getCategory(Long id);
+    CategoryDto createCategory(CreateCategoryDto createDto);
+    CategoryDto moveCategory(Long id, Long parentId);
+    Category getOrCreateCategory(String name);
+    CategoryRollupDto getRollup(Long id);
+    List<CategoryRollupDto> getChildRollups(Long parentId);
+}
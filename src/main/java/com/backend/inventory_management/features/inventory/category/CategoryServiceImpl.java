@@ -0,0 +1,184 @@
+package com.backend.inventory_management.features.inventory.category;
+
+import com.backend.inventory_management.core.exceptions.DuplicateResourceException;
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.core.exceptions.ResourceNotFoundException;
+import com.backend.inventory_management.features.inventory.dtos.CategoryDto;
+import com.backend.inventory_management.features.inventory.dtos.CategoryRollupDto;
+import com.backend.inventory_management.features.inventory.dtos.CreateCategoryDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryServiceImpl implements CategoryService {
+    
+    private final CategoryRepository categoryRepository;
+    private final CategoryClosureRepository categoryClosureRepository;
+    
+    @Override
+    public List<String> getCategoryNames() {
+        return categoryRepository.findAllNames();
+    }
+    
+    @Override
+    public List<CategoryDto> getChildren(Long parentId) {
+        return findChildren(parentId).stream()
+            .map(this::convertToDto)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public CategoryDto getCategory(Long id) {
+        return convertToDto(findCategory(id));
+    }
+    
+    @Override
+    @Transactional
+    public CategoryDto createCategory(CreateCategoryDto createDto) {
+        if (categoryRepository.existsByName(createDto.getName())) {
+            throw new DuplicateResourceException("Category already exists: " + createDto.getName());
+        }
+        Category parent = createDto.getParentId() != null ? findCategory(createDto.getParentId()) : null;
+        
+        Category category = insert(Category.builder()
+            .name(createDto.getName())
+            .description(createDto.getDescription())
+            .parent(parent)
+            .build());
+        log.info("Created category {} under {}", category.getName(), parent != null ? parent.getName() : "root");
+        return convertToDto(category);
+    }
+    
+    @Override
+    @Transactional
+    public CategoryDto moveCategory(Long id, Long parentId) {
+        lockPaths(id, parentId);
+        Category category = findCategory(id);
+        Category parent = parentId != null ? findCategory(parentId) : null;
+        
+        if (parent != null && categoryClosureRepository.existsByAncestorIdAndDescendantId(id, parentId)) {
+            throw new InvalidOperationException("Cannot move a category under itself or one of its descendants");
+        }
+        
+        categoryClosureRepository.detachSubtree(id);
+        if (parent != null) {
+            categoryClosureRepository.attachSubtree(id, parentId);
+        }
+        category.setParent(parent);
+        Category saved = categoryRepository.save(category);
+        log.info("Moved category {} under {}", saved.getName(), parent != null ? parent.getName() : "root");
+        return convertToDto(saved);
+    }
+    
+    @Override
+    @Transactional
+    public Category getOrCreateCategory(String name) {
+        return categoryRepository.findByName(name)
+            .orElseGet(() -> insert(Category.builder().name(name).build()));
+    }
+    
+    @Override
+    public CategoryRollupDto getRollup(Long id) {
+        return rollups(List.of(findCategory(id))).get(0);
+    }
+    
+    @Override
+    public List<CategoryRollupDto> getChildRollups(Long parentId) {
+        if (parentId != null) {
+            findCategory(parentId);
+        }
+        return rollups(findChildren(parentId));
+    }
+    
+    private Category insert(Category category) {
+        if (category.getParent() != null) {
+            lockPaths(category.getParent().getId());
+        }
+        Category saved = categoryRepository.saveAndFlush(category);
+        categoryClosureRepository.insertSelf(saved.getId());
+        if (saved.getParent() != null) {
+            categoryClosureRepository.attachSubtree(saved.getId(), saved.getParent().getId());
+        }
+        return saved;
+    }
+    
+    /**
+     * Locks every category on the paths from the root down to the given ones. Two tree writes whose
+     * paths share a node, such as opposite moves or an insert under a subtree being moved, then run
+     * one after the other and each checks and copies the closure rows the other left.
+     */
+    private void lockPaths(Long... ids) {
+        List<Long> nodes = Arrays.stream(ids).filter(Objects::nonNull).collect(Collectors.toList());
+        Set<Long> locked = new HashSet<>();
+        List<Long> path = categoryClosureRepository.findAncestorIds(nodes);
+        while (!locked.containsAll(path)) {
+            categoryRepository.findAllByIdForUpdate(path);
+            locked.addAll(path);
+            // A move that committed while we waited may have put the nodes under new ancestors
+            path = categoryClosureRepository.findAncestorIds(nodes);
+        }
+    }
+    
+    private List<Category> findChildren(Long parentId) {
+        return parentId != null
+            ? categoryRepository.findByParentIdOrderByName(parentId)
+            : categoryRepository.findByParentIsNullOrderByName();
+    }
+    
+    private Category findCategory(Long id) {
+        return categoryRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + id));
+    }
+    
+    private List<CategoryRollupDto> rollups(List<Category> categories) {
+        if (categories.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Object[]> totals = new HashMap<>();
+        for (Object[] row : categoryClosureRepository.aggregateSubtrees(
+                categories.stream().map(Category::getId).collect(Collectors.toList()))) {
+            totals.put((Long) row[0], row);
+        }
+        
+        List<CategoryRollupDto> result = new ArrayList<>(categories.size());
+        for (Category category : categories) {
+            Object[] row = totals.get(category.getId());
+            result.add(CategoryRollupDto.builder()
+                .categoryId(category.getId())
+                .name(category.getName())
+                .parentId(parentIdOf(category))
+                .itemCount(row != null ? ((Number) row[1]).longValue() : 0)
+                .totalQuantity(row != null ? ((Number) row[2]).longValue() : 0)
+                .stockValue(row != null ? toBigDecimal(row[3]) : BigDecimal.ZERO)
+                .build());
+        }
+        return result;
+    }
+    
+    private static BigDecimal toBigDecimal(Object value) {
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+    
+    private static Long parentIdOf(Category category) {
+        return category.getParent() != null ? category.getParent().getId() : null;
+    }
+    
+    private CategoryDto convertToDto(Category category) {
+        return CategoryDto.builder()
+            .id(category.getId())
+            .name(category.getName())
+            .description(category.getDescription())
+            .parentId(parentIdOf(category))
+            .createdAt(category.getCreatedAt())
+            .updatedAt(category.getUpdatedAt())
+            .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.backend.inventory_management.features.inventory.cluster;
+
+import com.backend.inventory_management.core.Response;
+import com.backend.inventory_management.features.inventory.dtos.InvalidationBusStatusDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/inventory/invalidation-bus")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class InvalidationBusController {
+    
+    private final InvalidationBusService invalidationBusService;
+    
+    @GetMapping
+    public ResponseEntity<Response<InvalidationBusStatusDto>> getStatus() {
+        return ResponseEntity.ok(Response.success(invalidationBusService.getStatus()));
+    }
+}
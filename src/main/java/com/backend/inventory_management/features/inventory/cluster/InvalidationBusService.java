@@ -0,0 +1,7 @@
+package com.backend.inventory_management.features.inventory.cluster;
+
+import com.backend.inventory_management.features.inventory.dtos.InvalidationBusStatusDto;
+
+public interface InvalidationBusService {
+    InvalidationBusStatusDto getStatus();
+}
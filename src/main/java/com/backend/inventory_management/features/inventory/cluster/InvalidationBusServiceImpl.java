@@ -0,0 +1,328 @@
+package com.backend.inventory_management.features.inventory.cluster;
+
+import com.backend.inventory_management.features.inventory.InventoryItemChangedEvent;
+import com.backend.inventory_management.features.inventory.StockChangedEvent;
+import com.backend.inventory_management.features.inventory.dtos.InvalidationBusStatusDto;
+import com.backend.inventory_management.features.inventory.snapshot.CatalogSnapshotSection;
+import com.backend.inventory_management.features.inventory.snapshot.CatalogSnapshotService;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the in-memory catalog sections of every node in step with writes handled by other nodes,
+ * using PostgreSQL LISTEN/NOTIFY on the database the nodes already share.
+ * <p>
+ * Items changed by committed transactions on this node are collected and published every few
+ * milliseconds as compact notifications, so a burst of writes becomes a handful of messages. Each
+ * node listens on a dedicated connection, gathers the ids it receives from other nodes and
+ * re-reads them through {@link CatalogSnapshotSection#refreshItems} on its own schedule. A node
+ * that may have missed messages (its listener connection dropped, an origin's sequence skipped,
+ * or more items are pending than is worth refreshing one by one) reloads every section instead.
+ * The bus only runs against PostgreSQL; on other databases each node keeps its own state as before.
+ */
+@Slf4j
+@Service
+public class InvalidationBusServiceImpl implements InvalidationBusService, DisposableBean {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final long RECONNECT_DELAY_MS = 5_000;
+    private static final int POLL_TIMEOUT_MS = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<CatalogSnapshotSection> sections;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final String databaseUrl;
+    private final String databaseUsername;
+    private final String databasePassword;
+    private final String channel;
+    private final int resyncThreshold;
+    private final boolean enabled;
+    private final String nodeId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
+    private final Set<Long> outgoing = ConcurrentHashMap.newKeySet();
+    private final Set<Long> incoming = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> lastSequenceByOrigin = new ConcurrentHashMap<>();
+    private final Object publishLock = new Object();
+    private final AtomicLong messagesPublished = new AtomicLong();
+    private final AtomicLong messagesReceived = new AtomicLong();
+    private final AtomicLong itemsRefreshed = new AtomicLong();
+    private final AtomicLong resyncs = new AtomicLong();
+
+    private long nextSequence = 1;
+    private volatile boolean running;
+    private volatile boolean listening;
+    private volatile Thread listenerThread;
+    private volatile String resyncReason;
+    private volatile String lastResyncReason;
+    private volatile LocalDateTime lastResyncAt;
+
+    public InvalidationBusServiceImpl(JdbcTemplate jdbcTemplate,
+                                      List<CatalogSnapshotSection> sections,
+                                      CatalogSnapshotService catalogSnapshotService,
+                                      @Value("${spring.datasource.url:}") String databaseUrl,
+                                      @Value("${spring.datasource.username:}") String databaseUsername,
+                                      @Value("${spring.datasource.password:}") String databasePassword,
+                                      @Value("${app.invalidation-bus.enabled:true}") boolean enabled,
+                                      @Value("${app.invalidation-bus.channel:inventory_invalidation}") String channel,
+                                      @Value("${app.invalidation-bus.resync-threshold:5000}") int resyncThreshold) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid invalidation channel name: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.sections = sections;
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.databaseUrl = databaseUrl;
+        this.databaseUsername = databaseUsername;
+        this.databasePassword = databasePassword;
+        this.channel = channel;
+        this.resyncThreshold = resyncThreshold;
+        this.enabled = enabled && databaseUrl.startsWith("jdbc:postgresql:");
+    }
+
+    // Runs ahead of the catalog warm-up, so nothing committed after the sections are loaded goes unheard
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void start() {
+        if (!enabled) {
+            log.info("Invalidation bus is off; it needs app.invalidation-bus.enabled and a PostgreSQL database");
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::listen, "invalidation-bus-listener");
+        thread.setDaemon(true);
+        thread.start();
+        listenerThread = thread;
+        log.info("Invalidation bus node {} listening on channel {}", nodeId, channel);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        if (enabled) {
+            outgoing.add(event.getItemId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(InventoryItemChangedEvent event) {
+        if (enabled) {
+            outgoing.add(event.getItemId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.invalidation-bus.publish-interval-ms:100}")
+    public void publishPending() {
+        if (!running || outgoing.isEmpty()) {
+            return;
+        }
+        try {
+            publish();
+        } catch (Exception e) {
+            log.error("Failed to publish invalidation messages", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.invalidation-bus.apply-interval-ms:200}")
+    public void applyPending() {
+        // Until the sections are loaded there is nothing to refresh; what arrives meanwhile waits
+        if (!running || !catalogSnapshotService.isWarmedUp()) {
+            return;
+        }
+        try {
+            apply();
+        } catch (Exception e) {
+            log.error("Failed to apply invalidation messages", e);
+        }
+    }
+
+    @Override
+    public InvalidationBusStatusDto getStatus() {
+        return InvalidationBusStatusDto.builder()
+            .enabled(enabled)
+            .channel(channel)
+            .nodeId(nodeId)
+            .listening(listening)
+            .messagesPublished(messagesPublished.get())
+            .messagesReceived(messagesReceived.get())
+            .itemsRefreshed(itemsRefreshed.get())
+            .pendingItems(incoming.size())
+            .resyncs(resyncs.get())
+            .lastResyncReason(lastResyncReason)
+            .lastResyncAt(lastResyncAt)
+            .build();
+    }
+
+    @Override
+    public void destroy() {
+        if (!running) {
+            return;
+        }
+        try {
+            publish();
+        } catch (Exception e) {
+            log.warn("Failed to publish invalidation messages on shutdown: {}", e.getMessage());
+        }
+        running = false;
+        Thread thread = listenerThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void publish() {
+        synchronized (publishLock) {
+            List<Long> drained = new ArrayList<>();
+            for (Iterator<Long> it = outgoing.iterator(); it.hasNext(); ) {
+                drained.add(it.next());
+                it.remove();
+            }
+            List<List<Long>> groups = InvalidationMessage.partition(drained);
+            for (int i = 0; i < groups.size(); i++) {
+                InvalidationMessage message = new InvalidationMessage(InvalidationMessage.ITEM, nodeId, nextSequence, groups.get(i));
+                try {
+                    jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, channel, message.encode());
+                } catch (RuntimeException e) {
+                    // The sequence only advances on success, so receivers see no gap for a retried message
+                    groups.subList(i, groups.size()).forEach(outgoing::addAll);
+                    throw e;
+                }
+                nextSequence++;
+                messagesPublished.incrementAndGet();
+            }
+        }
+    }
+
+    private void apply() {
+        String reason = resyncReason;
+        if (reason == null && incoming.size() > resyncThreshold) {
+            reason = incoming.size() + " items pending";
+        }
+        if (reason != null) {
+            resync(reason);
+            return;
+        }
+        if (incoming.isEmpty()) {
+            return;
+        }
+        List<Long> drained = new ArrayList<>();
+        for (Iterator<Long> it = incoming.iterator(); it.hasNext(); ) {
+            drained.add(it.next());
+            it.remove();
+        }
+        try {
+            for (CatalogSnapshotSection section : sections) {
+                section.refreshItems(drained);
+            }
+            itemsRefreshed.addAndGet(drained.size());
+        } catch (RuntimeException e) {
+            incoming.addAll(drained);
+            throw e;
+        }
+    }
+
+    // Ids cleared before the reload started are covered by it; ids arriving during it are applied afterwards
+    private void resync(String reason) {
+        resyncReason = null;
+        incoming.clear();
+        long started = System.currentTimeMillis();
+        try {
+            sections.forEach(CatalogSnapshotSection::loadFromDatabase);
+        } catch (RuntimeException e) {
+            resyncReason = reason;
+            throw e;
+        }
+        resyncs.incrementAndGet();
+        lastResyncReason = reason;
+        lastResyncAt = LocalDateTime.now();
+        log.warn("Reloaded the catalog sections in {} ms: {}", System.currentTimeMillis() - started, reason);
+    }
+
+    private void listen() {
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(databaseUrl, databaseUsername, databasePassword)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                listening = true;
+                // The first connection is made before the warm-up reads the database, so only reconnects lose messages
+                if (connectedBefore) {
+                    resyncReason = "Listener reconnected";
+                }
+                connectedBefore = true;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Invalidation bus listener lost its connection, retrying in {} ms: {}", RECONNECT_DELAY_MS, e.getMessage());
+                }
+            } finally {
+                listening = false;
+            }
+            if (running && !sleep(RECONNECT_DELAY_MS)) {
+                return;
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        InvalidationMessage message;
+        try {
+            message = InvalidationMessage.parse(payload);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring invalidation message: {}", e.getMessage());
+            return;
+        }
+        if (message.origin().equals(nodeId)) {
+            return;
+        }
+        messagesReceived.incrementAndGet();
+
+        Long previous = lastSequenceByOrigin.put(message.origin(), message.sequence());
+        if (previous != null && message.sequence() != previous + 1) {
+            resyncReason = "Missed messages from node " + message.origin();
+        }
+        if (InvalidationMessage.ITEM.equals(message.entityType())) {
+            incoming.addAll(message.ids());
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.backend.inventory_management.features.inventory.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * One notification on the invalidation channel, encoded as {@code type|origin|sequence|id,id,...}.
+ * The sequence counts the messages of one origin node, so a receiver that sees it jump knows it
+ * missed something and resynchronizes.
+ */
+record InvalidationMessage(String entityType, String origin, long sequence, List<Long> ids) {
+
+    static final String ITEM = "item";
+
+    // PostgreSQL rejects NOTIFY payloads of 8000 bytes or more; this leaves room for the header
+    private static final int MAX_ID_BYTES = 7800;
+
+    String encode() {
+        StringBuilder payload = new StringBuilder(entityType).append('|').append(origin).append('|').append(sequence).append('|');
+        for (int i = 0; i < ids.size(); i++) {
+            if (i > 0) {
+                payload.append(',');
+            }
+            payload.append(ids.get(i));
+        }
+        return payload.toString();
+    }
+
+    static InvalidationMessage parse(String payload) {
+        String[] parts = payload.split("\\|", -1);
+        if (parts.length != 4 || parts[0].isEmpty() || parts[1].isEmpty()) {
+            throw new IllegalArgumentException("Malformed invalidation message: " + payload);
+        }
+        List<Long> ids = new ArrayList<>();
+        if (!parts[3].isEmpty()) {
+            for (String id : parts[3].split(",")) {
+                ids.add(Long.parseLong(id));
+            }
+        }
+        return new InvalidationMessage(parts[0], parts[1], Long.parseLong(parts[2]), ids);
+    }
+
+    // Splits the ids into groups that each fit in one notification
+    static List<List<Long>> partition(Collection<Long> ids) {
+        List<List<Long>> groups = new ArrayList<>();
+        List<Long> group = new ArrayList<>();
+        int bytes = 0;
+        for (Long id : ids) {
+            int idBytes = id.toString().getBytes(StandardCharsets.US_ASCII).length + 1;
+            if (bytes + idBytes > MAX_ID_BYTES) {
+                groups.add(group);
+                group = new ArrayList<>();
+                bytes = 0;
+            }
+            group.add(id);
+            bytes += idBytes;
+        }
+        if (!group.isEmpty()) {
+            groups.add(group);
+        }
+        return groups;
+    }
+}
@@ -0,0 +1,344 @@
+package com.backend.inventory_management.features.inventory.columnar;
+
+import com.backend.inventory_management.features.inventory.StockStatus;
+import com.backend.inventory_management.features.inventory.snapshot.SnapshotReader;
+import com.backend.inventory_management.features.inventory.snapshot.SnapshotWriter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Live items held column by column: one primitive array per attribute, prices in cents and
+ * category/supplier ids dictionary-encoded to dense codes. Aggregates are tight loops over a few
+ * arrays with no per-row objects, so a million rows scan in a few milliseconds. Rows are kept
+ * dense: removing an item moves the last row into its slot.
+ * <p>
+ * Writers are serialized by the write lock; scans hold the read lock for their duration.
+ */
+final class ColumnarInventory {
+
+    static final int NO_LEVEL = Integer.MIN_VALUE;
+
+    private static final long ROW_BYTES = Long.BYTES * 2L + Integer.BYTES * 5L + Byte.BYTES;
+    private static final int MIN_CAPACITY = 1024;
+
+    private final StampedLock lock = new StampedLock();
+    private final LongIntHashMap rowById;
+    private final Dictionary categories = new Dictionary();
+    private final Dictionary suppliers = new Dictionary();
+
+    private long[] ids;
+    private int[] quantity;
+    private int[] minLevel;
+    private int[] maxLevel;
+    private long[] priceCents;
+    private int[] categoryCode;
+    private int[] supplierCode;
+    private byte[] status;
+    private int size;
+
+    ColumnarInventory(int expectedSize) {
+        int capacity = Math.max(MIN_CAPACITY, expectedSize);
+        rowById = new LongIntHashMap(capacity);
+        allocate(capacity);
+    }
+
+    void upsert(ItemRow row) {
+        long stamp = lock.writeLock();
+        try {
+            write(row);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    void upsertAll(Iterable<ItemRow> rows) {
+        long stamp = lock.writeLock();
+        try {
+            rows.forEach(this::write);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    boolean remove(long id) {
+        long stamp = lock.writeLock();
+        try {
+            int row = rowById.remove(id);
+            if (row == LongIntHashMap.MISSING) {
+                return false;
+            }
+            int last = --size;
+            if (row != last) {
+                ids[row] = ids[last];
+                quantity[row] = quantity[last];
+                minLevel[row] = minLevel[last];
+                maxLevel[row] = maxLevel[last];
+                priceCents[row] = priceCents[last];
+                categoryCode[row] = categoryCode[last];
+                supplierCode[row] = supplierCode[last];
+                status[row] = status[last];
+                rowById.put(ids[row], row);
+            }
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    void clear() {
+        long stamp = lock.writeLock();
+        try {
+            rowById.clear();
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    Totals totals() {
+        long stamp = lock.readLock();
+        try {
+            // Counting by index keeps the loop free of data-dependent branches
+            long[] byStatus = new long[StockStatus.values().length];
+            long units = 0;
+            long value = 0;
+            for (int i = 0; i < size; i++) {
+                int q = quantity[i];
+                units += q;
+                value += q * priceCents[i];
+                byStatus[status[i]]++;
+            }
+            return new Totals(size, byStatus[StockStatus.LOW_STOCK.ordinal()],
+                byStatus[StockStatus.OUT_OF_STOCK.ordinal()], units, value);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Item count, units and stock value per category or supplier id, optionally restricted to one
+     * status. Groups without a matching item are left out.
+     */
+    GroupTotals groupBy(Dimension dimension, StockStatus only) {
+        long stamp = lock.readLock();
+        try {
+            Dictionary dictionary = dimension == Dimension.CATEGORY ? categories : suppliers;
+            int[] codes = dimension == Dimension.CATEGORY ? categoryCode : supplierCode;
+            int groups = dictionary.size();
+            int[] items = new int[groups];
+            long[] units = new long[groups];
+            long[] value = new long[groups];
+
+            if (only == null) {
+                for (int i = 0; i < size; i++) {
+                    int code = codes[i];
+                    int q = quantity[i];
+                    items[code]++;
+                    units[code] += q;
+                    value[code] += q * priceCents[i];
+                }
+            } else {
+                byte wanted = (byte) only.ordinal();
+                for (int i = 0; i < size; i++) {
+                    if (status[i] == wanted) {
+                        int code = codes[i];
+                        int q = quantity[i];
+                        items[code]++;
+                        units[code] += q;
+                        value[code] += q * priceCents[i];
+                    }
+                }
+            }
+
+            int present = 0;
+            for (int code = 0; code < groups; code++) {
+                if (items[code] > 0) {
+                    present++;
+                }
+            }
+            GroupTotals totals = new GroupTotals(new long[present], new int[present], new long[present], new long[present]);
+            for (int code = 0, out = 0; code < groups; code++) {
+                if (items[code] > 0) {
+                    totals.groupIds()[out] = dictionary.idOf(code);
+                    totals.items()[out] = items[code];
+                    totals.units()[out] = units[code];
+                    totals.valueCents()[out] = value[code];
+                    out++;
+                }
+            }
+            return totals;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    long memoryBytes() {
+        long stamp = lock.readLock();
+        try {
+            return ids.length * ROW_BYTES + rowById.memoryBytes() + categories.memoryBytes() + suppliers.memoryBytes();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // Dictionaries first, so codes survive the round trip; the id index is rebuilt on restore
+    void writeColumns(SnapshotWriter writer) throws IOException {
+        long stamp = lock.readLock();
+        try {
+            writer.writeInt(size);
+            categories.writeTo(writer);
+            suppliers.writeTo(writer);
+            writer.writeLongs(ids, size);
+            writer.writeInts(quantity, size);
+            writer.writeInts(minLevel, size);
+            writer.writeInts(maxLevel, size);
+            writer.writeLongs(priceCents, size);
+            writer.writeInts(categoryCode, size);
+            writer.writeInts(supplierCode, size);
+            writer.writeBytes(status, size);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    static ColumnarInventory readColumns(SnapshotReader reader) {
+        int rows = reader.readInt();
+        ColumnarInventory restored = new ColumnarInventory(rows);
+        restored.categories.readFrom(reader);
+        restored.suppliers.readFrom(reader);
+        reader.readLongs(restored.ids, rows);
+        reader.readInts(restored.quantity, rows);
+        reader.readInts(restored.minLevel, rows);
+        reader.readInts(restored.maxLevel, rows);
+        reader.readLongs(restored.priceCents, rows);
+        reader.readInts(restored.categoryCode, rows);
+        reader.readInts(restored.supplierCode, rows);
+        reader.readBytes(restored.status, rows);
+        for (int row = 0; row < rows; row++) {
+            restored.rowById.put(restored.ids[row], row);
+        }
+        restored.size = rows;
+        return restored;
+    }
+
+    // Columns plus the id index for the given number of rows, excluding growth headroom
+    static long estimatedBytes(int rows) {
+        return rows * ROW_BYTES + LongIntHashMap.estimatedBytes(rows);
+    }
+
+    private void write(ItemRow item) {
+        int row = rowById.get(item.id());
+        if (row == LongIntHashMap.MISSING) {
+            if (size == ids.length) {
+                grow();
+            }
+            row = size++;
+            rowById.put(item.id(), row);
+        }
+        ids[row] = item.id();
+        quantity[row] = item.quantity();
+        minLevel[row] = item.minStockLevel() != null ? item.minStockLevel() : NO_LEVEL;
+        maxLevel[row] = item.maxStockLevel() != null ? item.maxStockLevel() : NO_LEVEL;
+        priceCents[row] = item.priceCents();
+        categoryCode[row] = categories.encode(item.categoryId());
+        supplierCode[row] = suppliers.encode(item.supplierId());
+        status[row] = (byte) StockStatus.of(item.quantity(), item.minStockLevel()).ordinal();
+    }
+
+    private void grow() {
+        int capacity = ids.length + (ids.length >> 1);
+        ids = Arrays.copyOf(ids, capacity);
+        quantity = Arrays.copyOf(quantity, capacity);
+        minLevel = Arrays.copyOf(minLevel, capacity);
+        maxLevel = Arrays.copyOf(maxLevel, capacity);
+        priceCents = Arrays.copyOf(priceCents, capacity);
+        categoryCode = Arrays.copyOf(categoryCode, capacity);
+        supplierCode = Arrays.copyOf(supplierCode, capacity);
+        status = Arrays.copyOf(status, capacity);
+    }
+
+    private void allocate(int capacity) {
+        ids = new long[capacity];
+        quantity = new int[capacity];
+        minLevel = new int[capacity];
+        maxLevel = new int[capacity];
+        priceCents = new long[capacity];
+        categoryCode = new int[capacity];
+        supplierCode = new int[capacity];
+        status = new byte[capacity];
+    }
+
+    enum Dimension {
+        CATEGORY,
+        SUPPLIER
+    }
+
+    record ItemRow(long id, int quantity, Integer minStockLevel, Integer maxStockLevel, long priceCents,
+                   long categoryId, long supplierId) {
+    }
+
+    record Totals(long items, long lowStock, long outOfStock, long units, long valueCents) {
+    }
+
+    record GroupTotals(long[] groupIds, int[] items, long[] units, long[] valueCents) {
+    }
+
+    // Dense codes for dimension ids; codes are never reused, the dimension tables are small
+    private static final class Dictionary {
+        private final LongIntHashMap codeById = new LongIntHashMap(64);
+        private long[] idByCode = new long[64];
+        private int size;
+
+        private int encode(long id) {
+            int code = codeById.get(id);
+            if (code == LongIntHashMap.MISSING) {
+                if (size == idByCode.length) {
+                    idByCode = Arrays.copyOf(idByCode, size << 1);
+                }
+                code = size++;
+                idByCode[code] = id;
+                codeById.put(id, code);
+            }
+            return code;
+        }
+
+        private long idOf(int code) {
+            return idByCode[code];
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private long memoryBytes() {
+            return codeById.memoryBytes() + idByCode.length * (long) Long.BYTES;
+        }
+
+        private void writeTo(SnapshotWriter writer) throws IOException {
+            writer.writeInt(size);
+            writer.writeLongs(idByCode, size);
+        }
+
+        private void readFrom(SnapshotReader reader) {
+            int codes = reader.readInt();
+            long[] restored = new long[Math.max(64, codes)];
+            reader.readLongs(restored, codes);
+            for (int code = 0; code < codes; code++) {
+                codeById.put(restored[code], code);
+            }
+            idByCode = restored;
+            size = codes;
+        }
+    }
+}
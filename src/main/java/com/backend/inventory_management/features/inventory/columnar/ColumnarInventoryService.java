@@ -0,0 +1,17 @@
+package com.backend.inventory_management.features.inventory.columnar;
+
+import com.backend.inventory_management.features.inventory.StockStatus;
+import com.backend.inventory_management.features.inventory.dtos.ColumnarStatsDto;
+import com.backend.inventory_management.features.inventory.dtos.GroupValueDto;
+import com.backend.inventory_management.features.inventory.dtos.InventoryMetricsDto;
+
+import java.util.List;
+
+public interface ColumnarInventoryService {
+    boolean isReady();
+    InventoryMetricsDto getMetrics();
+    List<GroupValueDto> getValueByCategory(StockStatus status);
+    List<GroupValueDto> getValueBySupplier(StockStatus status);
+    ColumnarStatsDto getStats();
+    void reload();
+}
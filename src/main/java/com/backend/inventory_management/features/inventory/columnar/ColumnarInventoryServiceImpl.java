@@ -0,0 +1,302 @@
+package com.backend.inventory_management.features.inventory.columnar;
+
+import com.backend.inventory_management.features.inventory.InventoryItemChangedEvent;
+import com.backend.inventory_management.features.inventory.StockChangedEvent;
+import com.backend.inventory_management.features.inventory.StockStatus;
+import com.backend.inventory_management.features.inventory.dtos.ColumnarStatsDto;
+import com.backend.inventory_management.features.inventory.dtos.GroupValueDto;
+import com.backend.inventory_management.features.inventory.dtos.InventoryMetricsDto;
+import com.backend.inventory_management.features.inventory.snapshot.CatalogSnapshotSection;
+import com.backend.inventory_management.features.inventory.snapshot.SnapshotReader;
+import com.backend.inventory_management.features.inventory.snapshot.SnapshotWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps {@link ColumnarInventory} in step with the items table. At startup the columns are restored
+ * from the catalog snapshot or, failing that, streamed from the table; afterwards write paths only
+ * mark items dirty, and the dirty rows are re-read in one batched query by the scheduled refresh
+ * or, at the latest, before the next aggregate is answered, so a caller always sees its own
+ * committed writes.
+ */
+@Slf4j
+@Service
+public class ColumnarInventoryServiceImpl implements ColumnarInventoryService, CatalogSnapshotSection {
+
+    private static final int FETCH_SIZE = 10_000;
+    private static final int CHUNK_SIZE = 1000;
+    private static final long NAME_CACHE_TTL_MS = 60_000;
+    private static final String ROW_COLUMNS =
+        "SELECT id, quantity, min_stock_level, max_stock_level, price, category_id, supplier_id FROM inventory_items ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate primaryReadTransaction;
+    private final Set<Long> dirtyItemIds = ConcurrentHashMap.newKeySet();
+    private final Object refreshLock = new Object();
+
+    private volatile ColumnarInventory inventory;
+    private volatile LocalDateTime loadedAt;
+    private volatile long loadMs;
+    private volatile long lastScanMicros;
+    private volatile Names categoryNames = Names.EMPTY;
+    private volatile Names supplierNames = Names.EMPTY;
+
+    public ColumnarInventoryServiceImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        // Not read-only: the catalog snapshot pairs these columns with the primary's change sequence
+        // watermark, so they must never be loaded from a read replica that may lag behind it
+        this.primaryReadTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public String getSectionName() {
+        return "columnar";
+    }
+
+    @Override
+    public int getFormatVersion() {
+        return 1;
+    }
+
+    @Override
+    public void writeTo(SnapshotWriter writer) throws IOException {
+        refreshDirty();
+        inventory.writeColumns(writer);
+    }
+
+    @Override
+    public void restoreFrom(SnapshotReader reader) {
+        synchronized (refreshLock) {
+            long started = System.currentTimeMillis();
+            inventory = ColumnarInventory.readColumns(reader);
+            loadedAt = LocalDateTime.now();
+            loadMs = System.currentTimeMillis() - started;
+        }
+    }
+
+    @Override
+    public void loadFromDatabase() {
+        reload();
+    }
+
+    @Override
+    public void refreshItems(Collection<Long> itemIds) {
+        dirtyItemIds.addAll(itemIds);
+        refreshDirty();
+    }
+
+    @Override
+    public void reload() {
+        synchronized (refreshLock) {
+            long started = System.currentTimeMillis();
+            Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM inventory_items WHERE deleted_at IS NULL", Long.class);
+            ColumnarInventory loaded = new ColumnarInventory(count != null ? count.intValue() : 0);
+
+            JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+            streaming.setFetchSize(FETCH_SIZE);
+            List<ColumnarInventory.ItemRow> batch = new ArrayList<>(FETCH_SIZE);
+            primaryReadTransaction.executeWithoutResult(status ->
+                streaming.query(ROW_COLUMNS + "WHERE deleted_at IS NULL", (RowCallbackHandler) rs -> {
+                    batch.add(toRow(rs));
+                    if (batch.size() == FETCH_SIZE) {
+                        loaded.upsertAll(batch);
+                        batch.clear();
+                    }
+                }));
+            loaded.upsertAll(batch);
+
+            inventory = loaded;
+            loadedAt = LocalDateTime.now();
+            loadMs = System.currentTimeMillis() - started;
+            log.info("Loaded {} items into the columnar snapshot ({} KB) in {} ms",
+                loaded.size(), loaded.memoryBytes() / 1024, loadMs);
+        }
+        // Changes committed while the table was streaming were marked dirty and are re-read now
+        refreshDirty();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        dirtyItemIds.add(event.getItemId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(InventoryItemChangedEvent event) {
+        dirtyItemIds.add(event.getItemId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.columnar.refresh-interval-ms:1000}")
+    public void scheduledRefresh() {
+        try {
+            refreshDirty();
+        } catch (Exception e) {
+            log.error("Columnar snapshot refresh failed", e);
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return inventory != null;
+    }
+
+    @Override
+    public InventoryMetricsDto getMetrics() {
+        ColumnarInventory current = current();
+        long started = System.nanoTime();
+        ColumnarInventory.Totals totals = current.totals();
+        lastScanMicros = (System.nanoTime() - started) / 1000;
+
+        return InventoryMetricsDto.builder()
+            .totalItems(totals.items())
+            .lowStockCount(totals.lowStock())
+            .outOfStockCount(totals.outOfStock())
+            .totalValue(BigDecimal.valueOf(totals.valueCents(), 2))
+            .build();
+    }
+
+    @Override
+    public List<GroupValueDto> getValueByCategory(StockStatus status) {
+        return groupValues(ColumnarInventory.Dimension.CATEGORY, status);
+    }
+
+    @Override
+    public List<GroupValueDto> getValueBySupplier(StockStatus status) {
+        return groupValues(ColumnarInventory.Dimension.SUPPLIER, status);
+    }
+
+    @Override
+    public ColumnarStatsDto getStats() {
+        ColumnarInventory current = inventory;
+        if (current == null) {
+            return ColumnarStatsDto.builder().ready(false).pendingRefresh(dirtyItemIds.size()).build();
+        }
+        int items = current.size();
+        long memory = current.memoryBytes();
+        return ColumnarStatsDto.builder()
+            .ready(true)
+            .items(items)
+            .memoryBytes(memory)
+            .bytesPerMillionItems(ColumnarInventory.estimatedBytes(1_000_000))
+            .pendingRefresh(dirtyItemIds.size())
+            .loadedAt(loadedAt)
+            .loadMs(loadMs)
+            .lastScanMicros(lastScanMicros)
+            .build();
+    }
+
+    private List<GroupValueDto> groupValues(ColumnarInventory.Dimension dimension, StockStatus status) {
+        ColumnarInventory current = current();
+        long started = System.nanoTime();
+        ColumnarInventory.GroupTotals totals = current.groupBy(dimension, status);
+        lastScanMicros = (System.nanoTime() - started) / 1000;
+
+        Map<Long, String> names = names(dimension, totals.groupIds());
+        List<GroupValueDto> groups = new ArrayList<>(totals.groupIds().length);
+        for (int i = 0; i < totals.groupIds().length; i++) {
+            groups.add(GroupValueDto.builder()
+                .id(totals.groupIds()[i])
+                .name(names.get(totals.groupIds()[i]))
+                .itemCount(totals.items()[i])
+                .units(totals.units()[i])
+                .stockValue(BigDecimal.valueOf(totals.valueCents()[i], 2))
+                .build());
+        }
+        groups.sort(Comparator.comparing(GroupValueDto::getStockValue).reversed());
+        return groups;
+    }
+
+    private ColumnarInventory current() {
+        ColumnarInventory current = inventory;
+        if (current == null) {
+            throw new IllegalStateException("Columnar snapshot is not loaded yet");
+        }
+        refreshDirty();
+        return inventory;
+    }
+
+    private void refreshDirty() {
+        if (dirtyItemIds.isEmpty() || inventory == null) {
+            return;
+        }
+        synchronized (refreshLock) {
+            List<Long> drained = new ArrayList<>();
+            for (Iterator<Long> it = dirtyItemIds.iterator(); it.hasNext(); ) {
+                drained.add(it.next());
+                it.remove();
+            }
+            ColumnarInventory current = inventory;
+            for (int from = 0; from < drained.size(); from += CHUNK_SIZE) {
+                List<Long> chunk = drained.subList(from, Math.min(drained.size(), from + CHUNK_SIZE));
+                try {
+                    List<ColumnarInventory.ItemRow> rows = namedJdbcTemplate.query(
+                        ROW_COLUMNS + "WHERE id IN (:ids) AND deleted_at IS NULL",
+                        new MapSqlParameterSource("ids", chunk), (rs, rowNum) -> toRow(rs));
+                    current.upsertAll(rows);
+                    Set<Long> live = new HashSet<>(rows.size() * 2);
+                    rows.forEach(row -> live.add(row.id()));
+                    for (Long id : chunk) {
+                        if (!live.contains(id)) {
+                            current.remove(id);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    dirtyItemIds.addAll(chunk);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private Map<Long, String> names(ColumnarInventory.Dimension dimension, long[] ids) {
+        boolean category = dimension == ColumnarInventory.Dimension.CATEGORY;
+        Names cached = category ? categoryNames : supplierNames;
+        boolean complete = Arrays.stream(ids).allMatch(cached.byId()::containsKey);
+        if (!complete || System.currentTimeMillis() - cached.loadedAtMillis() > NAME_CACHE_TTL_MS) {
+            Map<Long, String> byId = new HashMap<>();
+            jdbcTemplate.query("SELECT id, name FROM " + (category ? "categories" : "suppliers"),
+                (RowCallbackHandler) rs -> byId.put(rs.getLong("id"), rs.getString("name")));
+            cached = new Names(byId, System.currentTimeMillis());
+            if (category) {
+                categoryNames = cached;
+            } else {
+                supplierNames = cached;
+            }
+        }
+        return cached.byId();
+    }
+
+    private static ColumnarInventory.ItemRow toRow(ResultSet rs) throws SQLException {
+        return new ColumnarInventory.ItemRow(
+            rs.getLong("id"),
+            rs.getInt("quantity"),
+            rs.getObject("min_stock_level", Integer.class),
+            rs.getObject("max_stock_level", Integer.class),
+            rs.getBigDecimal("price").movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact(),
+            rs.getLong("category_id"),
+            rs.getLong("supplier_id"));
+    }
+
+    private record Names(Map<Long, String> byId, long loadedAtMillis) {
+        private static final Names EMPTY = new Names(Map.of(), 0);
+    }
+}
@@ -0,0 +1,72 @@
+package com.backend.inventory_management.features.inventory.columnar;
+
+import com.backend.inventory_management.core.Response;
+import com.backend.inventory_management.features.inventory.StockStatus;
+import com.backend.inventory_management.features.inventory.dtos.ColumnarStatsDto;
+import com.backend.inventory_management.features.inventory.dtos.GroupValueDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/inventory/analytics")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class InventoryAnalyticsController {
+    
+    private final ColumnarInventoryService columnarInventoryService;
+    
+    @GetMapping("/value-by-category")
+    public ResponseEntity<Response<List<GroupValueDto>>> getValueByCategory(
+            @RequestParam(required = false) StockStatus status) {
+        try {
+            return ResponseEntity.ok(Response.success(columnarInventoryService.getValueByCategory(status)));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to aggregate stock value by category", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to aggregate stock value by category"));
+        }
+    }
+    
+    @GetMapping("/value-by-supplier")
+    public ResponseEntity<Response<List<GroupValueDto>>> getValueBySupplier(
+            @RequestParam(required = false) StockStatus status) {
+        try {
+            return ResponseEntity.ok(Response.success(columnarInventoryService.getValueBySupplier(status)));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to aggregate stock value by supplier", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to aggregate stock value by supplier"));
+        }
+    }
+    
+    @GetMapping("/columnar-stats")
+    public ResponseEntity<Response<ColumnarStatsDto>> getColumnarStats() {
+        return ResponseEntity.ok(Response.success(columnarInventoryService.getStats()));
+    }
+    
+    @PostMapping("/columnar/reload")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Response<ColumnarStatsDto>> reload() {
+        try {
+            columnarInventoryService.reload();
+            return ResponseEntity.ok(Response.success(columnarInventoryService.getStats(), "Columnar snapshot reloaded"));
+        } catch (Exception e) {
+            log.error("Failed to reload columnar snapshot", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to reload columnar snapshot"));
+        }
+    }
+}
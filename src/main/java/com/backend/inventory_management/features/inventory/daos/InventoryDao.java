@@ -1,8 +1,14 @@
 package com.backend.inventory_management.features.inventory.daos;
 
+import com.backend.inventory_management.features.inventory.AbcClass;
 import com.backend.inventory_management.features.inventory.InventoryItem;
 import com.backend.inventory_management.features.inventory.StockStatus;
+import com.backend.inventory_management.features.inventory.category.Category;
+import com.backend.inventory_management.features.inventory.category.CategoryClosure;
+import com.backend.inventory_management.features.inventory.dtos.InventoryFilterDto;
+import com.backend.inventory_management.features.inventory.supplier.Supplier;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.*;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +17,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -21,61 +28,57 @@ public class InventoryDao {
     private final EntityManager entityManager;
     
     public Page<InventoryItem> findItemsWithAdvancedFilters(
-            String searchTerm, String category, String supplier,
-            StockStatus status, Double minPrice, Double maxPrice,
+            String searchTerm, String category, Long categoryId, String supplier,
+            StockStatus status, AbcClass abcClass, Double minPrice, Double maxPrice,
             Pageable pageable) {
         
-        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<InventoryItem> query = cb.createQuery(InventoryItem.class);
-        Root<InventoryItem> root = query.from(InventoryItem.class);
+        InventoryFilterDto filter = InventoryFilterDto.builder()
+            .searchTerm(searchTerm)
+            .category(category)
+            .categoryId(categoryId)
+            .supplier(supplier)
+            .status(status)
+            .abcClass(abcClass)
+            .minPrice(minPrice)
+            .maxPrice(maxPrice)
+            .build();
         
-        List<Predicate> predicates = new ArrayList<>();
+        List<InventoryItem> items = findItems(filter, pageable);
         
-        // Search term filter
-        if (searchTerm != null && !searchTerm.trim().isEmpty()) {
-            String searchPattern = "%" + searchTerm.toLowerCase() + "%";
-            Predicate namePredicate = cb.like(cb.lower(root.get("name")), searchPattern);
-            Predicate categoryPredicate = cb.like(cb.lower(root.get("category")), searchPattern);
-            Predicate supplierPredicate = cb.like(cb.lower(root.get("supplier")), searchPattern);
-            predicates.add(cb.or(namePredicate, categoryPredicate, supplierPredicate));
-        }
-        
-        // Category filter
-        if (category != null && !category.trim().isEmpty()) {
-            predicates.add(cb.equal(root.get("category"), category));
-        }
-        
-        // Supplier filter
-        if (supplier != null && !supplier.trim().isEmpty()) {
-            predicates.add(cb.equal(root.get("supplier"), supplier));
-        }
-        
-        // Status filter
-        if (status != null) {
-            predicates.add(cb.equal(root.get("status"), status));
-        }
+        // Count query for pagination; predicates are bound to a root, so they are rebuilt for the count root
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<InventoryItem> countRoot = countQuery.from(InventoryItem.class);
+        countQuery.select(cb.count(countRoot));
+        countQuery.where(buildPredicates(cb, countQuery, countRoot, filter, true));
         
-        // Price range filters
-        if (minPrice != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get("price"), minPrice));
-        }
+        Long total = entityManager.createQuery(countQuery).getSingleResult();
         
-        if (maxPrice != null) {
-            predicates.add(cb.lessThanOrEqualTo(root.get("price"), maxPrice));
-        }
+        return new PageImpl<>(items, pageable, total);
+    }
+    
+    // One page of matching items with category and supplier fetched, without a count query
+    public List<InventoryItem> findItems(InventoryFilterDto filter, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<InventoryItem> query = cb.createQuery(InventoryItem.class);
+        Root<InventoryItem> root = query.from(InventoryItem.class);
+        root.fetch("category");
+        root.fetch("supplier");
         
-        query.where(predicates.toArray(new Predicate[0]));
+        query.where(buildPredicates(cb, query, root, filter, true));
         
         // Apply sorting
         if (pageable.getSort().isSorted()) {
             List<Order> orders = new ArrayList<>();
             pageable.getSort().forEach(sortOrder -> {
+                Path<Object> property = path(root, sortOrder.getProperty());
                 if (sortOrder.isAscending()) {
-                    orders.add(cb.asc(root.get(sortOrder.getProperty())));
+                    orders.add(cb.asc(property));
                 } else {
-                    orders.add(cb.desc(root.get(sortOrder.getProperty())));
+                    orders.add(cb.desc(property));
                 }
             });
+            orders.add(cb.asc(root.get("id")));
             query.orderBy(orders);
         }
         
@@ -83,16 +86,137 @@ public class InventoryDao {
         typedQuery.setFirstResult((int) pageable.getOffset());
         typedQuery.setMaxResults(pageable.getPageSize());
         
-        List<InventoryItem> items = typedQuery.getResultList();
+        return typedQuery.getResultList();
+    }
+    
+    /**
+     * Counts matching items per (category, supplier, status) combination in a single grouped pass,
+     * with one conditional count per price bucket. The category, supplier and status selections
+     * of the filter are deliberately not applied, so each facet can be counted against the other
+     * facets' selections in memory.
+     */
+    public List<FacetTuple> aggregateFacets(InventoryFilterDto filter, List<BigDecimal> priceBucketBounds) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<InventoryItem> root = query.from(InventoryItem.class);
+        Join<InventoryItem, Category> category = root.join("category");
+        Join<InventoryItem, Supplier> supplier = root.join("supplier");
+        Path<BigDecimal> price = root.get("price");
         
-        // Count query for pagination
-        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
-        Root<InventoryItem> countRoot = countQuery.from(InventoryItem.class);
-        countQuery.select(cb.count(countRoot));
-        countQuery.where(predicates.toArray(new Predicate[0]));
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(category.get("id"));
+        selections.add(category.get("name"));
+        selections.add(supplier.get("id"));
+        selections.add(supplier.get("name"));
+        selections.add(root.get("status"));
+        selections.add(cb.count(root));
+        for (int bucket = 0; bucket <= priceBucketBounds.size(); bucket++) {
+            // COUNT skips the NULL produced for items outside the bucket
+            List<Predicate> inBucket = new ArrayList<>(2);
+            if (bucket > 0) {
+                inBucket.add(cb.greaterThanOrEqualTo(price, priceBucketBounds.get(bucket - 1)));
+            }
+            if (bucket < priceBucketBounds.size()) {
+                inBucket.add(cb.lessThan(price, priceBucketBounds.get(bucket)));
+            }
+            Expression<Long> itemId = root.get("id");
+            selections.add(cb.count(cb.<Long>selectCase()
+                .when(cb.and(inBucket.toArray(new Predicate[0])), itemId)));
+        }
         
-        Long total = entityManager.createQuery(countQuery).getSingleResult();
+        query.multiselect(selections)
+            .where(buildPredicates(cb, query, root, filter, false))
+            .groupBy(category.get("id"), category.get("name"), supplier.get("id"), supplier.get("name"),
+                root.get("status"));
         
-        return new PageImpl<>(items, pageable, total);
+        List<FacetTuple> tuples = new ArrayList<>();
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            long[] bucketCounts = new long[priceBucketBounds.size() + 1];
+            for (int bucket = 0; bucket < bucketCounts.length; bucket++) {
+                bucketCounts[bucket] = row.get(6 + bucket, Long.class);
+            }
+            tuples.add(new FacetTuple(
+                row.get(0, Long.class),
+                row.get(1, String.class),
+                row.get(2, Long.class),
+                row.get(3, String.class),
+                row.get(4, StockStatus.class),
+                row.get(5, Long.class),
+                bucketCounts));
+        }
+        return tuples;
+    }
+    
+    private Predicate[] buildPredicates(
+            CriteriaBuilder cb, CriteriaQuery<?> query, Root<InventoryItem> root,
+            InventoryFilterDto filter, boolean includeFacetSelections) {
+        
+        List<Predicate> predicates = new ArrayList<>();
+        
+        // Search term filter
+        String searchTerm = filter.getSearchTerm();
+        if (searchTerm != null && !searchTerm.trim().isEmpty()) {
+            String searchPattern = "%" + searchTerm.toLowerCase() + "%";
+            Predicate namePredicate = cb.like(cb.lower(root.get("name")), searchPattern);
+            Predicate categoryPredicate = cb.like(cb.lower(root.get("category").get("name")), searchPattern);
+            Predicate supplierPredicate = cb.like(cb.lower(root.get("supplier").get("name")), searchPattern);
+            Predicate skuPredicate = cb.equal(root.get("sku"), searchTerm.trim());
+            predicates.add(cb.or(namePredicate, categoryPredicate, supplierPredicate, skuPredicate));
+        }
+        
+        // Category subtree filter: one indexed probe of the closure table
+        if (filter.getCategoryId() != null) {
+            Subquery<Long> subtree = query.subquery(Long.class);
+            Root<CategoryClosure> closure = subtree.from(CategoryClosure.class);
+            subtree.select(closure.get("descendantId"))
+                .where(cb.equal(closure.get("ancestorId"), filter.getCategoryId()));
+            predicates.add(root.get("category").get("id").in(subtree));
+        }
+        
+        if (includeFacetSelections) {
+            // Category filter
+            if (filter.getCategory() != null && !filter.getCategory().trim().isEmpty()) {
+                predicates.add(cb.equal(root.get("category").get("name"), filter.getCategory()));
+            }
+            
+            // Supplier filter
+            if (filter.getSupplier() != null && !filter.getSupplier().trim().isEmpty()) {
+                predicates.add(cb.equal(root.get("supplier").get("name"), filter.getSupplier()));
+            }
+            
+            // Status filter
+            if (filter.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.getStatus()));
+            }
+        }
+        
+        // ABC class filter
+        if (filter.getAbcClass() != null) {
+            predicates.add(cb.equal(root.get("abcClass"), filter.getAbcClass()));
+        }
+        
+        // Price range filters
+        if (filter.getMinPrice() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("price"), BigDecimal.valueOf(filter.getMinPrice())));
+        }
+        
+        if (filter.getMaxPrice() != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get("price"), BigDecimal.valueOf(filter.getMaxPrice())));
+        }
+        
+        return predicates.toArray(new Predicate[0]);
+    }
+    
+    // Resolves dotted sort properties such as "category.name"
+    private static Path<Object> path(Root<InventoryItem> root, String property) {
+        Path<Object> path = null;
+        for (String part : property.split("\\.")) {
+            path = path == null ? root.get(part) : path.get(part);
+        }
+        return path;
+    }
+    
+    public record FacetTuple(Long categoryId, String categoryName, Long supplierId, String supplierName,
+                             StockStatus status, long count, long[] priceBucketCounts) {
     }
 }
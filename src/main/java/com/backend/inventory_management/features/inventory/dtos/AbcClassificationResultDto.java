@@ -0,0 +1,28 @@
+package com.backend.inventory_management.features.inventory.dtos;
+
+import com.backend.inventory_management.features.inventory.abc.AbcBasis;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AbcClassificationResultDto {
+    private AbcBasis basis;
+    private Integer itemCount;
+    private Integer aCount;
+    private Integer bCount;
+    private Integer cCount;
+    private BigDecimal aThreshold;
+    private BigDecimal bThreshold;
+    private BigDecimal totalValue;
+    private Integer updatedRows;
+    private Long elapsedMs;
+    private LocalDateTime computedAt;
+}
@@ -0,0 +1,16 @@
+package com.backend.inventory_management.features.inventory.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveRunResultDto {
+    private Integer archivedItems;
+    private Integer batches;
+    private Long elapsedMs;
+}
@@ -0,0 +1,26 @@
+package com.backend.inventory_management.features.inventory.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedItemDto {
+    private Long id;
+    private String name;
+    private String sku;
+    private String barcode;
+    private Integer quantity;
+    private BigDecimal price;
+    private LocalDateTime deletedAt;
+    private String deletedBy;
+    // Null while the item is only soft-deleted in the hot table
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,21 @@
+package com.backend.inventory_management.features.inventory.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BarcodeLookupDto {
+    private String scannedCode;
+    private Long itemId;
+    private String barcode;
+    private String sku;
+    private String name;
+    private BigDecimal price;
+}
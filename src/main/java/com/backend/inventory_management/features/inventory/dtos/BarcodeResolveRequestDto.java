@@ -0,0 +1,21 @@
+package com.backend.inventory_management.features.inventory.dtos;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BarcodeResolveRequestDto {
+    
+    @NotEmpty(message = "At least one barcode is required")
+    @Size(max = 500, message = "A basket cannot exceed 500 barcodes")
+    private List<String> barcodes;
+}
@@ -0,0 +1,18 @@
+package com.backend.inventory_management.features.inventory.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BarcodeResolveResultDto {
+    // One entry per resolved scan, in scan order; repeated scans repeat the item
+    private List<BarcodeLookupDto> items;
+    private List<String> unknown;
+}
@@ -0,0 +1,28 @@
+package com.backend.inventory_management.features.inventory.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogSnapshotStatusDto {
+    private Boolean enabled;
+    private String path;
+    private List<String> sections;
+    private String startupMode;
+    private String fallbackReason;
+    private Long startupMs;
+    private Long restoredWatermark;
+    private Integer deltaItems;
+    private LocalDateTime lastWrittenAt;
+    private Long lastWriteWatermark;
+    private Long lastWriteBytes;
+    private Long lastWriteMs;
+}
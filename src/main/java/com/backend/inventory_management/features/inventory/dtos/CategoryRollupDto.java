@@ -0,0 +1,21 @@
+package com.backend.inventory_management.features.inventory.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryRollupDto {
+    private Long categoryId;
+    private String name;
+    private Long parentId;
+    private long itemCount;
+    private long totalQuantity;
+    private BigDecimal stockValue;
+}
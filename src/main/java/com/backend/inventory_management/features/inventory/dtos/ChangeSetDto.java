@@ -0,0 +1,21 @@
+package com.backend.inventory_management.features.inventory.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeSetDto {
+    private Long since;
+    // Pass back as "since" on the next call
+    private Long token;
+    private Boolean hasMore;
+    private List<SyncItemDto> items;
+    private List<Long> deletedItemIds;
+}
@@ -0,0 +1,23 @@
+package com.backend.inventory_management.features.inventory.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColumnarStatsDto {
+    private Boolean ready;
+    private Integer items;
+    private Long memoryBytes;
+    private Long bytesPerMillionItems;
+    private Integer pendingRefresh;
+    private LocalDateTime loadedAt;
+    private Long loadMs;
+    private Long lastScanMicros;
+}
@@ -0,0 +1,24 @@
+package com.backend.inventory_management.features.inventory.dtos;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateCategoryDto {
+    
+    @NotBlank(message = "Category name is required")
+    @Size(max = 50, message = "Category cannot exceed 50 characters")
+    private String name;
+    
+    @Size(max = 255, message = "Description cannot exceed 255 characters")
+    private String description;
+    
+    private Long parentId;
+}
@@ -18,6 +18,12 @@ public class CreateInventoryItemDto {
     @Size(max = 100, message = "Name cannot exceed 100 characters")
     private String name;
     
+    @Size(max = 64, message = "SKU cannot exceed 64 characters")
+    private String sku;
+    
+    @Pattern(regexp = "\\d{8,14}", message = "Barcode must be an 8 to 14 digit GTIN")
+    private String barcode;
+    
     @NotBlank(message = "Category is required")
     @Size(max = 50, message = "Category cannot exceed 50 characters")
     private String category;
@@ -0,0 +1,20 @@
+package com.backend.inventory_management.features.inventory.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupValueDto {
+    private Long id;
+    private String name;
+    private Integer itemCount;
+    private Long units;
+    private BigDecimal stockValue;
+}
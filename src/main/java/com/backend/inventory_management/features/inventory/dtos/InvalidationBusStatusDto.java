@@ -0,0 +1,26 @@
+package com.backend.inventory_management.features.inventory.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvalidationBusStatusDto {
+    private Boolean enabled;
+    private String channel;
+    private String nodeId;
+    private Boolean listening;
+    private Long messagesPublished;
+    private Long messagesReceived;
+    private Long itemsRefreshed;
+    private Integer pendingItems;
+    private Long resyncs;
+    private String lastResyncReason;
+    private LocalDateTime lastResyncAt;
+}
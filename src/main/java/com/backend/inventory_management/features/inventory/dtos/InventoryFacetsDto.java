@@ -0,0 +1,19 @@
+package com.backend.inventory_management.features.inventory.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryFacetsDto {
+    private List<FacetCountDto> categories;
+    private List<FacetCountDto> suppliers;
+    private List<FacetCountDto> statuses;
+    private List<PriceBucketCountDto> priceBuckets;
+}
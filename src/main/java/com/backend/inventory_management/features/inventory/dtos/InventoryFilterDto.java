@@ -1,5 +1,6 @@
 package com.backend.inventory_management.features.inventory.dtos;
 
+import com.backend.inventory_management.features.inventory.AbcClass;
 import com.backend.inventory_management.features.inventory.StockStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,8 +14,13 @@ import lombok.NoArgsConstructor;
 public class InventoryFilterDto {
     private String searchTerm;
     private String category;
+    // Subtree root: matches items in this category and all of its descendants
+    private Long categoryId;
     private String supplier;
     private StockStatus status;
+    private AbcClass abcClass;
+    private Double minPrice;
+    private Double maxPrice;
     private Integer page = 0;
     private Integer size = 20;
     private String sortBy = "name";
@@ -1,6 +1,7 @@
 // InventoryItemDto.java
 package com.backend.inventory_management.features.inventory.dtos;
 
+import com.backend.inventory_management.features.inventory.AbcClass;
 import com.backend.inventory_management.features.inventory.StockStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,13 +18,18 @@ import java.time.LocalDateTime;
 public class InventoryItemDto {
     private Long id;
     private String name;
+    private String sku;
+    private String barcode;
+    private Long categoryId;
     private String category;
     private Integer quantity;
     private BigDecimal price;
+    private Long supplierId;
     private String supplier;
     private Integer minStockLevel;
     private Integer maxStockLevel;
     private StockStatus status;
+    private AbcClass abcClass;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private String createdBy;
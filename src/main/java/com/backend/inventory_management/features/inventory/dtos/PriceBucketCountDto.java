@@ -0,0 +1,20 @@
+package com.backend.inventory_management.features.inventory.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceBucketCountDto {
+    // Inclusive lower bound, null for the first bucket
+    private BigDecimal from;
+    // Exclusive upper bound, null for the last bucket
+    private BigDecimal to;
+    private long count;
+}
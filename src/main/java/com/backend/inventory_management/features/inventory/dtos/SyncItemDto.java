@@ -0,0 +1,30 @@
+package com.backend.inventory_management.features.inventory.dtos;
+
+import com.backend.inventory_management.features.inventory.StockStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncItemDto {
+    private Long id;
+    private String sku;
+    private String barcode;
+    private String name;
+    private Long categoryId;
+    private String category;
+    private Long supplierId;
+    private String supplier;
+    private Integer quantity;
+    private BigDecimal price;
+    private Integer minStockLevel;
+    private Integer maxStockLevel;
+    private StockStatus status;
+    private Long changeSeq;
+}
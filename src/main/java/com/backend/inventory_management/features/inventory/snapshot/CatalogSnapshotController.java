@@ -0,0 +1,41 @@
+package com.backend.inventory_management.features.inventory.snapshot;
+
+import com.backend.inventory_management.core.Response;
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.features.inventory.dtos.CatalogSnapshotStatusDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/inventory/catalog-snapshot")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class CatalogSnapshotController {
+    
+    private final CatalogSnapshotService catalogSnapshotService;
+    
+    @GetMapping
+    public ResponseEntity<Response<CatalogSnapshotStatusDto>> getStatus() {
+        return ResponseEntity.ok(Response.success(catalogSnapshotService.getStatus()));
+    }
+    
+    @PostMapping("/write")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Response<CatalogSnapshotStatusDto>> write() {
+        try {
+            return ResponseEntity.ok(Response.success(catalogSnapshotService.write(), "Catalog snapshot written"));
+        } catch (InvalidOperationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to write catalog snapshot", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to write catalog snapshot"));
+        }
+    }
+}
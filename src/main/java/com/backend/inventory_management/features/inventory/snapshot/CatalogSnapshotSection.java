@@ -0,0 +1,26 @@
+package com.backend.inventory_management.features.inventory.snapshot;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * An in-memory catalog structure that can be saved to and restored from the catalog snapshot
+ * file. Bump {@link #getFormatVersion()} whenever {@link #writeTo} changes; a snapshot written
+ * with any other version is ignored and the section is loaded from the database instead.
+ */
+public interface CatalogSnapshotSection {
+
+    String getSectionName();
+
+    int getFormatVersion();
+
+    void writeTo(SnapshotWriter writer) throws IOException;
+
+    // Replaces the in-memory state with what was written; it is then brought up to date via refreshItems
+    void restoreFrom(SnapshotReader reader);
+
+    void loadFromDatabase();
+
+    // Re-reads the given items; ids of deleted items are removed
+    void refreshItems(Collection<Long> itemIds);
+}
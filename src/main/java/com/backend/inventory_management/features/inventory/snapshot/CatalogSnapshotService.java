@@ -0,0 +1,9 @@
+package com.backend.inventory_management.features.inventory.snapshot;
+
+import com.backend.inventory_management.features.inventory.dtos.CatalogSnapshotStatusDto;
+
+public interface CatalogSnapshotService {
+    CatalogSnapshotStatusDto getStatus();
+    CatalogSnapshotStatusDto write();
+    boolean isWarmedUp();
+}
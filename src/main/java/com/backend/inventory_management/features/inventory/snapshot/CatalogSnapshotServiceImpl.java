@@ -0,0 +1,300 @@
+package com.backend.inventory_management.features.inventory.snapshot;
+
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.features.inventory.dtos.CatalogSnapshotStatusDto;
+import com.backend.inventory_management.features.inventory.sync.ChangeSequence;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32C;
+
+/**
+ * Saves the in-memory catalog structures to one file and restores them at startup, so a restart
+ * re-reads only the items changed since the file was written instead of the whole table.
+ * <p>
+ * The file records the change sequence watermark it was taken at. Every change at or below the
+ * watermark has committed on some node, and just before writing the sections re-read every item
+ * changed since the previous write, so they hold it even when the invalidation bus has not brought
+ * it to this node yet. Anything above the watermark is re-read on restore through
+ * {@link CatalogSnapshotSection#refreshItems}, using the item change sequence and the tombstones of
+ * the sync feed. A file that is damaged, written by another format or section version, taken from
+ * another database, or older than the last tombstone purge is ignored and every section is loaded
+ * from the database as before.
+ */
+@Slf4j
+@Service
+public class CatalogSnapshotServiceImpl implements CatalogSnapshotService, DisposableBean {
+
+    private static final long MAGIC = 0x494E56534E415031L; // "INVSNAP1"
+    private static final int FILE_FORMAT = 1;
+    private static final String MODE_SNAPSHOT = "SNAPSHOT";
+    private static final String MODE_DATABASE = "DATABASE";
+
+    // Deleted items are included on purpose: refreshItems drops whatever is no longer live
+    private static final String CHANGED_ITEMS_SQL =
+        "SELECT id FROM inventory_items WHERE change_seq > ? " +
+        "UNION SELECT item_id FROM inventory_tombstones WHERE change_seq > ?";
+
+    private final List<CatalogSnapshotSection> sections;
+    private final ChangeSequence changeSequence;
+    private final JdbcTemplate jdbcTemplate;
+    private final Path path;
+    private final boolean enabled;
+    private final String databaseUrl;
+    private final AtomicBoolean writing = new AtomicBoolean();
+
+    private volatile boolean warmedUp;
+    private volatile String startupMode;
+    private volatile String fallbackReason;
+    private volatile Long startupMs;
+    private volatile Long restoredWatermark;
+    // Every change at or below this is already in the sections
+    private volatile long syncedThrough;
+    private volatile Integer deltaItems;
+    private volatile LocalDateTime lastWrittenAt;
+    private volatile Long lastWriteWatermark;
+    private volatile Long lastWriteBytes;
+    private volatile Long lastWriteMs;
+
+    public CatalogSnapshotServiceImpl(List<CatalogSnapshotSection> sections,
+                                      ChangeSequence changeSequence,
+                                      JdbcTemplate jdbcTemplate,
+                                      @Value("${app.catalog-snapshot.path:data/catalog-snapshot.bin}") String path,
+                                      @Value("${app.catalog-snapshot.enabled:true}") boolean enabled,
+                                      @Value("${spring.datasource.url:}") String databaseUrl) {
+        this.sections = new ArrayList<>(sections);
+        this.sections.sort(Comparator.comparing(CatalogSnapshotSection::getSectionName));
+        this.changeSequence = changeSequence;
+        this.jdbcTemplate = jdbcTemplate;
+        this.path = Path.of(path).toAbsolutePath();
+        this.enabled = enabled;
+        this.databaseUrl = databaseUrl;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long started = System.currentTimeMillis();
+        String mode = MODE_DATABASE;
+        if (enabled) {
+            try {
+                restore();
+                mode = MODE_SNAPSHOT;
+            } catch (NoSuchFileException e) {
+                fallbackReason = "No snapshot file";
+            } catch (Exception e) {
+                fallbackReason = e.getMessage();
+                log.warn("Ignoring catalog snapshot {}: {}", path, e.getMessage());
+            }
+        }
+        if (MODE_DATABASE.equals(mode)) {
+            restoredWatermark = null;
+            deltaItems = null;
+            syncedThrough = changeSequence.watermark();
+            sections.forEach(CatalogSnapshotSection::loadFromDatabase);
+        }
+
+        startupMode = mode;
+        startupMs = System.currentTimeMillis() - started;
+        warmedUp = true;
+        log.info("Catalog warmed up from {} in {} ms", mode.toLowerCase(), startupMs);
+    }
+
+    @Scheduled(fixedDelayString = "${app.catalog-snapshot.write-interval-ms:600000}",
+        initialDelayString = "${app.catalog-snapshot.write-interval-ms:600000}")
+    public void scheduledWrite() {
+        // Nothing to save if no change has committed since the last write
+        if (!enabled || !warmedUp || Objects.equals(lastWriteWatermark, changeSequence.watermark())) {
+            return;
+        }
+        try {
+            write();
+        } catch (Exception e) {
+            log.error("Scheduled catalog snapshot write failed", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (!enabled || !warmedUp) {
+            return;
+        }
+        try {
+            write();
+        } catch (Exception e) {
+            log.error("Failed to write catalog snapshot on shutdown", e);
+        }
+    }
+
+    @Override
+    public CatalogSnapshotStatusDto write() {
+        if (!enabled) {
+            throw new InvalidOperationException("Catalog snapshot is disabled");
+        }
+        if (!warmedUp) {
+            throw new InvalidOperationException("Catalog is still warming up");
+        }
+        if (!writing.compareAndSet(false, true)) {
+            throw new InvalidOperationException("Catalog snapshot is already being written");
+        }
+        try {
+            writeFile();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write catalog snapshot " + path, e);
+        } finally {
+            writing.set(false);
+        }
+        return getStatus();
+    }
+
+    @Override
+    public boolean isWarmedUp() {
+        return warmedUp;
+    }
+
+    @Override
+    public CatalogSnapshotStatusDto getStatus() {
+        return CatalogSnapshotStatusDto.builder()
+            .enabled(enabled)
+            .path(path.toString())
+            .sections(sections.stream().map(section -> section.getSectionName() + " v" + section.getFormatVersion()).toList())
+            .startupMode(startupMode)
+            .fallbackReason(MODE_SNAPSHOT.equals(startupMode) ? null : fallbackReason)
+            .startupMs(startupMs)
+            .restoredWatermark(restoredWatermark)
+            .deltaItems(deltaItems)
+            .lastWrittenAt(lastWrittenAt)
+            .lastWriteWatermark(lastWriteWatermark)
+            .lastWriteBytes(lastWriteBytes)
+            .lastWriteMs(lastWriteMs)
+            .build();
+    }
+
+    private void writeFile() throws IOException {
+        long started = System.currentTimeMillis();
+        // Taken before the sections catch up, so they hold at least everything up to it
+        long watermark = changeSequence.watermark();
+        List<Long> changed = jdbcTemplate.queryForList(CHANGED_ITEMS_SQL, Long.class, syncedThrough, syncedThrough);
+        if (!changed.isEmpty()) {
+            for (CatalogSnapshotSection section : sections) {
+                section.refreshItems(changed);
+            }
+        }
+        syncedThrough = watermark;
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        long bytes;
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            SnapshotWriter writer = new SnapshotWriter(channel);
+            writer.writeLong(MAGIC);
+            writer.writeInt(FILE_FORMAT);
+            writer.writeLong(watermark);
+            writer.writeLong(System.currentTimeMillis());
+            writer.writeString(databaseUrl);
+            writer.writeInt(sections.size());
+            for (CatalogSnapshotSection section : sections) {
+                writer.writeString(section.getSectionName());
+                writer.writeInt(section.getFormatVersion());
+            }
+            for (CatalogSnapshotSection section : sections) {
+                section.writeTo(writer);
+            }
+            writer.writeLong(writer.checksum());
+            writer.flush();
+            channel.force(false);
+            bytes = writer.bytesWritten();
+        }
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        lastWrittenAt = LocalDateTime.now();
+        lastWriteWatermark = watermark;
+        lastWriteBytes = bytes;
+        lastWriteMs = System.currentTimeMillis() - started;
+        log.info("Wrote catalog snapshot at change {} ({} KB) in {} ms", watermark, bytes / 1024, lastWriteMs);
+    }
+
+    private void restore() throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < Long.BYTES * 2 || size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Unexpected snapshot size of " + size + " bytes");
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int bodyBytes = (int) size - Long.BYTES;
+            ByteBuffer body = mapped.slice(0, bodyBytes);
+            CRC32C checksum = new CRC32C();
+            checksum.update(body.duplicate());
+            if (checksum.getValue() != mapped.getLong(bodyBytes)) {
+                throw new IllegalStateException("Snapshot checksum mismatch");
+            }
+
+            SnapshotReader reader = new SnapshotReader(body);
+            if (reader.readLong() != MAGIC || reader.readInt() != FILE_FORMAT) {
+                throw new IllegalStateException("Unrecognised snapshot format");
+            }
+            long watermark = reader.readLong();
+            reader.readLong();
+            if (!Objects.equals(reader.readString(), databaseUrl)) {
+                throw new IllegalStateException("Snapshot was written for another database");
+            }
+            int sectionCount = reader.readInt();
+            List<String> written = new ArrayList<>(sectionCount);
+            for (int i = 0; i < sectionCount; i++) {
+                written.add(reader.readString() + " v" + reader.readInt());
+            }
+            if (!written.equals(getStatus().getSections())) {
+                throw new IllegalStateException("Snapshot holds sections " + written);
+            }
+            validateWatermark(watermark);
+
+            for (CatalogSnapshotSection section : sections) {
+                section.restoreFrom(reader);
+            }
+            List<Long> changed = jdbcTemplate.queryForList(CHANGED_ITEMS_SQL, Long.class, watermark, watermark);
+            for (CatalogSnapshotSection section : sections) {
+                section.refreshItems(changed);
+            }
+            restoredWatermark = watermark;
+            syncedThrough = watermark;
+            deltaItems = changed.size();
+            log.info("Restored catalog snapshot taken at change {}; re-read {} changed items", watermark, changed.size());
+        }
+    }
+
+    private void validateWatermark(long watermark) {
+        if (watermark > changeSequence.watermark()) {
+            throw new IllegalStateException("Snapshot is ahead of the database");
+        }
+        // Deletions older than the purge point no longer leave a tombstone to replay
+        Long purgedThrough = jdbcTemplate.queryForObject(
+            "SELECT tombstones_purged_through FROM inventory_sync_state WHERE id = 1", Long.class);
+        if (purgedThrough != null && watermark < purgedThrough) {
+            throw new IllegalStateException("Tombstones newer than the snapshot have been purged");
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.backend.inventory_management.features.inventory.snapshot;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// Reads what SnapshotWriter wrote, straight from the mapped file
+public final class SnapshotReader {
+
+    private final ByteBuffer buffer;
+
+    SnapshotReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public byte readByte() {
+        return buffer.get();
+    }
+
+    public int readInt() {
+        return buffer.getInt();
+    }
+
+    public long readLong() {
+        return buffer.getLong();
+    }
+
+    public String readString() {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public BigDecimal readDecimal() {
+        long unscaled = buffer.getLong();
+        return new BigDecimal(BigInteger.valueOf(unscaled), buffer.getInt());
+    }
+
+    public void readBytes(byte[] target, int length) {
+        buffer.get(target, 0, length);
+    }
+
+    public void readInts(int[] target, int length) {
+        buffer.asIntBuffer().get(target, 0, length);
+        buffer.position(buffer.position() + length * Integer.BYTES);
+    }
+
+    public void readLongs(long[] target, int length) {
+        buffer.asLongBuffer().get(target, 0, length);
+        buffer.position(buffer.position() + length * Long.BYTES);
+    }
+}
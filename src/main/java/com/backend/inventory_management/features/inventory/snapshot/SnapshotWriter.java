@@ -0,0 +1,114 @@
+package com.backend.inventory_management.features.inventory.snapshot;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+/**
+ * Buffered big-endian writer over a file channel. Primitive arrays are copied through bulk views of
+ * the buffer rather than element by element, and everything written feeds a running CRC32C that
+ * the snapshot file appends as its trailer.
+ */
+public final class SnapshotWriter {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CRC32C checksum = new CRC32C();
+    private long written;
+
+    SnapshotWriter(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    public void writeByte(byte value) throws IOException {
+        ensure(Byte.BYTES);
+        buffer.put(value);
+    }
+
+    public void writeInt(int value) throws IOException {
+        ensure(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    public void writeLong(long value) throws IOException {
+        ensure(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    public void writeString(String value) throws IOException {
+        if (value == null) {
+            writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length);
+        writeBytes(bytes, bytes.length);
+    }
+
+    public void writeDecimal(BigDecimal value) throws IOException {
+        writeLong(value.unscaledValue().longValueExact());
+        writeInt(value.scale());
+    }
+
+    public void writeBytes(byte[] values, int length) throws IOException {
+        for (int offset = 0; offset < length; ) {
+            ensure(1);
+            int count = Math.min(length - offset, buffer.remaining());
+            buffer.put(values, offset, count);
+            offset += count;
+        }
+    }
+
+    public void writeInts(int[] values, int length) throws IOException {
+        for (int offset = 0; offset < length; ) {
+            ensure(Integer.BYTES);
+            int count = Math.min(length - offset, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().put(values, offset, count);
+            buffer.position(buffer.position() + count * Integer.BYTES);
+            offset += count;
+        }
+    }
+
+    public void writeLongs(long[] values, int length) throws IOException {
+        for (int offset = 0; offset < length; ) {
+            ensure(Long.BYTES);
+            int count = Math.min(length - offset, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().put(values, offset, count);
+            buffer.position(buffer.position() + count * Long.BYTES);
+            offset += count;
+        }
+    }
+
+    long checksum() throws IOException {
+        drain();
+        return checksum.getValue();
+    }
+
+    long bytesWritten() {
+        return written + buffer.position();
+    }
+
+    void flush() throws IOException {
+        drain();
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        checksum.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -2,10 +2,7 @@ package com.backend.inventory_management.features.inventory.supplier;
 
 import com.backend.inventory_management.features.inventory.InventoryItem;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,7 +19,7 @@ public class Supplier {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
-    @Column(nullable = false)
+    @Column(nullable = false, unique = true)
     private String name;
     
     private String contactPerson;
@@ -30,6 +27,9 @@ public class Supplier {
     private String phone;
     private String address;
     
+    @Column(name = "lead_time_days")
+    private Integer leadTimeDays;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -37,6 +37,8 @@ public class Supplier {
     private LocalDateTime updatedAt;
     
     @OneToMany(mappedBy = "supplier", fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<InventoryItem> items;
     
     @PrePersist
@@ -1,12 +1,29 @@
 package com.backend.inventory_management.features.inventory.supplier;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
 public interface SupplierRepository extends JpaRepository<Supplier, Long> {
     Optional<Supplier> findByName(String name);
     boolean existsByName(String name);
-}
\ No newline at end of file
+    
+    @Query("SELECT s.name FROM Supplier s ORDER BY s.name")
+    List<String> findAllNames();
+    
+    default Map<Long, Integer> findLeadTimesById() {
+        Map<Long, Integer> leadTimes = new HashMap<>();
+        for (Supplier supplier : findAll()) {
+            if (supplier.getLeadTimeDays() != null) {
+                leadTimes.put(supplier.getId(), supplier.getLeadTimeDays());
+            }
+        }
+        return leadTimes;
+    }
+}
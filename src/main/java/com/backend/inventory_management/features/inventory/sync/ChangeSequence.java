@@ -0,0 +1,132 @@
+package com.backend.inventory_management.features.inventory.sync;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Hands out change sequence values and works out, across every node sharing the database, below
+ * which value all changes have committed. Sequence values are taken at write time but become
+ * visible at commit, possibly out of order, so a client that synced up to the highest visible
+ * value could skip a slower transaction holding a lower one.
+ * <p>
+ * Before its first value, each transaction draws a floor from the sequence and publishes it; its
+ * later values are all higher, so one floor per transaction is enough. On PostgreSQL the floor is a
+ * shared transaction-level advisory lock, visible to every session in pg_locks and released by the
+ * database when the transaction ends, however it ends. Other databases, such as H2 in development,
+ * use a row in inventory_change_leases written and removed in transactions of their own; a row left
+ * behind by a dead node stops counting once it expires, compared against each node's own clock.
+ * <p>
+ * {@link #watermark()} is the highest committed change, capped just below the oldest published
+ * floor. A change at or below the highest committed one was drawn before that commit, so its
+ * transaction had already published a floor under it when the watermark was read.
+ */
+@Component
+public class ChangeSequence {
+
+    private static final String HIGHEST_COMMITTED_SQL =
+        "SELECT GREATEST(COALESCE((SELECT MAX(change_seq) FROM inventory_items), 0), " +
+        "COALESCE((SELECT MAX(change_seq) FROM inventory_tombstones), 0))";
+
+    // A bigint advisory key is split over classid and objid, with objsubid 1; job locks use two-part keys
+    private static final String OLDEST_LOCKED_FLOOR_SQL =
+        "SELECT MIN((l.classid::bigint << 32) | l.objid::bigint) FROM pg_locks l " +
+        "WHERE l.locktype = 'advisory' AND l.objsubid = 1 " +
+        "AND l.database = (SELECT oid FROM pg_database WHERE datname = current_database())";
+
+    private static final String OLDEST_LEASED_FLOOR_SQL =
+        "SELECT MIN(floor_seq) FROM inventory_change_leases WHERE expires_at > ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+    private final boolean advisory;
+    private final long leaseMs;
+    private volatile TransactionTemplate leaseTransaction;
+
+    public ChangeSequence(JdbcTemplate jdbcTemplate,
+                          ObjectProvider<PlatformTransactionManager> transactionManager,
+                          @Value("${spring.datasource.url:}") String databaseUrl,
+                          @Value("${app.sync.change-lease-ms:600000}") long leaseMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Looked up on first use: the entity listener stamping items is built with the entity manager
+        // factory, before the transaction manager exists
+        this.transactionManager = transactionManager;
+        this.advisory = databaseUrl.startsWith("jdbc:postgresql:");
+        this.leaseMs = leaseMs;
+    }
+
+    public long next() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.hasResource(this)) {
+            long floor = nextValue();
+            if (advisory) {
+                jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock_shared(?)", Object.class, floor);
+            } else {
+                leaseTransaction().executeWithoutResult(status -> jdbcTemplate.update(
+                    "INSERT INTO inventory_change_leases (floor_seq, expires_at) VALUES (?, ?)", floor,
+                    Timestamp.valueOf(LocalDateTime.now().plusNanos(leaseMs * 1_000_000))));
+            }
+            TransactionSynchronizationManager.bindResource(this, floor);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ChangeSequence.this);
+                    if (!advisory) {
+                        leaseTransaction().executeWithoutResult(release -> jdbcTemplate.update(
+                            "DELETE FROM inventory_change_leases WHERE floor_seq = ?", floor));
+                    }
+                }
+            });
+        }
+        return nextValue();
+    }
+
+    /**
+     * Highest sequence value below which every change, on any node, has committed or rolled back.
+     * Read in one statement, so the floors are read after the committed values they are checked against.
+     */
+    public long watermark() {
+        Long[] read = jdbcTemplate.queryForObject(advisory
+                ? "SELECT (" + HIGHEST_COMMITTED_SQL + "), (" + OLDEST_LOCKED_FLOOR_SQL + ")"
+                : "SELECT (" + HIGHEST_COMMITTED_SQL + "), (" + OLDEST_LEASED_FLOOR_SQL + ")",
+            (rs, rowNum) -> new Long[]{rs.getLong(1), rs.getObject(2, Long.class)},
+            advisory ? new Object[0] : new Object[]{Timestamp.valueOf(LocalDateTime.now())});
+        long highestCommitted = read[0];
+        return read[1] != null ? Math.min(highestCommitted, read[1] - 1) : highestCommitted;
+    }
+
+    /**
+     * Removes lease rows that expired without being released, left by nodes that died mid-transaction.
+     */
+    public int purgeExpiredLeases() {
+        if (advisory) {
+            return 0;
+        }
+        return leaseTransaction().execute(status -> jdbcTemplate.update(
+            "DELETE FROM inventory_change_leases WHERE expires_at <= ?", Timestamp.valueOf(LocalDateTime.now())));
+    }
+
+    private long nextValue() {
+        return jdbcTemplate.queryForObject("SELECT nextval('inventory_change_seq')", Long.class);
+    }
+
+    // Lease changes must be visible to other nodes at once, whatever transaction the caller is in
+    private TransactionTemplate leaseTransaction() {
+        TransactionTemplate template = leaseTransaction;
+        if (template == null) {
+            template = new TransactionTemplate(transactionManager.getObject());
+            template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            leaseTransaction = template;
+        }
+        return template;
+    }
+}
@@ -0,0 +1,23 @@
+package com.backend.inventory_management.features.inventory.sync;
+
+import com.backend.inventory_management.features.inventory.InventoryItem;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.springframework.stereotype.Component;
+
+// Stamps every JPA insert and update of an item, whichever service made it
+@Component
+public class ChangeSequenceListener {
+
+    private final ChangeSequence changeSequence;
+
+    public ChangeSequenceListener(ChangeSequence changeSequence) {
+        this.changeSequence = changeSequence;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void stamp(InventoryItem item) {
+        item.setChangeSeq(changeSequence.next());
+    }
+}
@@ -0,0 +1,78 @@
+package com.backend.inventory_management.features.inventory.sync;
+
+import com.backend.inventory_management.core.Response;
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.features.inventory.dtos.ChangeSetDto;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/inventory/sync")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", exposedHeaders = InventorySyncController.TOKEN_HEADER)
+public class InventorySyncController {
+    
+    static final String TOKEN_HEADER = "X-Sync-Token";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+    
+    private final InventorySyncService inventorySyncService;
+    
+    @GetMapping("/changes")
+    public ResponseEntity<Response<ChangeSetDto>> getChanges(
+            @RequestParam long since,
+            @RequestParam(defaultValue = "1000") int limit) {
+        try {
+            return ResponseEntity.ok(Response.success(inventorySyncService.getChanges(since, limit)));
+        } catch (SyncTokenExpiredException e) {
+            return ResponseEntity.status(HttpStatus.GONE)
+                .body(Response.error(e.getMessage()));
+        } catch (InvalidOperationException e) {
+            return ResponseEntity.badRequest()
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to retrieve changes since {}", since, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve changes"));
+        }
+    }
+    
+    // Full catalog as gzip-compressed newline-delimited JSON; the token to resume from is in a header
+    @GetMapping("/snapshot")
+    public void getSnapshot(HttpServletResponse response) throws IOException {
+        long token = inventorySyncService.currentToken();
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        response.setHeader(TOKEN_HEADER, Long.toString(token));
+        
+        try (GZIPOutputStream gzip = new GZIPOutputStream(response.getOutputStream(), GZIP_BUFFER_SIZE)) {
+            long started = System.currentTimeMillis();
+            int items = inventorySyncService.writeSnapshot(gzip);
+            log.info("Streamed sync snapshot of {} items at token {} in {} ms",
+                items, token, System.currentTimeMillis() - started);
+        }
+    }
+    
+    @PostMapping("/tombstones/purge")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Response<Integer>> purgeTombstones() {
+        try {
+            int purged = inventorySyncService.purgeTombstones();
+            return ResponseEntity.ok(Response.success(purged, "Expired tombstones purged"));
+        } catch (Exception e) {
+            log.error("Failed to purge tombstones", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to purge tombstones"));
+        }
+    }
+}
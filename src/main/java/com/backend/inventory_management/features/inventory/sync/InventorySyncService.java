@@ -0,0 +1,15 @@
+package com.backend.inventory_management.features.inventory.sync;
+
+import com.backend.inventory_management.features.inventory.dtos.ChangeSetDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface InventorySyncService {
+    ChangeSetDto getChanges(long since, int limit);
+    long currentToken();
+    int writeSnapshot(OutputStream out) throws IOException;
+    void recordDeletion(Long itemId);
+    void recordRestore(Long itemId);
+    int purgeTombstones();
+}
@@ -0,0 +1,224 @@
+package com.backend.inventory_management.features.inventory.sync;
+
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.features.inventory.StockStatus;
+import com.backend.inventory_management.features.inventory.dtos.ChangeSetDto;
+import com.backend.inventory_management.features.inventory.dtos.SyncItemDto;
+import com.backend.inventory_management.features.jobs.ClusterJob;
+import com.backend.inventory_management.features.jobs.JobChunkResult;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serves the item change feed to offline clients. A client downloads one gzip snapshot, keeps the
+ * token returned with it and afterwards asks only for items and tombstones with a higher change
+ * sequence. Tokens never run ahead of {@link ChangeSequence#watermark()}, so a change whose
+ * transaction is still open is picked up by the next call rather than skipped.
+ */
+@Slf4j
+@Service
+public class InventorySyncServiceImpl implements InventorySyncService, ClusterJob {
+
+    private static final int SNAPSHOT_FETCH_SIZE = 1000;
+
+    private static final String ITEM_COLUMNS =
+        "SELECT i.id, i.sku, i.barcode, i.name, i.category_id, c.name AS category_name, i.supplier_id, " +
+        "s.name AS supplier_name, i.quantity, i.price, i.min_stock_level, i.max_stock_level, i.status, i.change_seq " +
+        "FROM inventory_items i JOIN categories c ON c.id = i.category_id JOIN suppliers s ON s.id = i.supplier_id ";
+
+    private static final RowMapper<SyncItemDto> ITEM_MAPPER = (rs, rowNum) -> SyncItemDto.builder()
+        .id(rs.getLong("id"))
+        .sku(rs.getString("sku"))
+        .barcode(rs.getString("barcode"))
+        .name(rs.getString("name"))
+        .categoryId(rs.getLong("category_id"))
+        .category(rs.getString("category_name"))
+        .supplierId(rs.getLong("supplier_id"))
+        .supplier(rs.getString("supplier_name"))
+        .quantity(rs.getInt("quantity"))
+        .price(rs.getBigDecimal("price"))
+        .minStockLevel(rs.getObject("min_stock_level", Integer.class))
+        .maxStockLevel(rs.getObject("max_stock_level", Integer.class))
+        .status(rs.getString("status") != null ? StockStatus.valueOf(rs.getString("status")) : null)
+        .changeSeq(rs.getLong("change_seq"))
+        .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ChangeSequence changeSequence;
+    private final ObjectMapper objectMapper;
+    private final int maxPageSize;
+    private final int tombstoneRetentionDays;
+    private final String tombstonePurgeCron;
+
+    public InventorySyncServiceImpl(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    ChangeSequence changeSequence,
+                                    ObjectMapper objectMapper,
+                                    @Value("${app.sync.max-page-size:5000}") int maxPageSize,
+                                    @Value("${app.sync.tombstone-retention-days:90}") int tombstoneRetentionDays,
+                                    @Value("${app.sync.tombstone-purge-cron:0 15 3 * * *}") String tombstonePurgeCron) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Not read-only, even for the feed: its reads are bounded by the change sequence watermark and
+        // must see the primary, never a read replica that may lag behind it
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.changeSequence = changeSequence;
+        this.objectMapper = objectMapper;
+        this.maxPageSize = maxPageSize;
+        this.tombstoneRetentionDays = tombstoneRetentionDays;
+        this.tombstonePurgeCron = tombstonePurgeCron;
+    }
+
+    @Override
+    public ChangeSetDto getChanges(long since, int limit) {
+        if (since < 0) {
+            throw new InvalidOperationException("Sync token must not be negative");
+        }
+        int pageSize = Math.max(1, Math.min(limit, maxPageSize));
+        long watermark = changeSequence.watermark();
+
+        return transactionTemplate.execute(status -> {
+            Long purgedThrough = jdbcTemplate.queryForObject(
+                "SELECT tombstones_purged_through FROM inventory_sync_state WHERE id = 1", Long.class);
+            if (purgedThrough != null && since < purgedThrough) {
+                throw new SyncTokenExpiredException("Sync token " + since +
+                    " is older than the retained deletions; download a new snapshot");
+            }
+
+            List<SyncItemDto> items = jdbcTemplate.query(ITEM_COLUMNS +
+                "WHERE i.deleted_at IS NULL AND i.change_seq > ? AND i.change_seq <= ? ORDER BY i.change_seq LIMIT ?",
+                ITEM_MAPPER, since, watermark, pageSize + 1);
+            List<long[]> tombstones = jdbcTemplate.query(
+                "SELECT item_id, change_seq FROM inventory_tombstones " +
+                "WHERE change_seq > ? AND change_seq <= ? ORDER BY change_seq LIMIT ?",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, since, watermark, pageSize + 1);
+
+            // Merge both feeds in sequence order and cut at the page size
+            List<SyncItemDto> pageItems = new ArrayList<>();
+            List<Long> deletedIds = new ArrayList<>();
+            int i = 0;
+            int t = 0;
+            long lastSeq = since;
+            while (pageItems.size() + deletedIds.size() < pageSize && (i < items.size() || t < tombstones.size())) {
+                boolean takeItem = t == tombstones.size()
+                    || (i < items.size() && items.get(i).getChangeSeq() < tombstones.get(t)[1]);
+                if (takeItem) {
+                    lastSeq = items.get(i).getChangeSeq();
+                    pageItems.add(items.get(i++));
+                } else {
+                    lastSeq = tombstones.get(t)[1];
+                    deletedIds.add(tombstones.get(t++)[0]);
+                }
+            }
+            boolean hasMore = i < items.size() || t < tombstones.size();
+
+            return ChangeSetDto.builder()
+                .since(since)
+                .token(hasMore ? lastSeq : Math.max(since, watermark))
+                .hasMore(hasMore)
+                .items(pageItems)
+                .deletedItemIds(deletedIds)
+                .build();
+        });
+    }
+
+    @Override
+    public long currentToken() {
+        return changeSequence.watermark();
+    }
+
+    /**
+     * Streams every item as one JSON document per line. The caller takes the token before the
+     * snapshot starts; rows changed while it streams may appear in either version and are sent
+     * again by the next change request.
+     */
+    @Override
+    public int writeSnapshot(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(new SerializedString("\n"));
+
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(SNAPSHOT_FETCH_SIZE);
+        int[] written = {0};
+
+        // PostgreSQL only streams with a cursor inside a transaction
+        transactionTemplate.executeWithoutResult(status ->
+            streaming.query(ITEM_COLUMNS + "WHERE i.deleted_at IS NULL ORDER BY i.id", (RowCallbackHandler) rs -> {
+                try {
+                    generator.writeObject(ITEM_MAPPER.mapRow(rs, written[0]++));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+
+        generator.writeRaw('\n');
+        generator.flush();
+        return written[0];
+    }
+
+    @Override
+    public void recordDeletion(Long itemId) {
+        jdbcTemplate.update("INSERT INTO inventory_tombstones (item_id, change_seq, deleted_at) VALUES (?, ?, ?)",
+            itemId, changeSequence.next(), Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    // The restored row is stamped with a new sequence value, so clients past the tombstone get it back
+    @Override
+    public void recordRestore(Long itemId) {
+        jdbcTemplate.update("DELETE FROM inventory_tombstones WHERE item_id = ?", itemId);
+    }
+
+    @Override
+    public String getJobName() {
+        return "tombstone-purge";
+    }
+
+    @Override
+    public String getJobCron() {
+        return tombstonePurgeCron;
+    }
+
+    @Override
+    public JobChunkResult runChunk(String checkpoint) {
+        changeSequence.purgeExpiredLeases();
+        return JobChunkResult.done(purgeTombstones());
+    }
+
+    @Override
+    public int purgeTombstones() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(tombstoneRetentionDays));
+        Integer purged = transactionTemplate.execute(status -> {
+            Long through = jdbcTemplate.queryForObject(
+                "SELECT MAX(change_seq) FROM inventory_tombstones WHERE deleted_at < ?", Long.class, cutoff);
+            if (through == null) {
+                return 0;
+            }
+            jdbcTemplate.update("UPDATE inventory_sync_state SET tombstones_purged_through = " +
+                "GREATEST(tombstones_purged_through, ?) WHERE id = 1", through);
+            return jdbcTemplate.update("DELETE FROM inventory_tombstones WHERE change_seq <= ?", through);
+        });
+        int count = purged != null ? purged : 0;
+        if (count > 0) {
+            log.info("Purged {} item tombstones older than {} days", count, tombstoneRetentionDays);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,7 @@
+package com.backend.inventory_management.features.inventory.sync;
+
+public class SyncTokenExpiredException extends RuntimeException {
+    public SyncTokenExpiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+package com.backend.inventory_management.features.jobs;
+
+/**
+ * Background work that should run once per cluster rather than once per node. Every bean of this
+ * type is scheduled by {@link JobServiceImpl} on its cron expression; at each firing only the node
+ * that takes the job's lock runs it, and the run is recorded in job_runs.
+ * <p>
+ * Long jobs work in chunks: each call handles a bounded slice of work after the given checkpoint,
+ * commits it and returns the checkpoint to continue from. The checkpoint is saved after every
+ * chunk, so a run that fails or is interrupted resumes where it stopped instead of starting over.
+ * A chunk should finish well within the lock lease ({@code app.jobs.lease-ms}).
+ */
+public interface ClusterJob {
+
+    String CRON_DISABLED = "-";
+
+    String getJobName();
+
+    // Spring cron expression, or "-" to run the job on demand only
+    String getJobCron();
+
+    // The checkpoint is null at the start of a fresh run
+    JobChunkResult runChunk(String checkpoint);
+}
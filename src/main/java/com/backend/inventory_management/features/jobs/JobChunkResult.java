@@ -0,0 +1,22 @@
+package com.backend.inventory_management.features.jobs;
+
+import java.util.Objects;
+
+/**
+ * Outcome of one chunk of a {@link ClusterJob}: how many rows it handled and the checkpoint the
+ * next chunk starts from. A null checkpoint means the job has finished.
+ */
+public record JobChunkResult(long processed, String checkpoint) {
+
+    public static JobChunkResult done(long processed) {
+        return new JobChunkResult(processed, null);
+    }
+
+    public static JobChunkResult next(long processed, String checkpoint) {
+        return new JobChunkResult(processed, Objects.requireNonNull(checkpoint, "checkpoint"));
+    }
+
+    public boolean finished() {
+        return checkpoint == null;
+    }
+}
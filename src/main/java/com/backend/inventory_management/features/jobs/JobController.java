@@ -0,0 +1,70 @@
+package com.backend.inventory_management.features.jobs;
+
+import com.backend.inventory_management.core.Response;
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.core.exceptions.ResourceNotFoundException;
+import com.backend.inventory_management.features.jobs.dtos.JobDto;
+import com.backend.inventory_management.features.jobs.dtos.JobRunDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class JobController {
+    
+    private final JobService jobService;
+    
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Response<List<JobDto>>> getJobs() {
+        try {
+            return ResponseEntity.ok(Response.success(jobService.getJobs()));
+        } catch (Exception e) {
+            log.error("Failed to retrieve jobs", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve jobs"));
+        }
+    }
+    
+    @GetMapping("/{name}/runs")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Response<List<JobRunDto>>> getRuns(
+            @PathVariable String name,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(Response.success(jobService.getRuns(name, limit)));
+        } catch (Exception e) {
+            log.error("Failed to retrieve runs of job {}", name, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve job runs"));
+        }
+    }
+    
+    @PostMapping("/{name}/run")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Response<JobRunDto>> runJob(@PathVariable String name) {
+        try {
+            JobRunDto run = jobService.runJob(name);
+            return ResponseEntity.ok(Response.success(run, "Job run finished with status " + run.getStatus()));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (InvalidOperationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to run job {}", name, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to run job"));
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.backend.inventory_management.features.jobs;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Decides which node runs a cluster job. On PostgreSQL the lock is a session-level advisory lock
+ * taken on a dedicated connection and held for the whole run, so the database releases it as soon
+ * as the node or its connection dies. Other databases, such as H2 in development, use a lease row
+ * in job_leases instead: the holder extends it after every chunk, and any node may take it over
+ * once it has expired. Lease expiry is compared against each node's own clock.
+ */
+@Slf4j
+@Component
+public class JobLockManager {
+
+    // First half of the two-part advisory lock key, keeping job locks apart from other advisory lock users
+    private static final int LOCK_NAMESPACE = 0x4A4F4253; // "JOBS"
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate leaseTransaction;
+    private final String databaseUrl;
+    private final String databaseUsername;
+    private final String databasePassword;
+    private final long leaseMs;
+    private final boolean advisory;
+    private final String nodeId;
+
+    public JobLockManager(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${spring.datasource.url:}") String databaseUrl,
+                          @Value("${spring.datasource.username:}") String databaseUsername,
+                          @Value("${spring.datasource.password:}") String databasePassword,
+                          @Value("${app.jobs.lease-ms:600000}") long leaseMs,
+                          @Value("${app.jobs.node-id:}") String nodeId) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Lease changes must be visible to other nodes at once, whatever transaction the caller is in
+        this.leaseTransaction = new TransactionTemplate(transactionManager);
+        this.leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.databaseUrl = databaseUrl;
+        this.databaseUsername = databaseUsername;
+        this.databasePassword = databasePassword;
+        this.leaseMs = leaseMs;
+        this.advisory = databaseUrl.startsWith("jdbc:postgresql:");
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public String getLockType() {
+        return advisory ? "ADVISORY_LOCK" : "LEASE";
+    }
+
+    /**
+     * Takes the lock for the job without waiting. Returns null when another run holds it.
+     */
+    public JobLock tryAcquire(String jobName) {
+        return advisory ? tryAdvisoryLock(jobName) : tryLease(jobName);
+    }
+
+    private JobLock tryAdvisoryLock(String jobName) {
+        Connection connection;
+        try {
+            connection = DriverManager.getConnection(databaseUrl, databaseUsername, databasePassword);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not open a lock connection for job " + jobName, e);
+        }
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?, hashtext(?))")) {
+            statement.setInt(1, LOCK_NAMESPACE);
+            statement.setString(2, jobName);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (rs.next() && rs.getBoolean(1)) {
+                    return new AdvisoryLock(jobName, connection);
+                }
+            }
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw new IllegalStateException("Could not take the advisory lock for job " + jobName, e);
+        }
+        closeQuietly(connection);
+        return null;
+    }
+
+    private JobLock tryLease(String jobName) {
+        String owner = nodeId + "/" + UUID.randomUUID();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            Boolean acquired = leaseTransaction.execute(status -> {
+                int taken = jdbcTemplate.update("UPDATE job_leases SET lease_owner = ?, expires_at = ? " +
+                    "WHERE job_name = ? AND expires_at < ?", owner, leaseExpiry(), jobName, now);
+                if (taken > 0) {
+                    return true;
+                }
+                Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM job_leases WHERE job_name = ?", Integer.class, jobName);
+                if (existing != null && existing > 0) {
+                    return false;
+                }
+                jdbcTemplate.update("INSERT INTO job_leases (job_name, lease_owner, expires_at) VALUES (?, ?, ?)",
+                    jobName, owner, leaseExpiry());
+                return true;
+            });
+            return Boolean.TRUE.equals(acquired) ? new LeaseLock(jobName, owner) : null;
+        } catch (DuplicateKeyException e) {
+            // Another node created the lease row first
+            return null;
+        }
+    }
+
+    private Timestamp leaseExpiry() {
+        return Timestamp.valueOf(LocalDateTime.now().plusNanos(leaseMs * 1_000_000));
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + ":" + ProcessHandle.current().pid();
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Failed to close job lock connection: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * A held job lock. {@link #renew()} is called between chunks and fails once the lock can no
+     * longer be guaranteed, so the run stops instead of overlapping with a new holder.
+     */
+    public interface JobLock extends AutoCloseable {
+
+        void renew();
+
+        @Override
+        void close();
+    }
+
+    private static final class AdvisoryLock implements JobLock {
+        private final String jobName;
+        private final Connection connection;
+
+        private AdvisoryLock(String jobName, Connection connection) {
+            this.jobName = jobName;
+            this.connection = connection;
+        }
+
+        @Override
+        public void renew() {
+            boolean valid;
+            try {
+                valid = connection.isValid(5);
+            } catch (SQLException e) {
+                valid = false;
+            }
+            if (!valid) {
+                throw new IllegalStateException("Lost the lock connection for job " + jobName);
+            }
+        }
+
+        // Ending the session releases the advisory lock
+        @Override
+        public void close() {
+            closeQuietly(connection);
+        }
+    }
+
+    private final class LeaseLock implements JobLock {
+        private final String jobName;
+        private final String owner;
+
+        private LeaseLock(String jobName, String owner) {
+            this.jobName = jobName;
+            this.owner = owner;
+        }
+
+        @Override
+        public void renew() {
+            Integer renewed = leaseTransaction.execute(status -> jdbcTemplate.update(
+                "UPDATE job_leases SET expires_at = ? WHERE job_name = ? AND lease_owner = ?",
+                leaseExpiry(), jobName, owner));
+            if (renewed == null || renewed == 0) {
+                throw new IllegalStateException("The lease for job " + jobName + " was taken over");
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                leaseTransaction.executeWithoutResult(status -> jdbcTemplate.update(
+                    "UPDATE job_leases SET expires_at = ? WHERE job_name = ? AND lease_owner = ?",
+                    Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)), jobName, owner));
+            } catch (RuntimeException e) {
+                log.warn("Failed to release the lease for job {}; it expires on its own: {}", jobName, e.getMessage());
+            }
+        }
+    }
+}
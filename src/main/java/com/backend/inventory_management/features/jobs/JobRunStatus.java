@@ -0,0 +1,9 @@
+package com.backend.inventory_management.features.jobs;
+
+public enum JobRunStatus {
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    // Stopped between chunks by a shutdown, or found unfinished by the next holder of the lock
+    INTERRUPTED
+}
@@ -0,0 +1,15 @@
+package com.backend.inventory_management.features.jobs;
+
+import com.backend.inventory_management.features.jobs.dtos.JobDto;
+import com.backend.inventory_management.features.jobs.dtos.JobRunDto;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+public interface JobService {
+    List<JobDto> getJobs();
+    List<JobRunDto> getRuns(String jobName, int limit);
+    JobRunDto runJob(String jobName);
+    // Runs the task once under the job's lock; returns null when another node holds it
+    JobRunDto runExclusive(String jobName, JobTrigger trigger, LongSupplier task);
+}
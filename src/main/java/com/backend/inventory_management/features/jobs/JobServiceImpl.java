@@ -0,0 +1,297 @@
+package com.backend.inventory_management.features.jobs;
+
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.core.exceptions.ResourceNotFoundException;
+import com.backend.inventory_management.features.jobs.dtos.JobDto;
+import com.backend.inventory_management.features.jobs.dtos.JobRunDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs {@link ClusterJob}s so that scaling out adds nodes without adding background load: every
+ * node schedules every job, but at each firing only the node that takes the job's lock from
+ * {@link JobLockManager} runs it and the others skip that firing. Runs are recorded in job_runs
+ * with their progress saved after every chunk, and a run that did not finish is resumed from its
+ * last checkpoint by the next run of the job, on whichever node that happens. A run that failed
+ * is resumed the same way, but once app.jobs.max-resume-attempts runs in a row have failed at the
+ * same checkpoint the job starts over from the beginning instead of retrying that chunk forever.
+ * <p>
+ * Scheduled runs execute on a thread of their own, so a long job does not hold up the short
+ * node-local tasks sharing the scheduler. Nodes that skip a firing record nothing.
+ */
+@Slf4j
+@Service
+public class JobServiceImpl implements JobService, SchedulingConfigurer, DisposableBean {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final int MAX_RUNS = 100;
+    private static final long SHUTDOWN_WAIT_SECONDS = 30;
+
+    private static final RowMapper<JobRunDto> RUN_MAPPER = (rs, rowNum) -> {
+        Timestamp finishedAt = rs.getTimestamp("finished_at");
+        return JobRunDto.builder()
+            .id(rs.getLong("id"))
+            .jobName(rs.getString("job_name"))
+            .nodeId(rs.getString("node_id"))
+            .trigger(JobTrigger.valueOf(rs.getString("trigger_type")))
+            .status(JobRunStatus.valueOf(rs.getString("status")))
+            .startedAt(rs.getTimestamp("started_at").toLocalDateTime())
+            .finishedAt(finishedAt != null ? finishedAt.toLocalDateTime() : null)
+            .chunks(rs.getInt("chunks"))
+            .processed(rs.getLong("processed"))
+            .checkpoint(rs.getString("last_checkpoint"))
+            .resumedFrom(rs.getString("resumed_from"))
+            .errorMessage(rs.getString("error_message"))
+            .build();
+    };
+
+    private final Map<String, ClusterJob> jobs = new TreeMap<>();
+    private final JobLockManager lockManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxResumeAttempts;
+    private final Set<String> runningHere = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cluster-jobs");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean stopping;
+
+    public JobServiceImpl(List<ClusterJob> jobs,
+                          JobLockManager lockManager,
+                          JdbcTemplate jdbcTemplate,
+                          @Value("${app.jobs.max-resume-attempts:3}") int maxResumeAttempts) {
+        for (ClusterJob job : jobs) {
+            if (this.jobs.putIfAbsent(job.getJobName(), job) != null) {
+                throw new IllegalStateException("Duplicate cluster job name: " + job.getJobName());
+            }
+        }
+        this.lockManager = lockManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxResumeAttempts = Math.max(0, maxResumeAttempts);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        for (ClusterJob job : jobs.values()) {
+            if (!ClusterJob.CRON_DISABLED.equals(job.getJobCron())) {
+                registrar.addCronTask(() -> submitScheduled(job), job.getJobCron());
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        // A run in progress stops after its current chunk and is resumed by the next run
+        stopping = true;
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("Cluster job still running after {} s of shutdown", SHUTDOWN_WAIT_SECONDS);
+        }
+    }
+
+    @Override
+    public List<JobDto> getJobs() {
+        return jobs.values().stream()
+            .map(job -> JobDto.builder()
+                .name(job.getJobName())
+                .cron(job.getJobCron())
+                .lockType(lockManager.getLockType())
+                .runningOnThisNode(runningHere.contains(job.getJobName()))
+                .lastRun(getRuns(job.getJobName(), 1).stream().findFirst().orElse(null))
+                .build())
+            .toList();
+    }
+
+    @Override
+    public List<JobRunDto> getRuns(String jobName, int limit) {
+        return jdbcTemplate.query("SELECT * FROM job_runs WHERE job_name = ? ORDER BY id DESC LIMIT ?",
+            RUN_MAPPER, jobName, Math.max(1, Math.min(limit, MAX_RUNS)));
+    }
+
+    @Override
+    public JobRunDto runJob(String jobName) {
+        ClusterJob job = jobs.get(jobName);
+        if (job == null) {
+            throw new ResourceNotFoundException("Job not found: " + jobName);
+        }
+        JobRunDto run = runLocally(job, JobTrigger.MANUAL);
+        if (run == null) {
+            throw new InvalidOperationException("Job " + jobName + " is running on another node");
+        }
+        return run;
+    }
+
+    @Override
+    public JobRunDto runExclusive(String jobName, JobTrigger trigger, LongSupplier task) {
+        return runLocally(new ClusterJob() {
+            @Override
+            public String getJobName() {
+                return jobName;
+            }
+
+            @Override
+            public String getJobCron() {
+                return CRON_DISABLED;
+            }
+
+            @Override
+            public JobChunkResult runChunk(String checkpoint) {
+                return JobChunkResult.done(task.getAsLong());
+            }
+        }, trigger);
+    }
+
+    private void submitScheduled(ClusterJob job) {
+        // A firing that comes round while the previous one is still queued or running here is dropped
+        if (stopping || !runningHere.add(job.getJobName())) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    runClaimed(job, JobTrigger.SCHEDULE);
+                } catch (Exception e) {
+                    log.error("Scheduled run of job {} failed", job.getJobName(), e);
+                } finally {
+                    runningHere.remove(job.getJobName());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            runningHere.remove(job.getJobName());
+        }
+    }
+
+    private JobRunDto runLocally(ClusterJob job, JobTrigger trigger) {
+        if (!runningHere.add(job.getJobName())) {
+            throw new InvalidOperationException("Job " + job.getJobName() + " is already running on this node");
+        }
+        try {
+            return runClaimed(job, trigger);
+        } finally {
+            runningHere.remove(job.getJobName());
+        }
+    }
+
+    private JobRunDto runClaimed(ClusterJob job, JobTrigger trigger) {
+        try (JobLockManager.JobLock lock = lockManager.tryAcquire(job.getJobName())) {
+            if (lock == null) {
+                log.debug("Job {} is held by another node; skipping this {} run", job.getJobName(), trigger);
+                return null;
+            }
+            return execute(job, trigger, lock);
+        }
+    }
+
+    private JobRunDto execute(ClusterJob job, JobTrigger trigger, JobLockManager.JobLock lock) {
+        String jobName = job.getJobName();
+        String checkpoint = claimUnfinishedRun(jobName);
+        long runId = insertRun(jobName, trigger, checkpoint);
+        if (checkpoint != null) {
+            log.info("Resuming job {} from checkpoint {}", jobName, checkpoint);
+        }
+
+        long started = System.currentTimeMillis();
+        int chunks = 0;
+        long processed = 0;
+        try {
+            do {
+                if (stopping) {
+                    finishRun(runId, JobRunStatus.INTERRUPTED, "Node shut down");
+                    log.info("Job {} interrupted by shutdown after {} chunks", jobName, chunks);
+                    return getRun(runId);
+                }
+                JobChunkResult result = job.runChunk(checkpoint);
+                chunks++;
+                processed += result.processed();
+                checkpoint = result.checkpoint();
+                jdbcTemplate.update("UPDATE job_runs SET chunks = ?, processed = ?, last_checkpoint = ? WHERE id = ?",
+                    chunks, processed, checkpoint, runId);
+                if (!result.finished()) {
+                    lock.renew();
+                }
+            } while (checkpoint != null);
+        } catch (Exception e) {
+            finishRun(runId, JobRunStatus.FAILED, e.getMessage() != null ? e.getMessage() : e.getClass().getName());
+            log.error("Job {} failed after {} chunks", jobName, chunks, e);
+            return getRun(runId);
+        }
+
+        finishRun(runId, JobRunStatus.SUCCEEDED, null);
+        log.info("Job {} processed {} rows in {} chunks in {} ms on {}",
+            jobName, processed, chunks, System.currentTimeMillis() - started, lockManager.getNodeId());
+        return getRun(runId);
+    }
+
+    // Holding the lock means no other run of the job is alive, whatever its row still says
+    private String claimUnfinishedRun(String jobName) {
+        jdbcTemplate.update("UPDATE job_runs SET status = ?, finished_at = ? WHERE job_name = ? AND status = ?",
+            JobRunStatus.INTERRUPTED.name(), Timestamp.valueOf(LocalDateTime.now()), jobName, JobRunStatus.RUNNING.name());
+        List<JobRunDto> recent = getRuns(jobName, maxResumeAttempts + 1);
+        if (recent.isEmpty() || recent.get(0).getStatus() == JobRunStatus.SUCCEEDED) {
+            return null;
+        }
+        JobRunDto last = recent.get(0);
+        if (last.getStatus() == JobRunStatus.FAILED) {
+            long stuck = recent.stream()
+                .takeWhile(run -> run.getStatus() == JobRunStatus.FAILED
+                    && Objects.equals(run.getCheckpoint(), last.getCheckpoint()))
+                .count();
+            if (stuck > maxResumeAttempts) {
+                log.warn("Job {} failed {} times in a row at checkpoint {}; starting over",
+                    jobName, stuck, last.getCheckpoint());
+                return null;
+            }
+        }
+        return last.getCheckpoint();
+    }
+
+    private long insertRun(String jobName, JobTrigger trigger, String resumedFrom) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO job_runs (job_name, node_id, trigger_type, status, started_at, chunks, processed, " +
+                "last_checkpoint, resumed_from) VALUES (?, ?, ?, ?, ?, 0, 0, ?, ?)", new String[]{"id"});
+            statement.setString(1, jobName);
+            statement.setString(2, lockManager.getNodeId());
+            statement.setString(3, trigger.name());
+            statement.setString(4, JobRunStatus.RUNNING.name());
+            statement.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now()));
+            statement.setString(6, resumedFrom);
+            statement.setString(7, resumedFrom);
+            return statement;
+        }, keyHolder);
+        return Objects.requireNonNull(keyHolder.getKey()).longValue();
+    }
+
+    private void finishRun(long runId, JobRunStatus status, String errorMessage) {
+        String error = errorMessage != null && errorMessage.length() > MAX_ERROR_LENGTH
+            ? errorMessage.substring(0, MAX_ERROR_LENGTH) : errorMessage;
+        jdbcTemplate.update("UPDATE job_runs SET status = ?, finished_at = ?, error_message = ? WHERE id = ?",
+            status.name(), Timestamp.valueOf(LocalDateTime.now()), error, runId);
+    }
+
+    private JobRunDto getRun(long runId) {
+        return jdbcTemplate.queryForObject("SELECT * FROM job_runs WHERE id = ?", RUN_MAPPER, runId);
+    }
+}
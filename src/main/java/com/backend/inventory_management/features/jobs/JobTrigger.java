@@ -0,0 +1,7 @@
+package com.backend.inventory_management.features.jobs;
+
+public enum JobTrigger {
+    SCHEDULE,
+    MANUAL,
+    STARTUP
+}
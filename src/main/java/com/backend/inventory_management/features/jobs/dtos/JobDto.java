@@ -0,0 +1,18 @@
+package com.backend.inventory_management.features.jobs.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobDto {
+    private String name;
+    private String cron;
+    private String lockType;
+    private Boolean runningOnThisNode;
+    private JobRunDto lastRun;
+}
@@ -0,0 +1,29 @@
+package com.backend.inventory_management.features.jobs.dtos;
+
+import com.backend.inventory_management.features.jobs.JobRunStatus;
+import com.backend.inventory_management.features.jobs.JobTrigger;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRunDto {
+    private Long id;
+    private String jobName;
+    private String nodeId;
+    private JobTrigger trigger;
+    private JobRunStatus status;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Integer chunks;
+    private Long processed;
+    private String checkpoint;
+    private String resumedFrom;
+    private String errorMessage;
+}
@@ -0,0 +1,179 @@
+package com.backend.inventory_management.features.location;
+
+import com.backend.inventory_management.core.Response;
+import com.backend.inventory_management.core.exceptions.DuplicateResourceException;
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.core.exceptions.ResourceNotFoundException;
+import com.backend.inventory_management.features.location.dtos.*;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/locations")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class LocationController {
+    
+    private final LocationService locationService;
+    private final StockService stockService;
+    
+    @GetMapping
+    public ResponseEntity<Response<List<LocationDto>>> getAllLocations() {
+        try {
+            return ResponseEntity.ok(Response.success(locationService.getAllLocations()));
+        } catch (Exception e) {
+            log.error("Failed to retrieve locations", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve locations"));
+        }
+    }
+    
+    @GetMapping("/{id}")
+    public ResponseEntity<Response<LocationDto>> getLocation(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(Response.success(locationService.getLocation(id)));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to retrieve location {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve location"));
+        }
+    }
+    
+    @PostMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Response<LocationDto>> createLocation(@Valid @RequestBody CreateLocationDto createDto) {
+        try {
+            LocationDto location = locationService.createLocation(createDto);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                .body(Response.success(location, "Location created successfully"));
+        } catch (DuplicateResourceException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to create location", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to create location"));
+        }
+    }
+    
+    @GetMapping("/{id}/stock")
+    public ResponseEntity<Response<Page<LocationStockDto>>> getLocationStock(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(Response.success(stockService.getLocationStock(id, page, size)));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to retrieve stock for location {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve location stock"));
+        }
+    }
+    
+    @GetMapping("/{id}/low-stock")
+    public ResponseEntity<Response<List<LocationStockDto>>> getLowStockItems(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(Response.success(stockService.getLowStockItems(id)));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to retrieve low stock items for location {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve low stock items"));
+        }
+    }
+    
+    @GetMapping("/{id}/metrics")
+    public ResponseEntity<Response<LocationMetricsDto>> getMetrics(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(Response.success(stockService.getMetrics(id)));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to retrieve metrics for location {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve location metrics"));
+        }
+    }
+    
+    @PostMapping("/{id}/stock/adjustments")
+    public ResponseEntity<Response<LocationStockDto>> adjustStock(@PathVariable Long id,
+                                                                  @Valid @RequestBody AdjustStockDto adjustDto) {
+        try {
+            LocationStockDto stock = stockService.adjustStock(id, adjustDto);
+            return ResponseEntity.ok(Response.success(stock, "Stock adjusted successfully"));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (InvalidOperationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to adjust stock at location {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to adjust stock"));
+        }
+    }
+    
+    @PostMapping("/transfers")
+    public ResponseEntity<Response<TransferResultDto>> transfer(@Valid @RequestBody TransferStockDto transferDto) {
+        try {
+            TransferResultDto result = stockService.transfer(transferDto);
+            return ResponseEntity.ok(Response.success(result, "Stock transferred successfully"));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (InvalidOperationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to transfer stock", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to transfer stock"));
+        }
+    }
+    
+    @GetMapping("/items/{itemId}")
+    public ResponseEntity<Response<ItemStockDto>> getItemStock(@PathVariable Long itemId) {
+        try {
+            return ResponseEntity.ok(Response.success(stockService.getItemStock(itemId)));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to retrieve stock for item {}", itemId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve item stock"));
+        }
+    }
+    
+    @PostMapping("/summaries/rebuild")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Response<Integer>> rebuildSummaries() {
+        try {
+            int rebuilt = stockService.rebuildSummaries();
+            return ResponseEntity.ok(Response.success(rebuilt, "Location summaries rebuilt"));
+        } catch (Exception e) {
+            log.error("Failed to rebuild location summaries", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to rebuild location summaries"));
+        }
+    }
+}
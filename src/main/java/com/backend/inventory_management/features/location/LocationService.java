@@ -0,0 +1,13 @@
+package com.backend.inventory_management.features.location;
+
+import com.backend.inventory_management.features.location.dtos.CreateLocationDto;
+import com.backend.inventory_management.features.location.dtos.LocationDto;
+
+import java.util.List;
+
+public interface LocationService {
+    List<LocationDto> getAllLocations();
+    LocationDto getLocation(Long id);
+    LocationDto createLocation(CreateLocationDto createDto);
+    Location getDefaultLocation();
+}
@@ -0,0 +1,88 @@
+package com.backend.inventory_management.features.location;
+
+import com.backend.inventory_management.core.exceptions.DuplicateResourceException;
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.core.exceptions.ResourceNotFoundException;
+import com.backend.inventory_management.features.location.dtos.CreateLocationDto;
+import com.backend.inventory_management.features.location.dtos.LocationDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LocationServiceImpl implements LocationService {
+    
+    private final LocationRepository locationRepository;
+    private final LocationSummaryRepository locationSummaryRepository;
+    
+    @Value("${app.locations.default-code:MAIN}")
+    private String defaultLocationCode;
+    
+    @Override
+    public List<LocationDto> getAllLocations() {
+        return locationRepository.findAll(Sort.by("code")).stream()
+            .map(this::convertToDto)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public LocationDto getLocation(Long id) {
+        return convertToDto(locationRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Location not found with id: " + id)));
+    }
+    
+    @Override
+    @Transactional
+    public LocationDto createLocation(CreateLocationDto createDto) {
+        if (locationRepository.existsByCode(createDto.getCode())) {
+            throw new DuplicateResourceException("Location already exists: " + createDto.getCode());
+        }
+        Location location = locationRepository.save(Location.builder()
+            .code(createDto.getCode())
+            .name(createDto.getName())
+            .type(createDto.getType())
+            .address(createDto.getAddress())
+            .build());
+        
+        // Every location carries all its summary stripes from the start, so movements only ever update them
+        List<LocationSummary> stripes = new ArrayList<>();
+        for (int stripe = 0; stripe < LocationSummary.STRIPES; stripe++) {
+            stripes.add(LocationSummary.builder()
+                .locationId(location.getId())
+                .stripe(stripe)
+                .stockValue(BigDecimal.ZERO)
+                .build());
+        }
+        locationSummaryRepository.saveAll(stripes);
+        log.info("Created {} location {}", location.getType(), location.getCode());
+        return convertToDto(location);
+    }
+    
+    @Override
+    public Location getDefaultLocation() {
+        return locationRepository.findByCode(defaultLocationCode)
+            .orElseThrow(() -> new InvalidOperationException("Default location does not exist: " + defaultLocationCode));
+    }
+    
+    private LocationDto convertToDto(Location location) {
+        return LocationDto.builder()
+            .id(location.getId())
+            .code(location.getCode())
+            .name(location.getName())
+            .type(location.getType())
+            .address(location.getAddress())
+            .createdAt(location.getCreatedAt())
+            .updatedAt(location.getUpdatedAt())
+            .build();
+    }
+}
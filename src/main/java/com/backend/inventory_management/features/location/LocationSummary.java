@@ -0,0 +1,71 @@
+package com.backend.inventory_management.features.location;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * One stripe of a location's running totals, adjusted by delta on every stock movement and on item
+ * price or minimum-level changes, so location metrics never scan the location's stock rows. A location
+ * has {@link #STRIPES} of these and its totals are their sum: concurrent movements at a busy store
+ * update different stripes instead of queueing on a single row lock.
+ */
+@Entity
+@Table(name = "location_summaries")
+@IdClass(LocationSummary.StripeKey.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocationSummary {
+    
+    /** Must match the stripe rows created by the V14 migration. */
+    public static final int STRIPES = 8;
+    
+    @Id
+    @Column(name = "location_id")
+    private Long locationId;
+    
+    @Id
+    @Column(name = "stripe")
+    private int stripe;
+    
+    @Column(name = "sku_count", nullable = false)
+    private long skuCount;
+    
+    @Column(name = "total_units", nullable = false)
+    private long totalUnits;
+    
+    @Column(name = "stock_value", nullable = false, precision = 19, scale = 2)
+    private BigDecimal stockValue;
+    
+    @Column(name = "low_stock_count", nullable = false)
+    private long lowStockCount;
+    
+    @Column(name = "out_of_stock_count", nullable = false)
+    private long outOfStockCount;
+    
+    public LocationSummary plus(LocationSummary other) {
+        return LocationSummary.builder()
+            .locationId(locationId)
+            .skuCount(skuCount + other.skuCount)
+            .totalUnits(totalUnits + other.totalUnits)
+            .stockValue(stockValue.add(other.stockValue))
+            .lowStockCount(lowStockCount + other.lowStockCount)
+            .outOfStockCount(outOfStockCount + other.outOfStockCount)
+            .build();
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StripeKey implements Serializable {
+        private Long locationId;
+        private int stripe;
+    }
+}
@@ -0,0 +1,23 @@
+package com.backend.inventory_management.features.location;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface LocationSummaryRepository extends JpaRepository<LocationSummary, LocationSummary.StripeKey> {
+    
+    List<LocationSummary> findByLocationId(Long locationId);
+    
+    @Modifying
+    @Query("UPDATE LocationSummary s SET s.skuCount = s.skuCount + :skus, s.totalUnits = s.totalUnits + :units, " +
+            "s.stockValue = s.stockValue + :value, s.lowStockCount = s.lowStockCount + :low, " +
+            "s.outOfStockCount = s.outOfStockCount + :out WHERE s.locationId = :locationId AND s.stripe = :stripe")
+    int applyDelta(@Param("locationId") Long locationId, @Param("stripe") int stripe, @Param("skus") long skus, @Param("units") long units,
+                   @Param("value") BigDecimal value, @Param("low") long low, @Param("out") long out);
+}
@@ -0,0 +1,6 @@
+package com.backend.inventory_management.features.location;
+
+public enum LocationType {
+    STORE,
+    WAREHOUSE
+}
@@ -0,0 +1,176 @@
+package com.backend.inventory_management.features.location;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Units held by reservations, kept per stock row on {@link #STRIPES} counter rows so holds on a hot
+ * SKU do not queue on one row lock. Each stripe is allotted part of the row's quantity and a hold is
+ * claimed within the allotment of the first unlocked stripe with room, locking only that stripe.
+ * The allotments never add up to more than the quantity, so holds never exceed it.
+ * <p>
+ * A hold that fits no stripe locks the stock row and deals the unreserved units out again. Stock
+ * movements lock the stock row and then its stripes, may only take the quantity down to the units
+ * actually reserved, and take back allotments the smaller quantity no longer covers. All callers
+ * must run in a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservedStock {
+
+    public static final int STRIPES = 8;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Claims {@code quantity} units at the stock row and returns the stripe holding them, or -1 if
+     * fewer units than that are unreserved.
+     */
+    public int claim(Long itemId, Long locationId, int quantity) {
+        int preferred = (int) (Thread.currentThread().getId() % STRIPES);
+        int stripe = jdbcTemplate.execute((ConnectionCallback<Integer>) connection ->
+            claimOpenStripe(connection, itemId, locationId, quantity, preferred));
+        return stripe >= 0 ? stripe : rebalance(itemId, locationId, quantity, preferred);
+    }
+
+    public void release(Long itemId, Long locationId, int stripe, int quantity) {
+        jdbcTemplate.update("UPDATE stock_reservation_stripes SET reserved = reserved - ? " +
+                "WHERE item_id = ? AND location_id = ? AND stripe = ? AND reserved >= ?",
+            quantity, itemId, locationId, stripe, quantity);
+    }
+
+    public int reserved(Long itemId, Long locationId) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(reserved), 0) FROM stock_reservation_stripes " +
+            "WHERE item_id = ? AND location_id = ?", Integer.class, itemId, locationId);
+    }
+
+    /**
+     * Locks the stripes of a stock row whose own row the caller has locked and returns its reserved
+     * units, which a stock movement may not take the quantity below.
+     */
+    public int lockReserved(Long itemId, Long locationId) {
+        return lockStripes(itemId, locationId).stream().mapToInt(Stripe::reserved).sum();
+    }
+
+    /**
+     * Takes back unreserved allotment beyond the row's new quantity, from the stripes with the most
+     * room first. The caller holds the locks of {@link #lockReserved} and has checked the quantity
+     * still covers the reserved units.
+     */
+    public void fitToQuantity(Long itemId, Long locationId, int quantity) {
+        List<Stripe> stripes = stripes(itemId, locationId, "");
+        int excess = stripes.stream().mapToInt(Stripe::allotted).sum() - quantity;
+        for (Stripe stripe : stripes.stream().sorted(Comparator.comparingInt(Stripe::room).reversed()).toList()) {
+            if (excess <= 0) {
+                return;
+            }
+            int cut = Math.min(stripe.room(), excess);
+            setAllotted(itemId, locationId, stripe.stripe(), stripe.allotted() - cut);
+            excess -= cut;
+        }
+    }
+
+    public void removeItem(Long itemId) {
+        jdbcTemplate.update("DELETE FROM stock_reservation_stripes WHERE item_id = ?", itemId);
+    }
+
+    // Skips stripes other holds have locked rather than waiting on them. A row whose room went to a
+    // racing hold can still be left locked, so a miss rolls back to a savepoint: the claim then waits
+    // for the stock row in rebalance holding no stripe a stock movement could be waiting for
+    private static int claimOpenStripe(Connection connection, Long itemId, Long locationId, int quantity,
+                                       int preferred) throws SQLException {
+        Savepoint savepoint = connection.setSavepoint();
+        try (PreparedStatement select = connection.prepareStatement("SELECT stripe FROM stock_reservation_stripes " +
+                "WHERE item_id = ? AND location_id = ? AND allotted - reserved >= ? " +
+                "ORDER BY MOD(stripe - ? + " + STRIPES + ", " + STRIPES + ") LIMIT 1 FOR UPDATE SKIP LOCKED")) {
+            select.setLong(1, itemId);
+            select.setLong(2, locationId);
+            select.setInt(3, quantity);
+            select.setInt(4, preferred);
+            try (ResultSet open = select.executeQuery()) {
+                if (open.next()) {
+                    int stripe = open.getInt(1);
+                    try (PreparedStatement update = connection.prepareStatement("UPDATE stock_reservation_stripes " +
+                            "SET reserved = reserved + ? WHERE item_id = ? AND location_id = ? AND stripe = ?")) {
+                        update.setInt(1, quantity);
+                        update.setLong(2, itemId);
+                        update.setLong(3, locationId);
+                        update.setInt(4, stripe);
+                        update.executeUpdate();
+                    }
+                    connection.releaseSavepoint(savepoint);
+                    return stripe;
+                }
+            }
+        }
+        connection.rollback(savepoint);
+        return -1;
+    }
+
+    // Deals the row's unreserved units out over the stripes, claiming the hold on the preferred one
+    private int rebalance(Long itemId, Long locationId, int quantity, int preferred) {
+        List<Integer> onHand = jdbcTemplate.queryForList("SELECT quantity FROM stock_levels " +
+            "WHERE item_id = ? AND location_id = ? FOR UPDATE", Integer.class, itemId, locationId);
+        if (onHand.isEmpty()) {
+            return -1;
+        }
+        List<Stripe> stripes = lockStripes(itemId, locationId);
+        int[] reserved = new int[STRIPES];
+        boolean[] present = new boolean[STRIPES];
+        for (Stripe stripe : stripes) {
+            reserved[stripe.stripe()] = stripe.reserved();
+            present[stripe.stripe()] = true;
+        }
+        int free = onHand.get(0) - stripes.stream().mapToInt(Stripe::reserved).sum();
+        if (free < quantity) {
+            return -1;
+        }
+
+        reserved[preferred] += quantity;
+        int spare = free - quantity;
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            int allotted = reserved[stripe] + spare / STRIPES + (stripe < spare % STRIPES ? 1 : 0);
+            if (present[stripe]) {
+                jdbcTemplate.update("UPDATE stock_reservation_stripes SET allotted = ?, reserved = ? " +
+                    "WHERE item_id = ? AND location_id = ? AND stripe = ?", allotted, reserved[stripe], itemId, locationId, stripe);
+            } else {
+                jdbcTemplate.update("INSERT INTO stock_reservation_stripes (item_id, location_id, stripe, allotted, reserved) " +
+                    "VALUES (?, ?, ?, ?, ?)", itemId, locationId, stripe, allotted, reserved[stripe]);
+            }
+        }
+        return preferred;
+    }
+
+    // Always in stripe order, so lockers of the same row cannot deadlock on each other
+    private List<Stripe> lockStripes(Long itemId, Long locationId) {
+        return stripes(itemId, locationId, " FOR UPDATE");
+    }
+
+    private List<Stripe> stripes(Long itemId, Long locationId, String lock) {
+        return jdbcTemplate.query("SELECT stripe, allotted, reserved FROM stock_reservation_stripes " +
+                "WHERE item_id = ? AND location_id = ? ORDER BY stripe" + lock,
+            (rs, rowNum) -> new Stripe(rs.getInt("stripe"), rs.getInt("allotted"), rs.getInt("reserved")),
+            itemId, locationId);
+    }
+
+    private void setAllotted(Long itemId, Long locationId, int stripe, int allotted) {
+        jdbcTemplate.update("UPDATE stock_reservation_stripes SET allotted = ? WHERE item_id = ? AND location_id = ? AND stripe = ?",
+            allotted, itemId, locationId, stripe);
+    }
+
+    private record Stripe(int stripe, int allotted, int reserved) {
+        int room() {
+            return allotted - reserved;
+        }
+    }
+}
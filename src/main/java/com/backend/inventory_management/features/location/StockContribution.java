@@ -0,0 +1,46 @@
+package com.backend.inventory_management.features.location;
+
+import com.backend.inventory_management.features.inventory.StockStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * What one stock row adds to its location's summary. A movement or an item attribute change
+ * is applied to the summary as {@code after.minus(before)}, so the summary never needs a rescan.
+ */
+record StockContribution(long skus, long units, BigDecimal value, long low, long out) {
+    
+    static final StockContribution NONE = new StockContribution(0, 0, BigDecimal.ZERO, 0, 0);
+    
+    static StockContribution of(int quantity, BigDecimal price, Integer minStockLevel) {
+        StockStatus status = StockStatus.of(quantity, minStockLevel);
+        return new StockContribution(
+            1,
+            quantity,
+            price.multiply(BigDecimal.valueOf(quantity)),
+            status == StockStatus.LOW_STOCK ? 1 : 0,
+            status == StockStatus.OUT_OF_STOCK ? 1 : 0);
+    }
+    
+    StockContribution minus(StockContribution other) {
+        return new StockContribution(
+            skus - other.skus,
+            units - other.units,
+            value.subtract(other.value),
+            low - other.low,
+            out - other.out);
+    }
+    
+    StockContribution plus(StockContribution other) {
+        return new StockContribution(
+            skus + other.skus,
+            units + other.units,
+            value.add(other.value),
+            low + other.low,
+            out + other.out);
+    }
+    
+    boolean isZero() {
+        return skus == 0 && units == 0 && value.signum() == 0 && low == 0 && out == 0;
+    }
+}
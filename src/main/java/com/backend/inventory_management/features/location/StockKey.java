@@ -0,0 +1,5 @@
+package com.backend.inventory_management.features.location;
+
+// Identifies one stock row: an item at a location
+public record StockKey(long itemId, long locationId) {
+}
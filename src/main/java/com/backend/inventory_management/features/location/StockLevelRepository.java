@@ -0,0 +1,48 @@
+package com.backend.inventory_management.features.location;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StockLevelRepository extends JpaRepository<StockLevel, Long> {
+    
+    Optional<StockLevel> findByItemIdAndLocationId(Long itemId, Long locationId);
+    
+    List<StockLevel> findByItemId(Long itemId);
+    
+    // Movements lock the row before its reserved stripes, in the order a reservation rebalancing them does
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT sl FROM StockLevel sl WHERE sl.item.id = :itemId AND sl.location.id = :locationId")
+    Optional<StockLevel> findForUpdate(@Param("itemId") Long itemId, @Param("locationId") Long locationId);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT sl FROM StockLevel sl WHERE sl.item.id IN :itemIds ORDER BY sl.id")
+    List<StockLevel> findAllByItemIdForUpdate(@Param("itemIds") Collection<Long> itemIds);
+    
+    @Query(value = "SELECT sl FROM StockLevel sl JOIN FETCH sl.item i JOIN FETCH i.category JOIN FETCH i.supplier " +
+            "WHERE sl.location.id = :locationId",
+            countQuery = "SELECT COUNT(sl) FROM StockLevel sl WHERE sl.location.id = :locationId")
+    Page<StockLevel> findByLocation(@Param("locationId") Long locationId, Pageable pageable);
+    
+    @Query("SELECT sl FROM StockLevel sl JOIN FETCH sl.item i JOIN FETCH i.category JOIN FETCH i.supplier " +
+            "WHERE sl.location.id = :locationId AND sl.quantity < i.minStockLevel ORDER BY sl.quantity, i.name")
+    List<StockLevel> findLowStockAtLocation(@Param("locationId") Long locationId);
+    
+    @Query("SELECT sl FROM StockLevel sl JOIN FETCH sl.location WHERE sl.item.id = :itemId ORDER BY sl.location.code")
+    List<StockLevel> findByItemWithLocation(@Param("itemId") Long itemId);
+    
+    @Modifying
+    @Query("DELETE FROM StockLevel sl WHERE sl.item.id = :itemId")
+    int deleteByItem(@Param("itemId") Long itemId);
+}
@@ -0,0 +1,28 @@
+package com.backend.inventory_management.features.location;
+
+import com.backend.inventory_management.features.inventory.InventoryItem;
+import com.backend.inventory_management.features.location.dtos.*;
+import org.springframework.data.domain.Page;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+public interface StockService {
+    Page<LocationStockDto> getLocationStock(Long locationId, int page, int size);
+    List<LocationStockDto> getLowStockItems(Long locationId);
+    LocationMetricsDto getMetrics(Long locationId);
+    ItemStockDto getItemStock(Long itemId);
+    LocationStockDto adjustStock(Long locationId, AdjustStockDto adjustDto);
+    TransferResultDto transfer(TransferStockDto transferDto);
+    int rebuildSummaries();
+    
+    // Applies coalesced sales in one pass and returns the units that could not be taken from stock
+    long recordSales(Map<StockKey, Long> unitsSold);
+    
+    // Hooks for the item lifecycle; callers hold the item row lock and run inside their own transaction
+    void recordInitialStock(InventoryItem item);
+    void adjustDefaultLocation(InventoryItem item, int delta);
+    void revalueItem(InventoryItem item, BigDecimal previousPrice, Integer previousMinStockLevel);
+    void removeItem(InventoryItem item);
+}
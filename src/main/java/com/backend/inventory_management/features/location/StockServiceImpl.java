@@ -0,0 +1,341 @@
+package com.backend.inventory_management.features.location;
+
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.core.exceptions.ResourceNotFoundException;
+import com.backend.inventory_management.features.inventory.InventoryItem;
+import com.backend.inventory_management.features.inventory.InventoryItemRepository;
+import com.backend.inventory_management.features.inventory.StockChangedEvent;
+import com.backend.inventory_management.features.inventory.StockStatus;
+import com.backend.inventory_management.features.location.dtos.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * All stock movements go through here. Each one locks the item row first, so movements of the same
+ * item are serialized while different items proceed in parallel; the item's chain-wide quantity and
+ * the affected location summaries are then adjusted by delta in the same transaction. Summary deltas
+ * land on one stripe per thread, so movements of different items at one location rarely contend.
+ * A decrement locks the stock row and its {@link ReservedStock} stripes and may not take the row
+ * below the units reservations hold there.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockServiceImpl implements StockService {
+    
+    // Stripe 0 takes the rescanned totals, the other stripes start again from zero
+    private static final String REBUILD_SUMMARIES_SQL =
+        "INSERT INTO location_summaries (location_id, stripe, sku_count, total_units, stock_value, low_stock_count, out_of_stock_count) " +
+        "SELECT l.id, 0, COUNT(sl.id), COALESCE(SUM(sl.quantity), 0), COALESCE(SUM(sl.quantity * i.price), 0), " +
+        "COUNT(CASE WHEN sl.quantity > 0 AND sl.quantity < i.min_stock_level THEN 1 END), " +
+        "COUNT(CASE WHEN sl.quantity = 0 THEN 1 END) " +
+        "FROM locations l LEFT JOIN stock_levels sl ON sl.location_id = l.id " +
+        "LEFT JOIN inventory_items i ON i.id = sl.item_id GROUP BY l.id";
+    
+    private static final String EMPTY_STRIPES_SQL =
+        "INSERT INTO location_summaries (location_id, stripe, sku_count, total_units, stock_value, low_stock_count, out_of_stock_count) " +
+        "SELECT id, ?, 0, 0, 0, 0, 0 FROM locations";
+    
+    private final StockLevelRepository stockLevelRepository;
+    private final LocationRepository locationRepository;
+    private final LocationSummaryRepository locationSummaryRepository;
+    private final LocationService locationService;
+    private final InventoryItemRepository inventoryItemRepository;
+    private final ReservedStock reservedStock;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<LocationStockDto> getLocationStock(Long locationId, int page, int size) {
+        Location location = findLocation(locationId);
+        return stockLevelRepository.findByLocation(locationId, PageRequest.of(page, size, Sort.by("item.name", "id")))
+            .map(level -> convertToDto(level, location));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<LocationStockDto> getLowStockItems(Long locationId) {
+        Location location = findLocation(locationId);
+        return stockLevelRepository.findLowStockAtLocation(locationId).stream()
+            .map(level -> convertToDto(level, location))
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public LocationMetricsDto getMetrics(Long locationId) {
+        Location location = findLocation(locationId);
+        LocationSummary summary = locationSummaryRepository.findByLocationId(locationId).stream()
+            .reduce(LocationSummary::plus)
+            .orElseThrow(() -> new ResourceNotFoundException("No stock summary for location: " + location.getCode()));
+        
+        return LocationMetricsDto.builder()
+            .locationId(location.getId())
+            .locationCode(location.getCode())
+            .totalItems(summary.getSkuCount())
+            .totalUnits(summary.getTotalUnits())
+            .lowStockCount(summary.getLowStockCount())
+            .outOfStockCount(summary.getOutOfStockCount())
+            .totalValue(summary.getStockValue())
+            .build();
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ItemStockDto getItemStock(Long itemId) {
+        InventoryItem item = inventoryItemRepository.findById(itemId)
+            .orElseThrow(() -> new ResourceNotFoundException("Item not found with id: " + itemId));
+        
+        return ItemStockDto.builder()
+            .itemId(item.getId())
+            .name(item.getName())
+            .totalQuantity(item.getQuantity())
+            .locations(stockLevelRepository.findByItemWithLocation(itemId).stream()
+                .map(level -> convertToDto(level, level.getLocation()))
+                .collect(Collectors.toList()))
+            .build();
+    }
+    
+    @Override
+    @Transactional
+    public LocationStockDto adjustStock(Long locationId, AdjustStockDto adjustDto) {
+        Location location = findLocation(locationId);
+        InventoryItem item = lockItem(adjustDto.getItemId());
+        StockLevel level = applyMovement(item, location, adjustDto.getDelta());
+        return convertToDto(level, location);
+    }
+    
+    @Override
+    @Transactional
+    public TransferResultDto transfer(TransferStockDto transferDto) {
+        if (transferDto.getFromLocationId().equals(transferDto.getToLocationId())) {
+            throw new InvalidOperationException("Source and destination locations must differ");
+        }
+        Location from = findLocation(transferDto.getFromLocationId());
+        Location to = findLocation(transferDto.getToLocationId());
+        InventoryItem item = lockItem(transferDto.getItemId());
+        int quantity = transferDto.getQuantity();
+        
+        // Summary rows are always touched in location id order so concurrent transfers cannot deadlock
+        StockLevel source;
+        StockLevel target;
+        if (from.getId() < to.getId()) {
+            source = moveStock(item, from, -quantity);
+            target = moveStock(item, to, quantity);
+        } else {
+            target = moveStock(item, to, quantity);
+            source = moveStock(item, from, -quantity);
+        }
+        log.info("Transferred {} x {} from {} to {}", quantity, item.getName(), from.getCode(), to.getCode());
+        
+        return TransferResultDto.builder()
+            .itemId(item.getId())
+            .from(convertToDto(source, from))
+            .to(convertToDto(target, to))
+            .build();
+    }
+    
+    @Override
+    @Transactional
+    public int rebuildSummaries() {
+        jdbcTemplate.update("DELETE FROM location_summaries");
+        int rebuilt = jdbcTemplate.update(REBUILD_SUMMARIES_SQL);
+        for (int stripe = 1; stripe < LocationSummary.STRIPES; stripe++) {
+            jdbcTemplate.update(EMPTY_STRIPES_SQL, stripe);
+        }
+        log.info("Rebuilt stock summaries for {} locations", rebuilt);
+        return rebuilt;
+    }
+    
+    @Override
+    @Transactional
+    public long recordSales(Map<StockKey, Long> unitsSold) {
+        if (unitsSold.isEmpty()) {
+            return 0;
+        }
+        Set<Long> itemIds = unitsSold.keySet().stream()
+            .map(StockKey::itemId)
+            .collect(Collectors.toCollection(TreeSet::new));
+        Map<Long, InventoryItem> items = inventoryItemRepository.findAllByIdForUpdate(itemIds).stream()
+            .collect(Collectors.toMap(InventoryItem::getId, Function.identity()));
+        Map<StockKey, StockLevel> levels = new HashMap<>();
+        for (StockLevel level : stockLevelRepository.findAllByItemIdForUpdate(itemIds)) {
+            levels.put(new StockKey(level.getItem().getId(), level.getLocation().getId()), level);
+        }
+        
+        Map<Long, Integer> previousTotals = new TreeMap<>();
+        Map<Long, StockContribution> summaryDeltas = new TreeMap<>();
+        long shortfall = 0;
+        for (Map.Entry<StockKey, Long> sale : unitsSold.entrySet()) {
+            InventoryItem item = items.get(sale.getKey().itemId());
+            StockLevel level = levels.get(sale.getKey());
+            int onHand = level != null ? level.getQuantity() : 0;
+            int available = level != null ? onHand - reservedStock.lockReserved(item.getId(), sale.getKey().locationId()) : 0;
+            // The till already handed the goods over, so a sale beyond recorded stock only empties the row;
+            // units held for reservations stay with their holds and the excess counts as shortfall
+            int sold = (int) Math.min(sale.getValue(), available);
+            shortfall += sale.getValue() - sold;
+            if (sold == 0) {
+                continue;
+            }
+            
+            previousTotals.putIfAbsent(item.getId(), item.getQuantity());
+            StockContribution before = StockContribution.of(onHand, item.getPrice(), item.getMinStockLevel());
+            level.setQuantity(onHand - sold);
+            reservedStock.fitToQuantity(item.getId(), sale.getKey().locationId(), level.getQuantity());
+            item.setQuantity(item.getQuantity() - sold);
+            summaryDeltas.merge(sale.getKey().locationId(),
+                StockContribution.of(level.getQuantity(), item.getPrice(), item.getMinStockLevel()).minus(before),
+                StockContribution::plus);
+        }
+        
+        // Dirty items and stock rows are written by the flush as batched UPDATEs
+        summaryDeltas.forEach(this::applySummaryDelta);
+        previousTotals.forEach((itemId, previous) ->
+            eventPublisher.publishEvent(new StockChangedEvent(itemId, previous, items.get(itemId).getQuantity())));
+        return shortfall;
+    }
+    
+    @Override
+    public void recordInitialStock(InventoryItem item) {
+        Location location = locationService.getDefaultLocation();
+        StockLevel level = stockLevelRepository.save(StockLevel.builder()
+            .item(item)
+            .location(location)
+            .quantity(item.getQuantity())
+            .build());
+        applySummaryDelta(location.getId(), StockContribution.of(level.getQuantity(), item.getPrice(), item.getMinStockLevel()));
+    }
+    
+    @Override
+    public void adjustDefaultLocation(InventoryItem item, int delta) {
+        if (delta != 0) {
+            applyMovement(item, locationService.getDefaultLocation(), delta);
+        }
+    }
+    
+    @Override
+    public void revalueItem(InventoryItem item, BigDecimal previousPrice, Integer previousMinStockLevel) {
+        if (item.getPrice().compareTo(previousPrice) == 0 && Objects.equals(item.getMinStockLevel(), previousMinStockLevel)) {
+            return;
+        }
+        for (StockLevel level : levelsInLocationOrder(item.getId())) {
+            StockContribution before = StockContribution.of(level.getQuantity(), previousPrice, previousMinStockLevel);
+            StockContribution after = StockContribution.of(level.getQuantity(), item.getPrice(), item.getMinStockLevel());
+            applySummaryDelta(level.getLocation().getId(), after.minus(before));
+        }
+    }
+    
+    @Override
+    public void removeItem(InventoryItem item) {
+        for (StockLevel level : levelsInLocationOrder(item.getId())) {
+            StockContribution contribution = StockContribution.of(level.getQuantity(), item.getPrice(), item.getMinStockLevel());
+            applySummaryDelta(level.getLocation().getId(), StockContribution.NONE.minus(contribution));
+        }
+        reservedStock.removeItem(item.getId());
+        stockLevelRepository.deleteByItem(item.getId());
+    }
+    
+    // Moves stock at one location and carries the change through to the item's chain-wide quantity
+    private StockLevel applyMovement(InventoryItem item, Location location, int delta) {
+        int previousTotal = item.getQuantity();
+        StockLevel level = moveStock(item, location, delta);
+        item.setQuantity(previousTotal + delta);
+        inventoryItemRepository.save(item);
+        
+        if (delta != 0) {
+            eventPublisher.publishEvent(new StockChangedEvent(item.getId(), previousTotal, item.getQuantity()));
+        }
+        return level;
+    }
+    
+    private StockLevel moveStock(InventoryItem item, Location location, int delta) {
+        StockLevel level = stockLevelRepository.findForUpdate(item.getId(), location.getId()).orElse(null);
+        StockContribution before = level != null
+            ? StockContribution.of(level.getQuantity(), item.getPrice(), item.getMinStockLevel())
+            : StockContribution.NONE;
+        int quantity = (level != null ? level.getQuantity() : 0) + delta;
+        
+        // Units held by reservations are spoken for; only the rest can be taken out
+        if (delta < 0) {
+            int reserved = level != null ? reservedStock.lockReserved(item.getId(), location.getId()) : 0;
+            if (quantity < reserved) {
+                throw new InvalidOperationException("Insufficient stock of " + item.getName() + " at " + location.getCode() +
+                    ": " + (quantity - delta - reserved) + " available" + (reserved > 0 ? " (" + reserved + " reserved)" : "") +
+                    ", " + (-delta) + " requested");
+            }
+            reservedStock.fitToQuantity(item.getId(), location.getId(), quantity);
+        }
+        
+        if (level == null) {
+            level = StockLevel.builder().item(item).location(location).quantity(quantity).build();
+        } else {
+            level.setQuantity(quantity);
+        }
+        level = stockLevelRepository.save(level);
+        applySummaryDelta(location.getId(),
+            StockContribution.of(quantity, item.getPrice(), item.getMinStockLevel()).minus(before));
+        return level;
+    }
+    
+    private void applySummaryDelta(Long locationId, StockContribution delta) {
+        if (delta.isZero()) {
+            return;
+        }
+        int updated = locationSummaryRepository.applyDelta(
+            locationId, summaryStripe(), delta.skus(), delta.units(), delta.value(), delta.low(), delta.out());
+        if (updated == 0) {
+            log.warn("No stock summary row for location {}; run a summary rebuild", locationId);
+        }
+    }
+    
+    // Fixed for the whole transaction, so its summary rows are still locked in location id order
+    private static int summaryStripe() {
+        return (int) (Thread.currentThread().getId() % LocationSummary.STRIPES);
+    }
+    
+    private List<StockLevel> levelsInLocationOrder(Long itemId) {
+        return stockLevelRepository.findByItemWithLocation(itemId).stream()
+            .sorted(Comparator.comparing(level -> level.getLocation().getId()))
+            .collect(Collectors.toList());
+    }
+    
+    private InventoryItem lockItem(Long itemId) {
+        return inventoryItemRepository.findByIdForUpdate(itemId)
+            .orElseThrow(() -> new ResourceNotFoundException("Item not found with id: " + itemId));
+    }
+    
+    private Location findLocation(Long id) {
+        return locationRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Location not found with id: " + id));
+    }
+    
+    private LocationStockDto convertToDto(StockLevel level, Location location) {
+        InventoryItem item = level.getItem();
+        return LocationStockDto.builder()
+            .itemId(item.getId())
+            .name(item.getName())
+            .category(item.getCategory().getName())
+            .supplier(item.getSupplier().getName())
+            .locationId(location.getId())
+            .locationCode(location.getCode())
+            .quantity(level.getQuantity())
+            .price(item.getPrice())
+            .minStockLevel(item.getMinStockLevel())
+            .status(StockStatus.of(level.getQuantity(), item.getMinStockLevel()))
+            .updatedAt(level.getUpdatedAt())
+            .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.backend.inventory_management.features.location.dtos;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdjustStockDto {
+    
+    @NotNull(message = "Item id is required")
+    private Long itemId;
+    
+    // Signed change in units at the location; receipts are positive, sales and write-offs negative
+    @NotNull(message = "Quantity change is required")
+    private Integer delta;
+}
@@ -0,0 +1,31 @@
+package com.backend.inventory_management.features.location.dtos;
+
+import com.backend.inventory_management.features.location.LocationType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateLocationDto {
+    
+    @NotBlank(message = "Location code is required")
+    @Size(max = 32, message = "Location code cannot exceed 32 characters")
+    private String code;
+    
+    @NotBlank(message = "Location name is required")
+    @Size(max = 255, message = "Location name cannot exceed 255 characters")
+    private String name;
+    
+    @NotNull(message = "Location type is required")
+    private LocationType type;
+    
+    @Size(max = 255, message = "Address cannot exceed 255 characters")
+    private String address;
+}
@@ -0,0 +1,19 @@
+package com.backend.inventory_management.features.location.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemStockDto {
+    private Long itemId;
+    private String name;
+    private Integer totalQuantity;
+    private List<LocationStockDto> locations;
+}
@@ -0,0 +1,23 @@
+package com.backend.inventory_management.features.location.dtos;
+
+import com.backend.inventory_management.features.location.LocationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocationDto {
+    private Long id;
+    private String code;
+    private String name;
+    private LocationType type;
+    private String address;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
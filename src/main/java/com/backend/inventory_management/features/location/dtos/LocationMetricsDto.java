@@ -0,0 +1,22 @@
+package com.backend.inventory_management.features.location.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocationMetricsDto {
+    private Long locationId;
+    private String locationCode;
+    private Long totalItems;
+    private Long totalUnits;
+    private Long lowStockCount;
+    private Long outOfStockCount;
+    private BigDecimal totalValue;
+}
@@ -0,0 +1,28 @@
+package com.backend.inventory_management.features.location.dtos;
+
+import com.backend.inventory_management.features.inventory.StockStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocationStockDto {
+    private Long itemId;
+    private String name;
+    private String category;
+    private String supplier;
+    private Long locationId;
+    private String locationCode;
+    private Integer quantity;
+    private BigDecimal price;
+    private Integer minStockLevel;
+    private StockStatus status;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,16 @@
+package com.backend.inventory_management.features.location.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransferResultDto {
+    private Long itemId;
+    private LocationStockDto from;
+    private LocationStockDto to;
+}
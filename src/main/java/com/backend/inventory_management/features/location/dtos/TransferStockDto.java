@@ -0,0 +1,28 @@
+package com.backend.inventory_management.features.location.dtos;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransferStockDto {
+    
+    @NotNull(message = "Item id is required")
+    private Long itemId;
+    
+    @NotNull(message = "Source location is required")
+    private Long fromLocationId;
+    
+    @NotNull(message = "Destination location is required")
+    private Long toLocationId;
+    
+    @NotNull(message = "Quantity is required")
+    @Min(value = 1, message = "Quantity must be at least 1")
+    private Integer quantity;
+}
@@ -0,0 +1,12 @@
+package com.backend.inventory_management.features.reorder;
+
+import com.backend.inventory_management.features.inventory.InventoryItem;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ReorderCandidate {
+    private final InventoryItem item;
+    private final ReorderPolicy policy;
+}
@@ -0,0 +1,43 @@
+package com.backend.inventory_management.features.reorder;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "reorder_policies")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReorderPolicy {
+    
+    @Id
+    @Column(name = "item_id")
+    private Long itemId;
+    
+    @Column(name = "avg_daily_demand", nullable = false)
+    private Double avgDailyDemand;
+    
+    @Column(name = "demand_std_dev", nullable = false)
+    private Double demandStdDev;
+    
+    @Column(name = "lead_time_days", nullable = false)
+    private Integer leadTimeDays;
+    
+    @Column(name = "safety_stock", nullable = false)
+    private Integer safetyStock;
+    
+    @Column(name = "reorder_point", nullable = false)
+    private Integer reorderPoint;
+    
+    @Column(name = "economic_order_quantity", nullable = false)
+    private Integer economicOrderQuantity;
+    
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+}
@@ -0,0 +1,95 @@
+package com.backend.inventory_management.features.reorder;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Component
+public class ReorderPolicyCalculator {
+    
+    private final double serviceLevelZ;
+    private final double orderCost;
+    private final double annualHoldingRate;
+    private final int lookbackDays;
+    private final int defaultLeadTimeDays;
+    
+    public ReorderPolicyCalculator(
+            @Value("${app.reorder.service-level-z:1.65}") double serviceLevelZ,
+            @Value("${app.reorder.order-cost:50}") double orderCost,
+            @Value("${app.reorder.annual-holding-rate:0.25}") double annualHoldingRate,
+            @Value("${app.reorder.lookback-days:56}") int lookbackDays,
+            @Value("${app.reorder.default-lead-time-days:7}") int defaultLeadTimeDays) {
+        this.serviceLevelZ = serviceLevelZ;
+        this.orderCost = orderCost;
+        this.annualHoldingRate = annualHoldingRate;
+        this.lookbackDays = lookbackDays;
+        this.defaultLeadTimeDays = defaultLeadTimeDays;
+    }
+    
+    public ReorderPolicy calculate(ItemDemandInput input, LocalDateTime computedAt) {
+        int leadTime = input.getLeadTimeDays() != null && input.getLeadTimeDays() > 0
+            ? input.getLeadTimeDays()
+            : defaultLeadTimeDays;
+        
+        // Days without a history row count as zero demand
+        double mean = input.getTotalUnits() / (double) lookbackDays;
+        double variance = Math.max(0, input.getSumOfSquares() / (double) lookbackDays - mean * mean);
+        double stdDev = Math.sqrt(variance);
+        
+        int safetyStock;
+        int reorderPoint;
+        int economicOrderQuantity;
+        
+        if (mean <= 0) {
+            // No demand observed: keep the manually configured levels
+            safetyStock = 0;
+            reorderPoint = Math.max(0, input.getMinStockLevel());
+            economicOrderQuantity = Math.max(1, input.getMaxStockLevel() - input.getMinStockLevel());
+        } else {
+            safetyStock = (int) Math.ceil(serviceLevelZ * stdDev * Math.sqrt(leadTime));
+            reorderPoint = Math.max(1, (int) Math.ceil(mean * leadTime) + safetyStock);
+            economicOrderQuantity = economicOrderQuantity(mean * 365, input.getUnitPrice(), leadTime, mean);
+        }
+        
+        return ReorderPolicy.builder()
+            .itemId(input.getItemId())
+            .avgDailyDemand(mean)
+            .demandStdDev(stdDev)
+            .leadTimeDays(leadTime)
+            .safetyStock(safetyStock)
+            .reorderPoint(reorderPoint)
+            .economicOrderQuantity(economicOrderQuantity)
+            .computedAt(computedAt)
+            .build();
+    }
+    
+    public int suggestedQuantity(int quantity, int reorderPoint, int economicOrderQuantity) {
+        // Order up to the reorder point plus one economic lot
+        return Math.max(economicOrderQuantity, reorderPoint + economicOrderQuantity - quantity);
+    }
+    
+    private int economicOrderQuantity(double annualDemand, BigDecimal unitPrice, int leadTime, double mean) {
+        double holdingCost = unitPrice != null ? unitPrice.doubleValue() * annualHoldingRate : 0;
+        if (holdingCost <= 0) {
+            return Math.max(1, (int) Math.ceil(mean * leadTime));
+        }
+        return Math.max(1, (int) Math.ceil(Math.sqrt(2 * annualDemand * orderCost / holdingCost)));
+    }
+    
+    @Getter
+    @RequiredArgsConstructor
+    public static class ItemDemandInput {
+        private final Long itemId;
+        private final long totalUnits;
+        private final long sumOfSquares;
+        private final BigDecimal unitPrice;
+        private final Integer leadTimeDays;
+        private final int minStockLevel;
+        private final int maxStockLevel;
+    }
+}
@@ -0,0 +1,23 @@
+package com.backend.inventory_management.features.reorder;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReorderPolicyRepository extends JpaRepository<ReorderPolicy, Long> {
+    
+    // Items at or below their computed reorder point (or min stock level when no policy exists yet),
+    // most urgent first: lowest stock relative to the reorder point
+    @Query(value = "SELECT new com.backend.inventory_management.features.reorder.ReorderCandidate(i, p) " +
+            "FROM InventoryItem i JOIN FETCH i.category JOIN FETCH i.supplier " +
+            "LEFT JOIN ReorderPolicy p ON p.itemId = i.id " +
+            "WHERE i.quantity <= COALESCE(p.reorderPoint, i.minStockLevel) " +
+            "ORDER BY CASE WHEN COALESCE(p.reorderPoint, i.minStockLevel) > 0 " +
+            "THEN (i.quantity * 1.0) / COALESCE(p.reorderPoint, i.minStockLevel) ELSE 0 END, i.id",
+            countQuery = "SELECT COUNT(i) FROM InventoryItem i LEFT JOIN ReorderPolicy p ON p.itemId = i.id " +
+            "WHERE i.quantity <= COALESCE(p.reorderPoint, i.minStockLevel)")
+    Page<ReorderCandidate> findRecommendations(Pageable pageable);
+}
@@ -0,0 +1,15 @@
+package com.backend.inventory_management.features.reorder;
+
+import com.backend.inventory_management.features.reorder.dtos.ReorderRecommendationDto;
+import com.backend.inventory_management.features.reorder.dtos.SupplierReorderGroupDto;
+import org.springframework.data.domain.Page;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ReorderService {
+    Page<ReorderRecommendationDto> getRecommendations(int page, int size);
+    List<SupplierReorderGroupDto> getRecommendationsBySupplier(int limit);
+    int recomputeAll();
+    int recompute(Collection<Long> itemIds);
+}
@@ -0,0 +1,295 @@
+package com.backend.inventory_management.features.reorder;
+
+import com.backend.inventory_management.features.forecast.demand.DailyDemandRepository;
+import com.backend.inventory_management.features.inventory.InventoryItem;
+import com.backend.inventory_management.features.inventory.StockChangedEvent;
+import com.backend.inventory_management.features.inventory.supplier.SupplierRepository;
+import com.backend.inventory_management.features.jobs.ClusterJob;
+import com.backend.inventory_management.features.jobs.JobChunkResult;
+import com.backend.inventory_management.features.reorder.dtos.ReorderRecommendationDto;
+import com.backend.inventory_management.features.reorder.dtos.SupplierReorderGroupDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class ReorderServiceImpl implements ReorderService, ClusterJob {
+
+    private static final int WRITE_BATCH_SIZE = 1000;
+    private static final int INCREMENTAL_CHUNK_SIZE = 1000;
+    private static final int BATCH_CHUNK_SIZE = 2000;
+
+    private static final String INSERT_POLICY_SQL =
+        "INSERT INTO reorder_policies (item_id, avg_daily_demand, demand_std_dev, lead_time_days, " +
+        "safety_stock, reorder_point, economic_order_quantity, computed_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final ReorderPolicyRepository reorderPolicyRepository;
+    private final DailyDemandRepository dailyDemandRepository;
+    private final SupplierRepository supplierRepository;
+    private final ReorderPolicyCalculator calculator;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String batchCron;
+    private final Set<Long> dirtyItemIds = ConcurrentHashMap.newKeySet();
+
+    public ReorderServiceImpl(ReorderPolicyRepository reorderPolicyRepository,
+                              DailyDemandRepository dailyDemandRepository,
+                              SupplierRepository supplierRepository,
+                              ReorderPolicyCalculator calculator,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.reorder.batch-cron:0 30 2 * * *}") String batchCron) {
+        this.reorderPolicyRepository = reorderPolicyRepository;
+        this.dailyDemandRepository = dailyDemandRepository;
+        this.supplierRepository = supplierRepository;
+        this.calculator = calculator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchCron = batchCron;
+    }
+
+    @Override
+    public Page<ReorderRecommendationDto> getRecommendations(int page, int size) {
+        Page<ReorderCandidate> candidates = reorderPolicyRepository.findRecommendations(PageRequest.of(page, size));
+        int firstRank = page * size + 1;
+
+        List<ReorderRecommendationDto> content = new ArrayList<>(candidates.getNumberOfElements());
+        for (ReorderCandidate candidate : candidates.getContent()) {
+            content.add(convertToDto(candidate, firstRank + content.size()));
+        }
+        return new PageImpl<>(content, candidates.getPageable(), candidates.getTotalElements());
+    }
+
+    @Override
+    public List<SupplierReorderGroupDto> getRecommendationsBySupplier(int limit) {
+        List<ReorderRecommendationDto> ranked = getRecommendations(0, limit).getContent();
+
+        Map<String, List<ReorderRecommendationDto>> bySupplier = ranked.stream()
+            .collect(Collectors.groupingBy(ReorderRecommendationDto::getSupplier, LinkedHashMap::new, Collectors.toList()));
+
+        return bySupplier.entrySet().stream()
+            .map(entry -> SupplierReorderGroupDto.builder()
+                .supplier(entry.getKey())
+                .itemCount(entry.getValue().size())
+                .totalSuggestedQuantity(entry.getValue().stream()
+                    .mapToInt(ReorderRecommendationDto::getSuggestedQuantity).sum())
+                .totalOrderValue(entry.getValue().stream()
+                    .map(ReorderRecommendationDto::getSuggestedOrderValue)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add))
+                .items(entry.getValue())
+                .build())
+            .sorted(Comparator.comparing(SupplierReorderGroupDto::getTotalOrderValue).reversed())
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public String getJobName() {
+        return "reorder-policies";
+    }
+
+    @Override
+    public String getJobCron() {
+        return batchCron;
+    }
+
+    @Override
+    public int recomputeAll() {
+        long started = System.currentTimeMillis();
+        int written = 0;
+        String checkpoint = null;
+        do {
+            JobChunkResult result = runChunk(checkpoint);
+            written += (int) result.processed();
+            checkpoint = result.checkpoint();
+        } while (checkpoint != null);
+
+        log.info("Recomputed {} reorder policies in {} ms", written, System.currentTimeMillis() - started);
+        return written;
+    }
+
+    /**
+     * Recomputes the policies of the next range of item ids after the checkpoint in one transaction.
+     * Each range replaces every policy inside it, so policies of items deleted since the last batch
+     * are dropped along the way.
+     */
+    @Override
+    public JobChunkResult runChunk(String checkpoint) {
+        long afterId = checkpoint != null ? Long.parseLong(checkpoint) : 0;
+        List<Long> itemIds = jdbcTemplate.queryForList(
+            "SELECT id FROM inventory_items WHERE id > ? AND deleted_at IS NULL ORDER BY id LIMIT ?",
+            Long.class, afterId, BATCH_CHUNK_SIZE);
+        if (itemIds.isEmpty()) {
+            jdbcTemplate.update("DELETE FROM reorder_policies WHERE item_id > ?", afterId);
+            return JobChunkResult.done(0);
+        }
+        long lastId = itemIds.get(itemIds.size() - 1);
+        Map<Long, long[]> demand = toDemandMap(dailyDemandRepository.aggregateDemandSince(lookbackStart(), itemIds));
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", itemIds);
+
+        Integer written = transactionTemplate.execute(status -> {
+            jdbcTemplate.update("DELETE FROM reorder_policies WHERE item_id > ? AND item_id <= ?", afterId, lastId);
+            return computeAndWrite("SELECT id, price, supplier_id, min_stock_level, max_stock_level " +
+                "FROM inventory_items WHERE id IN (:ids) AND deleted_at IS NULL", params, demand);
+        });
+        return JobChunkResult.next(written != null ? written : 0, Long.toString(lastId));
+    }
+
+    @Override
+    public int recompute(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return 0;
+        }
+        Map<Long, long[]> demand = toDemandMap(dailyDemandRepository.aggregateDemandSince(lookbackStart(), itemIds));
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", itemIds);
+
+        Integer written = transactionTemplate.execute(status -> {
+            namedJdbcTemplate.update("DELETE FROM reorder_policies WHERE item_id IN (:ids)", params);
+            return computeAndWrite("SELECT id, price, supplier_id, min_stock_level, max_stock_level " +
+                "FROM inventory_items WHERE id IN (:ids) AND deleted_at IS NULL", params, demand);
+        });
+        return written != null ? written : 0;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        dirtyItemIds.add(event.getItemId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.reorder.incremental-interval-ms:60000}")
+    public void recomputeDirtyItems() {
+        if (dirtyItemIds.isEmpty()) {
+            return;
+        }
+        List<Long> drained = new ArrayList<>();
+        for (Iterator<Long> it = dirtyItemIds.iterator(); it.hasNext(); ) {
+            drained.add(it.next());
+            it.remove();
+        }
+
+        for (int from = 0; from < drained.size(); from += INCREMENTAL_CHUNK_SIZE) {
+            List<Long> chunk = drained.subList(from, Math.min(drained.size(), from + INCREMENTAL_CHUNK_SIZE));
+            try {
+                recompute(chunk);
+            } catch (Exception e) {
+                log.error("Failed to recompute reorder policies for {} items", chunk.size(), e);
+                dirtyItemIds.addAll(chunk);
+            }
+        }
+        log.debug("Incrementally recomputed reorder policies for {} items", drained.size());
+    }
+
+    private int computeAndWrite(String itemSql, MapSqlParameterSource params, Map<Long, long[]> demand) {
+        Map<Long, Integer> leadTimes = supplierRepository.findLeadTimesById();
+        LocalDateTime computedAt = LocalDateTime.now();
+        List<ReorderPolicy> batch = new ArrayList<>(WRITE_BATCH_SIZE);
+        int[] written = {0};
+
+        namedJdbcTemplate.query(itemSql, params, rs -> {
+            long itemId = rs.getLong("id");
+            long[] stats = demand.getOrDefault(itemId, new long[2]);
+
+            batch.add(calculator.calculate(new ReorderPolicyCalculator.ItemDemandInput(
+                itemId,
+                stats[0],
+                stats[1],
+                rs.getBigDecimal("price"),
+                leadTimes.get(rs.getLong("supplier_id")),
+                rs.getInt("min_stock_level"),
+                rs.getInt("max_stock_level")
+            ), computedAt));
+
+            if (batch.size() == WRITE_BATCH_SIZE) {
+                written[0] += writeBatch(batch);
+                batch.clear();
+            }
+        });
+        written[0] += writeBatch(batch);
+        return written[0];
+    }
+
+    private int writeBatch(List<ReorderPolicy> policies) {
+        if (policies.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_POLICY_SQL, policies, policies.size(), (ps, policy) -> {
+            ps.setLong(1, policy.getItemId());
+            ps.setDouble(2, policy.getAvgDailyDemand());
+            ps.setDouble(3, policy.getDemandStdDev());
+            ps.setInt(4, policy.getLeadTimeDays());
+            ps.setInt(5, policy.getSafetyStock());
+            ps.setInt(6, policy.getReorderPoint());
+            ps.setInt(7, policy.getEconomicOrderQuantity());
+            ps.setTimestamp(8, Timestamp.valueOf(policy.getComputedAt()));
+        });
+        return policies.size();
+    }
+
+    private Map<Long, long[]> toDemandMap(List<Object[]> rows) {
+        Map<Long, long[]> demand = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            demand.put((Long) row[0], new long[]{((Number) row[1]).longValue(), ((Number) row[2]).longValue()});
+        }
+        return demand;
+    }
+
+    private LocalDate lookbackStart() {
+        return LocalDate.now().minusDays(calculator.getLookbackDays() - 1L);
+    }
+
+    private ReorderRecommendationDto convertToDto(ReorderCandidate candidate, int rank) {
+        InventoryItem item = candidate.getItem();
+        ReorderPolicy policy = candidate.getPolicy();
+
+        int reorderPoint = policy != null ? policy.getReorderPoint() : item.getMinStockLevel();
+        int economicOrderQuantity = policy != null
+            ? policy.getEconomicOrderQuantity()
+            : Math.max(1, item.getMaxStockLevel() - item.getMinStockLevel());
+        int suggestedQuantity = policy != null
+            ? calculator.suggestedQuantity(item.getQuantity(), reorderPoint, economicOrderQuantity)
+            : Math.max(1, item.getMaxStockLevel() - item.getQuantity());
+        double avgDailyDemand = policy != null ? policy.getAvgDailyDemand() : 0;
+
+        return ReorderRecommendationDto.builder()
+            .rank(rank)
+            .itemId(item.getId())
+            .name(item.getName())
+            .category(item.getCategory().getName())
+            .supplier(item.getSupplier().getName())
+            .quantity(item.getQuantity())
+            .price(item.getPrice())
+            .avgDailyDemand(avgDailyDemand)
+            .demandStdDev(policy != null ? policy.getDemandStdDev() : 0)
+            .leadTimeDays(policy != null ? policy.getLeadTimeDays() : calculator.getDefaultLeadTimeDays())
+            .safetyStock(policy != null ? policy.getSafetyStock() : 0)
+            .reorderPoint(reorderPoint)
+            .economicOrderQuantity(economicOrderQuantity)
+            .suggestedQuantity(suggestedQuantity)
+            .suggestedOrderValue(item.getPrice().multiply(BigDecimal.valueOf(suggestedQuantity))
+                .setScale(2, RoundingMode.HALF_UP))
+            .daysOfCover(avgDailyDemand > 0 ? item.getQuantity() / avgDailyDemand : null)
+            .computedAt(policy != null ? policy.getComputedAt() : null)
+            .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.backend.inventory_management.features.reorder.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReorderRecommendationDto {
+    private Integer rank;
+    private Long itemId;
+    private String name;
+    private String category;
+    private String supplier;
+    private Integer quantity;
+    private BigDecimal price;
+    private Double avgDailyDemand;
+    private Double demandStdDev;
+    private Integer leadTimeDays;
+    private Integer safetyStock;
+    private Integer reorderPoint;
+    private Integer economicOrderQuantity;
+    private Integer suggestedQuantity;
+    private BigDecimal suggestedOrderValue;
+    private Double daysOfCover;
+    private LocalDateTime computedAt;
+}
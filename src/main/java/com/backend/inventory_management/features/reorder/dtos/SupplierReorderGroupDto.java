@@ -0,0 +1,21 @@
+package com.backend.inventory_management.features.reorder.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SupplierReorderGroupDto {
+    private String supplier;
+    private Integer itemCount;
+    private Integer totalSuggestedQuantity;
+    private BigDecimal totalOrderValue;
+    private List<ReorderRecommendationDto> items;
+}
@@ -0,0 +1,73 @@
+package com.backend.inventory_management.features.reservation;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel: a timeout is filed under the bucket of its deadline tick and is only looked
+ * at when the wheel reaches that bucket, so expiring N timeouts costs O(N) regardless of how many
+ * are pending. Scheduling is lock-free; advancing is done by a single ticker thread.
+ */
+public class HashedTimerWheel<T> {
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final int mask;
+    private final List<Queue<Timeout<T>>> buckets;
+    private volatile long currentTick;
+
+    public HashedTimerWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick duration and wheel size must be positive");
+        }
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.mask = Math.max(1, size) - 1;
+        this.buckets = new ArrayList<>(mask + 1);
+        for (int i = 0; i <= mask; i++) {
+            buckets.add(new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    public void schedule(T task, long deadlineMillis) {
+        long tick = Math.floorDiv(deadlineMillis - startMillis + tickMillis - 1, tickMillis);
+        // A deadline in a bucket the ticker has already passed would wait a whole revolution
+        tick = Math.max(tick, currentTick + 1);
+        buckets.get((int) (tick & mask)).add(new Timeout<>(task, tick));
+    }
+
+    /**
+     * Processes every tick up to {@code nowMillis}, handing due tasks to {@code onExpired}.
+     * Returns the number of tasks expired.
+     */
+    public synchronized int advance(long nowMillis, Consumer<T> onExpired) {
+        long targetTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+        int expired = 0;
+        while (currentTick < targetTick) {
+            long tick = currentTick + 1;
+            for (Iterator<Timeout<T>> it = buckets.get((int) (tick & mask)).iterator(); it.hasNext(); ) {
+                Timeout<T> timeout = it.next();
+                // Timeouts more than one revolution out share the bucket and stay for a later pass
+                if (timeout.tick <= tick) {
+                    it.remove();
+                    onExpired.accept(timeout.task);
+                    expired++;
+                }
+            }
+            currentTick = tick;
+        }
+        return expired;
+    }
+
+    public int pending() {
+        return buckets.stream().mapToInt(Queue::size).sum();
+    }
+
+    private record Timeout<T>(T task, long tick) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.backend.inventory_management.features.reservation;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A hold on stock at one location. Confirm, release and expiry race for the single HELD -> terminal
+ * transition through {@link ReservationRepository#complete}, so exactly one of them, on whichever
+ * node, gives the reserved units back.
+ */
+@Entity
+@Table(name = "stock_reservations")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Reservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Column(name = "location_id", nullable = false)
+    private Long locationId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    // The reserved-stock stripe the units were claimed on, and are handed back to
+    @Column(nullable = false)
+    private Integer stripe;
+
+    private String reference;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReservationStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,108 @@
+package com.backend.inventory_management.features.reservation;
+
+import com.backend.inventory_management.core.Response;
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.core.exceptions.ResourceNotFoundException;
+import com.backend.inventory_management.features.reservation.dtos.AvailabilityDto;
+import com.backend.inventory_management.features.reservation.dtos.CreateReservationDto;
+import com.backend.inventory_management.features.reservation.dtos.ReservationDto;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/reservations")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ReservationController {
+    
+    private final ReservationService reservationService;
+    
+    @PostMapping
+    public ResponseEntity<Response<ReservationDto>> reserve(@Valid @RequestBody CreateReservationDto createDto) {
+        try {
+            ReservationDto reservation = reservationService.reserve(createDto);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                .body(Response.success(reservation, "Stock reserved successfully"));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (InvalidOperationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to reserve stock", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to reserve stock"));
+        }
+    }
+    
+    @GetMapping("/{id}")
+    public ResponseEntity<Response<ReservationDto>> getReservation(@PathVariable String id) {
+        try {
+            return ResponseEntity.ok(Response.success(reservationService.getReservation(id)));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to retrieve reservation {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve reservation"));
+        }
+    }
+    
+    @PostMapping("/{id}/confirm")
+    public ResponseEntity<Response<ReservationDto>> confirm(@PathVariable String id) {
+        try {
+            ReservationDto reservation = reservationService.confirm(id);
+            return ResponseEntity.ok(Response.success(reservation, "Reservation confirmed successfully"));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (InvalidOperationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to confirm reservation {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to confirm reservation"));
+        }
+    }
+    
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Response<ReservationDto>> release(@PathVariable String id) {
+        try {
+            ReservationDto reservation = reservationService.release(id);
+            return ResponseEntity.ok(Response.success(reservation, "Reservation released successfully"));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (InvalidOperationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to release reservation {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to release reservation"));
+        }
+    }
+    
+    @GetMapping("/availability")
+    public ResponseEntity<Response<AvailabilityDto>> getAvailability(@RequestParam Long itemId,
+                                                                     @RequestParam(required = false) Long locationId) {
+        try {
+            return ResponseEntity.ok(Response.success(reservationService.getAvailability(itemId, locationId)));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to retrieve availability for item {}", itemId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve availability"));
+        }
+    }
+}
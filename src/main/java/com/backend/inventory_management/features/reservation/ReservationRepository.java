@@ -0,0 +1,32 @@
+package com.backend.inventory_management.features.reservation;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ReservationRepository extends JpaRepository<Reservation, String> {
+
+    // Moves a hold to its outcome only if it is still HELD; 1 means this caller won the transition
+    @Modifying
+    @Query("UPDATE Reservation r SET r.status = :outcome " +
+            "WHERE r.id = :id AND r.status = com.backend.inventory_management.features.reservation.ReservationStatus.HELD")
+    int complete(@Param("id") String id, @Param("outcome") ReservationStatus outcome);
+
+    @Query("SELECT r.id FROM Reservation r " +
+            "WHERE r.status = com.backend.inventory_management.features.reservation.ReservationStatus.HELD " +
+            "AND r.expiresAt <= :now ORDER BY r.expiresAt")
+    List<String> findOverdueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Reservation r " +
+            "WHERE r.status <> com.backend.inventory_management.features.reservation.ReservationStatus.HELD " +
+            "AND r.expiresAt < :cutoff")
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,13 @@
+package com.backend.inventory_management.features.reservation;
+
+import com.backend.inventory_management.features.reservation.dtos.AvailabilityDto;
+import com.backend.inventory_management.features.reservation.dtos.CreateReservationDto;
+import com.backend.inventory_management.features.reservation.dtos.ReservationDto;
+
+public interface ReservationService {
+    ReservationDto reserve(CreateReservationDto createDto);
+    ReservationDto getReservation(String id);
+    ReservationDto confirm(String id);
+    ReservationDto release(String id);
+    AvailabilityDto getAvailability(Long itemId, Long locationId);
+}
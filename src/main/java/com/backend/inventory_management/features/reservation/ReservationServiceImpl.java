@@ -0,0 +1,259 @@
+package com.backend.inventory_management.features.reservation;
+
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.core.exceptions.ResourceNotFoundException;
+import com.backend.inventory_management.features.inventory.InventoryItemRepository;
+import com.backend.inventory_management.features.location.Location;
+import com.backend.inventory_management.features.location.LocationRepository;
+import com.backend.inventory_management.features.location.LocationService;
+import com.backend.inventory_management.features.location.ReservedStock;
+import com.backend.inventory_management.features.location.StockLevel;
+import com.backend.inventory_management.features.location.StockLevelRepository;
+import com.backend.inventory_management.features.location.StockService;
+import com.backend.inventory_management.features.location.dtos.AdjustStockDto;
+import com.backend.inventory_management.features.reservation.dtos.AvailabilityDto;
+import com.backend.inventory_management.features.reservation.dtos.CreateReservationDto;
+import com.backend.inventory_management.features.reservation.dtos.ReservationDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Holds are rows in stock_reservations and their units are counted by {@link ReservedStock}, so
+ * every node sees the same availability and holds survive restarts. A hold is claimed on one of the
+ * stock row's reserved-stock stripes, so concurrent checkouts on a hot SKU spread over several row
+ * locks instead of queueing on one.
+ * <p>
+ * Each node expires the holds it placed with a hashed timer wheel instead of scanning for stale
+ * ones. A slower sweep catches holds whose node restarted or died before their deadline.
+ */
+@Slf4j
+@Service
+public class ReservationServiceImpl implements ReservationService {
+
+    private static final int SWEEP_BATCH_SIZE = 500;
+    private static final Duration FINISHED_RETENTION = Duration.ofDays(1);
+
+    private final StockService stockService;
+    private final StockLevelRepository stockLevelRepository;
+    private final ReservedStock reservedStock;
+    private final ReservationRepository reservationRepository;
+    private final LocationRepository locationRepository;
+    private final LocationService locationService;
+    private final InventoryItemRepository inventoryItemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int defaultTtlSeconds;
+    private final int maxTtlSeconds;
+    private final HashedTimerWheel<String> expiryWheel;
+
+    public ReservationServiceImpl(StockService stockService,
+                                  StockLevelRepository stockLevelRepository,
+                                  ReservedStock reservedStock,
+                                  ReservationRepository reservationRepository,
+                                  LocationRepository locationRepository,
+                                  LocationService locationService,
+                                  InventoryItemRepository inventoryItemRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.reservations.default-ttl-seconds:900}") int defaultTtlSeconds,
+                                  @Value("${app.reservations.max-ttl-seconds:86400}") int maxTtlSeconds,
+                                  @Value("${app.reservations.tick-ms:1000}") long tickMillis,
+                                  @Value("${app.reservations.wheel-size:512}") int wheelSize) {
+        this.stockService = stockService;
+        this.stockLevelRepository = stockLevelRepository;
+        this.reservedStock = reservedStock;
+        this.reservationRepository = reservationRepository;
+        this.locationRepository = locationRepository;
+        this.locationService = locationService;
+        this.inventoryItemRepository = inventoryItemRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.defaultTtlSeconds = defaultTtlSeconds;
+        this.maxTtlSeconds = maxTtlSeconds;
+        this.expiryWheel = new HashedTimerWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    @Override
+    @Transactional
+    public ReservationDto reserve(CreateReservationDto createDto) {
+        int ttlSeconds = createDto.getTtlSeconds() != null ? createDto.getTtlSeconds() : defaultTtlSeconds;
+        if (ttlSeconds > maxTtlSeconds) {
+            throw new InvalidOperationException("Reservation TTL cannot exceed " + maxTtlSeconds + " seconds");
+        }
+        Long itemId = createDto.getItemId();
+        Long locationId = resolveLocation(createDto.getLocationId()).getId();
+        int quantity = createDto.getQuantity();
+        requireItem(itemId);
+
+        int stripe = reservedStock.claim(itemId, locationId, quantity);
+        if (stripe < 0) {
+            throw new InvalidOperationException("Insufficient available stock: " +
+                getAvailability(itemId, locationId).getAvailable() + " available, " + quantity + " requested");
+        }
+
+        long now = System.currentTimeMillis();
+        long expiresAtMillis = now + ttlSeconds * 1000L;
+        Reservation reservation = reservationRepository.save(Reservation.builder()
+            .itemId(itemId)
+            .locationId(locationId)
+            .quantity(quantity)
+            .stripe(stripe)
+            .reference(createDto.getReference())
+            .status(ReservationStatus.HELD)
+            .createdAt(toDateTime(now))
+            .expiresAt(toDateTime(expiresAtMillis))
+            .build());
+        // A hold whose transaction rolls back is no longer HELD when its timeout fires, so that is a no-op
+        expiryWheel.schedule(reservation.getId(), expiresAtMillis);
+        return convertToDto(reservation);
+    }
+
+    @Override
+    public ReservationDto getReservation(String id) {
+        return convertToDto(findReservation(id));
+    }
+
+    @Override
+    @Transactional
+    public ReservationDto confirm(String id) {
+        Reservation reservation = findReservation(id);
+        // Item, stock row, then stripe: the order every stock movement locks them in, so confirming
+        // cannot deadlock with one
+        inventoryItemRepository.findByIdForUpdate(reservation.getItemId());
+        stockLevelRepository.findForUpdate(reservation.getItemId(), reservation.getLocationId());
+        complete(reservation, ReservationStatus.CONFIRMED);
+        // Handed back and taken out in one transaction, so no other hold can claim the units in between;
+        // if the movement fails the whole confirmation rolls back and the hold stays in place
+        unreserve(reservation);
+        stockService.adjustStock(reservation.getLocationId(), AdjustStockDto.builder()
+            .itemId(reservation.getItemId())
+            .delta(-reservation.getQuantity())
+            .build());
+        log.debug("Confirmed reservation {} for {} x item {}", id, reservation.getQuantity(), reservation.getItemId());
+        return convertToDto(reservation);
+    }
+
+    @Override
+    @Transactional
+    public ReservationDto release(String id) {
+        Reservation reservation = findReservation(id);
+        complete(reservation, ReservationStatus.RELEASED);
+        unreserve(reservation);
+        return convertToDto(reservation);
+    }
+
+    @Override
+    public AvailabilityDto getAvailability(Long itemId, Long locationId) {
+        Long resolvedLocationId = resolveLocation(locationId).getId();
+        requireItem(itemId);
+        int onHand = stockLevelRepository.findByItemIdAndLocationId(itemId, resolvedLocationId)
+            .map(StockLevel::getQuantity)
+            .orElse(0);
+        int reserved = reservedStock.reserved(itemId, resolvedLocationId);
+
+        return AvailabilityDto.builder()
+            .itemId(itemId)
+            .locationId(resolvedLocationId)
+            .onHand(onHand)
+            .reserved(reserved)
+            .available(Math.max(0, onHand - reserved))
+            .build();
+    }
+
+    @Scheduled(fixedRateString = "${app.reservations.tick-ms:1000}")
+    public void expireReservations() {
+        int expired = expiryWheel.advance(System.currentTimeMillis(), this::expire);
+        if (expired > 0) {
+            log.debug("Processed {} reservation timeouts, {} pending on this node", expired, expiryWheel.pending());
+        }
+    }
+
+    /**
+     * Expires holds past their deadline that no node's timer wheel has handled, then drops
+     * finished reservations a day after they expired.
+     */
+    @Scheduled(fixedDelayString = "${app.reservations.sweep-interval-ms:60000}")
+    public void sweepReservations() {
+        LocalDateTime now = LocalDateTime.now();
+        int expired = 0;
+        List<String> overdue;
+        do {
+            overdue = reservationRepository.findOverdueIds(now, PageRequest.of(0, SWEEP_BATCH_SIZE));
+            overdue.forEach(this::expire);
+            expired += overdue.size();
+        } while (overdue.size() == SWEEP_BATCH_SIZE);
+
+        int purged = transactionTemplate.execute(status ->
+            reservationRepository.deleteFinishedBefore(now.minus(FINISHED_RETENTION)));
+        if (expired > 0 || purged > 0) {
+            log.info("Reservation sweep expired {} overdue holds and purged {} finished ones", expired, purged);
+        }
+    }
+
+    // Safe to call for any id on any node: only the caller that moves the hold out of HELD releases its units
+    private void expire(String id) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (reservationRepository.complete(id, ReservationStatus.EXPIRED) == 1) {
+                reservationRepository.findById(id).ifPresent(this::unreserve);
+            }
+        });
+    }
+
+    private void unreserve(Reservation reservation) {
+        reservedStock.release(reservation.getItemId(), reservation.getLocationId(), reservation.getStripe(),
+            reservation.getQuantity());
+    }
+
+    private void complete(Reservation reservation, ReservationStatus outcome) {
+        if (reservation.getStatus() != ReservationStatus.HELD
+                || reservationRepository.complete(reservation.getId(), outcome) == 0) {
+            throw new InvalidOperationException("Reservation " + reservation.getId() + " is no longer held");
+        }
+        reservation.setStatus(outcome);
+    }
+
+    private void requireItem(Long itemId) {
+        if (!inventoryItemRepository.existsById(itemId)) {
+            throw new ResourceNotFoundException("Item not found with id: " + itemId);
+        }
+    }
+
+    private Location resolveLocation(Long locationId) {
+        if (locationId == null) {
+            return locationService.getDefaultLocation();
+        }
+        return locationRepository.findById(locationId)
+            .orElseThrow(() -> new ResourceNotFoundException("Location not found with id: " + locationId));
+    }
+
+    private Reservation findReservation(String id) {
+        return reservationRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Reservation not found with id: " + id));
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private ReservationDto convertToDto(Reservation reservation) {
+        return ReservationDto.builder()
+            .id(reservation.getId())
+            .itemId(reservation.getItemId())
+            .locationId(reservation.getLocationId())
+            .quantity(reservation.getQuantity())
+            .reference(reservation.getReference())
+            .status(reservation.getStatus())
+            .createdAt(reservation.getCreatedAt())
+            .expiresAt(reservation.getExpiresAt())
+            .build();
+    }
+}
@@ -0,0 +1,8 @@
+package com.backend.inventory_management.features.reservation;
+
+public enum ReservationStatus {
+    HELD,
+    CONFIRMED,
+    RELEASED,
+    EXPIRED
+}
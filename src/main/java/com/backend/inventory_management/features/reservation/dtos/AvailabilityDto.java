@@ -0,0 +1,18 @@
+package com.backend.inventory_management.features.reservation.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityDto {
+    private Long itemId;
+    private Long locationId;
+    private Integer onHand;
+    private Integer reserved;
+    private Integer available;
+}
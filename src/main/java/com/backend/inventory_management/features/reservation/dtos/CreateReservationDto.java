@@ -0,0 +1,32 @@
+package com.backend.inventory_management.features.reservation.dtos;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateReservationDto {
+    
+    @NotNull(message = "Item id is required")
+    private Long itemId;
+    
+    // Defaults to the main location when omitted
+    private Long locationId;
+    
+    @NotNull(message = "Quantity is required")
+    @Min(value = 1, message = "Quantity must be at least 1")
+    private Integer quantity;
+    
+    @Min(value = 1, message = "TTL must be at least 1 second")
+    private Integer ttlSeconds;
+    
+    @Size(max = 100, message = "Reference cannot exceed 100 characters")
+    private String reference;
+}
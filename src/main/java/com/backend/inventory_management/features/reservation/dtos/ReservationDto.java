@@ -0,0 +1,24 @@
+package com.backend.inventory_management.features.reservation.dtos;
+
+import com.backend.inventory_management.features.reservation.ReservationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationDto {
+    private String id;
+    private Long itemId;
+    private Long locationId;
+    private Integer quantity;
+    private String reference;
+    private ReservationStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,68 @@
+package com.backend.inventory_management.features.sales;
+
+import com.backend.inventory_management.core.Response;
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.core.exceptions.ResourceNotFoundException;
+import com.backend.inventory_management.features.sales.dtos.SaleBatchDto;
+import com.backend.inventory_management.features.sales.dtos.SaleIngestResultDto;
+import com.backend.inventory_management.features.sales.dtos.SaleIngestStatusDto;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/sales")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class SaleIngestController {
+    
+    private final SaleIngestService saleIngestService;
+    
+    @PostMapping("/batches")
+    public ResponseEntity<Response<SaleIngestResultDto>> ingest(@Valid @RequestBody SaleBatchDto batch) {
+        try {
+            SaleIngestResultDto result = saleIngestService.ingest(batch);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(Response.success(result, "Sales recorded"));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (InvalidOperationException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to record sales", e);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Response.error("Failed to record sales"));
+        }
+    }
+    
+    @GetMapping("/ingest-status")
+    public ResponseEntity<Response<SaleIngestStatusDto>> getStatus() {
+        try {
+            return ResponseEntity.ok(Response.success(saleIngestService.getStatus()));
+        } catch (Exception e) {
+            log.error("Failed to retrieve sale ingest status", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve sale ingest status"));
+        }
+    }
+    
+    @PostMapping("/flush")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Response<Integer>> flush() {
+        try {
+            int flushed = saleIngestService.flush();
+            return ResponseEntity.ok(Response.success(flushed, "Pending sales flushed"));
+        } catch (Exception e) {
+            log.error("Failed to flush sales", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to flush sales"));
+        }
+    }
+}
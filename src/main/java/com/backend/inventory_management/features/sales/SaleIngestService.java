@@ -0,0 +1,11 @@
+package com.backend.inventory_management.features.sales;
+
+import com.backend.inventory_management.features.sales.dtos.SaleBatchDto;
+import com.backend.inventory_management.features.sales.dtos.SaleIngestResultDto;
+import com.backend.inventory_management.features.sales.dtos.SaleIngestStatusDto;
+
+public interface SaleIngestService {
+    SaleIngestResultDto ingest(SaleBatchDto batch);
+    int flush();
+    SaleIngestStatusDto getStatus();
+}
@@ -0,0 +1,249 @@
+package com.backend.inventory_management.features.sales;
+
+import com.backend.inventory_management.core.exceptions.ResourceNotFoundException;
+import com.backend.inventory_management.features.location.LocationRepository;
+import com.backend.inventory_management.features.location.LocationService;
+import com.backend.inventory_management.features.location.StockKey;
+import com.backend.inventory_management.features.location.StockService;
+import com.backend.inventory_management.features.sales.dtos.SaleBatchDto;
+import com.backend.inventory_management.features.sales.dtos.SaleIngestResultDto;
+import com.backend.inventory_management.features.sales.dtos.SaleIngestStatusDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Till sales are acknowledged once they are durable in the local write-ahead log and are only
+ * summed per stock row in memory. A short scheduled flush applies those sums in one transaction,
+ * so database writes scale with the distinct rows sold per interval rather than with line items.
+ * The flush advances a checkpoint in the same transaction; on startup every later segment is
+ * replayed, so each acknowledged sale reaches stock exactly once. Each node has a log of its own,
+ * and each log its own checkpoint, keyed by the id kept in the log directory.
+ */
+@Slf4j
+@Service
+public class SaleIngestServiceImpl implements SaleIngestService, SmartInitializingSingleton, DisposableBean {
+
+    private static final String LEGACY_LOG_ID = "legacy";
+
+    private final StockService stockService;
+    private final LocationService locationService;
+    private final LocationRepository locationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Path walDirectory;
+    private final long appendTimeoutMs;
+    private final Set<Long> knownLocationIds = ConcurrentHashMap.newKeySet();
+    private final AtomicLong acceptedLines = new AtomicLong();
+    private final AtomicLong unfulfilledUnits = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+
+    private volatile SaleWriteAheadLog wal;
+    private volatile String logId;
+    private volatile Long defaultLocationId;
+    private volatile LocalDateTime lastFlushAt;
+    private volatile int lastFlushStockRows;
+    private volatile long lastFlushMs;
+
+    // Sums sealed from the log but not yet committed; only touched under the flush lock
+    private Map<StockKey, Long> unflushed = new HashMap<>();
+
+    public SaleIngestServiceImpl(StockService stockService,
+                                 LocationService locationService,
+                                 LocationRepository locationRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.sales.wal-dir:data/sales-wal}") String walDirectory,
+                                 @Value("${app.sales.append-timeout-ms:5000}") long appendTimeoutMs) {
+        this.stockService = stockService;
+        this.locationService = locationService;
+        this.locationRepository = locationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.walDirectory = Path.of(walDirectory);
+        this.appendTimeoutMs = appendTimeoutMs;
+    }
+
+    // Runs once the schema is migrated and before the web server accepts sales
+    @Override
+    public synchronized void afterSingletonsInstantiated() {
+        try {
+            boolean newLog = !SaleWriteAheadLog.hasLogId(walDirectory);
+            logId = SaleWriteAheadLog.logId(walDirectory);
+            long checkpoint = claimCheckpoint(newLog);
+            long lastSegment = checkpoint;
+            for (long segment : SaleWriteAheadLog.segments(walDirectory)) {
+                if (segment > checkpoint) {
+                    SaleWriteAheadLog.replay(walDirectory, segment).forEach((key, units) -> unflushed.merge(key, units, Long::sum));
+                    lastSegment = segment;
+                }
+            }
+            SaleWriteAheadLog.deleteThrough(walDirectory, checkpoint);
+            if (!unflushed.isEmpty()) {
+                log.info("Recovered unflushed sales for {} stock rows from {}", unflushed.size(), walDirectory);
+            }
+            wal = new SaleWriteAheadLog(walDirectory, lastSegment + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open sale log in " + walDirectory, e);
+        }
+    }
+
+    @Override
+    public SaleIngestResultDto ingest(SaleBatchDto batch) {
+        long locationId = resolveLocation(batch.getLocationId());
+        List<SaleLine> lines = batch.getLines().stream()
+            .map(line -> new SaleLine(line.getItemId(), locationId, line.getQuantity()))
+            .toList();
+
+        try {
+            wal.append(lines).get(appendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while recording sales", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to record sales durably", e);
+        }
+        acceptedLines.addAndGet(lines.size());
+
+        return SaleIngestResultDto.builder()
+            .locationId(locationId)
+            .acceptedLines(lines.size())
+            .build();
+    }
+
+    @Scheduled(fixedDelayString = "${app.sales.flush-interval-ms:500}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Scheduled sale flush failed", e);
+        }
+    }
+
+    @Override
+    public synchronized int flush() {
+        if (wal == null) {
+            return 0;
+        }
+        SaleWriteAheadLog.Sealed sealed = wal.seal().join();
+        sealed.unitsSold().forEach((key, units) -> unflushed.merge(key, units, Long::sum));
+        if (unflushed.isEmpty()) {
+            return 0;
+        }
+
+        long started = System.currentTimeMillis();
+        try {
+            Long shortfall = transactionTemplate.execute(status -> {
+                long unfulfilled = stockService.recordSales(unflushed);
+                jdbcTemplate.update("UPDATE sale_log_checkpoints SET last_segment = ?, updated_at = ? WHERE log_id = ?",
+                    sealed.segment(), Timestamp.valueOf(LocalDateTime.now()), logId);
+                return unfulfilled;
+            });
+            if (shortfall != null && shortfall > 0) {
+                unfulfilledUnits.addAndGet(shortfall);
+                log.warn("{} sold units exceeded recorded stock or referenced unknown items", shortfall);
+            }
+        } catch (RuntimeException e) {
+            // The sums stay in memory and their segments on disk; the next flush retries them
+            failedFlushes.incrementAndGet();
+            throw e;
+        }
+
+        int flushed = unflushed.size();
+        unflushed = new HashMap<>();
+        lastFlushAt = LocalDateTime.now();
+        lastFlushStockRows = flushed;
+        lastFlushMs = System.currentTimeMillis() - started;
+        try {
+            SaleWriteAheadLog.deleteThrough(walDirectory, sealed.segment());
+        } catch (IOException e) {
+            log.warn("Failed to delete flushed sale log segments; they are skipped on replay", e);
+        }
+        log.debug("Flushed sales for {} stock rows in {} ms", flushed, lastFlushMs);
+        return flushed;
+    }
+
+    @Override
+    public SaleIngestStatusDto getStatus() {
+        SaleWriteAheadLog current = wal;
+        return SaleIngestStatusDto.builder()
+            .acceptedLines(acceptedLines.get())
+            .pendingStockRows(current != null ? current.getPendingRows() : 0)
+            .lastFlushAt(lastFlushAt)
+            .lastFlushStockRows(lastFlushStockRows)
+            .lastFlushMs(lastFlushMs)
+            .unfulfilledUnits(unfulfilledUnits.get())
+            .failedFlushes(failedFlushes.get())
+            .build();
+    }
+
+    @Override
+    public void destroy() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Final sale flush failed; unflushed sales will be replayed on startup", e);
+        }
+        if (wal != null) {
+            wal.close();
+        }
+    }
+
+    // Locations are resolved once and remembered, keeping the ingest path free of database reads
+    private long resolveLocation(Long locationId) {
+        if (locationId == null) {
+            Long cached = defaultLocationId;
+            if (cached == null) {
+                cached = locationService.getDefaultLocation().getId();
+                defaultLocationId = cached;
+            }
+            return cached;
+        }
+        if (!knownLocationIds.contains(locationId)) {
+            if (!locationRepository.existsById(locationId)) {
+                throw new ResourceNotFoundException("Location not found with id: " + locationId);
+            }
+            knownLocationIds.add(locationId);
+        }
+        return locationId;
+    }
+
+    private long claimCheckpoint(boolean newLog) {
+        Long checkpoint = transactionTemplate.execute(status -> {
+            if (newLog) {
+                // A directory written before checkpoints were kept per log takes over the shared one
+                jdbcTemplate.update("UPDATE sale_log_checkpoints SET log_id = ? WHERE log_id = ?", logId, LEGACY_LOG_ID);
+            }
+            List<Long> existing = jdbcTemplate.queryForList(
+                "SELECT last_segment FROM sale_log_checkpoints WHERE log_id = ?", Long.class, logId);
+            if (!existing.isEmpty()) {
+                return existing.get(0);
+            }
+            jdbcTemplate.update("INSERT INTO sale_log_checkpoints (log_id, last_segment, updated_at) VALUES (?, 0, ?)",
+                logId, Timestamp.valueOf(LocalDateTime.now()));
+            return 0L;
+        });
+        return checkpoint != null ? checkpoint : 0;
+    }
+}
@@ -0,0 +1,4 @@
+package com.backend.inventory_management.features.sales;
+
+public record SaleLine(long itemId, long locationId, int quantity) {
+}
@@ -0,0 +1,284 @@
+package com.backend.inventory_management.features.sales;
+
+import com.backend.inventory_management.features.location.StockKey;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Stream;
+
+/**
+ * Append-only log of sale lines, split into numbered segment files. A single writer thread drains
+ * every queued append, writes them and issues one fsync for the whole group before acknowledging,
+ * so concurrent tills share the cost of a sync. Acknowledged lines are also summed per stock row
+ * in memory; sealing a segment hands those sums over for flushing and starts the next segment.
+ */
+@Slf4j
+public class SaleWriteAheadLog implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String LOG_ID_FILE = "log-id";
+
+    private final Path directory;
+    private final BlockingQueue<Command> commands = new LinkedBlockingQueue<>();
+    private final Thread writer;
+
+    // Owned by the writer thread
+    private FileChannel active;
+    private long activeSegment;
+    private long activeBytes;
+    private Map<StockKey, Long> unitsSold = new HashMap<>();
+
+    private volatile int pendingRows;
+    private volatile boolean closed;
+
+    public SaleWriteAheadLog(Path directory, long firstSegment) throws IOException {
+        this.directory = directory;
+        Files.createDirectories(directory);
+        this.activeSegment = firstSegment;
+        this.active = open(firstSegment);
+        this.writer = new Thread(this::run, "sales-wal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Completes once the lines are durably on disk and counted towards the next seal.
+     */
+    public CompletableFuture<Void> append(List<SaleLine> lines) {
+        Append append = new Append(lines, new CompletableFuture<>());
+        enqueue(append);
+        return append.done();
+    }
+
+    /**
+     * Closes the active segment and returns the units sold in it and every earlier unsealed segment.
+     * An empty segment is not rotated; its predecessor is reported instead.
+     */
+    public CompletableFuture<Sealed> seal() {
+        Seal seal = new Seal(new CompletableFuture<>());
+        enqueue(seal);
+        return seal.done();
+    }
+
+    public int getPendingRows() {
+        return pendingRows;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        Stop stop = new Stop(new CompletableFuture<>());
+        enqueue(stop);
+        closed = true;
+        stop.done().join();
+    }
+
+    public static boolean hasLogId(Path directory) {
+        return Files.isRegularFile(directory.resolve(LOG_ID_FILE));
+    }
+
+    /**
+     * Returns the id naming the log kept in the directory, creating one for a new directory. The id
+     * lives and dies with the segments, so a checkpoint keyed by it always describes these files.
+     */
+    public static String logId(Path directory) throws IOException {
+        Path file = directory.resolve(LOG_ID_FILE);
+        if (!Files.isRegularFile(file)) {
+            Files.createDirectories(directory);
+            Path temp = directory.resolve(LOG_ID_FILE + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                channel.write(ByteBuffer.wrap(UUID.randomUUID().toString().getBytes(StandardCharsets.US_ASCII)));
+                channel.force(true);
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return Files.readString(file, StandardCharsets.US_ASCII).strip();
+    }
+
+    public static List<Long> segments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .map(file -> file.getFileName().toString())
+                .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                .sorted()
+                .toList();
+        }
+    }
+
+    public static Map<StockKey, Long> replay(Path directory, long segment) throws IOException {
+        Map<StockKey, Long> units = new HashMap<>();
+        int malformed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(segmentPath(directory, segment), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(" ");
+                if (fields.length != 3) {
+                    // Only an unacknowledged, torn tail can be incomplete
+                    malformed++;
+                    continue;
+                }
+                units.merge(new StockKey(Long.parseLong(fields[0]), Long.parseLong(fields[1])),
+                    Long.parseLong(fields[2]), Long::sum);
+            }
+        }
+        if (malformed > 0) {
+            log.warn("Skipped {} incomplete lines in sale log segment {}", malformed, segment);
+        }
+        return units;
+    }
+
+    public static void deleteThrough(Path directory, long segment) throws IOException {
+        for (long existing : segments(directory)) {
+            if (existing <= segment) {
+                Files.deleteIfExists(segmentPath(directory, existing));
+            }
+        }
+    }
+
+    private void enqueue(Command command) {
+        if (closed) {
+            throw new IllegalStateException("Sale log is closed");
+        }
+        commands.add(command);
+    }
+
+    private void run() {
+        List<Command> batch = new ArrayList<>();
+        List<Append> unsynced = new ArrayList<>();
+        while (true) {
+            try {
+                batch.add(commands.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            commands.drainTo(batch);
+
+            for (Command command : batch) {
+                if (command instanceof Append append) {
+                    write(append, unsynced);
+                } else if (command instanceof Seal seal) {
+                    sync(unsynced);
+                    seal(seal);
+                } else if (command instanceof Stop stop) {
+                    sync(unsynced);
+                    closeActive();
+                    stop.done().complete(null);
+                    return;
+                }
+            }
+            sync(unsynced);
+            batch.clear();
+        }
+    }
+
+    private void write(Append append, List<Append> unsynced) {
+        StringBuilder text = new StringBuilder(append.lines().size() * 24);
+        for (SaleLine line : append.lines()) {
+            text.append(line.itemId()).append(' ')
+                .append(line.locationId()).append(' ')
+                .append(line.quantity()).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8));
+        try {
+            while (buffer.hasRemaining()) {
+                activeBytes += active.write(buffer);
+            }
+            unsynced.add(append);
+        } catch (IOException e) {
+            append.done().completeExceptionally(e);
+        }
+    }
+
+    private void sync(List<Append> unsynced) {
+        if (unsynced.isEmpty()) {
+            return;
+        }
+        try {
+            active.force(false);
+            for (Append append : unsynced) {
+                for (SaleLine line : append.lines()) {
+                    unitsSold.merge(new StockKey(line.itemId(), line.locationId()), (long) line.quantity(), Long::sum);
+                }
+                append.done().complete(null);
+            }
+            pendingRows = unitsSold.size();
+        } catch (IOException e) {
+            log.error("Failed to sync sale log segment {}", activeSegment, e);
+            unsynced.forEach(append -> append.done().completeExceptionally(e));
+        }
+        unsynced.clear();
+    }
+
+    private void seal(Seal seal) {
+        if (activeBytes == 0) {
+            seal.done().complete(new Sealed(activeSegment - 1, Map.of()));
+            return;
+        }
+        try {
+            closeActive();
+            long sealedSegment = activeSegment;
+            active = open(++activeSegment);
+            activeBytes = 0;
+            seal.done().complete(new Sealed(sealedSegment, unitsSold));
+            unitsSold = new HashMap<>();
+            pendingRows = 0;
+        } catch (IOException e) {
+            seal.done().completeExceptionally(new UncheckedIOException(e));
+        }
+    }
+
+    private void closeActive() {
+        try {
+            active.close();
+        } catch (IOException e) {
+            log.warn("Failed to close sale log segment {}", activeSegment, e);
+        }
+    }
+
+    private FileChannel open(long segment) throws IOException {
+        return FileChannel.open(segmentPath(directory, segment),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static Path segmentPath(Path directory, long segment) {
+        return directory.resolve(String.format("%s%019d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    public record Sealed(long segment, Map<StockKey, Long> unitsSold) {
+    }
+
+    private sealed interface Command permits Append, Seal, Stop {
+    }
+
+    private record Append(List<SaleLine> lines, CompletableFuture<Void> done) implements Command {
+    }
+
+    private record Seal(CompletableFuture<Sealed> done) implements Command {
+    }
+
+    private record Stop(CompletableFuture<Void> done) implements Command {
+    }
+}
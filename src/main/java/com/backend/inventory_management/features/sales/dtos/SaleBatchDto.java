@@ -0,0 +1,25 @@
+package com.backend.inventory_management.features.sales.dtos;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SaleBatchDto {
+    
+    // Defaults to the main location when omitted
+    private Long locationId;
+    
+    @NotEmpty(message = "At least one sale line is required")
+    @Size(max = 1000, message = "A batch cannot exceed 1000 lines")
+    private List<@Valid SaleLineDto> lines;
+}
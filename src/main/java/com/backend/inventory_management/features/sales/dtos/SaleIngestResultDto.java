@@ -0,0 +1,15 @@
+package com.backend.inventory_management.features.sales.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SaleIngestResultDto {
+    private Long locationId;
+    private Integer acceptedLines;
+}
@@ -0,0 +1,22 @@
+package com.backend.inventory_management.features.sales.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SaleIngestStatusDto {
+    private Long acceptedLines;
+    private Integer pendingStockRows;
+    private LocalDateTime lastFlushAt;
+    private Integer lastFlushStockRows;
+    private Long lastFlushMs;
+    private Long unfulfilledUnits;
+    private Long failedFlushes;
+}
@@ -0,0 +1,184 @@
+package com.backend.inventory_management.features.simulation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replays bootstrapped demand paths against a (min, max) replenishment policy per item.
+ * Items are split across a ForkJoin pool; each leaf owns a SplittableRandom derived
+ * deterministically from the seed, so a run is reproducible regardless of scheduling.
+ */
+public final class ReplenishmentSimulator {
+
+    private static final int LEAF_ITEMS = 16;
+    private static final int CANCEL_CHECK_MASK = 31;
+
+    private ReplenishmentSimulator() {
+    }
+
+    public static Result simulate(ForkJoinPool pool, Input input, long seed,
+                                  AtomicBoolean cancelled, AtomicInteger itemsCompleted) {
+        Result result = new Result(input.itemCount());
+        pool.invoke(new SimulateRange(input, result, 0, input.itemCount(),
+            new SplittableRandom(seed), cancelled, itemsCompleted));
+        return result;
+    }
+
+    static void simulateItem(Input input, Result result, int item, SplittableRandom rng, AtomicBoolean cancelled) {
+        int[] history = input.demandHistory[item];
+        int historyLength = history.length;
+        int min = input.minLevel[item];
+        int max = input.maxLevel[item];
+        int leadTime = Math.max(1, input.leadTime[item]);
+        int[] pipeline = new int[leadTime + 1];
+        int paths = input.paths;
+        int horizon = input.horizonDays;
+
+        long stockoutPaths = 0;
+        long stockoutDays = 0;
+        long demandTotal = 0;
+        long soldTotal = 0;
+        long onHandTotal = 0;
+        long orders = 0;
+        int completedPaths = 0;
+
+        for (int path = 0; path < paths; path++) {
+            if ((path & CANCEL_CHECK_MASK) == 0 && cancelled.get()) {
+                break;
+            }
+            Arrays.fill(pipeline, 0);
+            int onHand = input.initialQuantity[item];
+            int outstanding = 0;
+            boolean stockedOut = false;
+
+            for (int day = 0; day < horizon; day++) {
+                int slot = day % pipeline.length;
+                int arriving = pipeline[slot];
+                if (arriving > 0) {
+                    onHand += arriving;
+                    outstanding -= arriving;
+                    pipeline[slot] = 0;
+                }
+
+                int demand = historyLength == 0 ? 0 : history[rng.nextInt(historyLength)];
+                demandTotal += demand;
+                if (demand > onHand) {
+                    stockedOut = true;
+                    stockoutDays++;
+                    soldTotal += onHand;
+                    onHand = 0;
+                } else {
+                    onHand -= demand;
+                    soldTotal += demand;
+                }
+
+                int position = onHand + outstanding;
+                if (position <= min && max > position) {
+                    int orderQuantity = max - position;
+                    outstanding += orderQuantity;
+                    pipeline[(day + leadTime) % pipeline.length] += orderQuantity;
+                    orders++;
+                }
+                onHandTotal += onHand;
+            }
+            if (stockedOut) {
+                stockoutPaths++;
+            }
+            completedPaths++;
+        }
+
+        if (completedPaths == 0) {
+            return;
+        }
+        double pathCount = completedPaths;
+        result.stockoutProbability[item] = stockoutPaths / pathCount;
+        result.averageStockoutDays[item] = stockoutDays / pathCount;
+        result.fillRate[item] = demandTotal > 0 ? soldTotal / (double) demandTotal : 1.0;
+        result.averageOnHand[item] = onHandTotal / (pathCount * horizon);
+        result.averageOrders[item] = orders / pathCount;
+        result.completedPaths[item] = completedPaths;
+    }
+
+    @SuppressWarnings("serial")
+    private static final class SimulateRange extends RecursiveAction {
+        private final Input input;
+        private final Result result;
+        private final int from;
+        private final int to;
+        private final SplittableRandom rng;
+        private final AtomicBoolean cancelled;
+        private final AtomicInteger itemsCompleted;
+
+        private SimulateRange(Input input, Result result, int from, int to, SplittableRandom rng,
+                              AtomicBoolean cancelled, AtomicInteger itemsCompleted) {
+            this.input = input;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+            this.rng = rng;
+            this.cancelled = cancelled;
+            this.itemsCompleted = itemsCompleted;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelled.get()) {
+                return;
+            }
+            if (to - from <= LEAF_ITEMS) {
+                for (int item = from; item < to && !cancelled.get(); item++) {
+                    simulateItem(input, result, item, rng, cancelled);
+                    itemsCompleted.incrementAndGet();
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                new SimulateRange(input, result, from, mid, rng.split(), cancelled, itemsCompleted),
+                new SimulateRange(input, result, mid, to, rng, cancelled, itemsCompleted));
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Input {
+        private final int[] initialQuantity;
+        private final int[] minLevel;
+        private final int[] maxLevel;
+        private final int[] leadTime;
+        // Observed daily demand per item over the lookback window, zero-demand days included
+        private final int[][] demandHistory;
+        private final int paths;
+        private final int horizonDays;
+
+        public int itemCount() {
+            return initialQuantity.length;
+        }
+    }
+
+    @Getter
+    public static final class Result {
+        private final double[] stockoutProbability;
+        private final double[] averageStockoutDays;
+        private final double[] fillRate;
+        private final double[] averageOnHand;
+        private final double[] averageOrders;
+        private final int[] completedPaths;
+
+        Result(int items) {
+            stockoutProbability = new double[items];
+            averageStockoutDays = new double[items];
+            fillRate = new double[items];
+            averageOnHand = new double[items];
+            averageOrders = new double[items];
+            completedPaths = new int[items];
+        }
+    }
+}
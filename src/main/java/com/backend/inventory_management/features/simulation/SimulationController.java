@@ -0,0 +1,87 @@
+package com.backend.inventory_management.features.simulation;
+
+import com.backend.inventory_management.core.Response;
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.core.exceptions.ResourceNotFoundException;
+import com.backend.inventory_management.features.simulation.dtos.SimulationRequestDto;
+import com.backend.inventory_management.features.simulation.dtos.SimulationRunDto;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/simulation")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class SimulationController {
+    
+    private final SimulationService simulationService;
+    
+    @PostMapping("/replenishment")
+    public ResponseEntity<Response<SimulationRunDto>> startSimulation(@Valid @RequestBody SimulationRequestDto request) {
+        try {
+            SimulationRunDto run = simulationService.startSimulation(request);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(Response.success(run, "Simulation started"));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (InvalidOperationException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to start replenishment simulation", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to start simulation"));
+        }
+    }
+    
+    @GetMapping("/replenishment")
+    public ResponseEntity<Response<List<SimulationRunDto>>> getSimulations() {
+        try {
+            return ResponseEntity.ok(Response.success(simulationService.getSimulations()));
+        } catch (Exception e) {
+            log.error("Failed to retrieve simulations", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve simulations"));
+        }
+    }
+    
+    @GetMapping("/replenishment/{runId}")
+    public ResponseEntity<Response<SimulationRunDto>> getSimulation(
+            @PathVariable String runId,
+            @RequestParam(defaultValue = "true") boolean includeResults) {
+        try {
+            SimulationRunDto run = simulationService.getSimulation(runId, includeResults);
+            return ResponseEntity.ok(Response.success(run));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to retrieve simulation {}", runId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to retrieve simulation"));
+        }
+    }
+    
+    @DeleteMapping("/replenishment/{runId}")
+    public ResponseEntity<Response<SimulationRunDto>> cancelSimulation(@PathVariable String runId) {
+        try {
+            SimulationRunDto run = simulationService.cancelSimulation(runId);
+            return ResponseEntity.ok(Response.success(run, "Cancellation requested"));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Response.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to cancel simulation {}", runId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Response.error("Failed to cancel simulation"));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.backend.inventory_management.features.simulation;
+
+import com.backend.inventory_management.features.simulation.dtos.ItemSimulationResultDto;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Getter
+public class SimulationRun {
+    private final String runId;
+    private final int itemCount;
+    private final int paths;
+    private final int horizonDays;
+    private final long seed;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final long startedNanos = System.nanoTime();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private final AtomicInteger itemsCompleted = new AtomicInteger();
+    
+    @Setter
+    private volatile SimulationStatus status = SimulationStatus.RUNNING;
+    @Setter
+    private volatile LocalDateTime finishedAt;
+    @Setter
+    private volatile Long elapsedMs;
+    @Setter
+    private volatile String error;
+    @Setter
+    private volatile List<ItemSimulationResultDto> results;
+    
+    public SimulationRun(String runId, int itemCount, int paths, int horizonDays, long seed) {
+        this.runId = runId;
+        this.itemCount = itemCount;
+        this.paths = paths;
+        this.horizonDays = horizonDays;
+        this.seed = seed;
+    }
+    
+    public boolean isFinished() {
+        return status != SimulationStatus.RUNNING;
+    }
+}
@@ -0,0 +1,13 @@
+package com.backend.inventory_management.features.simulation;
+
+import com.backend.inventory_management.features.simulation.dtos.SimulationRequestDto;
+import com.backend.inventory_management.features.simulation.dtos.SimulationRunDto;
+
+import java.util.List;
+
+public interface SimulationService {
+    SimulationRunDto startSimulation(SimulationRequestDto request);
+    SimulationRunDto getSimulation(String runId, boolean includeResults);
+    SimulationRunDto cancelSimulation(String runId);
+    List<SimulationRunDto> getSimulations();
+}
@@ -0,0 +1,309 @@
+package com.backend.inventory_management.features.simulation;
+
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.core.exceptions.ResourceNotFoundException;
+import com.backend.inventory_management.features.forecast.demand.DailyDemandRepository;
+import com.backend.inventory_management.features.inventory.InventoryItem;
+import com.backend.inventory_management.features.inventory.InventoryItemRepository;
+import com.backend.inventory_management.features.inventory.supplier.SupplierRepository;
+import com.backend.inventory_management.features.reorder.ReorderPolicyCalculator;
+import com.backend.inventory_management.features.simulation.dtos.ItemSimulationResultDto;
+import com.backend.inventory_management.features.simulation.dtos.SimulationRequestDto;
+import com.backend.inventory_management.features.simulation.dtos.SimulationRunDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Service
+public class SimulationServiceImpl implements SimulationService {
+
+    private final InventoryItemRepository inventoryItemRepository;
+    private final DailyDemandRepository dailyDemandRepository;
+    private final SupplierRepository supplierRepository;
+    private final ReorderPolicyCalculator reorderPolicyCalculator;
+    private final ForkJoinPool pool;
+    private final Semaphore runPermits;
+    private final long maxWork;
+    private final int retainedRuns;
+    private final int defaultPaths;
+    private final int defaultHorizonDays;
+    private final Map<String, SimulationRun> runs = new ConcurrentHashMap<>();
+
+    public SimulationServiceImpl(InventoryItemRepository inventoryItemRepository,
+                                 DailyDemandRepository dailyDemandRepository,
+                                 SupplierRepository supplierRepository,
+                                 ReorderPolicyCalculator reorderPolicyCalculator,
+                                 @Value("${app.simulation.parallelism:0}") int parallelism,
+                                 @Value("${app.simulation.max-concurrent-runs:2}") int maxConcurrentRuns,
+                                 @Value("${app.simulation.max-work:2000000000}") long maxWork,
+                                 @Value("${app.simulation.retained-runs:20}") int retainedRuns,
+                                 @Value("${app.simulation.default-paths:1000}") int defaultPaths,
+                                 @Value("${app.simulation.default-horizon-days:90}") int defaultHorizonDays) {
+        this.inventoryItemRepository = inventoryItemRepository;
+        this.dailyDemandRepository = dailyDemandRepository;
+        this.supplierRepository = supplierRepository;
+        this.reorderPolicyCalculator = reorderPolicyCalculator;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.runPermits = new Semaphore(maxConcurrentRuns);
+        this.maxWork = maxWork;
+        this.retainedRuns = retainedRuns;
+        this.defaultPaths = defaultPaths;
+        this.defaultHorizonDays = defaultHorizonDays;
+    }
+
+    @Override
+    public SimulationRunDto startSimulation(SimulationRequestDto request) {
+        int paths = request.getPaths() != null ? request.getPaths() : defaultPaths;
+        int horizonDays = request.getHorizonDays() != null ? request.getHorizonDays() : defaultHorizonDays;
+        long seed = request.getSeed() != null ? request.getSeed() : ThreadLocalRandom.current().nextLong();
+
+        List<PolicyCandidate> candidates = resolveCandidates(request);
+        if (candidates.isEmpty()) {
+            throw new InvalidOperationException("No items to simulate");
+        }
+        long work = (long) candidates.size() * paths * horizonDays;
+        if (work > maxWork) {
+            throw new InvalidOperationException(String.format(
+                "Simulation too large: %d items x %d paths x %d days exceeds the limit of %d item-days",
+                candidates.size(), paths, horizonDays, maxWork));
+        }
+        if (!runPermits.tryAcquire()) {
+            throw new InvalidOperationException("Too many simulations running, try again later");
+        }
+
+        try {
+            ReplenishmentSimulator.Input input = buildInput(candidates, paths, horizonDays);
+            SimulationRun run = new SimulationRun(UUID.randomUUID().toString(), candidates.size(), paths, horizonDays, seed);
+            evictFinishedRuns();
+            runs.put(run.getRunId(), run);
+
+            pool.execute(() -> execute(run, input, candidates));
+            log.info("Started replenishment simulation {} for {} items x {} paths x {} days",
+                run.getRunId(), candidates.size(), paths, horizonDays);
+            return convertToDto(run, false);
+        } catch (RuntimeException e) {
+            runPermits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public SimulationRunDto getSimulation(String runId, boolean includeResults) {
+        return convertToDto(findRun(runId), includeResults);
+    }
+
+    @Override
+    public SimulationRunDto cancelSimulation(String runId) {
+        SimulationRun run = findRun(runId);
+        run.getCancelled().set(true);
+        log.info("Cancellation requested for simulation {}", runId);
+        return convertToDto(run, false);
+    }
+
+    @Override
+    public List<SimulationRunDto> getSimulations() {
+        return runs.values().stream()
+            .sorted(Comparator.comparing(SimulationRun::getStartedAt).reversed())
+            .map(run -> convertToDto(run, false))
+            .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runs.values().forEach(run -> run.getCancelled().set(true));
+        pool.shutdownNow();
+    }
+
+    private void execute(SimulationRun run, ReplenishmentSimulator.Input input, List<PolicyCandidate> candidates) {
+        try {
+            ReplenishmentSimulator.Result result = ReplenishmentSimulator.simulate(
+                pool, input, run.getSeed(), run.getCancelled(), run.getItemsCompleted());
+
+            if (run.getCancelled().get()) {
+                run.setStatus(SimulationStatus.CANCELLED);
+            } else {
+                run.setResults(toResults(candidates, input, result));
+                run.setStatus(SimulationStatus.COMPLETED);
+            }
+        } catch (Exception e) {
+            log.error("Simulation {} failed", run.getRunId(), e);
+            run.setError(e.getMessage());
+            run.setStatus(SimulationStatus.FAILED);
+        } finally {
+            run.setFinishedAt(LocalDateTime.now());
+            run.setElapsedMs((System.nanoTime() - run.getStartedNanos()) / 1_000_000);
+            runPermits.release();
+            log.info("Simulation {} finished with status {} in {} ms", run.getRunId(), run.getStatus(), run.getElapsedMs());
+        }
+    }
+
+    private List<PolicyCandidate> resolveCandidates(SimulationRequestDto request) {
+        if (Boolean.TRUE.equals(request.getAllItems())) {
+            double minMultiplier = request.getMinStockMultiplier() != null ? request.getMinStockMultiplier() : 1.0;
+            double maxMultiplier = request.getMaxStockMultiplier() != null ? request.getMaxStockMultiplier() : 1.0;
+
+            return inventoryItemRepository.findAll().stream()
+                .map(item -> new PolicyCandidate(item,
+                    (int) Math.round(item.getMinStockLevel() * minMultiplier),
+                    (int) Math.round(item.getMaxStockLevel() * maxMultiplier)))
+                .toList();
+        }
+
+        if (request.getItems() == null || request.getItems().isEmpty()) {
+            throw new InvalidOperationException("Either items or allItems must be provided");
+        }
+
+        Map<Long, SimulationRequestDto.PolicyCandidateDto> requested = new LinkedHashMap<>();
+        request.getItems().forEach(candidate -> requested.put(candidate.getItemId(), candidate));
+
+        Map<Long, InventoryItem> items = new HashMap<>();
+        inventoryItemRepository.findAllById(requested.keySet()).forEach(item -> items.put(item.getId(), item));
+
+        List<PolicyCandidate> candidates = new ArrayList<>(requested.size());
+        for (SimulationRequestDto.PolicyCandidateDto candidate : requested.values()) {
+            InventoryItem item = items.get(candidate.getItemId());
+            if (item == null) {
+                throw new ResourceNotFoundException("Item not found with id: " + candidate.getItemId());
+            }
+            if (candidate.getMaxStockLevel() < candidate.getMinStockLevel()) {
+                throw new InvalidOperationException("Maximum stock level must not be below minimum for item " + item.getId());
+            }
+            candidates.add(new PolicyCandidate(item, candidate.getMinStockLevel(), candidate.getMaxStockLevel()));
+        }
+        return candidates;
+    }
+
+    private ReplenishmentSimulator.Input buildInput(List<PolicyCandidate> candidates, int paths, int horizonDays) {
+        int count = candidates.size();
+        int lookbackDays = reorderPolicyCalculator.getLookbackDays();
+        LocalDate since = LocalDate.now().minusDays(lookbackDays - 1L);
+        Map<Long, Integer> leadTimes = supplierRepository.findLeadTimesById();
+
+        int[] initialQuantity = new int[count];
+        int[] minLevel = new int[count];
+        int[] maxLevel = new int[count];
+        int[] leadTime = new int[count];
+        int[][] history = new int[count][];
+        Map<Long, Integer> indexById = new HashMap<>(count * 2);
+
+        for (int i = 0; i < count; i++) {
+            PolicyCandidate candidate = candidates.get(i);
+            InventoryItem item = candidate.item();
+            initialQuantity[i] = item.getQuantity();
+            minLevel[i] = candidate.minStockLevel();
+            maxLevel[i] = Math.max(candidate.minStockLevel(), candidate.maxStockLevel());
+            leadTime[i] = leadTimes.getOrDefault(item.getSupplier().getId(), reorderPolicyCalculator.getDefaultLeadTimeDays());
+            indexById.put(item.getId(), i);
+        }
+
+        for (Object[] row : dailyDemandRepository.findDemandSince(since)) {
+            Integer index = indexById.get((Long) row[0]);
+            if (index == null) {
+                continue;
+            }
+            if (history[index] == null) {
+                history[index] = new int[lookbackDays];
+            }
+            int day = (int) ChronoUnit.DAYS.between(since, (LocalDate) row[1]);
+            if (day >= 0 && day < lookbackDays) {
+                history[index][day] += (int) Math.min(Integer.MAX_VALUE, ((Number) row[2]).longValue());
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            if (history[i] == null) {
+                history[i] = new int[0];
+            }
+        }
+
+        return new ReplenishmentSimulator.Input(initialQuantity, minLevel, maxLevel, leadTime, history, paths, horizonDays);
+    }
+
+    private List<ItemSimulationResultDto> toResults(List<PolicyCandidate> candidates,
+                                                    ReplenishmentSimulator.Input input,
+                                                    ReplenishmentSimulator.Result result) {
+        List<ItemSimulationResultDto> results = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            InventoryItem item = candidates.get(i).item();
+            double averageOnHand = result.getAverageOnHand()[i];
+
+            results.add(ItemSimulationResultDto.builder()
+                .itemId(item.getId())
+                .name(item.getName())
+                .minStockLevel(input.getMinLevel()[i])
+                .maxStockLevel(input.getMaxLevel()[i])
+                .leadTimeDays(input.getLeadTime()[i])
+                .demandObserved(input.getDemandHistory()[i].length > 0)
+                .stockoutProbability(result.getStockoutProbability()[i])
+                .averageStockoutDays(result.getAverageStockoutDays()[i])
+                .fillRate(result.getFillRate()[i])
+                .averageOnHandUnits(averageOnHand)
+                .averageOnHandValue(item.getPrice().multiply(BigDecimal.valueOf(averageOnHand))
+                    .setScale(2, RoundingMode.HALF_UP))
+                .averageOrderCount(result.getAverageOrders()[i])
+                .build());
+        }
+        return results;
+    }
+
+    private void evictFinishedRuns() {
+        List<SimulationRun> finished = runs.values().stream()
+            .filter(SimulationRun::isFinished)
+            .sorted(Comparator.comparing(SimulationRun::getStartedAt))
+            .toList();
+        for (int i = 0; i < finished.size() - retainedRuns + 1; i++) {
+            runs.remove(finished.get(i).getRunId());
+        }
+    }
+
+    private SimulationRun findRun(String runId) {
+        SimulationRun run = runs.get(runId);
+        if (run == null) {
+            throw new ResourceNotFoundException("Simulation not found with id: " + runId);
+        }
+        return run;
+    }
+
+    private SimulationRunDto convertToDto(SimulationRun run, boolean includeResults) {
+        List<ItemSimulationResultDto> results = run.getResults();
+        SimulationRunDto.SimulationRunDtoBuilder builder = SimulationRunDto.builder()
+            .runId(run.getRunId())
+            .status(run.getStatus())
+            .itemCount(run.getItemCount())
+            .itemsCompleted(run.getItemsCompleted().get())
+            .paths(run.getPaths())
+            .horizonDays(run.getHorizonDays())
+            .seed(run.getSeed())
+            .startedAt(run.getStartedAt())
+            .finishedAt(run.getFinishedAt())
+            .elapsedMs(run.getElapsedMs())
+            .error(run.getError());
+
+        if (results != null) {
+            builder.averageStockoutProbability(results.stream()
+                    .mapToDouble(ItemSimulationResultDto::getStockoutProbability).average().orElse(0))
+                .totalAverageOnHandValue(results.stream()
+                    .map(ItemSimulationResultDto::getAverageOnHandValue)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add));
+            if (includeResults) {
+                builder.results(results);
+            }
+        }
+        return builder.build();
+    }
+
+    private record PolicyCandidate(InventoryItem item, int minStockLevel, int maxStockLevel) {
+    }
+}
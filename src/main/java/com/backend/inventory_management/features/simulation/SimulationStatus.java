@@ -0,0 +1,8 @@
+package com.backend.inventory_management.features.simulation;
+
+public enum SimulationStatus {
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED
+}
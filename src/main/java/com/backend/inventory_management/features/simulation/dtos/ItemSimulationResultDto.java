@@ -0,0 +1,27 @@
+package com.backend.inventory_management.features.simulation.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemSimulationResultDto {
+    private Long itemId;
+    private String name;
+    private Integer minStockLevel;
+    private Integer maxStockLevel;
+    private Integer leadTimeDays;
+    private Boolean demandObserved;
+    private Double stockoutProbability;
+    private Double averageStockoutDays;
+    private Double fillRate;
+    private Double averageOnHandUnits;
+    private BigDecimal averageOnHandValue;
+    private Double averageOrderCount;
+}
@@ -0,0 +1,57 @@
+package com.backend.inventory_management.features.simulation.dtos;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationRequestDto {
+    
+    @Valid
+    private List<PolicyCandidateDto> items;
+    
+    // When set, every item in the catalog is simulated with its current levels scaled by the multipliers
+    private Boolean allItems;
+    
+    @DecimalMin(value = "0.0", message = "Min stock multiplier cannot be negative")
+    private Double minStockMultiplier;
+    
+    @DecimalMin(value = "0.0", message = "Max stock multiplier cannot be negative")
+    private Double maxStockMultiplier;
+    
+    @Min(value = 1, message = "At least one path is required")
+    @Max(value = 10000, message = "Paths cannot exceed 10000")
+    private Integer paths;
+    
+    @Min(value = 1, message = "Horizon must be at least 1 day")
+    @Max(value = 365, message = "Horizon cannot exceed 365 days")
+    private Integer horizonDays;
+    
+    private Long seed;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PolicyCandidateDto {
+        
+        @NotNull(message = "Item id is required")
+        private Long itemId;
+        
+        @NotNull(message = "Minimum stock level is required")
+        @Min(value = 0, message = "Minimum stock level cannot be negative")
+        private Integer minStockLevel;
+        
+        @NotNull(message = "Maximum stock level is required")
+        @Min(value = 1, message = "Maximum stock level must be at least 1")
+        private Integer maxStockLevel;
+    }
+}
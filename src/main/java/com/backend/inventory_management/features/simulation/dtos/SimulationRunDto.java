@@ -0,0 +1,32 @@
+package com.backend.inventory_management.features.simulation.dtos;
+
+import com.backend.inventory_management.features.simulation.SimulationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationRunDto {
+    private String runId;
+    private SimulationStatus status;
+    private Integer itemCount;
+    private Integer itemsCompleted;
+    private Integer paths;
+    private Integer horizonDays;
+    private Long seed;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Long elapsedMs;
+    private String error;
+    private Double averageStockoutProbability;
+    private BigDecimal totalAverageOnHandValue;
+    private List<ItemSimulationResultDto> results;
+}
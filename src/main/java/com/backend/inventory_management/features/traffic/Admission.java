@@ -0,0 +1,16 @@
+package com.backend.inventory_management.features.traffic;
+
+public record Admission(RequestPriority priority, Outcome outcome, long retryAfterSeconds) {
+
+    public enum Outcome {
+        ADMITTED,
+        // Over the concurrency limit of the group or of the node
+        SHED,
+        // Over the client's token bucket
+        RATE_LIMITED
+    }
+
+    public boolean admitted() {
+        return outcome == Outcome.ADMITTED;
+    }
+}
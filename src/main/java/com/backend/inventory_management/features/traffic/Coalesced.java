@@ -0,0 +1,27 @@
+package com.backend.inventory_management.features.traffic;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets concurrent calls of a method with equal arguments share one execution: the first caller
+ * computes, the others wait for it and receive the same result or exception. Only for methods
+ * whose result does not depend on the caller, and whose result every caller treats as read-only.
+ * <p>
+ * Both settings can be overridden per method with {@code app.coalescing.methods.<name>.enabled}
+ * and {@code app.coalescing.methods.<name>.reuse-ms}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+
+    // Name used in configuration and statistics, such as "inventory.metrics"
+    String value();
+
+    // How long a finished result is still handed to new callers; 0 shares it only while it is computed
+    long reuseMs() default 0;
+}
@@ -0,0 +1,24 @@
+package com.backend.inventory_management.features.traffic;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// Ordered just outside the transaction interceptor, so callers that wait never open a transaction
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class CoalescingAspect {
+
+    private final RequestCoalescingService requestCoalescingService;
+
+    @Around("@annotation(coalesced)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, Coalesced coalesced) throws Throwable {
+        return requestCoalescingService.execute(coalesced, joinPoint.getArgs(), joinPoint::proceed);
+    }
+}
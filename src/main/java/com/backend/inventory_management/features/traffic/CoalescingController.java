@@ -0,0 +1,25 @@
+package com.backend.inventory_management.features.traffic;
+
+import com.backend.inventory_management.core.Response;
+import com.backend.inventory_management.features.traffic.dtos.CoalescedMethodDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/traffic/coalescing")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class CoalescingController {
+    
+    private final RequestCoalescingService requestCoalescingService;
+    
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Response<List<CoalescedMethodDto>>> getStatus() {
+        return ResponseEntity.ok(Response.success(requestCoalescingService.getStatus()));
+    }
+}
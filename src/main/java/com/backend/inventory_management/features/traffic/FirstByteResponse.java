@@ -0,0 +1,109 @@
+package com.backend.inventory_management.features.traffic;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+/**
+ * Notes when the first byte of the body is handed to the container. The server's share of a
+ * request ends there; a streamed download that then trickles out over a slow link is the client's
+ * bandwidth, not database congestion.
+ */
+class FirstByteResponse extends HttpServletResponseWrapper {
+
+    private long firstByteNanos;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    FirstByteResponse(HttpServletResponse response) {
+        super(response);
+    }
+
+    // Time of the first body byte, or now if nothing was written, such as for an empty or error response
+    long firstByteNanos() {
+        return firstByteNanos != 0 ? firstByteNanos : System.nanoTime();
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            ServletOutputStream delegate = super.getOutputStream();
+            outputStream = new ServletOutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    mark();
+                    delegate.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    mark();
+                    delegate.write(b, off, len);
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    delegate.flush();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    delegate.close();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return delegate.isReady();
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                    delegate.setWriteListener(writeListener);
+                }
+            };
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            Writer delegate = super.getWriter();
+            writer = new PrintWriter(new Writer() {
+                @Override
+                public void write(char[] cbuf, int off, int len) throws IOException {
+                    mark();
+                    delegate.write(cbuf, off, len);
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    delegate.flush();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    delegate.close();
+                }
+            });
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        mark();
+        super.flushBuffer();
+    }
+
+    private void mark() {
+        if (firstByteNanos == 0) {
+            firstByteNanos = System.nanoTime();
+        }
+    }
+}
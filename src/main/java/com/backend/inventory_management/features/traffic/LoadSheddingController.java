@@ -0,0 +1,23 @@
+package com.backend.inventory_management.features.traffic;
+
+import com.backend.inventory_management.core.Response;
+import com.backend.inventory_management.features.traffic.dtos.LoadSheddingStatusDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/traffic")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class LoadSheddingController {
+    
+    private final LoadSheddingService loadSheddingService;
+    
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Response<LoadSheddingStatusDto>> getStatus() {
+        return ResponseEntity.ok(Response.success(loadSheddingService.getStatus()));
+    }
+}
@@ -0,0 +1,84 @@
+package com.backend.inventory_management.features.traffic;
+
+import com.backend.inventory_management.configs.JwtTokenProvider;
+import com.backend.inventory_management.core.Response;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Runs ahead of authentication, so requests that would only wait for a database connection are
+ * turned away before they take one, including the user lookup of the JWT filter. Rejections are
+ * immediate: 503 when the node is at its concurrency limit and 429 when the client is over its
+ * rate, both with Retry-After.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoadSheddingFilter extends OncePerRequestFilter {
+    
+    private final LoadSheddingService loadSheddingService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectMapper objectMapper;
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !loadSheddingService.isEnabled()
+            || "OPTIONS".equals(request.getMethod())
+            || !request.getRequestURI().startsWith("/api/");
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RequestPriority priority = RequestPriority.of(request.getMethod(), request.getRequestURI());
+        Admission admission = loadSheddingService.tryAdmit(priority, clientKey(request));
+        if (!admission.admitted()) {
+            reject(response, admission);
+            return;
+        }
+        
+        // The latency sample ends at the first byte of the body, so slow clients downloading a large
+        // response do not read as congestion
+        FirstByteResponse timedResponse = new FirstByteResponse(response);
+        long started = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, timedResponse);
+            failed = response.getStatus() >= 500;
+        } finally {
+            loadSheddingService.release(admission, timedResponse.firstByteNanos() - started, failed);
+        }
+    }
+    
+    // Signed-in users are limited by name, everyone else by address
+    private String clientKey(HttpServletRequest request) {
+        String bearerToken = request.getHeader("Authorization");
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            try {
+                return "user:" + jwtTokenProvider.getUsernameFromToken(bearerToken.substring(7));
+            } catch (RuntimeException e) {
+                // Left for the JWT filter to report
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+    
+    private void reject(HttpServletResponse response, Admission admission) throws IOException {
+        boolean rateLimited = admission.outcome() == Admission.Outcome.RATE_LIMITED;
+        response.setStatus(rateLimited ? HttpStatus.TOO_MANY_REQUESTS.value() : HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(admission.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        String message = rateLimited ? "Too many requests" : "Server is busy, please retry";
+        objectMapper.writeValue(response.getOutputStream(), Response.error(message));
+    }
+}
@@ -0,0 +1,13 @@
+package com.backend.inventory_management.features.traffic;
+
+import com.backend.inventory_management.features.traffic.dtos.LoadSheddingStatusDto;
+
+public interface LoadSheddingService {
+    boolean isEnabled();
+    Admission tryAdmit(RequestPriority priority, String clientKey);
+    // A slot for work an admitted request runs beside its own thread; no client rate limit applies
+    Admission tryAcquire(RequestPriority priority);
+    // Must be called once for every admitted request or acquired slot
+    void release(Admission admission, long latencyNanos, boolean failed);
+    LoadSheddingStatusDto getStatus();
+}
@@ -0,0 +1,181 @@
+package com.backend.inventory_management.features.traffic;
+
+import com.backend.inventory_management.features.traffic.dtos.LimiterGroupDto;
+import com.backend.inventory_management.features.traffic.dtos.LoadSheddingStatusDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission control in front of the database. A request first takes a token from its client's
+ * bucket, then a slot from the adaptive limiter of its endpoint group, and finally a slot of the
+ * node-wide limit, of which each group may only fill its share: point-of-sale traffic may use all
+ * of it, standard traffic most, analytics about half and bulk downloads a quarter. The node limit
+ * is sized to what the connection pool can serve; work beyond it would only wait for a connection.
+ * Fan-out requests only take the token: each piece of work they wait on acquires its own slots.
+ */
+@Slf4j
+@Service
+public class LoadSheddingServiceImpl implements LoadSheddingService {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int nodeLimit;
+    private final long retryAfterSeconds;
+    private final double clientRatePerSecond;
+    private final int clientBurst;
+    private final boolean enabled;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final TokenBucketRateLimiter rateLimiter;
+    private final Map<RequestPriority, Group> groups = new EnumMap<>(RequestPriority.class);
+
+    public LoadSheddingServiceImpl(@Value("${app.limiter.enabled:true}") boolean enabled,
+                                   @Value("${app.limiter.node-limit:40}") int nodeLimit,
+                                   @Value("${app.limiter.retry-after-seconds:1}") long retryAfterSeconds,
+                                   @Value("${app.limiter.pos.latency-ms:250}") long posLatencyMs,
+                                   @Value("${app.limiter.standard.latency-ms:500}") long standardLatencyMs,
+                                   @Value("${app.limiter.standard.share:0.8}") double standardShare,
+                                   @Value("${app.limiter.bulk.latency-ms:2000}") long bulkLatencyMs,
+                                   @Value("${app.limiter.bulk.share:0.25}") double bulkShare,
+                                   @Value("${app.limiter.analytics.latency-ms:2000}") long analyticsLatencyMs,
+                                   @Value("${app.limiter.analytics.share:0.5}") double analyticsShare,
+                                   @Value("${app.limiter.client.rate-per-second:20}") double clientRatePerSecond,
+                                   @Value("${app.limiter.client.burst:40}") int clientBurst) {
+        this.enabled = enabled;
+        this.nodeLimit = Math.max(1, nodeLimit);
+        this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+        this.clientRatePerSecond = clientRatePerSecond;
+        this.clientBurst = clientBurst;
+        this.rateLimiter = new TokenBucketRateLimiter(clientRatePerSecond, clientBurst, System::nanoTime);
+        groups.put(RequestPriority.POS, new Group(1.0, posLatencyMs));
+        groups.put(RequestPriority.STANDARD, new Group(standardShare, standardLatencyMs));
+        groups.put(RequestPriority.BULK, new Group(bulkShare, bulkLatencyMs));
+        groups.put(RequestPriority.ANALYTICS, new Group(analyticsShare, analyticsLatencyMs));
+        groups.put(RequestPriority.FAN_OUT, new Group());
+    }
+
+    @Override
+    public Admission tryAdmit(RequestPriority priority, String clientKey) {
+        Group group = groups.get(priority);
+        long waitNanos = rateLimiter.tryAcquire(clientKey);
+        if (waitNanos > 0) {
+            group.rateLimited.increment();
+            return new Admission(priority, Admission.Outcome.RATE_LIMITED,
+                Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)));
+        }
+        return tryAcquire(priority);
+    }
+
+    @Override
+    public Admission tryAcquire(RequestPriority priority) {
+        Group group = groups.get(priority);
+        if (group.limiter == null) {
+            group.admitted.increment();
+            return new Admission(priority, Admission.Outcome.ADMITTED, 0);
+        }
+        if (!group.limiter.tryAcquire()) {
+            group.shed.increment();
+            return new Admission(priority, Admission.Outcome.SHED, retryAfterSeconds);
+        }
+        if (!tryAcquireNodeSlot(group.nodeSlots)) {
+            group.limiter.cancel();
+            group.shed.increment();
+            return new Admission(priority, Admission.Outcome.SHED, retryAfterSeconds);
+        }
+        group.admitted.increment();
+        return new Admission(priority, Admission.Outcome.ADMITTED, 0);
+    }
+
+    @Override
+    public void release(Admission admission, long latencyNanos, boolean failed) {
+        Group group = groups.get(admission.priority());
+        if (group.limiter == null) {
+            return;
+        }
+        inFlight.decrementAndGet();
+        group.limiter.release(latencyNanos, failed);
+    }
+
+    @Scheduled(fixedDelayString = "${app.limiter.client.evict-interval-ms:60000}")
+    public void evictIdleClients() {
+        int evicted = rateLimiter.evictIdle();
+        if (evicted > 0) {
+            log.debug("Dropped {} idle client rate limit buckets", evicted);
+        }
+    }
+
+    @Override
+    public LoadSheddingStatusDto getStatus() {
+        return LoadSheddingStatusDto.builder()
+            .enabled(enabled)
+            .nodeLimit(nodeLimit)
+            .inFlight(inFlight.get())
+            .clientRatePerSecond(clientRatePerSecond)
+            .clientBurst(clientBurst)
+            .trackedClients(rateLimiter.getTrackedClients())
+            .groups(Arrays.stream(RequestPriority.values())
+                .map(priority -> {
+                    Group group = groups.get(priority);
+                    LimiterGroupDto.LimiterGroupDtoBuilder dto = LimiterGroupDto.builder()
+                        .priority(priority)
+                        .admitted(group.admitted.sum())
+                        .shed(group.shed.sum())
+                        .rateLimited(group.rateLimited.sum());
+                    if (group.limiter != null) {
+                        dto.limit(group.limiter.getLimit())
+                            .inFlight(group.limiter.getInFlight())
+                            .shareOfNodeLimit(group.nodeSlots)
+                            .latencyThresholdMs(TimeUnit.NANOSECONDS.toMillis(group.limiter.getLatencyThresholdNanos()))
+                            .congestionSignals(group.limiter.getCongestionSignals());
+                    }
+                    return dto.build();
+                })
+                .toList())
+            .build();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private boolean tryAcquireNodeSlot(int slots) {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= slots) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private final class Group {
+        private final int nodeSlots;
+        // Null for fan-out requests, which hold no concurrency slot
+        private final AimdLimiter limiter;
+        private final LongAdder admitted = new LongAdder();
+        private final LongAdder shed = new LongAdder();
+        private final LongAdder rateLimited = new LongAdder();
+
+        private Group() {
+            this.nodeSlots = 0;
+            this.limiter = null;
+        }
+
+        private Group(double share, long latencyMs) {
+            this.nodeSlots = Math.max(1, (int) Math.round(nodeLimit * Math.min(1.0, share)));
+            this.limiter = new AimdLimiter(Math.max(1, nodeSlots / 2), 1, nodeSlots, BACKOFF_RATIO,
+                TimeUnit.MILLISECONDS.toNanos(latencyMs));
+        }
+    }
+}
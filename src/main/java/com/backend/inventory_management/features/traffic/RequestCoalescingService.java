@@ -0,0 +1,10 @@
+package com.backend.inventory_management.features.traffic;
+
+import com.backend.inventory_management.features.traffic.dtos.CoalescedMethodDto;
+
+import java.util.List;
+
+public interface RequestCoalescingService {
+    Object execute(Coalesced coalesced, Object[] args, SingleFlight.Computation computation) throws Throwable;
+    List<CoalescedMethodDto> getStatus();
+}
@@ -0,0 +1,121 @@
+package com.backend.inventory_management.features.traffic;
+
+import com.backend.inventory_management.features.traffic.dtos.CoalescedMethodDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-flight layer behind {@link Coalesced}. Each annotated method gets its own
+ * {@link SingleFlight}, keyed on its arguments after normalization, so calls that differ only in
+ * how an argument was written (surrounding spaces, Integer or Long, 1.0 or 1.00) still share one
+ * computation. Settings are read once per method from the annotation and its configuration
+ * overrides, at run time so AOT-processed builds honour them too.
+ */
+@Slf4j
+@Service
+public class RequestCoalescingServiceImpl implements RequestCoalescingService {
+
+    private final Environment environment;
+    private final boolean enabled;
+    private final Map<String, Method> methods = new ConcurrentSkipListMap<>();
+
+    public RequestCoalescingServiceImpl(Environment environment,
+                                        @Value("${app.coalescing.enabled:true}") boolean enabled) {
+        this.environment = environment;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Object execute(Coalesced coalesced, Object[] args, SingleFlight.Computation computation) throws Throwable {
+        Method method = methods.computeIfAbsent(coalesced.value(), name -> configure(coalesced));
+        if (!method.enabled) {
+            return computation.compute();
+        }
+        return method.singleFlight.execute(normalize(args), method.reuseNanos, computation);
+    }
+
+    @Scheduled(fixedDelayString = "${app.coalescing.sweep-interval-ms:60000}")
+    public void sweep() {
+        methods.values().forEach(method -> method.singleFlight.sweep(method.reuseNanos));
+    }
+
+    @Override
+    public List<CoalescedMethodDto> getStatus() {
+        return methods.entrySet().stream()
+            .map(entry -> {
+                SingleFlight singleFlight = entry.getValue().singleFlight;
+                long computations = singleFlight.getComputations();
+                return CoalescedMethodDto.builder()
+                    .name(entry.getKey())
+                    .enabled(entry.getValue().enabled)
+                    .reuseMs(TimeUnit.NANOSECONDS.toMillis(entry.getValue().reuseNanos))
+                    .inFlight(singleFlight.getInFlight())
+                    .computations(computations)
+                    .absorbedRequests(singleFlight.getAbsorbed())
+                    .absorbedPerComputation(computations > 0 ? (double) singleFlight.getAbsorbed() / computations : 0)
+                    .largestAbsorption(singleFlight.getLargestAbsorption())
+                    .lastAbsorption(singleFlight.getLastAbsorption())
+                    .build();
+            })
+            .toList();
+    }
+
+    static List<Object> normalize(Object[] args) {
+        if (args == null || args.length == 0) {
+            return Collections.emptyList();
+        }
+        List<Object> key = new ArrayList<>(args.length);
+        for (Object arg : args) {
+            key.add(normalizeValue(arg));
+        }
+        return key;
+    }
+
+    private static Object normalizeValue(Object value) {
+        if (value instanceof String text) {
+            String trimmed = text.strip();
+            return trimmed.isEmpty() ? null : trimmed;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.signum() == 0 ? BigDecimal.ZERO : decimal.stripTrailingZeros();
+        }
+        if (value instanceof Object[] array) {
+            return Arrays.asList(Arrays.stream(array).map(RequestCoalescingServiceImpl::normalizeValue).toArray());
+        }
+        return value;
+    }
+
+    private Method configure(Coalesced coalesced) {
+        String prefix = "app.coalescing.methods." + coalesced.value() + ".";
+        boolean methodEnabled = enabled && environment.getProperty(prefix + "enabled", Boolean.class, true);
+        long reuseMs = environment.getProperty(prefix + "reuse-ms", Long.class, coalesced.reuseMs());
+        log.debug("Coalescing {} (enabled={}, reuse {} ms)", coalesced.value(), methodEnabled, reuseMs);
+        return new Method(methodEnabled, TimeUnit.MILLISECONDS.toNanos(Math.max(0, reuseMs)));
+    }
+
+    private static final class Method {
+        private final boolean enabled;
+        private final long reuseNanos;
+        private final SingleFlight singleFlight = new SingleFlight(System::nanoTime);
+
+        private Method(boolean enabled, long reuseNanos) {
+            this.enabled = enabled;
+            this.reuseNanos = reuseNanos;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.backend.inventory_management.features.traffic;
+
+import java.util.regex.Pattern;
+
+/**
+ * Endpoint groups for load shedding, most important first. Each group has its own adaptive
+ * concurrency limit and may only use a share of the node's total concurrency, so when the
+ * database is saturated analytics are turned away first and point-of-sale traffic last.
+ * {@link #FAN_OUT} requests are only rate limited: the work they wait on is admitted piece by piece.
+ */
+public enum RequestPriority {
+    // Sale batches, stock adjustments and transfers, reservations and barcode scans
+    POS,
+    STANDARD,
+    // Streamed bulk downloads, such as the full sync snapshot, that hold their slot for the whole transfer
+    BULK,
+    // Aggregates over the whole catalog: forecasts, metrics, analytics, recommendations, simulations
+    ANALYTICS,
+    // The composite dashboard, whose sections each take their own ANALYTICS slot while it waits on them
+    FAN_OUT;
+
+    private static final Pattern LOCATION_ADJUSTMENT = Pattern.compile("/api/locations/[^/]+/stock/adjustments");
+    private static final Pattern LOCATION_METRICS = Pattern.compile("/api/locations/[^/]+/metrics");
+
+    public static RequestPriority of(String method, String path) {
+        boolean read = "GET".equals(method) || "HEAD".equals(method);
+        if (path.startsWith("/api/inventory/by-barcode")
+                || (!read && path.startsWith("/api/sales/"))
+                || (!read && path.startsWith("/api/reservations"))
+                || (!read && path.equals("/api/locations/transfers"))
+                || (!read && LOCATION_ADJUSTMENT.matcher(path).matches())) {
+            return POS;
+        }
+        if (path.equals("/api/inventory/sync/snapshot")) {
+            return BULK;
+        }
+        if (path.startsWith("/api/dashboard")) {
+            return FAN_OUT;
+        }
+        if (path.startsWith("/api/forecast/")
+                || path.startsWith("/api/simulation/")
+                || path.startsWith("/api/inventory/analytics")
+                || path.startsWith("/api/inventory/metrics")
+                || path.startsWith("/api/inventory/reorder-recommendations")
+                || path.startsWith("/api/inventory/abc-classification")
+                || LOCATION_METRICS.matcher(path).matches()) {
+            return ANALYTICS;
+        }
+        return STANDARD;
+    }
+}
@@ -0,0 +1,118 @@
+package com.backend.inventory_management.features.traffic;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs at most one computation per key at a time. Callers arriving while a computation for their
+ * key is in flight, or within the reuse window after it succeeded, get its outcome instead of
+ * starting their own. Failures are shared with the callers already waiting but never reused.
+ */
+public final class SingleFlight {
+
+    private final Map<Object, Call> calls = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+    private final LongAdder computations = new LongAdder();
+    private final LongAdder absorbed = new LongAdder();
+    private final AtomicInteger largestAbsorption = new AtomicInteger();
+    private final AtomicInteger lastAbsorption = new AtomicInteger();
+
+    public SingleFlight(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public Object execute(Object key, long reuseNanos, Computation computation) throws Throwable {
+        while (true) {
+            Call call = calls.get(key);
+            if (call != null && call.expired(clock.getAsLong(), reuseNanos)) {
+                calls.remove(key, call);
+                continue;
+            }
+            if (call != null) {
+                absorbed.increment();
+                largestAbsorption.accumulateAndGet(call.followers.incrementAndGet(), Math::max);
+                return call.join();
+            }
+            Call mine = new Call();
+            if (calls.putIfAbsent(key, mine) == null) {
+                return lead(key, mine, reuseNanos, computation);
+            }
+        }
+    }
+
+    // Drops finished results whose reuse window has passed
+    public int sweep(long reuseNanos) {
+        long now = clock.getAsLong();
+        int before = calls.size();
+        calls.values().removeIf(call -> call.expired(now, reuseNanos));
+        return before - calls.size();
+    }
+
+    public int getInFlight() {
+        return (int) calls.values().stream().filter(call -> !call.future.isDone()).count();
+    }
+
+    public long getComputations() {
+        return computations.sum();
+    }
+
+    public long getAbsorbed() {
+        return absorbed.sum();
+    }
+
+    public int getLargestAbsorption() {
+        return largestAbsorption.get();
+    }
+
+    public int getLastAbsorption() {
+        return lastAbsorption.get();
+    }
+
+    private Object lead(Object key, Call call, long reuseNanos, Computation computation) throws Throwable {
+        computations.increment();
+        try {
+            Object result = computation.compute();
+            call.completedAt.set(clock.getAsLong());
+            call.future.complete(result);
+            if (reuseNanos <= 0) {
+                calls.remove(key, call);
+            }
+            return result;
+        } catch (Throwable e) {
+            calls.remove(key, call);
+            call.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            lastAbsorption.set(call.followers.get());
+        }
+    }
+
+    @FunctionalInterface
+    public interface Computation {
+        Object compute() throws Throwable;
+    }
+
+    private static final class Call {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private final AtomicInteger followers = new AtomicInteger();
+        private final AtomicLong completedAt = new AtomicLong();
+
+        private boolean expired(long now, long reuseNanos) {
+            return future.isDone() && (future.isCompletedExceptionally() || now - completedAt.get() > reuseNanos);
+        }
+
+        private Object join() throws Throwable {
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.backend.inventory_management.features.traffic.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoalescedMethodDto {
+    private String name;
+    private Boolean enabled;
+    private Long reuseMs;
+    private Integer inFlight;
+    private Long computations;
+    private Long absorbedRequests;
+    private Double absorbedPerComputation;
+    private Integer largestAbsorption;
+    private Integer lastAbsorption;
+}
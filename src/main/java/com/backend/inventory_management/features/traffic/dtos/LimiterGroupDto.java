@@ -0,0 +1,23 @@
+package com.backend.inventory_management.features.traffic.dtos;
+
+import com.backend.inventory_management.features.traffic.RequestPriority;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LimiterGroupDto {
+    private RequestPriority priority;
+    private Integer limit;
+    private Integer inFlight;
+    private Integer shareOfNodeLimit;
+    private Long latencyThresholdMs;
+    private Long admitted;
+    private Long shed;
+    private Long rateLimited;
+    private Long congestionSignals;
+}
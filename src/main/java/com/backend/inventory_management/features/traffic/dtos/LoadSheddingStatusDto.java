@@ -0,0 +1,22 @@
+package com.backend.inventory_management.features.traffic.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadSheddingStatusDto {
+    private Boolean enabled;
+    private Integer nodeLimit;
+    private Integer inFlight;
+    private Double clientRatePerSecond;
+    private Integer clientBurst;
+    private Integer trackedClients;
+    private List<LimiterGroupDto> groups;
+}
@@ -0,0 +1,4 @@
+-- Rows written by bulk loads (COPY, batched INSERT) take a change sequence value without naming
+-- the column; JPA writes keep setting it explicitly through ChangeSequence.
+
+ALTER TABLE inventory_items ALTER COLUMN change_seq SET DEFAULT nextval('inventory_change_seq');
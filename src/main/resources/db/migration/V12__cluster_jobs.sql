@@ -0,0 +1,27 @@
+-- History of cluster job runs. A run that stops part-way keeps the checkpoint of its last
+-- completed chunk, and the next run of the job resumes from there.
+
+CREATE TABLE job_runs (
+    id               BIGSERIAL NOT NULL,
+    job_name         VARCHAR(100) NOT NULL,
+    node_id          VARCHAR(255) NOT NULL,
+    trigger_type     VARCHAR(20) NOT NULL,
+    status           VARCHAR(20) NOT NULL,
+    started_at       TIMESTAMP(6) NOT NULL,
+    finished_at      TIMESTAMP(6),
+    chunks           INTEGER NOT NULL,
+    processed        BIGINT NOT NULL,
+    last_checkpoint  VARCHAR(255),
+    resumed_from     VARCHAR(255),
+    error_message    VARCHAR(1000),
+    PRIMARY KEY (id)
+);
+CREATE INDEX idx_job_runs_job_name_id ON job_runs (job_name, id);
+
+-- Stands in for advisory locks on databases without them; a lease past expires_at may be taken over
+CREATE TABLE job_leases (
+    job_name     VARCHAR(100) NOT NULL,
+    lease_owner  VARCHAR(255) NOT NULL,
+    expires_at   TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (job_name)
+);
@@ -0,0 +1,15 @@
+-- Every node writes its own sale log, so each log keeps its own checkpoint, keyed by the id stored
+-- in the log's directory. The single shared checkpoint becomes the 'legacy' row, which the first
+-- log directory opened without an id takes over: on a single-node deployment, the log it described.
+
+CREATE TABLE sale_log_checkpoints (
+    log_id        VARCHAR(64) NOT NULL,
+    last_segment  BIGINT NOT NULL,
+    updated_at    TIMESTAMP(6),
+    PRIMARY KEY (log_id)
+);
+
+INSERT INTO sale_log_checkpoints (log_id, last_segment, updated_at)
+SELECT 'legacy', last_segment, updated_at FROM sale_ingest_checkpoint WHERE id = 1;
+
+DROP TABLE sale_ingest_checkpoint;
@@ -0,0 +1,32 @@
+-- Every stock movement at a location used to add its delta to the location's one summary row, so
+-- concurrent movements at a busy store queued on that row's lock. Each location now has eight
+-- stripes (LocationSummary.STRIPES); writers spread over them and readers sum them. The existing
+-- totals become stripe 0.
+
+CREATE TABLE location_summary_backup AS SELECT * FROM location_summaries;
+
+DROP TABLE location_summaries;
+
+CREATE TABLE location_summaries (
+    location_id         BIGINT NOT NULL,
+    stripe              INTEGER NOT NULL,
+    sku_count           BIGINT NOT NULL,
+    total_units         BIGINT NOT NULL,
+    stock_value         NUMERIC(19, 2) NOT NULL,
+    low_stock_count     BIGINT NOT NULL,
+    out_of_stock_count  BIGINT NOT NULL,
+    PRIMARY KEY (location_id, stripe),
+    CONSTRAINT fk_location_summaries_location FOREIGN KEY (location_id) REFERENCES locations (id)
+);
+
+INSERT INTO location_summaries (location_id, stripe, sku_count, total_units, stock_value, low_stock_count, out_of_stock_count)
+SELECT b.location_id, s.stripe,
+       CASE WHEN s.stripe = 0 THEN b.sku_count ELSE 0 END,
+       CASE WHEN s.stripe = 0 THEN b.total_units ELSE 0 END,
+       CASE WHEN s.stripe = 0 THEN b.stock_value ELSE 0 END,
+       CASE WHEN s.stripe = 0 THEN b.low_stock_count ELSE 0 END,
+       CASE WHEN s.stripe = 0 THEN b.out_of_stock_count ELSE 0 END
+FROM location_summary_backup b
+CROSS JOIN (VALUES (0), (1), (2), (3), (4), (5), (6), (7)) AS s (stripe);
+
+DROP TABLE location_summary_backup;
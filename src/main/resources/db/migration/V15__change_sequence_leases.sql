@@ -0,0 +1,9 @@
+-- Stands in for advisory locks on databases without them: a transaction writing to the change
+-- feed publishes the sequence floor it draws from here, and the sync watermark stays below it until
+-- the row is removed after the transaction ends. A row past expires_at no longer counts.
+
+CREATE TABLE inventory_change_leases (
+    floor_seq   BIGINT NOT NULL,
+    expires_at  TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (floor_seq)
+);
@@ -0,0 +1,22 @@
+-- Reservation holds live in the database so every node sees them and they survive restarts.
+-- stock_levels.reserved is the sum of the HELD reservations on the row; stock movements may only
+-- take the row's quantity down to it, so available = quantity - reserved never goes negative.
+
+ALTER TABLE stock_levels ADD COLUMN reserved INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE stock_levels ADD CONSTRAINT ck_stock_levels_reserved CHECK (reserved >= 0 AND reserved <= quantity);
+
+-- No foreign keys: rows outlive archived items and are purged a day after they expire
+CREATE TABLE stock_reservations (
+    id          VARCHAR(36) NOT NULL,
+    item_id     BIGINT NOT NULL,
+    location_id BIGINT NOT NULL,
+    quantity    INTEGER NOT NULL CHECK (quantity > 0),
+    reference   VARCHAR(255),
+    status      VARCHAR(16) NOT NULL CHECK (status IN ('HELD', 'CONFIRMED', 'RELEASED', 'EXPIRED')),
+    created_at  TIMESTAMP(6) NOT NULL,
+    expires_at  TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- Serves the sweep for overdue holds and the purge of finished ones
+CREATE INDEX idx_stock_reservations_status_expires ON stock_reservations (status, expires_at);
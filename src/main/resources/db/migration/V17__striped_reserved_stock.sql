@@ -0,0 +1,22 @@
+-- Reserved units move off the single stock_levels row, where every hold on a hot SKU queued on one
+-- row lock, onto stripes. Each stripe is allotted a slice of the row's quantity and claims holds
+-- within it; the allotments never add up to more than the quantity, so stripes claim independently.
+
+CREATE TABLE stock_reservation_stripes (
+    item_id     BIGINT NOT NULL,
+    location_id BIGINT NOT NULL,
+    stripe      INTEGER NOT NULL,
+    allotted    INTEGER NOT NULL,
+    reserved    INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (item_id, location_id, stripe),
+    CONSTRAINT ck_stock_reservation_stripes_reserved CHECK (reserved >= 0 AND reserved <= allotted)
+);
+
+-- Holds placed before the split stay on stripe 0
+INSERT INTO stock_reservation_stripes (item_id, location_id, stripe, allotted, reserved)
+SELECT item_id, location_id, 0, reserved, reserved FROM stock_levels WHERE reserved > 0;
+
+ALTER TABLE stock_reservations ADD COLUMN stripe INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE stock_levels DROP CONSTRAINT ck_stock_levels_reserved;
+ALTER TABLE stock_levels DROP COLUMN reserved;
@@ -0,0 +1,26 @@
+-- Daily demand per item, supplier lead times and the reorder policies computed from them.
+-- Databases that ran these features under ddl-auto=update already have the objects, so every
+-- statement only creates what is missing.
+
+ALTER TABLE suppliers ADD COLUMN IF NOT EXISTS lead_time_days INTEGER;
+
+CREATE TABLE IF NOT EXISTS item_demand_daily (
+    id          BIGSERIAL NOT NULL,
+    item_id     BIGINT NOT NULL,
+    demand_date DATE NOT NULL,
+    units       BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_item_demand_daily_item_date UNIQUE (item_id, demand_date)
+);
+
+CREATE TABLE IF NOT EXISTS reorder_policies (
+    item_id                 BIGINT NOT NULL,
+    avg_daily_demand        FLOAT(53) NOT NULL,
+    demand_std_dev          FLOAT(53) NOT NULL,
+    lead_time_days          INTEGER NOT NULL,
+    safety_stock            INTEGER NOT NULL,
+    reorder_point           INTEGER NOT NULL,
+    economic_order_quantity INTEGER NOT NULL,
+    computed_at             TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (item_id)
+);
@@ -0,0 +1,4 @@
+-- ABC class per item, maintained by the classification job. Databases that ran it under
+-- ddl-auto=update already have the column.
+
+ALTER TABLE inventory_items ADD COLUMN IF NOT EXISTS abc_class CHAR(1) CHECK (abc_class IN ('A', 'B', 'C'));
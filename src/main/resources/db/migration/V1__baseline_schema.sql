@@ -0,0 +1,56 @@
+-- Schema as hibernate.ddl-auto=update generated it before demand history, reorder policies and
+-- ABC classes were added; those follow in V1_1 and V1_2. Existing databases are baselined at this
+-- version and skip this script.
+
+CREATE TABLE users (
+    id          BIGSERIAL NOT NULL,
+    username    VARCHAR(255) NOT NULL UNIQUE,
+    password    VARCHAR(255) NOT NULL,
+    email       VARCHAR(255) NOT NULL,
+    first_name  VARCHAR(255),
+    last_name   VARCHAR(255),
+    role        VARCHAR(255) CHECK (role IN ('ADMIN', 'USER', 'MANAGER')),
+    enabled     BOOLEAN NOT NULL,
+    last_login  TIMESTAMP(6),
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE categories (
+    id          BIGSERIAL NOT NULL,
+    name        VARCHAR(255) NOT NULL UNIQUE,
+    description VARCHAR(255),
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE suppliers (
+    id              BIGSERIAL NOT NULL,
+    name            VARCHAR(255) NOT NULL,
+    contact_person  VARCHAR(255),
+    email           VARCHAR(255),
+    phone           VARCHAR(255),
+    address         VARCHAR(255),
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE inventory_items (
+    id              BIGSERIAL NOT NULL,
+    name            VARCHAR(255) NOT NULL,
+    category        VARCHAR(255) NOT NULL,
+    quantity        INTEGER NOT NULL,
+    price           NUMERIC(10, 2) NOT NULL,
+    supplier        VARCHAR(255) NOT NULL,
+    min_stock_level INTEGER,
+    max_stock_level INTEGER,
+    status          VARCHAR(255) CHECK (status IN ('IN_STOCK', 'LOW_STOCK', 'OUT_OF_STOCK')),
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    created_by      VARCHAR(255),
+    updated_by      VARCHAR(255),
+    PRIMARY KEY (id)
+);
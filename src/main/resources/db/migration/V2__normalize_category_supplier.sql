@@ -0,0 +1,37 @@
+-- Replace the free-text category/supplier columns on inventory_items with foreign keys
+-- to the categories and suppliers dimension tables.
+
+-- Every name still referenced by an item gets a dimension row
+INSERT INTO categories (name, created_at, updated_at)
+SELECT DISTINCT i.category, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+FROM inventory_items i
+WHERE NOT EXISTS (SELECT 1 FROM categories c WHERE c.name = i.category);
+
+INSERT INTO suppliers (name, created_at, updated_at)
+SELECT DISTINCT i.supplier, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+FROM inventory_items i
+WHERE NOT EXISTS (SELECT 1 FROM suppliers s WHERE s.name = i.supplier);
+
+-- Supplier names are now the lookup key when items are created by name
+ALTER TABLE suppliers ADD CONSTRAINT uk_suppliers_name UNIQUE (name);
+
+ALTER TABLE inventory_items ADD COLUMN category_id BIGINT;
+ALTER TABLE inventory_items ADD COLUMN supplier_id BIGINT;
+
+UPDATE inventory_items
+SET category_id = (SELECT c.id FROM categories c WHERE c.name = inventory_items.category),
+    supplier_id = (SELECT s.id FROM suppliers s WHERE s.name = inventory_items.supplier);
+
+ALTER TABLE inventory_items ALTER COLUMN category_id SET NOT NULL;
+ALTER TABLE inventory_items ALTER COLUMN supplier_id SET NOT NULL;
+
+ALTER TABLE inventory_items ADD CONSTRAINT fk_inventory_items_category
+    FOREIGN KEY (category_id) REFERENCES categories (id);
+ALTER TABLE inventory_items ADD CONSTRAINT fk_inventory_items_supplier
+    FOREIGN KEY (supplier_id) REFERENCES suppliers (id);
+
+CREATE INDEX idx_inventory_items_category_id ON inventory_items (category_id);
+CREATE INDEX idx_inventory_items_supplier_id ON inventory_items (supplier_id);
+
+ALTER TABLE inventory_items DROP COLUMN category;
+ALTER TABLE inventory_items DROP COLUMN supplier;
@@ -0,0 +1,23 @@
+-- Category tree: parent pointer for the adjacency itself, plus a closure table holding
+-- one row per (ancestor, descendant) pair so subtree lookups are a single indexed join.
+
+ALTER TABLE categories ADD COLUMN parent_id BIGINT;
+ALTER TABLE categories ADD CONSTRAINT fk_categories_parent
+    FOREIGN KEY (parent_id) REFERENCES categories (id);
+CREATE INDEX idx_categories_parent_id ON categories (parent_id);
+
+CREATE TABLE category_closure (
+    ancestor_id   BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    depth         INTEGER NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    CONSTRAINT fk_category_closure_ancestor FOREIGN KEY (ancestor_id) REFERENCES categories (id),
+    CONSTRAINT fk_category_closure_descendant FOREIGN KEY (descendant_id) REFERENCES categories (id)
+);
+
+-- Ancestors of a node are needed when moving it
+CREATE INDEX idx_category_closure_descendant ON category_closure (descendant_id, ancestor_id);
+
+-- Existing categories are all roots
+INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+SELECT id, id, 0 FROM categories;
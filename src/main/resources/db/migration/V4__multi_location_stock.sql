@@ -0,0 +1,62 @@
+-- Stock per (item, location). inventory_items.quantity remains the chain-wide total and,
+-- like location_summaries, is maintained incrementally by every stock movement.
+
+CREATE TABLE locations (
+    id          BIGSERIAL NOT NULL,
+    code        VARCHAR(32) NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    type        VARCHAR(32) NOT NULL CHECK (type IN ('STORE', 'WAREHOUSE')),
+    address     VARCHAR(255),
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_locations_code UNIQUE (code)
+);
+
+CREATE TABLE stock_levels (
+    id          BIGSERIAL NOT NULL,
+    item_id     BIGINT NOT NULL,
+    location_id BIGINT NOT NULL,
+    quantity    INTEGER NOT NULL,
+    updated_at  TIMESTAMP(6),
+    PRIMARY KEY (id),
+    -- Leading location_id serves location-scoped listings; item lookups use the index below
+    CONSTRAINT uk_stock_levels_location_item UNIQUE (location_id, item_id),
+    CONSTRAINT fk_stock_levels_item FOREIGN KEY (item_id) REFERENCES inventory_items (id),
+    CONSTRAINT fk_stock_levels_location FOREIGN KEY (location_id) REFERENCES locations (id),
+    CONSTRAINT ck_stock_levels_quantity CHECK (quantity >= 0)
+);
+
+CREATE INDEX idx_stock_levels_item_id ON stock_levels (item_id);
+
+CREATE TABLE location_summaries (
+    location_id         BIGINT NOT NULL,
+    sku_count           BIGINT NOT NULL,
+    total_units         BIGINT NOT NULL,
+    stock_value         NUMERIC(19, 2) NOT NULL,
+    low_stock_count     BIGINT NOT NULL,
+    out_of_stock_count  BIGINT NOT NULL,
+    PRIMARY KEY (location_id),
+    CONSTRAINT fk_location_summaries_location FOREIGN KEY (location_id) REFERENCES locations (id)
+);
+
+-- Existing stock all lives at the default location
+INSERT INTO locations (code, name, type, created_at, updated_at)
+VALUES ('MAIN', 'Main warehouse', 'WAREHOUSE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
+INSERT INTO stock_levels (item_id, location_id, quantity, updated_at)
+SELECT i.id, l.id, i.quantity, CURRENT_TIMESTAMP
+FROM inventory_items i CROSS JOIN locations l
+WHERE l.code = 'MAIN';
+
+INSERT INTO location_summaries (location_id, sku_count, total_units, stock_value, low_stock_count, out_of_stock_count)
+SELECT l.id,
+       COUNT(sl.id),
+       COALESCE(SUM(sl.quantity), 0),
+       COALESCE(SUM(sl.quantity * i.price), 0),
+       COUNT(CASE WHEN sl.quantity > 0 AND sl.quantity < i.min_stock_level THEN 1 END),
+       COUNT(CASE WHEN sl.quantity = 0 THEN 1 END)
+FROM locations l
+LEFT JOIN stock_levels sl ON sl.location_id = l.id
+LEFT JOIN inventory_items i ON i.id = sl.item_id
+GROUP BY l.id;
@@ -0,0 +1,11 @@
+-- Highest write-ahead log segment whose sales have been applied to stock. Advanced in the same
+-- transaction as the stock updates, so a segment is never replayed once its flush has committed.
+
+CREATE TABLE sale_ingest_checkpoint (
+    id            INTEGER NOT NULL,
+    last_segment  BIGINT NOT NULL,
+    updated_at    TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+INSERT INTO sale_ingest_checkpoint (id, last_segment, updated_at) VALUES (1, 0, CURRENT_TIMESTAMP);
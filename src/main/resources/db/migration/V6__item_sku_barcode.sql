@@ -0,0 +1,8 @@
+-- Stock-keeping unit and GTIN barcode per item. Both are optional, so existing rows stay valid;
+-- NULLs do not collide under the unique constraints.
+
+ALTER TABLE inventory_items ADD COLUMN sku VARCHAR(64);
+ALTER TABLE inventory_items ADD COLUMN barcode VARCHAR(14);
+
+ALTER TABLE inventory_items ADD CONSTRAINT uk_inventory_items_sku UNIQUE (sku);
+ALTER TABLE inventory_items ADD CONSTRAINT uk_inventory_items_barcode UNIQUE (barcode);
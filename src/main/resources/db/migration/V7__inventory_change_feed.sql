@@ -0,0 +1,24 @@
+-- Change feed for offline clients. Every insert or update of an item takes the next value of
+-- inventory_change_seq, and deletions leave a tombstone carrying their own sequence value, so
+-- "everything after token N" is one range scan over each index.
+
+CREATE SEQUENCE inventory_change_seq;
+
+ALTER TABLE inventory_items ADD COLUMN change_seq BIGINT;
+UPDATE inventory_items SET change_seq = nextval('inventory_change_seq');
+ALTER TABLE inventory_items ALTER COLUMN change_seq SET NOT NULL;
+CREATE INDEX idx_inventory_items_change_seq ON inventory_items (change_seq);
+
+CREATE TABLE inventory_tombstones (
+    item_id     BIGINT PRIMARY KEY,
+    change_seq  BIGINT NOT NULL,
+    deleted_at  TIMESTAMP NOT NULL
+);
+CREATE INDEX idx_inventory_tombstones_change_seq ON inventory_tombstones (change_seq);
+
+-- Tokens at or below this value may have lost tombstones to the retention purge
+CREATE TABLE inventory_sync_state (
+    id                         INTEGER PRIMARY KEY,
+    tombstones_purged_through  BIGINT NOT NULL
+);
+INSERT INTO inventory_sync_state (id, tombstones_purged_through) VALUES (1, 0);
@@ -0,0 +1,30 @@
+-- Deleted items keep their row, flagged by deleted_at, until the archiver moves them out of the
+-- hot table. Live-only indexes are created per database in V9 (db/vendor/{vendor}).
+
+ALTER TABLE inventory_items ADD COLUMN deleted_at TIMESTAMP(6);
+ALTER TABLE inventory_items ADD COLUMN deleted_by VARCHAR(255);
+
+CREATE TABLE inventory_items_archive (
+    id              BIGINT NOT NULL,
+    name            VARCHAR(255) NOT NULL,
+    sku             VARCHAR(64),
+    barcode         VARCHAR(14),
+    category_id     BIGINT NOT NULL,
+    supplier_id     BIGINT NOT NULL,
+    quantity        INTEGER NOT NULL,
+    price           NUMERIC(10, 2) NOT NULL,
+    min_stock_level INTEGER,
+    max_stock_level INTEGER,
+    status          VARCHAR(255),
+    abc_class       CHAR(1),
+    change_seq      BIGINT NOT NULL,
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    created_by      VARCHAR(255),
+    updated_by      VARCHAR(255),
+    deleted_at      TIMESTAMP(6) NOT NULL,
+    deleted_by      VARCHAR(255),
+    archived_at     TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+CREATE INDEX idx_inventory_items_archive_deleted_at ON inventory_items_archive (deleted_at);
@@ -0,0 +1,107 @@
+package com.backend.inventory_management;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that the hot lookups are planned on the indexes created for them. The statements mirror
+ * the SQL Hibernate generates for the repository and DAO queries, including the soft-delete
+ * restriction. The suite runs on H2 by default; point spring.datasource.* at a PostgreSQL
+ * database to also cover the expression and partial indexes, which exist only there.
+ */
+@SpringBootTest
+@Transactional
+class QueryPlanTests {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private boolean postgres;
+
+    @BeforeEach
+    void detectDatabase() {
+        postgres = "PostgreSQL".equals(jdbcTemplate.execute(
+            (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName()));
+        if (postgres) {
+            // The test tables are tiny, where a sequential scan is always cheapest
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        }
+    }
+
+    @Test
+    void userLookupsUseUniqueIndexes() {
+        assertNoFullScan(plan("SELECT u.id FROM users u WHERE u.username = 'admin'"));
+        assertThat(plan("SELECT u.id FROM users u WHERE u.email = 'admin@inventorymanager.com'"))
+            .contains("uk_users_email");
+    }
+
+    @Test
+    void itemListingIsReadInNameOrder() {
+        String plan = plan("SELECT i.id, c.name, s.name FROM inventory_items i " +
+            "JOIN categories c ON c.id = i.category_id JOIN suppliers s ON s.id = i.supplier_id " +
+            "WHERE i.deleted_at IS NULL ORDER BY i.name, i.id FETCH FIRST 20 ROWS ONLY");
+        assertThat(plan).contains("idx_inventory_items_name_id");
+        if (postgres) {
+            assertThat(plan).doesNotContain("Sort");
+        }
+    }
+
+    @Test
+    void itemCodeAndStatusLookupsUseIndexes() {
+        // On H2 the unique index covers a live-rows generated column, so lookups use a plain index
+        assertThat(plan("SELECT i.id FROM inventory_items i WHERE (i.deleted_at IS NULL) AND i.sku = 'GEN-000000001'"))
+            .contains(postgres ? "uk_inventory_items_sku" : "idx_inventory_items_sku");
+        assertThat(plan("SELECT i.id FROM inventory_items i WHERE (i.deleted_at IS NULL) AND i.status = 'LOW_STOCK'"))
+            .contains("idx_inventory_items_status");
+    }
+
+    @Test
+    void syncFeedScansTheChangeSequenceIndex() {
+        assumeTrue(postgres, "H2 plans the live-rows predicate on the deleted_at index instead");
+        assertThat(plan("SELECT i.id FROM inventory_items i WHERE i.deleted_at IS NULL AND i.change_seq > 10 " +
+            "AND i.change_seq <= 1000 ORDER BY i.change_seq LIMIT 100"))
+            .contains("idx_inventory_items_change_seq");
+    }
+
+    @Test
+    void categorySubtreeFilterProbesTheClosureTable() {
+        String plan = plan("SELECT i.id FROM inventory_items i WHERE (i.deleted_at IS NULL) AND i.category_id IN " +
+            "(SELECT cc.descendant_id FROM category_closure cc WHERE cc.ancestor_id = 1)");
+        assertThat(plan).contains("idx_inventory_items_category_id");
+        assertNoFullScan(plan);
+    }
+
+    @Test
+    void caseInsensitiveNameCheckUsesExpressionIndex() {
+        assumeTrue(postgres, "Expression indexes exist only on PostgreSQL");
+        assertThat(plan("SELECT i.id FROM inventory_items i WHERE (i.deleted_at IS NULL) " +
+            "AND UPPER(i.name) = UPPER('Laptop') FETCH FIRST 1 ROWS ONLY"))
+            .contains("uk_inventory_items_name_upper");
+    }
+
+    @Test
+    void restockQueriesUsePartialIndexes() {
+        assumeTrue(postgres, "Partial indexes exist only on PostgreSQL");
+        assertThat(plan("SELECT i.id FROM inventory_items i WHERE (i.deleted_at IS NULL) " +
+            "AND i.quantity < i.min_stock_level"))
+            .contains("idx_inventory_items_below_min");
+        assertThat(plan("SELECT i.id FROM inventory_items i WHERE (i.deleted_at IS NULL) AND i.quantity = 0"))
+            .contains("idx_inventory_items_out_of_stock");
+    }
+
+    private String plan(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+
+    private void assertNoFullScan(String plan) {
+        assertThat(plan).doesNotContain("tableScan").doesNotContain("Seq Scan");
+    }
+}
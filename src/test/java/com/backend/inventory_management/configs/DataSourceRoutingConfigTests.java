@@ -0,0 +1,21 @@
+package com.backend.inventory_management.configs;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class DataSourceRoutingConfigTests {
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Test
+    void primaryPoolIsBoundToHikariProperties() {
+        assertThat(primaryDataSource.getPoolName()).isEqualTo("primary");
+        assertThat(primaryDataSource.getMinimumIdle()).isEqualTo(2);
+    }
+}
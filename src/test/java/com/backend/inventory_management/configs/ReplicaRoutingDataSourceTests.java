@@ -0,0 +1,147 @@
+package com.backend.inventory_management.configs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTests {
+
+    // Two separate in-memory databases stand in for the primary and the replica
+    private final DataSource primary = database("primary");
+    private final DataSource replica = database("replica");
+
+    @AfterEach
+    void clearUser() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        Routed routed = new Routed(new ReplicaRoutingDataSource(primary, replica, 2_000, 30_000));
+
+        assertThat(routed.read()).isEqualTo("replica");
+        assertThat(routed.write()).isEqualTo("primary");
+    }
+
+    @Test
+    void readsStayOnThePrimaryAfterTheUsersOwnWrite() throws Exception {
+        Routed routed = new Routed(new ReplicaRoutingDataSource(primary, replica, 200, 30_000));
+
+        signIn("alice");
+        routed.write();
+        assertThat(routed.read()).isEqualTo("primary");
+
+        signIn("bob");
+        assertThat(routed.read()).isEqualTo("replica");
+
+        Thread.sleep(250);
+        signIn("alice");
+        assertThat(routed.read()).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWritesDoNotPinTheUser() {
+        Routed routed = new Routed(new ReplicaRoutingDataSource(primary, replica, 2_000, 30_000));
+
+        signIn("alice");
+        routed.transactions.executeWithoutResult(status -> {
+            routed.jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+            status.setRollbackOnly();
+        });
+        assertThat(routed.read()).isEqualTo("replica");
+    }
+
+    @Test
+    void fallsBackToThePrimaryWhenTheReplicaIsDown() {
+        // IFEXISTS refuses to create the database, so every connection attempt fails
+        DriverManagerDataSource unreachable = new DriverManagerDataSource(
+            "jdbc:h2:mem:missing-" + UUID.randomUUID() + ";IFEXISTS=TRUE", "sa", "");
+        Routed routed = new Routed(new ReplicaRoutingDataSource(primary, unreachable, 2_000, 30_000));
+
+        assertThat(routed.read()).isEqualTo("primary");
+        assertThat(routed.read()).isEqualTo("primary");
+    }
+
+    @Test
+    void everythingGoesToThePrimaryWithoutAReplica() {
+        Routed routed = new Routed(new ReplicaRoutingDataSource(primary, null, 2_000, 30_000));
+
+        assertThat(routed.read()).isEqualTo("primary");
+    }
+
+    @Test
+    void explicitCredentialsAreRoutedTheSameWay() throws Exception {
+        ReplicaRoutingDataSource router = new ReplicaRoutingDataSource(primary, replica, 2_000, 30_000);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try (Connection connection = router.getConnection("sa", "")) {
+            assertThat(nodeOf(connection)).isEqualTo("replica");
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+        try (Connection connection = router.getConnection("sa", "")) {
+            assertThat(nodeOf(connection)).isEqualTo("primary");
+        }
+    }
+
+    private static String nodeOf(Connection connection) throws SQLException {
+        try (ResultSet rs = connection.createStatement().executeQuery("SELECT name FROM node")) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    private static void signIn(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(16))");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+
+    // Wired the way the application wires it: the router behind a lazy proxy
+    private static final class Routed {
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate transactions;
+        private final TransactionTemplate readOnlyTransactions;
+
+        private Routed(ReplicaRoutingDataSource router) {
+            DataSource dataSource = new LazyConnectionDataSourceProxy(router);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.transactions = new TransactionTemplate(transactionManager);
+            this.readOnlyTransactions = new TransactionTemplate(transactionManager);
+            this.readOnlyTransactions.setReadOnly(true);
+        }
+
+        private String read() {
+            return readOnlyTransactions.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+        }
+
+        private String write() {
+            return transactions.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.backend.inventory_management.configs;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaMigrationTests {
+
+    private final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:migrations-" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    @Test
+    void databaseFromBeforeTheMigrationsIsBaselinedAndBroughtUpToDate() {
+        // What ddl-auto=update left behind before demand history, reorder policies and ABC classes
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline_schema.sql")).execute(dataSource);
+
+        migrate();
+
+        assertThat(hasColumn("suppliers", "lead_time_days")).isTrue();
+        assertThat(hasColumn("inventory_items", "abc_class")).isTrue();
+        assertThat(hasTable("item_demand_daily")).isTrue();
+        assertThat(hasTable("reorder_policies")).isTrue();
+    }
+
+    @Test
+    void objectsAlreadyCreatedByDdlAutoAreKept() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline_schema.sql")).execute(dataSource);
+        jdbcTemplate.execute("ALTER TABLE suppliers ADD COLUMN lead_time_days INTEGER");
+        jdbcTemplate.execute("ALTER TABLE inventory_items ADD COLUMN abc_class CHAR(1)");
+        jdbcTemplate.execute("CREATE TABLE item_demand_daily (id BIGSERIAL PRIMARY KEY, item_id BIGINT NOT NULL, " +
+            "demand_date DATE NOT NULL, units BIGINT NOT NULL)");
+        jdbcTemplate.update("INSERT INTO item_demand_daily (item_id, demand_date, units) VALUES (1, CURRENT_DATE, 4)");
+
+        migrate();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(units) FROM item_demand_daily", Long.class)).isEqualTo(4);
+        assertThat(hasTable("reorder_policies")).isTrue();
+    }
+
+    private void migrate() {
+        Flyway.configure()
+            .dataSource(dataSource)
+            .baselineOnMigrate(true)
+            .baselineVersion("1")
+            .locations("classpath:db/migration", "classpath:db/vendor/h2")
+            .load()
+            .migrate();
+    }
+
+    private boolean hasTable(String table) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.tables WHERE table_name = ?", Integer.class, table) > 0;
+    }
+
+    private boolean hasColumn(String table, String column) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.columns " +
+            "WHERE table_name = ? AND column_name = ?", Integer.class, table, column) > 0;
+    }
+}
@@ -0,0 +1,45 @@
+package com.backend.inventory_management.features.alert;
+
+import com.backend.inventory_management.features.inventory.StockStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AlertDebouncerTests {
+
+    @Test
+    void reportsAStatusOnlyOnceItHasHeldForTheWindow() {
+        AlertDebouncer debouncer = new AlertDebouncer(100);
+        debouncer.observe(1, StockStatus.IN_STOCK, StockStatus.LOW_STOCK, 0);
+
+        assertThat(debouncer.due(99)).isEmpty();
+        assertThat(debouncer.due(100)).containsExactly(
+            new AlertDebouncer.Transition(1, StockStatus.IN_STOCK, StockStatus.LOW_STOCK));
+        assertThat(debouncer.due(500)).isEmpty();
+    }
+
+    @Test
+    void suppressesItemsThatFlapBackWithinTheWindow() {
+        AlertDebouncer debouncer = new AlertDebouncer(100);
+        debouncer.observe(1, StockStatus.IN_STOCK, StockStatus.LOW_STOCK, 0);
+        debouncer.observe(1, StockStatus.LOW_STOCK, StockStatus.IN_STOCK, 50);
+        debouncer.observe(1, StockStatus.IN_STOCK, StockStatus.LOW_STOCK, 80);
+
+        assertThat(debouncer.due(150)).isEmpty();
+        assertThat(debouncer.due(180)).hasSize(1);
+    }
+
+    @Test
+    void reportsRecoveryAgainstTheLastReportedStatus() {
+        AlertDebouncer debouncer = new AlertDebouncer(100);
+        debouncer.observe(1, StockStatus.IN_STOCK, StockStatus.OUT_OF_STOCK, 0);
+        debouncer.due(100);
+
+        // The baseline of a tracked item is ignored in favour of what was last reported
+        debouncer.observe(1, StockStatus.LOW_STOCK, StockStatus.IN_STOCK, 200);
+
+        assertThat(debouncer.due(300)).containsExactly(
+            new AlertDebouncer.Transition(1, StockStatus.OUT_OF_STOCK, StockStatus.IN_STOCK));
+        assertThat(debouncer.pendingItemIds()).isEmpty();
+    }
+}
@@ -0,0 +1,65 @@
+package com.backend.inventory_management.features.dashboard;
+
+import com.backend.inventory_management.features.traffic.Admission;
+import com.backend.inventory_management.features.traffic.LoadSheddingService;
+import com.backend.inventory_management.features.traffic.RequestPriority;
+import com.backend.inventory_management.features.traffic.dtos.LimiterGroupDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class DashboardControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LoadSheddingService loadSheddingService;
+
+    @Test
+    void dashboardHoldsNoAnalyticsSlotOfItsOwn() throws Exception {
+        // Busy analytics traffic leaves a single slot, enough for one section
+        LimiterGroupDto analytics = group(RequestPriority.ANALYTICS);
+        List<Admission> held = new ArrayList<>();
+        try {
+            for (int i = analytics.getInFlight(); i < analytics.getLimit() - 1; i++) {
+                Admission admission = loadSheddingService.tryAcquire(RequestPriority.ANALYTICS);
+                assertThat(admission.admitted()).isTrue();
+                held.add(admission);
+            }
+            long fanOutAdmitted = group(RequestPriority.FAN_OUT).getAdmitted();
+            long analyticsAdmitted = group(RequestPriority.ANALYTICS).getAdmitted();
+
+            mockMvc.perform(get("/api/dashboard").param("sections", "categories"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.complete").value(true))
+                .andExpect(jsonPath("$.data.sections.categories.status").value("OK"));
+
+            assertThat(group(RequestPriority.FAN_OUT).getAdmitted()).isEqualTo(fanOutAdmitted + 1);
+            assertThat(group(RequestPriority.ANALYTICS).getAdmitted()).isEqualTo(analyticsAdmitted + 1);
+        } finally {
+            held.forEach(admission -> loadSheddingService.release(admission, 0, false));
+        }
+    }
+
+    private LimiterGroupDto group(RequestPriority priority) {
+        return loadSheddingService.getStatus().getGroups().stream()
+            .filter(group -> group.getPriority() == priority)
+            .findFirst()
+            .orElseThrow();
+    }
+}
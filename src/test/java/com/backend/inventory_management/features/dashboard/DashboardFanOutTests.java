@@ -0,0 +1,118 @@
+package com.backend.inventory_management.features.dashboard;
+
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.features.dashboard.dtos.DashboardSectionDto;
+import com.backend.inventory_management.features.traffic.LoadSheddingServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DashboardFanOutTests {
+
+    private static final long BUDGET = TimeUnit.SECONDS.toNanos(5);
+
+    private final LoadSheddingServiceImpl limiter = limiter(40);
+    private final DashboardFanOut fanOut = new DashboardFanOut(4, limiter);
+
+    @AfterEach
+    void close() {
+        fanOut.close();
+    }
+
+    @Test
+    void sectionsLoadSideBySide() {
+        CountDownLatch allStarted = new CountDownLatch(3);
+        Map<DashboardSection, Callable<?>> loaders = new EnumMap<>(DashboardSection.class);
+        // Each section only returns once all of them are running at the same time
+        for (DashboardSection section : List.of(DashboardSection.METRICS, DashboardSection.CATEGORIES,
+                DashboardSection.FORECAST)) {
+            loaders.put(section, () -> {
+                allStarted.countDown();
+                return allStarted.await(2, TimeUnit.SECONDS) ? section.getKey() : null;
+            });
+        }
+
+        Map<DashboardSection, DashboardSectionDto> results = fanOut.run(loaders, section -> BUDGET);
+
+        assertThat(results).containsOnlyKeys(loaders.keySet());
+        results.forEach((section, result) -> {
+            assertThat(result.getStatus()).isEqualTo(DashboardSectionStatus.OK);
+            assertThat(result.getData()).isEqualTo(section.getKey());
+        });
+    }
+
+    @Test
+    void slowAndFailingSectionsDoNotHoldUpTheRest() {
+        CountDownLatch never = new CountDownLatch(1);
+        Map<DashboardSection, Callable<?>> loaders = new EnumMap<>(DashboardSection.class);
+        loaders.put(DashboardSection.METRICS, () -> "metrics");
+        loaders.put(DashboardSection.FORECAST, () -> never.await(5, TimeUnit.SECONDS));
+        loaders.put(DashboardSection.LOW_STOCK, () -> {
+            throw new IllegalStateException("Database unavailable");
+        });
+
+        long started = System.nanoTime();
+        Map<DashboardSection, DashboardSectionDto> results = fanOut.run(loaders,
+            section -> section == DashboardSection.FORECAST ? TimeUnit.MILLISECONDS.toNanos(100) : BUDGET);
+        never.countDown();
+
+        assertThat(System.nanoTime() - started).isLessThan(TimeUnit.SECONDS.toNanos(2));
+        assertThat(results.get(DashboardSection.METRICS).getData()).isEqualTo("metrics");
+        assertThat(results.get(DashboardSection.FORECAST).getStatus()).isEqualTo(DashboardSectionStatus.TIMED_OUT);
+        assertThat(results.get(DashboardSection.FORECAST).getData()).isNull();
+        assertThat(results.get(DashboardSection.LOW_STOCK).getStatus()).isEqualTo(DashboardSectionStatus.FAILED);
+        assertThat(results.get(DashboardSection.LOW_STOCK).getError()).isEqualTo("Database unavailable");
+    }
+
+    @Test
+    void sectionsHoldALimiterSlotUntilTheirQueryEnds() throws Exception {
+        // Analytics may use 4 node slots and starts with an adaptive limit of 2
+        LoadSheddingServiceImpl tightLimiter = limiter(4);
+        CountDownLatch release = new CountDownLatch(1);
+        Map<DashboardSection, Callable<?>> loaders = new EnumMap<>(DashboardSection.class);
+        for (DashboardSection section : List.of(DashboardSection.METRICS, DashboardSection.CATEGORIES,
+                DashboardSection.FORECAST)) {
+            loaders.put(section, () -> release.await(5, TimeUnit.SECONDS));
+        }
+
+        Map<DashboardSection, DashboardSectionDto> results;
+        try (DashboardFanOut limited = new DashboardFanOut(4, tightLimiter)) {
+            results = limited.run(loaders, section -> TimeUnit.MILLISECONDS.toNanos(200));
+
+            assertThat(results.values()).extracting(DashboardSectionDto::getStatus)
+                .containsExactlyInAnyOrder(DashboardSectionStatus.TIMED_OUT, DashboardSectionStatus.TIMED_OUT,
+                    DashboardSectionStatus.SHED);
+            // The timed-out sections are still running and still counted
+            assertThat(tightLimiter.getStatus().getInFlight()).isEqualTo(2);
+
+            release.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (tightLimiter.getStatus().getInFlight() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertThat(tightLimiter.getStatus().getInFlight()).isZero();
+        }
+    }
+
+    @Test
+    void sectionsAreSelectedByName() {
+        assertThat(DashboardSection.fromKey(" Low-Stock ")).isEqualTo(DashboardSection.LOW_STOCK);
+        assertThat(DashboardSection.fromKey("reorder_recommendations")).isEqualTo(DashboardSection.REORDER_RECOMMENDATIONS);
+        assertThatThrownBy(() -> DashboardSection.fromKey("sales"))
+            .isInstanceOf(InvalidOperationException.class)
+            .hasMessageContaining("sales");
+    }
+
+    private static LoadSheddingServiceImpl limiter(int nodeLimit) {
+        return new LoadSheddingServiceImpl(true, nodeLimit, 1, 250, 500, 0.8, 2000, 0.25, 2000, 1.0, 20, 40);
+    }
+}
@@ -0,0 +1,50 @@
+package com.backend.inventory_management.features.dashboard;
+
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.features.dashboard.dtos.DashboardDto;
+import com.backend.inventory_management.features.dashboard.dtos.DashboardSectionDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class DashboardServiceImplTests {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Test
+    void assemblesEverySectionByDefault() {
+        DashboardDto dashboard = dashboardService.getDashboard(null, 30, 20);
+
+        assertThat(dashboard.isComplete()).isTrue();
+        assertThat(dashboard.getSections()).containsOnlyKeys("metrics", "low-stock", "out-of-stock", "categories",
+            "reorder-recommendations", "forecast");
+        assertThat(dashboard.getSections().values())
+            .extracting(DashboardSectionDto::getStatus)
+            .containsOnly(DashboardSectionStatus.OK);
+    }
+
+    @Test
+    void loadsOnlyTheSelectedSections() {
+        DashboardDto dashboard = dashboardService.getDashboard(List.of("categories", "metrics"), 7, 20);
+
+        assertThat(dashboard.getSections()).containsOnlyKeys("metrics", "categories");
+        assertThat(dashboard.getSections().get("categories").getData()).asList().isNotEmpty();
+    }
+
+    @Test
+    void rejectsUnknownSectionsAndBadParameters() {
+        assertThatThrownBy(() -> dashboardService.getDashboard(List.of("sales"), 30, 20))
+            .isInstanceOf(InvalidOperationException.class);
+        assertThatThrownBy(() -> dashboardService.getDashboard(null, 0, 20))
+            .isInstanceOf(InvalidOperationException.class);
+        assertThatThrownBy(() -> dashboardService.getDashboard(null, 30, 1000))
+            .isInstanceOf(InvalidOperationException.class);
+    }
+}
@@ -0,0 +1,71 @@
+package com.backend.inventory_management.features.data_seeder;
+
+import com.backend.inventory_management.features.inventory.StockStatus;
+import com.backend.inventory_management.features.inventory.barcode.Gtin;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyntheticItemGeneratorTests {
+
+    private static final int ITEMS = 100_000;
+
+    @Test
+    void sameSeedProducesTheSameItems() {
+        SyntheticItemGenerator first = new SyntheticItemGenerator(7, 50, 1.1, 20, 0.9, 0.03, 0.08);
+        SyntheticItemGenerator second = new SyntheticItemGenerator(7, 50, 1.1, 20, 0.9, 0.03, 0.08);
+        SyntheticItemGenerator otherSeed = new SyntheticItemGenerator(8, 50, 1.1, 20, 0.9, 0.03, 0.08);
+
+        boolean differs = false;
+        for (int i = 0; i < 1000; i++) {
+            SyntheticItemGenerator.Item item = first.next();
+            assertThat(second.next()).isEqualTo(item);
+            differs |= !otherSeed.next().equals(item);
+        }
+        assertThat(differs).isTrue();
+    }
+
+    @Test
+    void itemsAreValidAndUnique() {
+        SyntheticItemGenerator generator = new SyntheticItemGenerator(1, 10, 1.0, 10, 1.0, 0.03, 0.08);
+        for (int i = 1; i <= 1000; i++) {
+            SyntheticItemGenerator.Item item = generator.next();
+            assertThat(item.sku()).isEqualTo(String.format("GEN-%09d", i));
+            assertThat(item.barcode()).hasSize(13);
+            assertThat(Gtin.isValid(item.barcode())).isTrue();
+            assertThat(item.priceCents()).isPositive();
+            assertThat(item.maxStockLevel()).isGreaterThan(item.minStockLevel());
+        }
+    }
+
+    @Test
+    void stockStatusSharesFollowTheConfiguration() {
+        SyntheticItemGenerator generator = new SyntheticItemGenerator(42, 200, 1.1, 500, 0.9, 0.03, 0.08);
+        Map<StockStatus, Integer> counts = new EnumMap<>(StockStatus.class);
+        for (int i = 0; i < ITEMS; i++) {
+            counts.merge(generator.next().status(), 1, Integer::sum);
+        }
+
+        assertThat(counts.get(StockStatus.OUT_OF_STOCK) / (double) ITEMS).isBetween(0.025, 0.035);
+        assertThat(counts.get(StockStatus.LOW_STOCK) / (double) ITEMS).isBetween(0.07, 0.09);
+    }
+
+    @Test
+    void categoryPopularityIsSkewed() {
+        SyntheticItemGenerator generator = new SyntheticItemGenerator(42, 200, 1.1, 500, 0.9, 0.03, 0.08);
+        int[] perCategory = new int[200];
+        for (int i = 0; i < ITEMS; i++) {
+            perCategory[generator.next().categoryIndex()]++;
+        }
+        Arrays.sort(perCategory);
+
+        // Under a Zipf exponent of 1.1 the ten most popular of 200 categories take roughly half the items
+        int topTen = Arrays.stream(perCategory, 190, 200).sum();
+        assertThat(topTen / (double) ITEMS).isBetween(0.45, 0.65);
+        assertThat(perCategory[199]).isGreaterThan(perCategory[100] * 20);
+    }
+}
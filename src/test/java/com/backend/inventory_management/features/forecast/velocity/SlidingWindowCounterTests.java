@@ -0,0 +1,104 @@
+package com.backend.inventory_management.features.forecast.velocity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowCounterTests {
+
+    private static final long MINUTE = 60_000L;
+
+    @Test
+    void sumsOnlyBucketsInsideTheWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(MINUTE, 60);
+        long start = 1_000 * MINUTE;
+
+        counter.add(start, 5);
+        counter.add(start + 30 * MINUTE, 3);
+
+        assertThat(counter.sum(start + 30 * MINUTE)).isEqualTo(8);
+        assertThat(counter.sum(start + 61 * MINUTE)).isEqualTo(3);
+        assertThat(counter.sum(start + 91 * MINUTE)).isZero();
+    }
+
+    @Test
+    void recyclesStaleSlotsOnWrite() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(MINUTE, 10);
+        long start = 1_000 * MINUTE;
+
+        counter.add(start, 7);
+        counter.add(start + 10 * MINUTE, 2);
+
+        assertThat(counter.sum(start + 10 * MINUTE)).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentWritersDoNotLoseUpdates() throws InterruptedException {
+        SlidingWindowCounter counter = new SlidingWindowCounter(MINUTE, 60);
+        long now = 1_000 * MINUTE;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    counter.add(now, 1);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(counter.sum(now)).isEqualTo(80_000);
+    }
+
+    @Test
+    void trackerProjectsStockoutFromObservedRate() {
+        MutableClock clock = new MutableClock(1_000 * MINUTE);
+        SalesVelocityTracker tracker = new SalesVelocityTracker(clock, MINUTE, 60, 60 * MINUTE, 168);
+
+        clock.advance(24 * 60 * MINUTE);
+        tracker.recordSale(1L, 48);
+
+        SalesVelocityTracker.VelocitySnapshot snapshot = tracker.snapshot(1L, 96);
+
+        assertThat(snapshot.unitsPerDay()).isEqualTo(48.0);
+        assertThat(snapshot.projectedStockout().toEpochMilli() - clock.millis())
+            .isEqualTo(2 * 24 * 60 * MINUTE);
+    }
+
+    private static final class MutableClock extends java.time.Clock {
+        private long millis;
+
+        private MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public java.time.Instant instant() {
+            return java.time.Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public java.time.ZoneId getZone() {
+            return java.time.ZoneOffset.UTC;
+        }
+
+        @Override
+        public java.time.Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.backend.inventory_management.features.inventory;
+
+import com.backend.inventory_management.features.inventory.daos.InventoryDao.FacetTuple;
+import com.backend.inventory_management.features.inventory.dtos.FacetCountDto;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class InventoryFacetCounterTests {
+
+    private static final List<BigDecimal> BOUNDS = List.of(BigDecimal.valueOf(50));
+
+    private static final List<FacetTuple> TUPLES = List.of(
+        new FacetTuple(1L, "Electronics", 10L, "TechCorp", StockStatus.IN_STOCK, 4, new long[]{1, 3}),
+        new FacetTuple(1L, "Electronics", 11L, "DisplayTech", StockStatus.LOW_STOCK, 2, new long[]{0, 2}),
+        new FacetTuple(2L, "Furniture", 10L, "TechCorp", StockStatus.LOW_STOCK, 3, new long[]{3, 0}));
+
+    @Test
+    void countsEverythingWithoutSelections() {
+        InventoryFacetCounter.Result result = InventoryFacetCounter.count(TUPLES, null, null, null, BOUNDS);
+
+        assertThat(result.total()).isEqualTo(9);
+        assertThat(result.facets().getCategories())
+            .extracting(FacetCountDto::getValue, FacetCountDto::getCount)
+            .containsExactly(tuple("Electronics", 6L),
+                tuple("Furniture", 3L));
+        assertThat(result.facets().getPriceBuckets())
+            .extracting(bucket -> bucket.getCount())
+            .containsExactly(4L, 5L);
+    }
+
+    @Test
+    void countsEachFacetAgainstTheOtherSelectionsOnly() {
+        InventoryFacetCounter.Result result =
+            InventoryFacetCounter.count(TUPLES, "Electronics", null, StockStatus.LOW_STOCK, BOUNDS);
+
+        assertThat(result.total()).isEqualTo(2);
+        // Categories ignore the category selection but respect the status selection
+        assertThat(result.facets().getCategories())
+            .extracting(FacetCountDto::getValue, FacetCountDto::getCount, FacetCountDto::isSelected)
+            .containsExactly(tuple("Furniture", 3L, false),
+                tuple("Electronics", 2L, true));
+        // Statuses ignore the status selection but respect the category selection
+        assertThat(result.facets().getStatuses())
+            .extracting(FacetCountDto::getValue, FacetCountDto::getCount)
+            .containsExactly(tuple("IN_STOCK", 4L),
+                tuple("LOW_STOCK", 2L));
+        assertThat(result.facets().getSuppliers())
+            .extracting(FacetCountDto::getValue)
+            .containsExactly("DisplayTech");
+        assertThat(result.facets().getPriceBuckets())
+            .extracting(bucket -> bucket.getCount())
+            .containsExactly(0L, 2L);
+    }
+
+    @Test
+    void itemsWithoutAStatusAreLeftOutOfTheStatusFacetOnly() {
+        List<FacetTuple> tuples = List.of(
+            new FacetTuple(1L, "Electronics", 10L, "TechCorp", StockStatus.IN_STOCK, 4, new long[]{1, 3}),
+            new FacetTuple(1L, "Electronics", 10L, "TechCorp", null, 2, new long[]{2, 0}));
+
+        InventoryFacetCounter.Result result = InventoryFacetCounter.count(tuples, null, null, null, BOUNDS);
+
+        assertThat(result.total()).isEqualTo(6);
+        assertThat(result.facets().getCategories())
+            .extracting(FacetCountDto::getCount)
+            .containsExactly(6L);
+        assertThat(result.facets().getStatuses())
+            .extracting(FacetCountDto::getValue, FacetCountDto::getCount)
+            .containsExactly(tuple("IN_STOCK", 4L));
+        assertThat(InventoryFacetCounter.count(tuples, null, null, StockStatus.IN_STOCK, BOUNDS).total()).isEqualTo(4);
+    }
+}
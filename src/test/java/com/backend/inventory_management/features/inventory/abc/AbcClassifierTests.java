@@ -0,0 +1,84 @@
+package com.backend.inventory_management.features.inventory.abc;
+
+import com.backend.inventory_management.features.inventory.dtos.AbcClassificationResultDto;
+import com.backend.inventory_management.features.reorder.ReorderPolicyCalculator;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AbcClassifierTests {
+
+    @Test
+    void splitsByCumulativeValueShare() {
+        // Total 1000: 500 + 300 reach 80%, 100 + 50 reach 95%, the rest is C
+        long[] values = {10, 500, 20, 100, 300, 50, 20};
+
+        AbcClassifier.Thresholds thresholds = AbcClassifier.thresholds(values, values.length, 0.80, 0.95);
+
+        assertThat(thresholds.totalCents()).isEqualTo(1000);
+        assertThat(thresholds.aCutCents()).isEqualTo(300);
+        assertThat(thresholds.bCutCents()).isEqualTo(50);
+        assertThat(thresholds.aCount()).isEqualTo(2);
+        assertThat(thresholds.bCount()).isEqualTo(2);
+        assertThat(thresholds.cCount()).isEqualTo(3);
+    }
+
+    @Test
+    void classifiesEverythingAsCWhenCatalogHasNoValue() {
+        long[] values = {0, 0, 0};
+
+        AbcClassifier.Thresholds thresholds = AbcClassifier.thresholds(values, values.length, 0.80, 0.95);
+
+        assertThat(thresholds.aCount()).isZero();
+        assertThat(thresholds.cCount()).isEqualTo(3);
+    }
+
+    @Test
+    void promotesTiesAtTheCutOff() {
+        long[] values = {100, 100, 100, 100, 100};
+
+        AbcClassifier.Thresholds thresholds = AbcClassifier.thresholds(values, values.length, 0.80, 0.95);
+
+        assertThat(thresholds.aCount()).isEqualTo(5);
+    }
+
+    @Test
+    void classifiesByConsumptionValueInTheDatabase() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:abc-" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE inventory_items (id BIGINT PRIMARY KEY, quantity INT, price DECIMAL(10, 2), " +
+            "abc_class VARCHAR(1), deleted_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE item_demand_daily (item_id BIGINT, demand_date DATE, units INT)");
+        // Consumption values 8000, 1500, 400, 100 and 0; item 6 is deleted and keeps its class
+        jdbcTemplate.update("INSERT INTO inventory_items VALUES (1, 0, 80, NULL, NULL), (2, 0, 15, 'C', NULL), " +
+            "(3, 0, 4, 'A', NULL), (4, 0, 1, 'C', NULL), (5, 99, 1000, NULL, NULL), (6, 0, 1, 'B', CURRENT_TIMESTAMP)");
+        Date today = Date.valueOf(LocalDate.now());
+        for (long itemId = 1; itemId <= 6; itemId++) {
+            if (itemId != 5) {
+                jdbcTemplate.update("INSERT INTO item_demand_daily VALUES (?, ?, 60), (?, ?, 40)", itemId, today, itemId, today);
+            }
+        }
+        jdbcTemplate.update("INSERT INTO item_demand_daily VALUES (1, ?, 1000)", Date.valueOf(LocalDate.now().minusYears(1)));
+
+        AbcClassificationServiceImpl service = new AbcClassificationServiceImpl(jdbcTemplate,
+            new DataSourceTransactionManager(dataSource), new ReorderPolicyCalculator(1.65, 50, 0.25, 56, 7),
+            0.80, 0.95, AbcBasis.AUTO, "-");
+
+        AbcClassificationResultDto result = service.classify(null);
+
+        assertThat(result.getBasis()).isEqualTo(AbcBasis.CONSUMPTION_VALUE);
+        assertThat(result.getItemCount()).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForList("SELECT abc_class FROM inventory_items ORDER BY id", String.class))
+            .isEqualTo(List.of("A", "B", "C", "C", "C", "B"));
+        assertThat(result.getUpdatedRows()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,114 @@
+package com.backend.inventory_management.features.inventory.archive;
+
+import com.backend.inventory_management.core.exceptions.DuplicateResourceException;
+import com.backend.inventory_management.features.inventory.InventoryItemRepository;
+import com.backend.inventory_management.features.inventory.InventoryService;
+import com.backend.inventory_management.features.inventory.dtos.ArchivedItemDto;
+import com.backend.inventory_management.features.inventory.dtos.CreateInventoryItemDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class InventoryArchiveServiceImplTests {
+
+    @Autowired
+    private InventoryArchiveService inventoryArchiveService;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deletedItemsLeaveEntityQueriesAndComeBackOnRestore() {
+        Long id = create("Archive Test Lamp", "ARC-LAMP", null);
+
+        inventoryService.deleteItem(id);
+
+        assertThat(inventoryItemRepository.existsBySku("ARC-LAMP")).isFalse();
+        assertThat(inventoryArchiveService.getDeletedItems(0, 50).getContent())
+            .extracting(ArchivedItemDto::getId).contains(id);
+
+        assertThat(inventoryArchiveService.restoreItem(id).getSku()).isEqualTo("ARC-LAMP");
+        assertThat(inventoryItemRepository.existsBySku("ARC-LAMP")).isTrue();
+    }
+
+    @Test
+    void codesOfADeletedItemCanBeReusedButThenBlockItsRestore() {
+        Long deleted = create("Archive Test Kettle", "ARC-KETTLE", "4006381333931");
+        inventoryService.deleteItem(deleted);
+
+        Long replacement = create("Archive Test Kettle Mk2", "ARC-KETTLE", "4006381333931");
+
+        assertThat(replacement).isNotEqualTo(deleted);
+        assertThatThrownBy(() -> inventoryArchiveService.restoreItem(deleted))
+            .isInstanceOf(DuplicateResourceException.class)
+            .hasMessageContaining("SKU");
+    }
+
+    @Test
+    void onlyLongInactiveDeletedItemsAreArchived() {
+        Long quiet = create("Archive Test Quiet", "ARC-QUIET", null);
+        Long stillSelling = create("Archive Test Selling", "ARC-SELLING", null);
+        Long recent = create("Archive Test Recent", "ARC-RECENT", null);
+        Long live = create("Archive Test Live", "ARC-LIVE", null);
+        inventoryService.deleteItem(quiet);
+        inventoryService.deleteItem(stillSelling);
+        inventoryService.deleteItem(recent);
+        inventoryItemRepository.flush();
+
+        Timestamp longAgo = Timestamp.valueOf(LocalDateTime.now().minusDays(90));
+        jdbcTemplate.update("UPDATE inventory_items SET deleted_at = ?, updated_at = ? WHERE id IN (?, ?)",
+            longAgo, longAgo, quiet, stillSelling);
+        jdbcTemplate.update("UPDATE inventory_items SET updated_at = ? WHERE id = ?", longAgo, live);
+        // A till that missed the deletion still reports sales of the item
+        jdbcTemplate.update("INSERT INTO item_demand_daily (item_id, demand_date, units) VALUES (?, ?, 2)",
+            stillSelling, Date.valueOf(LocalDate.now().minusDays(1)));
+
+        inventoryArchiveService.archiveDeletedItems();
+
+        assertThat(inArchive(quiet)).isTrue();
+        assertThat(inArchive(stillSelling)).isFalse();
+        assertThat(inArchive(recent)).isFalse();
+        assertThat(inArchive(live)).isFalse();
+
+        assertThat(inventoryArchiveService.restoreItem(quiet).getSku()).isEqualTo("ARC-QUIET");
+        assertThat(inArchive(quiet)).isFalse();
+    }
+
+    private boolean inArchive(Long id) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM inventory_items_archive WHERE id = ?", Integer.class, id) > 0;
+    }
+
+    private Long create(String name, String sku, String barcode) {
+        return inventoryService.createItem(CreateInventoryItemDto.builder()
+            .name(name)
+            .sku(sku)
+            .barcode(barcode)
+            .category("Archive Test")
+            .supplier("Archive Test Supplier")
+            .quantity(5)
+            .price(new BigDecimal("3.00"))
+            .minStockLevel(2)
+            .maxStockLevel(20)
+            .build()).getId();
+    }
+}
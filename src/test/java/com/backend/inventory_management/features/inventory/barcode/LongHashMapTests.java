@@ -0,0 +1,44 @@
+package com.backend.inventory_management.features.inventory.barcode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongHashMapTests {
+
+    @Test
+    void matchesHashMapUnderRandomPutsAndRemoves() {
+        LongHashMap<Long> map = new LongHashMap<>(0);
+        Map<Long, Long> expected = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            // A small key space forces long probe runs and frequent backward shifts
+            long key = random.nextLong(5_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                assertThat(map.put(key, (long) i)).isEqualTo(expected.put(key, (long) i));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 0; key < 5_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+        }
+    }
+
+    @Test
+    void validatesGtinCheckDigits() {
+        assertThat(Gtin.isValid("4006381333931")).isTrue();
+        assertThat(Gtin.isValid("036000291452")).isTrue();
+        assertThat(Gtin.isValid("96385074")).isTrue();
+        assertThat(Gtin.isValid("4006381333932")).isFalse();
+        assertThat(Gtin.isValid("40063813339")).isFalse();
+        assertThat(Gtin.key("0036000291452")).isEqualTo(Gtin.key("036000291452"));
+    }
+}
@@ -0,0 +1,117 @@
+package com.backend.inventory_management.features.inventory.category;
+
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.features.inventory.dtos.CreateCategoryDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class CategoryServiceImplTests {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void movingACategoryRelinksItsWholeSubtree() {
+        Long hardware = create("Test Hardware", null);
+        Long tools = create("Test Tools", hardware);
+        Long drills = create("Test Drills", tools);
+        Long garden = create("Test Garden", null);
+
+        assertThat(ancestorsOf(drills)).isEqualTo(Map.of(drills, 0, tools, 1, hardware, 2));
+
+        categoryService.moveCategory(tools, garden);
+
+        assertThat(ancestorsOf(tools)).isEqualTo(Map.of(tools, 0, garden, 1));
+        assertThat(ancestorsOf(drills)).isEqualTo(Map.of(drills, 0, tools, 1, garden, 2));
+        assertThat(ancestorsOf(hardware)).isEqualTo(Map.of(hardware, 0));
+        assertThat(categoryService.getCategory(tools).getParentId()).isEqualTo(garden);
+
+        categoryService.moveCategory(tools, null);
+
+        assertThat(ancestorsOf(drills)).isEqualTo(Map.of(drills, 0, tools, 1));
+        assertThat(categoryService.getChildren(garden)).isEmpty();
+    }
+
+    @Test
+    void categoryCannotMoveUnderItselfOrItsDescendants() {
+        Long hardware = create("Test Hardware", null);
+        Long tools = create("Test Tools", hardware);
+        Long drills = create("Test Drills", tools);
+
+        assertThatThrownBy(() -> categoryService.moveCategory(hardware, drills))
+            .isInstanceOf(InvalidOperationException.class);
+        assertThatThrownBy(() -> categoryService.moveCategory(tools, tools))
+            .isInstanceOf(InvalidOperationException.class);
+
+        assertThat(ancestorsOf(drills)).isEqualTo(Map.of(drills, 0, tools, 1, hardware, 2));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void oppositeConcurrentMovesNeverLeaveACycle() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 20; round++) {
+                Long left = create("Test Race Left " + round, null);
+                Long right = create("Test Race Right " + round, null);
+                CyclicBarrier start = new CyclicBarrier(2);
+
+                List<Future<Boolean>> moves = List.of(
+                    pool.submit(() -> move(start, left, right)),
+                    pool.submit(() -> move(start, right, left)));
+                int moved = 0;
+                for (Future<Boolean> move : moves) {
+                    moved += move.get() ? 1 : 0;
+                }
+
+                assertThat(moved).isEqualTo(1);
+                assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM category_closure " +
+                    "WHERE ancestor_id IN (?, ?) AND descendant_id IN (?, ?) AND ancestor_id <> descendant_id",
+                    Integer.class, left, right, left, right)).isEqualTo(1);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private boolean move(CyclicBarrier start, Long id, Long parentId) throws Exception {
+        start.await();
+        try {
+            categoryService.moveCategory(id, parentId);
+            return true;
+        } catch (InvalidOperationException e) {
+            return false;
+        }
+    }
+
+    private Long create(String name, Long parentId) {
+        return categoryService.createCategory(CreateCategoryDto.builder().name(name).parentId(parentId).build()).getId();
+    }
+
+    private Map<Long, Integer> ancestorsOf(Long id) {
+        return jdbcTemplate.queryForList("SELECT ancestor_id, depth FROM category_closure WHERE descendant_id = ?", id)
+            .stream()
+            .collect(Collectors.toMap(row -> ((Number) row.get("ancestor_id")).longValue(),
+                row -> ((Number) row.get("depth")).intValue()));
+    }
+}
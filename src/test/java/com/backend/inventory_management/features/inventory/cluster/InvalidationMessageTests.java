@@ -0,0 +1,43 @@
+package com.backend.inventory_management.features.inventory.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InvalidationMessageTests {
+
+    @Test
+    void roundTripsThroughThePayload() {
+        InvalidationMessage message = new InvalidationMessage(InvalidationMessage.ITEM, "node1", 42, List.of(7L, 1_000_000_000_123L));
+
+        assertThat(message.encode()).isEqualTo("item|node1|42|7,1000000000123");
+        assertThat(InvalidationMessage.parse(message.encode())).isEqualTo(message);
+    }
+
+    @Test
+    void partitionsLargeBurstsIntoPayloadsPostgresAccepts() {
+        List<Long> ids = LongStream.rangeClosed(9_000_000_000L, 9_000_010_000L).boxed().toList();
+
+        List<List<Long>> groups = InvalidationMessage.partition(ids);
+
+        assertThat(groups).hasSizeGreaterThan(1);
+        assertThat(groups.stream().flatMap(List::stream).toList()).isEqualTo(ids);
+        for (List<Long> group : groups) {
+            String payload = new InvalidationMessage(InvalidationMessage.ITEM, "abcdefghijklm", Long.MAX_VALUE, group).encode();
+            assertThat(payload.getBytes(StandardCharsets.UTF_8).length).isLessThan(8000);
+        }
+    }
+
+    @Test
+    void rejectsMalformedPayloads() {
+        assertThatThrownBy(() -> InvalidationMessage.parse("item|node1|42"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> InvalidationMessage.parse("item|node1|x|1"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
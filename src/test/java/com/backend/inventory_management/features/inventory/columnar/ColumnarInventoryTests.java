@@ -0,0 +1,51 @@
+package com.backend.inventory_management.features.inventory.columnar;
+
+import com.backend.inventory_management.features.inventory.StockStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnarInventoryTests {
+
+    @Test
+    void aggregatesValueByGroupForOneStatus() {
+        ColumnarInventory inventory = new ColumnarInventory(0);
+        inventory.upsert(row(1, 3, 10, 1_000, 7));
+        inventory.upsert(row(2, 50, 10, 200, 7));
+        inventory.upsert(row(3, 2, 10, 50, 8));
+        inventory.upsert(row(4, 0, 10, 999, 7));
+
+        ColumnarInventory.GroupTotals low = inventory.groupBy(ColumnarInventory.Dimension.CATEGORY, StockStatus.LOW_STOCK);
+
+        assertThat(low.groupIds()).containsExactly(7, 8);
+        assertThat(low.items()).containsExactly(1, 1);
+        assertThat(low.valueCents()).containsExactly(3_000, 100);
+
+        ColumnarInventory.Totals totals = inventory.totals();
+        assertThat(totals.items()).isEqualTo(4);
+        assertThat(totals.lowStock()).isEqualTo(2);
+        assertThat(totals.outOfStock()).isEqualTo(1);
+        assertThat(totals.valueCents()).isEqualTo(3_000 + 10_000 + 100);
+    }
+
+    @Test
+    void keepsRowsDenseAcrossUpdatesAndRemovals() {
+        ColumnarInventory inventory = new ColumnarInventory(0);
+        for (long id = 1; id <= 3000; id++) {
+            inventory.upsert(row(id, 20, 10, 100, id % 3));
+        }
+        for (long id = 1; id <= 3000; id += 2) {
+            inventory.remove(id);
+        }
+        inventory.upsert(row(2, 5, 10, 100, 0));
+
+        assertThat(inventory.size()).isEqualTo(1500);
+        assertThat(inventory.remove(1)).isFalse();
+        assertThat(inventory.totals().units()).isEqualTo(1499L * 20 + 5);
+        assertThat(inventory.totals().lowStock()).isEqualTo(1);
+    }
+
+    private static ColumnarInventory.ItemRow row(long id, int quantity, int min, long priceCents, long categoryId) {
+        return new ColumnarInventory.ItemRow(id, quantity, min, 100, priceCents, categoryId, 1);
+    }
+}
@@ -0,0 +1,67 @@
+package com.backend.inventory_management.features.inventory.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.LongStream;
+import java.util.zip.CRC32C;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnapshotWriterTests {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsBackWhatWasWrittenAcrossBufferBoundaries() throws Exception {
+        // Larger than the write buffer, so the bulk copies are split between drains
+        long[] ids = LongStream.range(0, 300_000).map(i -> i * 7).toArray();
+        int[] quantities = new int[ids.length];
+        for (int i = 0; i < quantities.length; i++) {
+            quantities[i] = i % 1000;
+        }
+        Path file = dir.resolve("snapshot.bin");
+
+        long checksum;
+        long bytes;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            SnapshotWriter writer = new SnapshotWriter(channel);
+            writer.writeString("café");
+            writer.writeString(null);
+            writer.writeDecimal(new BigDecimal("12.50"));
+            writer.writeByte((byte) 3);
+            writer.writeLongs(ids, ids.length);
+            writer.writeInts(quantities, quantities.length);
+            checksum = writer.checksum();
+            bytes = writer.bytesWritten();
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            assertThat(channel.size()).isEqualTo(bytes);
+            CRC32C crc = new CRC32C();
+            crc.update(mapped.duplicate());
+            assertThat(crc.getValue()).isEqualTo(checksum);
+
+            SnapshotReader reader = new SnapshotReader(mapped);
+            assertThat(reader.readString()).isEqualTo("café");
+            assertThat(reader.readString()).isNull();
+            assertThat(reader.readDecimal()).isEqualTo(new BigDecimal("12.50"));
+            assertThat(reader.readByte()).isEqualTo((byte) 3);
+            long[] readIds = new long[ids.length];
+            reader.readLongs(readIds, ids.length);
+            int[] readQuantities = new int[quantities.length];
+            reader.readInts(readQuantities, quantities.length);
+
+            assertThat(readIds).isEqualTo(ids);
+            assertThat(readQuantities).isEqualTo(quantities);
+            assertThat(mapped.hasRemaining()).isFalse();
+        }
+    }
+}
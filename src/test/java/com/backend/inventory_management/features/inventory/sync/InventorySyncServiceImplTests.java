@@ -0,0 +1,161 @@
+package com.backend.inventory_management.features.inventory.sync;
+
+import com.backend.inventory_management.core.Response;
+import com.backend.inventory_management.features.inventory.dtos.ChangeSetDto;
+import com.backend.inventory_management.features.inventory.dtos.SyncItemDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class InventorySyncServiceImplTests {
+
+    // Tombstones for ids no item has, so they never clash with seeded data
+    private static final long DELETED_A = 990_000_001L;
+    private static final long DELETED_B = 990_000_002L;
+
+    @Autowired
+    private InventorySyncService inventorySyncService;
+
+    @Autowired
+    private ChangeSequence changeSequence;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Value("${spring.datasource.url}")
+    private String databaseUrl;
+
+    private TransactionTemplate transactionTemplate;
+    private long purgedThrough;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        purgedThrough = jdbcTemplate.queryForObject(
+            "SELECT tombstones_purged_through FROM inventory_sync_state WHERE id = 1", Long.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM inventory_tombstones WHERE item_id IN (?, ?)", DELETED_A, DELETED_B);
+        jdbcTemplate.update("UPDATE inventory_sync_state SET tombstones_purged_through = ? WHERE id = 1", purgedThrough);
+    }
+
+    @Test
+    void pagesMergeItemsAndTombstonesInSequenceOrder() {
+        List<Long> itemIds = jdbcTemplate.queryForList(
+            "SELECT id FROM inventory_items WHERE deleted_at IS NULL ORDER BY id LIMIT 2", Long.class);
+        long since = inventorySyncService.currentToken();
+
+        long first = touchItem(itemIds.get(0));
+        long second = tombstone(DELETED_A);
+        long third = touchItem(itemIds.get(1));
+        long fourth = tombstone(DELETED_B);
+
+        ChangeSetDto page = inventorySyncService.getChanges(since, 3);
+        assertThat(page.getItems()).extracting(SyncItemDto::getId).containsExactly(itemIds.get(0), itemIds.get(1));
+        assertThat(page.getDeletedItemIds()).containsExactly(DELETED_A);
+        assertThat(page.getHasMore()).isTrue();
+        assertThat(page.getToken()).isEqualTo(third);
+
+        ChangeSetDto rest = inventorySyncService.getChanges(page.getToken(), 3);
+        assertThat(rest.getItems()).isEmpty();
+        assertThat(rest.getDeletedItemIds()).containsExactly(DELETED_B);
+        assertThat(rest.getHasMore()).isFalse();
+        assertThat(rest.getToken()).isGreaterThanOrEqualTo(fourth);
+
+        assertThat(List.of(first, second, third, fourth)).isSorted();
+    }
+
+    @Test
+    void tokensOlderThanThePurgedTombstonesAreRejectedAsGone() {
+        long since = inventorySyncService.currentToken();
+        long deleted = tombstone(DELETED_A);
+        jdbcTemplate.update("UPDATE inventory_tombstones SET deleted_at = ? WHERE item_id = ?",
+            Timestamp.valueOf(LocalDateTime.now().minusYears(1)), DELETED_A);
+
+        assertThat(inventorySyncService.purgeTombstones()).isEqualTo(1);
+
+        assertThatThrownBy(() -> inventorySyncService.getChanges(since, 10))
+            .isInstanceOf(SyncTokenExpiredException.class);
+        ResponseEntity<Response<ChangeSetDto>> response =
+            new InventorySyncController(inventorySyncService).getChanges(since, 10);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.GONE);
+
+        assertThat(inventorySyncService.getChanges(deleted, 10).getDeletedItemIds()).isEmpty();
+    }
+
+    @Test
+    void watermarkStaysBelowChangesStillOpenOnAnotherNode() {
+        // A second instance over the same database, as another application node would have
+        ChangeSequence otherNode = new ChangeSequence(jdbcTemplate,
+            applicationContext.getBeanProvider(PlatformTransactionManager.class), databaseUrl, 600_000);
+        List<Long> itemIds = jdbcTemplate.queryForList(
+            "SELECT id FROM inventory_items WHERE deleted_at IS NULL ORDER BY id LIMIT 2", Long.class);
+
+        long open = transactionTemplate.execute(status -> {
+            long seq = otherNode.next();
+            jdbcTemplate.update("UPDATE inventory_items SET change_seq = ? WHERE id = ?", seq, itemIds.get(0));
+            // Committed on this node after the other node's value was drawn
+            touchItem(itemIds.get(1));
+            assertThat(changeSequence.watermark()).isLessThan(seq);
+            return seq;
+        });
+
+        assertThat(changeSequence.watermark()).isGreaterThanOrEqualTo(open);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM inventory_change_leases", Integer.class)).isZero();
+    }
+
+    @Test
+    void expiredLeasesNoLongerHoldTheWatermark() {
+        jdbcTemplate.update("INSERT INTO inventory_change_leases (floor_seq, expires_at) VALUES (?, ?)",
+            1L, Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)));
+
+        assertThat(changeSequence.watermark()).isGreaterThan(1);
+        assertThat(changeSequence.purgeExpiredLeases()).isEqualTo(1);
+    }
+
+    // Commits a new change to the item in a transaction of its own
+    private long touchItem(long itemId) {
+        return new TransactionTemplate(transactionManager,
+                new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW))
+            .execute(status -> {
+                long seq = changeSequence.next();
+                jdbcTemplate.update("UPDATE inventory_items SET change_seq = ? WHERE id = ?", seq, itemId);
+                return seq;
+            });
+    }
+
+    private long tombstone(long itemId) {
+        return transactionTemplate.execute(status -> {
+            inventorySyncService.recordDeletion(itemId);
+            return jdbcTemplate.queryForObject(
+                "SELECT change_seq FROM inventory_tombstones WHERE item_id = ?", Long.class, itemId);
+        });
+    }
+}
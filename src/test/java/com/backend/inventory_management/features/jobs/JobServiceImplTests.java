@@ -0,0 +1,166 @@
+package com.backend.inventory_management.features.jobs;
+
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.features.jobs.dtos.JobRunDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JobServiceImplTests {
+
+    // Two nodes share one in-memory database, so the lease rows decide between them
+    private final String url = "jdbc:h2:mem:jobs-" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private final JdbcTemplate jdbcTemplate = createSchema();
+
+    @Test
+    void onlyOneNodeRunsAJobAtATime() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ClusterJob blocking = job("nightly", checkpoint -> {
+            started.countDown();
+            await(release);
+            return JobChunkResult.done(1);
+        });
+        JobServiceImpl first = node("node-a", 60_000, blocking);
+        JobServiceImpl second = node("node-b", 60_000, blocking);
+
+        CompletableFuture<JobRunDto> running = CompletableFuture.supplyAsync(() -> first.runJob("nightly"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(() -> second.runJob("nightly"))
+            .isInstanceOf(InvalidOperationException.class)
+            .hasMessageContaining("another node");
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(JobRunStatus.SUCCEEDED);
+        assertThat(second.runJob("nightly").getNodeId()).isEqualTo("node-b");
+        assertThat(first.getRuns("nightly", 10)).hasSize(2);
+    }
+
+    @Test
+    void failedRunResumesFromItsLastCheckpoint() {
+        List<Integer> handled = new ArrayList<>();
+        boolean[] failOnce = {true};
+        ClusterJob chunked = job("chunked", checkpoint -> {
+            int next = checkpoint == null ? 1 : Integer.parseInt(checkpoint) + 1;
+            if (next == 3 && failOnce[0]) {
+                failOnce[0] = false;
+                throw new IllegalStateException("Chunk 3 failed");
+            }
+            handled.add(next);
+            return next == 5 ? JobChunkResult.done(1) : JobChunkResult.next(1, Integer.toString(next));
+        });
+        JobServiceImpl service = node("node-a", 60_000, chunked);
+
+        JobRunDto failed = service.runJob("chunked");
+        assertThat(failed.getStatus()).isEqualTo(JobRunStatus.FAILED);
+        assertThat(failed.getCheckpoint()).isEqualTo("2");
+        assertThat(failed.getErrorMessage()).isEqualTo("Chunk 3 failed");
+
+        JobRunDto resumed = service.runJob("chunked");
+        assertThat(resumed.getStatus()).isEqualTo(JobRunStatus.SUCCEEDED);
+        assertThat(resumed.getResumedFrom()).isEqualTo("2");
+        assertThat(resumed.getChunks()).isEqualTo(3);
+        assertThat(handled).containsExactly(1, 2, 3, 4, 5);
+
+        // A finished run leaves nothing to resume
+        assertThat(service.runJob("chunked").getResumedFrom()).isNull();
+    }
+
+    @Test
+    void chunkThatKeepsFailingIsNotResumedForever() {
+        List<String> checkpoints = new ArrayList<>();
+        ClusterJob broken = job("broken", checkpoint -> {
+            checkpoints.add(checkpoint);
+            if (checkpoint != null) {
+                throw new IllegalStateException("Chunk 2 always fails");
+            }
+            return JobChunkResult.next(1, "1");
+        });
+        JobServiceImpl service = node("node-a", 60_000, broken);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(service.runJob("broken").getStatus()).isEqualTo(JobRunStatus.FAILED);
+        }
+
+        // Two resumes of the failed chunk, then a fresh start from the beginning
+        assertThat(checkpoints).containsExactly(null, "1", "1", "1", null, "1");
+        assertThat(service.getRuns("broken", 10).get(0).getResumedFrom()).isNull();
+    }
+
+    @Test
+    void expiredLeaseIsTakenOver() throws Exception {
+        JobLockManager first = lockManager("node-a", 100);
+        JobLockManager second = lockManager("node-b", 100);
+
+        JobLockManager.JobLock held = first.tryAcquire("nightly");
+        assertThat(held).isNotNull();
+        assertThat(second.tryAcquire("nightly")).isNull();
+
+        Thread.sleep(200);
+        try (JobLockManager.JobLock taken = second.tryAcquire("nightly")) {
+            assertThat(taken).isNotNull();
+            assertThatThrownBy(held::renew).isInstanceOf(IllegalStateException.class);
+        }
+        held.close();
+        assertThat(first.tryAcquire("nightly")).isNotNull();
+    }
+
+    private JdbcTemplate createSchema() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V12__cluster_jobs.sql")).execute(dataSource);
+        return new JdbcTemplate(dataSource);
+    }
+
+    private JobLockManager lockManager(String nodeId, long leaseMs) {
+        return new JobLockManager(jdbcTemplate, new DataSourceTransactionManager(jdbcTemplate.getDataSource()),
+            url, "sa", "", leaseMs, nodeId);
+    }
+
+    private JobServiceImpl node(String nodeId, long leaseMs, ClusterJob job) {
+        return new JobServiceImpl(List.of(job), lockManager(nodeId, leaseMs), jdbcTemplate, 2);
+    }
+
+    private static ClusterJob job(String name, Chunk chunk) {
+        return new ClusterJob() {
+            @Override
+            public String getJobName() {
+                return name;
+            }
+
+            @Override
+            public String getJobCron() {
+                return CRON_DISABLED;
+            }
+
+            @Override
+            public JobChunkResult runChunk(String checkpoint) {
+                return chunk.run(checkpoint);
+            }
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private interface Chunk {
+        JobChunkResult run(String checkpoint);
+    }
+}
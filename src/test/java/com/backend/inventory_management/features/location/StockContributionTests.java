@@ -0,0 +1,47 @@
+package com.backend.inventory_management.features.location;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StockContributionTests {
+
+    private static final BigDecimal PRICE = new BigDecimal("2.50");
+
+    @Test
+    void countsRowAsLowOrOutAgainstMinimumLevel() {
+        assertThat(StockContribution.of(0, PRICE, 10).out()).isEqualTo(1);
+        assertThat(StockContribution.of(9, PRICE, 10).low()).isEqualTo(1);
+        assertThat(StockContribution.of(10, PRICE, 10).low()).isZero();
+        assertThat(StockContribution.of(3, PRICE, null).low()).isZero();
+    }
+
+    @Test
+    void sellingOutMovesRowFromLowToOut() {
+        StockContribution delta = StockContribution.of(0, PRICE, 10).minus(StockContribution.of(4, PRICE, 10));
+
+        assertThat(delta.skus()).isZero();
+        assertThat(delta.units()).isEqualTo(-4);
+        assertThat(delta.value()).isEqualByComparingTo("-10.00");
+        assertThat(delta.low()).isEqualTo(-1);
+        assertThat(delta.out()).isEqualTo(1);
+    }
+
+    @Test
+    void newRowAddsOneSku() {
+        StockContribution delta = StockContribution.of(12, PRICE, 10).minus(StockContribution.NONE);
+
+        assertThat(delta.skus()).isEqualTo(1);
+        assertThat(delta.units()).isEqualTo(12);
+        assertThat(delta.value()).isEqualByComparingTo("30.00");
+        assertThat(delta.low()).isZero();
+        assertThat(delta.out()).isZero();
+    }
+
+    @Test
+    void unchangedRowIsZeroDelta() {
+        assertThat(StockContribution.of(5, PRICE, 10).minus(StockContribution.of(5, PRICE, 10)).isZero()).isTrue();
+    }
+}
@@ -0,0 +1,84 @@
+package com.backend.inventory_management.features.location;
+
+import com.backend.inventory_management.features.location.dtos.AdjustStockDto;
+import com.backend.inventory_management.features.location.dtos.CreateLocationDto;
+import com.backend.inventory_management.features.location.dtos.LocationMetricsDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class StockServiceImplTests {
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private LocationService locationService;
+
+    @Autowired
+    private LocationSummaryRepository locationSummaryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void metricsSumEverySummaryStripe() {
+        Long locationId = createLocation("STRIPES");
+        assertThat(stripeCount(locationId)).isEqualTo(LocationSummary.STRIPES);
+
+        Long itemId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM inventory_items WHERE deleted_at IS NULL", Long.class);
+        stockService.adjustStock(locationId, AdjustStockDto.builder().itemId(itemId).delta(7).build());
+        // Deltas committed by movements on other threads land on other stripes
+        locationSummaryRepository.applyDelta(locationId, 3, 1, 5, new BigDecimal("10.00"), 0, 0);
+        locationSummaryRepository.applyDelta(locationId, 6, 0, -2, new BigDecimal("-4.00"), 0, 0);
+
+        LocationMetricsDto metrics = stockService.getMetrics(locationId);
+
+        assertThat(metrics.getTotalItems()).isEqualTo(2);
+        assertThat(metrics.getTotalUnits()).isEqualTo(10);
+    }
+
+    @Test
+    void rebuildKeepsEveryStripe() {
+        Long locationId = createLocation("REBUILT");
+        Long itemId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM inventory_items WHERE deleted_at IS NULL", Long.class);
+        stockService.adjustStock(locationId, AdjustStockDto.builder().itemId(itemId).delta(4).build());
+        locationSummaryRepository.applyDelta(locationId, 5, 0, 9, BigDecimal.ZERO, 0, 0);
+
+        stockService.rebuildSummaries();
+
+        assertThat(stripeCount(locationId)).isEqualTo(LocationSummary.STRIPES);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT SUM(total_units) FROM location_summaries WHERE location_id = ?", Long.class, locationId)).isEqualTo(4);
+    }
+
+    private int stripeCount(Long locationId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM location_summaries WHERE location_id = ?", Integer.class, locationId);
+    }
+
+    private Long createLocation(String code) {
+        Long id = locationService.createLocation(CreateLocationDto.builder()
+            .code(code)
+            .name(code)
+            .type(LocationType.STORE)
+            .build()).getId();
+        // Summary stripes are only ever changed by bulk updates, which bypass managed entities
+        entityManager.flush();
+        entityManager.clear();
+        return id;
+    }
+}
@@ -0,0 +1,47 @@
+package com.backend.inventory_management.features.reorder;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ReorderPolicyCalculatorTests {
+
+    private final ReorderPolicyCalculator calculator = new ReorderPolicyCalculator(1.65, 50, 0.25, 10, 7);
+
+    @Test
+    void computesSafetyStockReorderPointAndEoqFromDemand() {
+        // 10 days of demand: five days of 4 units and five days of 6 units -> mean 5, std dev 1
+        ReorderPolicy policy = calculator.calculate(new ReorderPolicyCalculator.ItemDemandInput(
+            1L, 50, 5 * 16 + 5 * 36, new BigDecimal("20.00"), 4, 10, 100), LocalDateTime.now());
+
+        assertThat(policy.getAvgDailyDemand()).isCloseTo(5.0, within(1e-9));
+        assertThat(policy.getDemandStdDev()).isCloseTo(1.0, within(1e-9));
+        assertThat(policy.getLeadTimeDays()).isEqualTo(4);
+        // ceil(1.65 * 1 * sqrt(4)) = 4
+        assertThat(policy.getSafetyStock()).isEqualTo(4);
+        // 5 * 4 + 4
+        assertThat(policy.getReorderPoint()).isEqualTo(24);
+        // sqrt(2 * 1825 * 50 / 5) = 191.05 -> 192
+        assertThat(policy.getEconomicOrderQuantity()).isEqualTo(192);
+    }
+
+    @Test
+    void fallsBackToConfiguredLevelsWithoutDemand() {
+        ReorderPolicy policy = calculator.calculate(new ReorderPolicyCalculator.ItemDemandInput(
+            2L, 0, 0, new BigDecimal("9.99"), null, 15, 60), LocalDateTime.now());
+
+        assertThat(policy.getLeadTimeDays()).isEqualTo(7);
+        assertThat(policy.getReorderPoint()).isEqualTo(15);
+        assertThat(policy.getEconomicOrderQuantity()).isEqualTo(45);
+    }
+
+    @Test
+    void suggestsOrderUpToReorderPointPlusLot() {
+        assertThat(calculator.suggestedQuantity(10, 24, 192)).isEqualTo(206);
+        assertThat(calculator.suggestedQuantity(30, 24, 192)).isEqualTo(192);
+    }
+}
@@ -0,0 +1,49 @@
+package com.backend.inventory_management.features.reservation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimerWheelTests {
+
+    @Test
+    void expiresTasksOnlyOnceTheirDeadlineTickPasses() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(100, 8, 0);
+        wheel.schedule("a", 250);
+        wheel.schedule("b", 300);
+        List<String> expired = new ArrayList<>();
+
+        assertThat(wheel.advance(250, expired::add)).isZero();
+        assertThat(wheel.advance(300, expired::add)).isEqualTo(2);
+        assertThat(expired).containsExactly("a", "b");
+        assertThat(wheel.pending()).isZero();
+    }
+
+    @Test
+    void keepsTimeoutsBeyondOneRevolutionInTheirBucket() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(100, 4, 0);
+        wheel.schedule("near", 200);
+        wheel.schedule("far", 600);
+        List<String> expired = new ArrayList<>();
+
+        wheel.advance(500, expired::add);
+        assertThat(expired).containsExactly("near");
+
+        wheel.advance(600, expired::add);
+        assertThat(expired).containsExactly("near", "far");
+    }
+
+    @Test
+    void clampsPastDeadlinesToTheNextTick() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(100, 4, 0);
+        wheel.advance(1000, task -> { });
+        wheel.schedule("late", 50);
+        List<String> expired = new ArrayList<>();
+
+        wheel.advance(1100, expired::add);
+        assertThat(expired).containsExactly("late");
+    }
+}
@@ -0,0 +1,278 @@
+package com.backend.inventory_management.features.reservation;
+
+import com.backend.inventory_management.core.exceptions.InvalidOperationException;
+import com.backend.inventory_management.features.inventory.InventoryItemRepository;
+import com.backend.inventory_management.features.inventory.InventoryService;
+import com.backend.inventory_management.features.inventory.dtos.CreateInventoryItemDto;
+import com.backend.inventory_management.features.inventory.dtos.UpdateInventoryItemDto;
+import com.backend.inventory_management.features.location.LocationRepository;
+import com.backend.inventory_management.features.location.LocationService;
+import com.backend.inventory_management.features.location.ReservedStock;
+import com.backend.inventory_management.features.location.StockKey;
+import com.backend.inventory_management.features.location.StockLevelRepository;
+import com.backend.inventory_management.features.location.StockService;
+import com.backend.inventory_management.features.location.dtos.AdjustStockDto;
+import com.backend.inventory_management.features.reservation.dtos.AvailabilityDto;
+import com.backend.inventory_management.features.reservation.dtos.CreateReservationDto;
+import com.backend.inventory_management.features.reservation.dtos.ReservationDto;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class ReservationServiceImplTests {
+
+    @Autowired
+    private ReservationServiceImpl reservationService;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private StockLevelRepository stockLevelRepository;
+
+    @Autowired
+    private ReservedStock reservedStock;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private LocationService locationService;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long locationId;
+
+    @BeforeEach
+    void setUp() {
+        locationId = locationService.getDefaultLocation().getId();
+    }
+
+    @Test
+    void heldUnitsCannotBeTakenByOtherStockWrites() {
+        Long itemId = createItem("Reservation Test Kettle", "RES-KETTLE", 10);
+        reserve(itemId, 6);
+
+        assertThatThrownBy(() -> adjust(itemId, -5))
+            .isInstanceOf(InvalidOperationException.class)
+            .hasMessageContaining("4 available (6 reserved)");
+        adjust(itemId, -4);
+
+        assertThatThrownBy(() -> inventoryService.updateItem(itemId, UpdateInventoryItemDto.builder().quantity(5).build()))
+            .isInstanceOf(InvalidOperationException.class);
+
+        clearPersistenceContext();
+        assertThat(stockService.recordSales(Map.of(new StockKey(itemId, locationId), 3L))).isEqualTo(3);
+        assertAvailability(itemId, 6, 6, 0);
+    }
+
+    @Test
+    void tillSalesTakeOnlyUnreservedUnits() {
+        Long itemId = createItem("Reservation Test Toaster", "RES-TOASTER", 10);
+        reserve(itemId, 7);
+
+        clearPersistenceContext();
+        assertThat(stockService.recordSales(Map.of(new StockKey(itemId, locationId), 5L))).isEqualTo(2);
+        assertAvailability(itemId, 7, 7, 0);
+    }
+
+    @Test
+    void confirmingTakesTheHeldUnitsOutOfStockOnce() {
+        Long itemId = createItem("Reservation Test Mug", "RES-MUG", 10);
+        ReservationDto hold = reserve(itemId, 4);
+
+        assertThat(reservationService.confirm(hold.getId()).getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+
+        clearPersistenceContext();
+        assertAvailability(itemId, 6, 0, 6);
+        assertThat(inventoryItemRepository.findById(itemId).orElseThrow().getQuantity()).isEqualTo(6);
+        assertThatThrownBy(() -> reservationService.release(hold.getId()))
+            .isInstanceOf(InvalidOperationException.class);
+        assertThat(reservationService.getReservation(hold.getId()).getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+    }
+
+    @Test
+    void holdsBeyondAvailableStockAreRefused() {
+        Long itemId = createItem("Reservation Test Teapot", "RES-TEAPOT", 5);
+        reserve(itemId, 3);
+
+        assertThatThrownBy(() -> reserve(itemId, 3))
+            .isInstanceOf(InvalidOperationException.class)
+            .hasMessageContaining("2 available");
+        assertAvailability(itemId, 5, 3, 2);
+    }
+
+    @Test
+    void holdsAreSharedWithEveryNodeOverTheDatabase() {
+        // A second instance over the same database, as another application node would have
+        ReservationServiceImpl otherNode = new ReservationServiceImpl(stockService, stockLevelRepository, reservedStock,
+            reservationRepository, locationRepository, locationService, inventoryItemRepository, transactionManager,
+            900, 86_400, 1_000, 512);
+        Long itemId = createItem("Reservation Test Jug", "RES-JUG", 8);
+        ReservationDto hold = reserve(itemId, 5);
+
+        assertThat(otherNode.getAvailability(itemId, locationId).getAvailable()).isEqualTo(3);
+        assertThat(otherNode.release(hold.getId()).getStatus()).isEqualTo(ReservationStatus.RELEASED);
+
+        clearPersistenceContext();
+        assertAvailability(itemId, 8, 0, 8);
+    }
+
+    @Test
+    void overdueHoldsAreExpiredByTheSweepAndHandTheirUnitsBack() {
+        Long itemId = createItem("Reservation Test Bowl", "RES-BOWL", 10);
+        ReservationDto hold = reserve(itemId, 4);
+        clearPersistenceContext();
+        jdbcTemplate.update("UPDATE stock_reservations SET expires_at = ? WHERE id = ?",
+            Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)), hold.getId());
+
+        reservationService.sweepReservations();
+
+        clearPersistenceContext();
+        assertThat(reservationService.getReservation(hold.getId()).getStatus()).isEqualTo(ReservationStatus.EXPIRED);
+        assertAvailability(itemId, 10, 0, 10);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void concurrentHoldsAndMovementsOnOneSkuNeverOversell() throws Exception {
+        Long itemId = inventoryService.createItem(CreateInventoryItemDto.builder()
+            .name("Reservation Test Flash Sale")
+            .sku("RES-FLASH")
+            .category("Reservation Test")
+            .supplier("Reservation Test Supplier")
+            .quantity(100)
+            .price(new BigDecimal("9.00"))
+            .minStockLevel(1)
+            .maxStockLevel(500)
+            .build()).getId();
+        AtomicInteger held = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+        AtomicInteger adjusted = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 160; i++) {
+            tasks.add(() -> {
+                try {
+                    reserve(itemId, 1);
+                    held.incrementAndGet();
+                } catch (InvalidOperationException e) {
+                    refused.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        for (int i = 0; i < 20; i++) {
+            int delta = i % 2 == 0 ? -1 : 1;
+            tasks.add(() -> {
+                try {
+                    adjust(itemId, delta);
+                    adjusted.addAndGet(delta);
+                } catch (InvalidOperationException e) {
+                    // Every unit was already held
+                }
+                return null;
+            });
+        }
+        Collections.shuffle(tasks);
+
+        // Fewer workers than pooled connections: on H2 a stock movement takes a second one for its change lease
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        AvailabilityDto availability = reservationService.getAvailability(itemId, locationId);
+        assertThat(held.get() + refused.get()).isEqualTo(160);
+        assertThat(availability.getOnHand()).isEqualTo(100 + adjusted.get());
+        assertThat(availability.getReserved()).isEqualTo(held.get());
+        assertThat(availability.getReserved()).isLessThanOrEqualTo(availability.getOnHand());
+        assertThat(refused.get()).isPositive();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(DISTINCT stripe) FROM stock_reservations WHERE item_id = ?", Integer.class, itemId))
+            .isGreaterThan(1);
+    }
+
+    private ReservationDto reserve(Long itemId, int quantity) {
+        return reservationService.reserve(CreateReservationDto.builder()
+            .itemId(itemId)
+            .locationId(locationId)
+            .quantity(quantity)
+            .build());
+    }
+
+    private void adjust(Long itemId, int delta) {
+        stockService.adjustStock(locationId, AdjustStockDto.builder().itemId(itemId).delta(delta).build());
+    }
+
+    private void assertAvailability(Long itemId, int onHand, int reserved, int available) {
+        AvailabilityDto availability = reservationService.getAvailability(itemId, locationId);
+        assertThat(availability.getOnHand()).isEqualTo(onHand);
+        assertThat(availability.getReserved()).isEqualTo(reserved);
+        assertThat(availability.getAvailable()).isEqualTo(available);
+    }
+
+    // Stock rows changed over JDBC are otherwise read back stale from the persistence context
+    private void clearPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Long createItem(String name, String sku, int quantity) {
+        Long id = inventoryService.createItem(CreateInventoryItemDto.builder()
+            .name(name)
+            .sku(sku)
+            .category("Reservation Test")
+            .supplier("Reservation Test Supplier")
+            .quantity(quantity)
+            .price(new BigDecimal("4.00"))
+            .minStockLevel(1)
+            .maxStockLevel(50)
+            .build()).getId();
+        clearPersistenceContext();
+        return id;
+    }
+}
@@ -0,0 +1,85 @@
+package com.backend.inventory_management.features.sales;
+
+import com.backend.inventory_management.features.location.LocationRepository;
+import com.backend.inventory_management.features.location.LocationService;
+import com.backend.inventory_management.features.location.StockService;
+import com.backend.inventory_management.features.sales.dtos.SaleBatchDto;
+import com.backend.inventory_management.features.sales.dtos.SaleLineDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SaleIngestServiceImplTests {
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private LocationService locationService;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void eachNodesLogKeepsItsOwnCheckpoint() {
+        long locationId = locationService.getDefaultLocation().getId();
+        long itemId = jdbcTemplate.queryForObject(
+            "SELECT MIN(item_id) FROM stock_levels WHERE location_id = ? AND quantity >= 5", Long.class, locationId);
+        int before = quantity(itemId, locationId);
+
+        // Node A acknowledges a sale and stops before flushing it
+        SaleIngestServiceImpl nodeA = node(directory.resolve("node-a"));
+        nodeA.ingest(sale(itemId, 2));
+
+        // Node B flushes its own sales meanwhile, moving its checkpoint past A's segment numbers
+        SaleIngestServiceImpl nodeB = node(directory.resolve("node-b"));
+        nodeB.ingest(sale(itemId, 1));
+        nodeB.ingest(sale(itemId, 1));
+        nodeB.flush();
+        nodeB.ingest(sale(itemId, 1));
+        nodeB.destroy();
+        assertThat(quantity(itemId, locationId)).isEqualTo(before - 3);
+
+        // A's restart still finds its unflushed segment and applies it
+        SaleIngestServiceImpl restartedA = node(directory.resolve("node-a"));
+        assertThat(restartedA.flush()).isEqualTo(1);
+        restartedA.destroy();
+        assertThat(quantity(itemId, locationId)).isEqualTo(before - 5);
+    }
+
+    private SaleIngestServiceImpl node(Path walDirectory) {
+        SaleIngestServiceImpl node = new SaleIngestServiceImpl(stockService, locationService, locationRepository,
+            jdbcTemplate, transactionManager, walDirectory.toString(), 5000);
+        node.afterSingletonsInstantiated();
+        return node;
+    }
+
+    private static SaleBatchDto sale(long itemId, int quantity) {
+        return SaleBatchDto.builder()
+            .lines(List.of(SaleLineDto.builder().itemId(itemId).quantity(quantity).build()))
+            .build();
+    }
+
+    private int quantity(long itemId, long locationId) {
+        return jdbcTemplate.queryForObject("SELECT quantity FROM stock_levels WHERE item_id = ? AND location_id = ?",
+            Integer.class, itemId, locationId);
+    }
+}
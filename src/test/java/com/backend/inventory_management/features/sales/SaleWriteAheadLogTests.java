@@ -0,0 +1,56 @@
+package com.backend.inventory_management.features.sales;
+
+import com.backend.inventory_management.features.location.StockKey;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class SaleWriteAheadLogTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void sealHandsOverCoalescedUnitsAndRotatesSegment() throws Exception {
+        try (SaleWriteAheadLog wal = new SaleWriteAheadLog(directory, 1)) {
+            wal.append(List.of(new SaleLine(7, 1, 2), new SaleLine(8, 1, 1))).join();
+            wal.append(List.of(new SaleLine(7, 1, 3))).join();
+
+            SaleWriteAheadLog.Sealed sealed = wal.seal().join();
+
+            assertThat(sealed.segment()).isEqualTo(1);
+            assertThat(sealed.unitsSold()).containsOnly(
+                entry(new StockKey(7, 1), 5L),
+                entry(new StockKey(8, 1), 1L));
+            assertThat(SaleWriteAheadLog.segments(directory)).containsExactly(1L, 2L);
+        }
+    }
+
+    @Test
+    void emptySegmentIsNotRotated() throws Exception {
+        try (SaleWriteAheadLog wal = new SaleWriteAheadLog(directory, 4)) {
+            SaleWriteAheadLog.Sealed sealed = wal.seal().join();
+
+            assertThat(sealed.segment()).isEqualTo(3);
+            assertThat(sealed.unitsSold()).isEmpty();
+            assertThat(SaleWriteAheadLog.segments(directory)).containsExactly(4L);
+        }
+    }
+
+    @Test
+    void replayRecoversAcknowledgedLines() throws Exception {
+        try (SaleWriteAheadLog wal = new SaleWriteAheadLog(directory, 1)) {
+            wal.append(List.of(new SaleLine(7, 2, 4), new SaleLine(7, 2, 1))).join();
+        }
+
+        assertThat(SaleWriteAheadLog.replay(directory, 1)).containsOnly(entry(new StockKey(7, 2), 5L));
+
+        SaleWriteAheadLog.deleteThrough(directory, 1);
+        assertThat(SaleWriteAheadLog.segments(directory)).isEmpty();
+    }
+}
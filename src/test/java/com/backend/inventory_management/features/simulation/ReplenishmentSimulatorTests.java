@@ -0,0 +1,75 @@
+package com.backend.inventory_management.features.simulation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplenishmentSimulatorTests {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void sameSeedGivesSameResultRegardlessOfScheduling() {
+        ReplenishmentSimulator.Input input = input(500, 5, 20);
+
+        ReplenishmentSimulator.Result first = run(input, 42L);
+        ReplenishmentSimulator.Result second = run(input, 42L);
+
+        assertThat(first.getStockoutProbability()).containsExactly(second.getStockoutProbability());
+        assertThat(first.getAverageOnHand()).containsExactly(second.getAverageOnHand());
+    }
+
+    @Test
+    void higherMinimumLowersStockoutProbability() {
+        ReplenishmentSimulator.Result low = run(input(64, 2, 10), 7L);
+        ReplenishmentSimulator.Result high = run(input(64, 30, 60), 7L);
+
+        double lowAverage = Arrays.stream(low.getStockoutProbability()).average().orElseThrow();
+        double highAverage = Arrays.stream(high.getStockoutProbability()).average().orElseThrow();
+
+        assertThat(highAverage).isLessThan(lowAverage);
+        assertThat(Arrays.stream(high.getAverageOnHand()).average().orElseThrow())
+            .isGreaterThan(Arrays.stream(low.getAverageOnHand()).average().orElseThrow());
+    }
+
+    @Test
+    void cancelledRunStopsWithoutCompletingItems() {
+        AtomicBoolean cancelled = new AtomicBoolean(true);
+        AtomicInteger completed = new AtomicInteger();
+
+        ReplenishmentSimulator.simulate(pool, input(1000, 5, 20), 1L, cancelled, completed);
+
+        assertThat(completed.get()).isZero();
+    }
+
+    private ReplenishmentSimulator.Result run(ReplenishmentSimulator.Input input, long seed) {
+        return ReplenishmentSimulator.simulate(pool, input, seed, new AtomicBoolean(), new AtomicInteger());
+    }
+
+    private ReplenishmentSimulator.Input input(int items, int min, int max) {
+        int[] quantity = new int[items];
+        int[] minLevel = new int[items];
+        int[] maxLevel = new int[items];
+        int[] leadTime = new int[items];
+        int[][] history = new int[items][];
+        for (int i = 0; i < items; i++) {
+            quantity[i] = max;
+            minLevel[i] = min;
+            maxLevel[i] = max;
+            leadTime[i] = 3;
+            history[i] = new int[]{0, 1, 2, 3, 4, 5, 6, 8};
+        }
+        return new ReplenishmentSimulator.Input(quantity, minLevel, maxLevel, leadTime, history, 200, 60);
+    }
+}
@@ -0,0 +1,149 @@
+package com.backend.inventory_management.features.traffic;
+
+import com.backend.inventory_management.features.traffic.dtos.LimiterGroupDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadSheddingTests {
+
+    private static final long THRESHOLD = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    void limiterRefusesOverTheLimitInsteadOfQueueing() {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 10, 0.5, THRESHOLD);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release(FAST, false);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void slowRequestsShrinkTheLimitAndFastOnesGrowItBack() {
+        AimdLimiter limiter = new AimdLimiter(8, 1, 10, 0.5, THRESHOLD);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW, false);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        limiter.tryAcquire();
+        limiter.release(FAST, true);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.getCongestionSignals()).isEqualTo(2);
+
+        for (int i = 0; i < 100; i++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int j = 0; j < acquired; j++) {
+                limiter.release(FAST, false);
+            }
+        }
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void idleLimiterDoesNotGrow() {
+        AimdLimiter limiter = new AimdLimiter(8, 1, 20, 0.5, THRESHOLD);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(8);
+    }
+
+    @Test
+    void tokenBucketAllowsTheBurstThenTheRate() {
+        AtomicLong now = new AtomicLong(1_000_000_000L);
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 3, now::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("user:alice")).isZero();
+        }
+        long wait = limiter.tryAcquire("user:alice");
+        assertThat(wait).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(limiter.tryAcquire("user:bob")).isZero();
+
+        now.addAndGet(wait);
+        assertThat(limiter.tryAcquire("user:alice")).isZero();
+        assertThat(limiter.tryAcquire("user:alice")).isPositive();
+        assertThat(limiter.getLimited()).isEqualTo(2);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.evictIdle()).isEqualTo(2);
+        assertThat(limiter.getTrackedClients()).isZero();
+    }
+
+    @Test
+    void pointOfSaleWritesOutrankReadsAndAnalytics() {
+        assertThat(RequestPriority.of("POST", "/api/sales/batches")).isEqualTo(RequestPriority.POS);
+        assertThat(RequestPriority.of("POST", "/api/locations/3/stock/adjustments")).isEqualTo(RequestPriority.POS);
+        assertThat(RequestPriority.of("GET", "/api/inventory/by-barcode/5012345678900")).isEqualTo(RequestPriority.POS);
+        assertThat(RequestPriority.of("GET", "/api/sales/ingest-status")).isEqualTo(RequestPriority.STANDARD);
+        assertThat(RequestPriority.of("GET", "/api/inventory")).isEqualTo(RequestPriority.STANDARD);
+        assertThat(RequestPriority.of("GET", "/api/forecast/overall")).isEqualTo(RequestPriority.ANALYTICS);
+        assertThat(RequestPriority.of("GET", "/api/locations/3/metrics")).isEqualTo(RequestPriority.ANALYTICS);
+        assertThat(RequestPriority.of("GET", "/api/dashboard")).isEqualTo(RequestPriority.FAN_OUT);
+        assertThat(RequestPriority.of("GET", "/api/inventory/sync/snapshot")).isEqualTo(RequestPriority.BULK);
+        assertThat(RequestPriority.of("GET", "/api/inventory/sync/changes")).isEqualTo(RequestPriority.STANDARD);
+    }
+
+    @Test
+    void aSlowDownloadIsNotCongestionButASlowFirstByteIs() throws Exception {
+        LoadSheddingServiceImpl service = new LoadSheddingServiceImpl(true, 40, 1, 250, 500, 0.8, 50, 0.25, 2000, 0.5, 20, 40);
+        LoadSheddingFilter filter = new LoadSheddingFilter(service, null, new ObjectMapper());
+
+        // The body starts at once and then trickles out to a slow client
+        snapshot(filter, (request, response) -> {
+            response.getOutputStream().write('{');
+            Thread.sleep(100);
+            response.getOutputStream().write('}');
+        });
+        assertThat(bulkGroup(service).getCongestionSignals()).isZero();
+        assertThat(bulkGroup(service).getInFlight()).isZero();
+
+        snapshot(filter, (request, response) -> {
+            Thread.sleep(100);
+            response.getOutputStream().write('{');
+        });
+        assertThat(bulkGroup(service).getCongestionSignals()).isEqualTo(1);
+    }
+
+    private void snapshot(LoadSheddingFilter filter, SlowChain chain) throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/inventory/sync/snapshot"), new MockHttpServletResponse(),
+            (FilterChain) (request, response) -> {
+                try {
+                    chain.run(request, response);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+    }
+
+    private LimiterGroupDto bulkGroup(LoadSheddingServiceImpl service) {
+        return service.getStatus().getGroups().stream()
+            .filter(group -> group.getPriority() == RequestPriority.BULK)
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private interface SlowChain {
+        void run(ServletRequest request, ServletResponse response) throws IOException, InterruptedException;
+    }
+}
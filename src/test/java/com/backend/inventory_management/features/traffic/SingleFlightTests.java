@@ -0,0 +1,108 @@
+package com.backend.inventory_management.features.traffic;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTests {
+
+    @Test
+    void concurrentCallersShareOneComputation() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(System::nanoTime);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            Future<Object> leader = executor.submit(() -> call(singleFlight, "metrics", 0, () -> {
+                runs.incrementAndGet();
+                release.await();
+                return "result";
+            }));
+            while (singleFlight.getInFlight() == 0) {
+                Thread.sleep(1);
+            }
+            List<Future<Object>> followers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                followers.add(executor.submit(() -> call(singleFlight, "metrics", 0, () -> {
+                    runs.incrementAndGet();
+                    return "other";
+                })));
+            }
+            while (singleFlight.getAbsorbed() < 4) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+            for (Future<Object> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(singleFlight.getComputations()).isEqualTo(1);
+        assertThat(singleFlight.getLastAbsorption()).isEqualTo(4);
+        assertThat(singleFlight.getInFlight()).isZero();
+    }
+
+    @Test
+    void resultsAreReusedOnlyWithinTheWindowAndFailuresNever() throws Throwable {
+        AtomicLong now = new AtomicLong();
+        SingleFlight singleFlight = new SingleFlight(now::get);
+        AtomicInteger runs = new AtomicInteger();
+        SingleFlight.Computation counting = runs::incrementAndGet;
+
+        assertThat(singleFlight.execute("key", 100, counting)).isEqualTo(1);
+        now.set(100);
+        assertThat(singleFlight.execute("key", 100, counting)).isEqualTo(1);
+        now.set(101);
+        assertThat(singleFlight.execute("key", 100, counting)).isEqualTo(2);
+        assertThat(singleFlight.execute("other", 100, counting)).isEqualTo(3);
+
+        SingleFlight.Computation failing = () -> {
+            throw new IllegalStateException("boom " + runs.incrementAndGet());
+        };
+        assertThatThrownBy(() -> singleFlight.execute("failing", 100, failing)).hasMessage("boom 4");
+        assertThatThrownBy(() -> singleFlight.execute("failing", 100, failing)).hasMessage("boom 5");
+
+        now.set(1000);
+        assertThat(singleFlight.sweep(100)).isEqualTo(2);
+    }
+
+    @Test
+    void argumentsAreNormalizedBeforeKeying() {
+        assertThat(RequestCoalescingServiceImpl.normalize(new Object[]{" Tools ", 30}))
+            .isEqualTo(RequestCoalescingServiceImpl.normalize(new Object[]{"Tools", 30L}));
+        assertThat(RequestCoalescingServiceImpl.normalize(new Object[]{new BigDecimal("1.50")}))
+            .isEqualTo(RequestCoalescingServiceImpl.normalize(new Object[]{new BigDecimal("1.5")}));
+        assertThat(RequestCoalescingServiceImpl.normalize(new Object[]{"  "}))
+            .isEqualTo(RequestCoalescingServiceImpl.normalize(new Object[]{null}));
+        assertThat(RequestCoalescingServiceImpl.normalize(new Object[]{"Tools", 30}))
+            .isNotEqualTo(RequestCoalescingServiceImpl.normalize(new Object[]{"Tools", 31}));
+        assertThat(RequestCoalescingServiceImpl.normalize(null)).isEmpty();
+    }
+
+    private static Object call(SingleFlight singleFlight, Object key, long reuseNanos,
+                               SingleFlight.Computation computation) throws Exception {
+        try {
+            return singleFlight.execute(key, reuseNanos, computation);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}